@@ -0,0 +1,70 @@
+package io.smallrye.faulttolerance.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.temporal.ChronoUnit;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Modifies a {@code @Timeout} annotation to derive the timeout from latencies of previous invocations.
+ * May only be present on elements that are also annotated {@code @Timeout}.
+ * <p>
+ * Latencies of successful invocations are recorded in a histogram. The effective timeout
+ * is the {@link #percentile()} of recorded latencies, multiplied by the {@link #multiplier()},
+ * and is never lower than {@link #minTimeout()}. The histogram is periodically restarted,
+ * so that the timeout follows recent behavior of the guarded operation.
+ * <p>
+ * All configuration options of {@code @Timeout} still apply and all their constraints are still enforced.
+ * Additionally:
+ * <ul>
+ * <li>{@code value}, {@code unit}: is used as the maximum timeout, and also as the timeout
+ * until enough latencies are recorded. Must be greater than or equal to {@link #minTimeout()}.</li>
+ * </ul>
+ *
+ * @see #percentile()
+ * @see #multiplier()
+ * @see #minTimeout()
+ * @see #minTimeoutUnit()
+ */
+@Inherited
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Experimental("first attempt at providing adaptive timeouts")
+public @interface AdaptiveTimeout {
+    /**
+     * The percentile of recorded latencies the timeout is derived from. Defaults to 0.99.
+     * The value must be greater than 0 and less than or equal to 1.
+     *
+     * @return the percentile
+     */
+    double percentile() default 0.99;
+
+    /**
+     * The factor the latency {@linkplain #percentile() percentile} is multiplied by to obtain the timeout.
+     * Defaults to 2. The value must be greater than or equal to 1.
+     *
+     * @return the multiplier
+     */
+    double multiplier() default 2.0;
+
+    /**
+     * The minimum timeout. Defaults to 100 millis. The value must be greater than 0
+     * and must not be greater than the {@code @Timeout} value.
+     *
+     * @return the min timeout
+     */
+    long minTimeout() default 100;
+
+    /**
+     * The unit for {@link #minTimeout()}. Defaults to {@link java.time.temporal.ChronoUnit#MILLIS}.
+     *
+     * @return the min timeout unit
+     */
+    ChronoUnit minTimeoutUnit() default ChronoUnit.MILLIS;
+}
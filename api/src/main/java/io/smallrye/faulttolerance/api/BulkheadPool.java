@@ -0,0 +1,57 @@
+package io.smallrye.faulttolerance.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Modifies a {@code @Bulkhead} annotation to draw execution permits from a shared, named pool.
+ * May only be present on elements that are also annotated {@code @Bulkhead}.
+ * <p>
+ * All bulkheads that use the same pool are together limited to {@link #size()} concurrent
+ * executions, in addition to the limit of each bulkhead. This allows bounding the overall
+ * concurrency to a single resource (such as a database) without over-provisioning
+ * each method that accesses it. All usages of the same pool name must declare the same size.
+ * <p>
+ * Each bulkhead may {@linkplain #reserved() reserve} a number of permits from the pool that
+ * are never used by other bulkheads. The sum of all reservations must not exceed the pool size.
+ *
+ * @see #value()
+ * @see #size()
+ * @see #reserved()
+ */
+@Inherited
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Experimental("first attempt at providing shared bulkheads")
+public @interface BulkheadPool {
+    /**
+     * The name of the pool. All bulkheads with the same pool name share the pool.
+     *
+     * @return the name of the pool
+     */
+    String value();
+
+    /**
+     * The maximum number of concurrent executions in all bulkheads that use the pool.
+     * Must be the same in all usages of the same pool name.
+     *
+     * @return the size of the pool
+     */
+    int size();
+
+    /**
+     * The number of permits reserved for this bulkhead. Other bulkheads that use the pool
+     * never use the reserved permits. Zero by default, which means that this bulkhead only
+     * uses permits that are shared by all bulkheads.
+     *
+     * @return the number of reserved permits
+     */
+    int reserved() default 0;
+}
@@ -0,0 +1,38 @@
+package io.smallrye.faulttolerance.api;
+
+import java.util.List;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * A snapshot of the current state of all guards in the application. This includes guards declared
+ * using annotations and guards created using the programmatic API ({@link Guard} and {@link TypedGuard}).
+ * <p>
+ * The state is read without blocking the guarded invocations, so individual values may be slightly
+ * out of date and the snapshot as a whole is not atomic. It is meant for monitoring and capacity planning,
+ * not for making decisions.
+ * <p>
+ * Guards declared using annotations are only included after the guarded method is invoked for the first time.
+ * Guards created using the programmatic API are only included after they are used for the first time
+ * and as long as they are reachable.
+ */
+@Experimental("first attempt at providing live state snapshots")
+public interface FaultToleranceSnapshot {
+    /**
+     * Takes a snapshot of the current state of all guards in the application.
+     */
+    static FaultToleranceSnapshot take() {
+        return SpiAccess.get().snapshot();
+    }
+
+    /**
+     * Returns snapshots of all guards in the application, in no particular order.
+     */
+    List<GuardSnapshot> guards();
+
+    /**
+     * Returns the number of tasks scheduled on the timer that haven't run yet.
+     * The timer is used for timeouts, delays between retries, circuit breaker state transitions etc.
+     */
+    int timerScheduledTasks();
+}
@@ -0,0 +1,135 @@
+package io.smallrye.faulttolerance.api;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * A snapshot of the current state of a single guard. The guard is either a method annotated with fault tolerance
+ * annotations, or a {@link Guard} or {@link TypedGuard} created using the programmatic API.
+ * <p>
+ * Each strategy that the guard uses has its own snapshot. Methods corresponding to strategies
+ * the guard doesn't use return {@code null}. Strategies that don't have any interesting state
+ * (such as fallback or timeout) are not included.
+ *
+ * @see FaultToleranceSnapshot
+ */
+@Experimental("first attempt at providing live state snapshots")
+public interface GuardSnapshot {
+    /**
+     * Returns the description of the guard. For methods annotated with fault tolerance annotations,
+     * this is the declaring class and method. For guards created using the programmatic API,
+     * this is the description given to the builder.
+     */
+    String description();
+
+    /**
+     * Returns the state of the bulkhead, or {@code null} if the guard doesn't use a bulkhead.
+     */
+    BulkheadSnapshot bulkhead();
+
+    /**
+     * Returns the state of the circuit breaker, or {@code null} if the guard doesn't use a circuit breaker.
+     */
+    CircuitBreakerSnapshot circuitBreaker();
+
+    /**
+     * Returns the state of the rate limit, or {@code null} if the guard doesn't use a rate limit.
+     */
+    RateLimitSnapshot rateLimit();
+
+    /**
+     * Returns the state of the retry, or {@code null} if the guard doesn't use a retry.
+     */
+    RetrySnapshot retry();
+
+    interface BulkheadSnapshot {
+        /**
+         * Returns the maximum number of concurrent invocations.
+         */
+        int maxConcurrentInvocations();
+
+        /**
+         * Returns the maximum number of invocations that may wait in the queue.
+         * Only asynchronous invocations may wait in the queue.
+         */
+        int maxWaitingInvocations();
+
+        /**
+         * Returns the number of invocations currently running.
+         */
+        int runningInvocations();
+
+        /**
+         * Returns the number of invocations currently waiting in the queue.
+         */
+        int waitingInvocations();
+    }
+
+    interface CircuitBreakerSnapshot {
+        /**
+         * Returns the current state of the circuit breaker.
+         */
+        CircuitBreakerState state();
+
+        /**
+         * Returns the size of the rolling window.
+         */
+        int rollingWindowSize();
+
+        /**
+         * Returns the number of failures in the rolling window that opens the circuit breaker.
+         */
+        int failureThreshold();
+
+        /**
+         * Returns the number of invocations currently recorded in the rolling window.
+         * The rolling window only exists in the {@linkplain CircuitBreakerState#CLOSED closed} state,
+         * so this is always 0 in other states.
+         */
+        int recordedInvocations();
+
+        /**
+         * Returns the number of failed invocations currently recorded in the rolling window.
+         * The rolling window only exists in the {@linkplain CircuitBreakerState#CLOSED closed} state,
+         * so this is always 0 in other states.
+         */
+        int recordedFailures();
+    }
+
+    interface RateLimitSnapshot {
+        /**
+         * Returns the maximum number of invocations in a time window.
+         */
+        int maxInvocations();
+
+        /**
+         * Returns the length of the time window in milliseconds.
+         */
+        long timeWindowInMillis();
+
+        /**
+         * Returns the number of permits remaining after the most recent invocation attempt.
+         * Permits that would be refreshed since then are not taken into account.
+         * Returns {@code -1} if invocations are rate limited per key.
+         */
+        int permitsRemaining();
+
+        /**
+         * Returns the number of keys whose time windows are currently retained.
+         * Returns {@code 0} if invocations are not rate limited per key.
+         */
+        int keys();
+    }
+
+    interface RetrySnapshot {
+        /**
+         * Returns the maximum number of retries, or {@code -1} if the number of retries is not limited.
+         */
+        long maxRetries();
+
+        /**
+         * Returns the maximum total duration of all attempts in milliseconds, or {@code -1} if the duration
+         * is not limited.
+         */
+        long maxDurationInMillis();
+    }
+}
@@ -0,0 +1,45 @@
+package io.smallrye.faulttolerance.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Load shedding rejects a fraction of invocations when this JVM is under pressure. Rejected invocations
+ * fail with {@link LoadSheddingException}.
+ * <p>
+ * The load of the JVM is sampled periodically in the background. It is a number between 0 and 1, derived
+ * from the process CPU load, the fraction of time spent in garbage collection and the occupancy of the old
+ * generation heap after garbage collection, whichever is highest. When the load exceeds the {@link #threshold()},
+ * a fraction of invocations is rejected. The fraction grows linearly from 0 at the threshold to 1 at full load.
+ * <p>
+ * Operations with lower priority should use lower threshold, so that they are shed first. Operations that
+ * should never be shed should not use load shedding at all.
+ *
+ * @see #threshold()
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@InterceptorBinding
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Experimental("first attempt at providing load shedding")
+public @interface LoadShedding {
+    /**
+     * The load above which invocations start to be rejected. Defaults to 0.8.
+     * <p>
+     * Value must be greater than or equal to {@code 0} and less than {@code 1}.
+     *
+     * @return the load threshold
+     */
+    @Nonbinding
+    double threshold() default 0.8;
+}
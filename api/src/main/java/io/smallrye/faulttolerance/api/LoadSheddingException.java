@@ -0,0 +1,26 @@
+package io.smallrye.faulttolerance.api;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceException;
+
+/**
+ * The exception thrown when an invocation is rejected by load shedding.
+ *
+ * @see LoadShedding @LoadShedding
+ */
+public class LoadSheddingException extends FaultToleranceException {
+    public LoadSheddingException() {
+        super();
+    }
+
+    public LoadSheddingException(Throwable t) {
+        super(t);
+    }
+
+    public LoadSheddingException(String message) {
+        super(message);
+    }
+
+    public LoadSheddingException(String message, Throwable t) {
+        super(message, t);
+    }
+}
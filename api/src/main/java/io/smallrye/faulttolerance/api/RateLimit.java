@@ -22,6 +22,8 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.time.temporal.ChronoUnit;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 import jakarta.enterprise.util.Nonbinding;
 import jakarta.interceptor.InterceptorBinding;
@@ -49,6 +51,21 @@ import io.smallrye.common.annotation.Experimental;
  * continuously invokes the guarded method faster than the configuration allows, all invocations are rejected
  * until the caller slows down. With smooth time windows, rejected invocations do not count towards the recent
  * rate of invocations.
+ * <p>
+ * By default, there is a single rate limit state for the guarded method. If a {@linkplain #key() key function}
+ * is configured, the rate limit is enforced separately for each key computed from the method arguments
+ * (such as a tenant identifier).
+ * <p>
+ * By default, each invocation consumes one permit. If a {@linkplain #cost() cost function} is configured,
+ * each invocation consumes the number of permits computed from the method arguments (such as the number
+ * of records in a batch), so that {@link #value()} limits the total cost of invocations in a time window.
+ * <p>
+ * By default, invocations that exceed the rate limit are rejected immediately. If a {@linkplain #maxWait() maximum
+ * waiting time} is configured, such invocations are delayed until a permit becomes available instead, as long as
+ * the waiting time doesn't exceed the maximum.
+ * <p>
+ * With smooth time windows, a {@linkplain #warmUp() warm-up period} may be configured, during which the permitted
+ * rate increases gradually from a fraction of the full rate.
  *
  * @see #value()
  * @see #window()
@@ -56,6 +73,13 @@ import io.smallrye.common.annotation.Experimental;
  * @see #minSpacing()
  * @see #minSpacingUnit()
  * @see #type()
+ * @see #key()
+ * @see #maxKeys()
+ * @see #cost()
+ * @see #maxWait()
+ * @see #maxWaitUnit()
+ * @see #warmUp()
+ * @see #warmUpUnit()
  */
 @Inherited
 @Retention(RetentionPolicy.RUNTIME)
@@ -126,4 +150,101 @@ public @interface RateLimit {
      */
     @Nonbinding
     RateLimitType type() default RateLimitType.FIXED;
+
+    /**
+     * Class of the function that computes a rate limit key from the arguments of the guarded method.
+     * If set, invocations are rate limited separately for each key, as if each key had its own
+     * {@code @RateLimit}. All invocations for which the function returns {@code null} share one key.
+     * <p>
+     * The function is invoked once per invocation of the guarded method; if the invocation is retried,
+     * all attempts use the same key. The function class must have a {@code public} zero-parameter constructor.
+     * <p>
+     * By default, the rate limit is not keyed.
+     *
+     * @return the key function class
+     * @see #maxKeys()
+     */
+    @Nonbinding
+    Class<? extends Function<Object[], ?>> key() default NoRateLimitKey.class;
+
+    /**
+     * Maximum number of keys for which the rate limit state is retained. When exceeded, the state
+     * of keys that have been idle for at least the time window length is discarded first; if that's
+     * not enough, the state of arbitrary keys is discarded. A key whose state was discarded starts afresh.
+     * <p>
+     * Value must be greater than {@code 0}. Ignored when the rate limit is not {@linkplain #key() keyed}.
+     *
+     * @return maximum number of keys
+     * @see #key()
+     */
+    @Nonbinding
+    int maxKeys() default 10_000;
+
+    /**
+     * Class of the function that computes the cost of an invocation from the arguments of the guarded method.
+     * The cost is the number of permits the invocation consumes from the time window; it must be at least
+     * {@code 1}, otherwise the invocation fails with {@link IllegalArgumentException}. An invocation
+     * whose cost exceeds {@link #value()} is always rejected. With fixed and rolling time windows,
+     * a rejected invocation counts towards the limit as a single invocation, regardless of its cost.
+     * <p>
+     * The function is invoked once per invocation of the guarded method; if the invocation is retried,
+     * all attempts have the same cost. The function class must have a {@code public} zero-parameter constructor.
+     * <p>
+     * By default, each invocation costs one permit.
+     *
+     * @return the cost function class
+     */
+    @Nonbinding
+    Class<? extends ToIntFunction<Object[]>> cost() default UnitRateLimitCost.class;
+
+    /**
+     * Maximum time an invocation waits for a permit when the rate limit is exceeded.
+     * If a permit doesn't become available in this time, the invocation is rejected.
+     * Synchronous invocations wait on the calling thread; asynchronous invocations
+     * do not block any thread while waiting.
+     * <p>
+     * While an invocation waits, its rejected attempts do not count towards the limit.
+     * Waiting invocations are not ordered: when a permit becomes available, any of them may obtain it.
+     * <p>
+     * Value must be greater than or equal to {@code 0}.
+     * When {@code 0}, invocations that exceed the rate limit are rejected immediately.
+     *
+     * @return maximum time to wait for a permit
+     * @see #maxWaitUnit()
+     */
+    @Nonbinding
+    long maxWait() default 0;
+
+    /**
+     * The unit for {@link #maxWait()}.
+     *
+     * @return the maximum waiting time unit
+     * @see #maxWait()
+     */
+    @Nonbinding
+    ChronoUnit maxWaitUnit() default ChronoUnit.SECONDS;
+
+    /**
+     * Length of the warm-up period of a smooth time window. During the warm-up period, the permitted rate
+     * starts at 1/3 of the full rate and increases linearly to the full rate. The warm-up period starts
+     * when the time window is created and again whenever the time window has been idle for at least
+     * the length of the warm-up period, for example after a circuit breaker was open for a long time.
+     * <p>
+     * Value must be greater than or equal to {@code 0}. When {@code 0}, there's no warm-up period.
+     * May only be set when {@link #type()} is {@link RateLimitType#SMOOTH}.
+     *
+     * @return the warm-up period length
+     * @see #warmUpUnit()
+     */
+    @Nonbinding
+    long warmUp() default 0;
+
+    /**
+     * The unit for {@link #warmUp()}.
+     *
+     * @return the warm-up period length unit
+     * @see #warmUp()
+     */
+    @Nonbinding
+    ChronoUnit warmUpUnit() default ChronoUnit.SECONDS;
 }
@@ -0,0 +1,66 @@
+package io.smallrye.faulttolerance.api;
+
+import java.time.Instant;
+import java.util.List;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * A fault tolerance decision recorded in the bounded in-memory buffer of recent events. For example,
+ * a bulkhead rejecting an invocation, a retry starting another attempt, or a circuit breaker opening.
+ * <p>
+ * The buffer is disabled by default. When enabled, it holds a fixed number of the most recent events
+ * of all guards in the application; older events are overwritten. Recording an event is cheap enough
+ * to keep the buffer enabled in production, so that the events may be {@linkplain #dump() dumped}
+ * when an incident happens.
+ */
+@Experimental("first attempt at providing recent events")
+public interface RecordedEvent {
+    /**
+     * Returns the events currently present in the buffer of recent events, from the oldest to the newest.
+     * Returns an empty list if the buffer is disabled.
+     * <p>
+     * The events are read without blocking the guarded invocations. Events recorded concurrently
+     * with this method may or may not be included.
+     */
+    static List<RecordedEvent> dump() {
+        return SpiAccess.get().recentEvents();
+    }
+
+    /**
+     * Returns the sequence number of this event. Sequence numbers start at 0 and increase by 1 for each
+     * recorded event, so a gap between events in a dump means that some events have been overwritten.
+     */
+    long sequence();
+
+    /**
+     * Returns the time when this event was recorded. The time has nanosecond precision and is consistent
+     * across all events in the buffer, so it may be used to compute durations (such as the time an invocation
+     * spent waiting in a bulkhead queue).
+     */
+    Instant timestamp();
+
+    /**
+     * Returns the name of the thread on which this event was recorded.
+     */
+    String thread();
+
+    /**
+     * Returns the description of the guard that made the decision. For methods annotated with
+     * fault tolerance annotations, this is the declaring class and method. For guards created
+     * using the programmatic API, this is the description given to the builder.
+     */
+    String description();
+
+    /**
+     * Returns the name of the fault tolerance strategy that made the decision, such as {@code Bulkhead}
+     * or {@code Retry}.
+     */
+    String strategy();
+
+    /**
+     * Returns the name of the event, possibly including its outcome, such as {@code AttemptStarted}
+     * or {@code DecisionMade.REJECTED}.
+     */
+    String event();
+}
@@ -1,6 +1,7 @@
 package io.smallrye.faulttolerance.api;
 
 import java.lang.reflect.Type;
+import java.util.List;
 
 import io.smallrye.common.annotation.Experimental;
 
@@ -19,4 +20,8 @@ public interface Spi {
     <T> TypedGuard.Builder<T> newTypedGuardBuilder(Type valueType);
 
     CircuitBreakerMaintenance circuitBreakerMaintenance();
+
+    FaultToleranceSnapshot snapshot();
+
+    List<RecordedEvent> recentEvents();
 }
@@ -6,6 +6,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -167,6 +168,14 @@ public interface TypedGuard<T> {
          */
         FallbackBuilder<T> withFallback();
 
+        /**
+         * Adds a load shedding strategy.
+         *
+         * @return a builder to configure the load shedding strategy
+         * @see LoadShedding @LoadShedding
+         */
+        LoadSheddingBuilder<T> withLoadShedding();
+
         /**
          * Adds a rate limit strategy.
          *
@@ -213,6 +222,18 @@ public interface TypedGuard<T> {
          */
         Builder<T> withThreadOffloadExecutor(Executor executor);
 
+        /**
+         * Configures how often timing metrics (durations and histograms) are recorded. The value {@code N}
+         * means that timing metrics are only recorded for 1 in {@code N} invocations on average, which
+         * reduces the overhead of metrics for guards with very high invocation rate. Counters are always exact.
+         * <p>
+         * If this method is not called, timing metrics are recorded for all invocations.
+         *
+         * @param samplingRate the metrics sampling rate, must be &gt;= 1
+         * @return this fault tolerance builder
+         */
+        Builder<T> withMetricsSamplingRate(int samplingRate);
+
         /**
          * Returns a ready-to-use instance of {@code TypedGuard}.
          */
@@ -277,6 +298,20 @@ public interface TypedGuard<T> {
              */
             BulkheadBuilder<T> enableSynchronousQueueing();
 
+            /**
+             * Makes this bulkhead draw execution permits from a shared, named pool. All bulkheads
+             * that use the same pool are together limited to {@code size} concurrent executions,
+             * in addition to the limit of each bulkhead. All usages of the same pool name must
+             * declare the same size.
+             *
+             * @param name the name of the pool, must not be {@code null}
+             * @param size the size of the pool, must be &gt;= 1
+             * @param reserved the number of permits reserved for this bulkhead, must be &gt;= 0 and &lt;= {@code size}
+             * @return this bulkhead builder
+             * @see BulkheadPool @BulkheadPool
+             */
+            BulkheadBuilder<T> pool(String name, int size, int reserved);
+
             /**
              * Sets a callback that will be invoked when this bulkhead accepts an invocation.
              * In case of asynchronous actions, accepting into bulkhead doesn't mean the action
@@ -568,6 +603,34 @@ public interface TypedGuard<T> {
             }
         }
 
+        /**
+         * Configures a load shedding.
+         *
+         * @see LoadShedding @LoadShedding
+         */
+        interface LoadSheddingBuilder<T> {
+            /**
+             * Sets the system load above which invocations start to be rejected. Defaults to 0.8.
+             *
+             * @param value the load threshold, must be &gt;= 0 and &lt; 1
+             * @return this load shedding builder
+             * @see LoadShedding#threshold() @LoadShedding.threshold
+             */
+            LoadSheddingBuilder<T> threshold(double value);
+
+            /**
+             * Returns the original fault tolerance builder.
+             *
+             * @return the original fault tolerance builder
+             */
+            Builder<T> done();
+
+            default LoadSheddingBuilder<T> with(Consumer<LoadSheddingBuilder<T>> consumer) {
+                consumer.accept(this);
+                return this;
+            }
+        }
+
         /**
          * Configures a rate limit.
          *
@@ -612,6 +675,79 @@ public interface TypedGuard<T> {
              */
             RateLimitBuilder<T> type(RateLimitType value);
 
+            /**
+             * Sets a supplier of the rate limit key. If set, invocations are rate limited separately
+             * for each key, as if each key had its own rate limit. All invocations for which the supplier
+             * returns {@code null} share one key. By default, the rate limit is not keyed.
+             * <p>
+             * The supplier is called once per guarded invocation, on the thread that invokes the guard;
+             * if the invocation is retried, all attempts use the same key. The supplier must be fast
+             * and non-blocking and must not throw an exception.
+             *
+             * @param value the key supplier, must not be {@code null}
+             * @return this rate limit builder
+             * @see RateLimit#key() @RateLimit.key
+             */
+            RateLimitBuilder<T> key(Supplier<?> value);
+
+            /**
+             * Sets the maximum number of keys for which the rate limit state is retained. Defaults to 10000.
+             * Ignored when the rate limit is not {@linkplain #key(Supplier) keyed}.
+             *
+             * @param value maximum number of keys, must be &gt;= 1
+             * @return this rate limit builder
+             * @see RateLimit#maxKeys() @RateLimit.maxKeys
+             */
+            RateLimitBuilder<T> maxKeys(int value);
+
+            /**
+             * Sets a supplier of the invocation cost. The cost is the number of permits the invocation
+             * consumes from the time window; it must be at least 1, otherwise the invocation fails
+             * with {@link IllegalArgumentException}. An invocation whose cost exceeds the maximum
+             * number of invocations in the time window is always rejected. By default, each invocation
+             * costs one permit.
+             * <p>
+             * The supplier is called once per guarded invocation, on the thread that invokes the guard;
+             * if the invocation is retried, all attempts have the same cost. The supplier must be fast
+             * and non-blocking and must not throw an exception.
+             *
+             * @param value the cost supplier, must not be {@code null}
+             * @return this rate limit builder
+             * @see RateLimit#cost() @RateLimit.cost
+             */
+            RateLimitBuilder<T> cost(IntSupplier value);
+
+            /**
+             * Sets the maximum time an invocation waits for a permit when the rate limit is exceeded.
+             * If a permit doesn't become available in this time, the invocation is rejected.
+             * Synchronous invocations wait on the calling thread; asynchronous invocations
+             * do not block any thread while waiting. Defaults to 0, which means that invocations
+             * that exceed the rate limit are rejected immediately.
+             *
+             * @param value the maximum waiting time, must be &gt;= 0
+             * @param unit the maximum waiting time unit, must not be {@code null}
+             * @return this rate limit builder
+             * @see RateLimit#maxWait() @RateLimit.maxWait
+             * @see RateLimit#maxWaitUnit() @RateLimit.maxWaitUnit
+             */
+            RateLimitBuilder<T> maxWait(long value, ChronoUnit unit);
+
+            /**
+             * Sets the warm-up period of a smooth time window. During the warm-up period, the permitted rate
+             * starts at 1/3 of the full rate and increases linearly to the full rate. The warm-up period starts
+             * when the rate limit is first used and again whenever it has been idle for at least the length
+             * of the warm-up period. Defaults to 0, which means there's no warm-up period.
+             * <p>
+             * May only be set when the {@linkplain #type(RateLimitType) type} is {@link RateLimitType#SMOOTH}.
+             *
+             * @param value the warm-up period length, must be &gt;= 0
+             * @param unit the warm-up period length unit, must not be {@code null}
+             * @return this rate limit builder
+             * @see RateLimit#warmUp() @RateLimit.warmUp
+             * @see RateLimit#warmUpUnit() @RateLimit.warmUpUnit
+             */
+            RateLimitBuilder<T> warmUp(long value, ChronoUnit unit);
+
             /**
              * Sets a callback that will be invoked when this rate limit permits an invocation.
              * <p>
@@ -962,6 +1098,21 @@ public interface TypedGuard<T> {
              */
             TimeoutBuilder<T> duration(long value, ChronoUnit unit);
 
+            /**
+             * Makes the timeout adaptive: the timeout is derived from latencies of previous successful
+             * invocations as the {@code percentile} of latencies multiplied by {@code multiplier},
+             * and is never lower than {@code minTimeout}. The {@linkplain #duration(long, ChronoUnit) duration}
+             * is used as the maximum timeout, and also as the timeout until enough latencies are recorded.
+             *
+             * @param percentile the percentile of latencies, must be &gt; 0 and &lt;= 1
+             * @param multiplier the factor the percentile is multiplied by, must be &gt;= 1
+             * @param minTimeout the minimum timeout, must be &gt; 0 and &lt;= duration
+             * @param minTimeoutUnit the minimum timeout unit, must not be {@code null}
+             * @return this timeout builder
+             * @see AdaptiveTimeout @AdaptiveTimeout
+             */
+            TimeoutBuilder<T> adaptive(double percentile, double multiplier, long minTimeout, ChronoUnit minTimeoutUnit);
+
             /**
              * Sets a callback that will be invoked when an invocation times out.
              * <p>
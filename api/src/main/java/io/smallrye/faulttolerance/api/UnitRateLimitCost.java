@@ -0,0 +1,10 @@
+package io.smallrye.faulttolerance.api;
+
+import java.util.function.ToIntFunction;
+
+public final class UnitRateLimitCost implements ToIntFunction<Object[]> {
+    @Override
+    public int applyAsInt(Object[] ignored) {
+        return 1;
+    }
+}
@@ -9,21 +9,26 @@ final class BasicMeteredOperationImpl implements MeteredOperation {
     private final boolean hasBulkhead;
     private final boolean hasCircuitBreaker;
     private final boolean hasFallback;
+    private final boolean hasLoadShedding;
     private final boolean hasRateLimit;
     private final boolean hasRetry;
     private final boolean hasTimeout;
+    private final int samplingRate;
 
     BasicMeteredOperationImpl(boolean enabled, String name, boolean mayBeAsynchronous, boolean hasBulkhead,
-            boolean hasCircuitBreaker, boolean hasFallback, boolean hasRateLimit, boolean hasRetry, boolean hasTimeout) {
+            boolean hasCircuitBreaker, boolean hasFallback, boolean hasLoadShedding, boolean hasRateLimit, boolean hasRetry,
+            boolean hasTimeout, int samplingRate) {
         this.enabled = enabled;
         this.name = name;
         this.mayBeAsynchronous = mayBeAsynchronous;
         this.hasBulkhead = hasBulkhead;
         this.hasCircuitBreaker = hasCircuitBreaker;
         this.hasFallback = hasFallback;
+        this.hasLoadShedding = hasLoadShedding;
         this.hasRateLimit = hasRateLimit;
         this.hasRetry = hasRetry;
         this.hasTimeout = hasTimeout;
+        this.samplingRate = samplingRate;
     }
 
     @Override
@@ -51,6 +56,11 @@ final class BasicMeteredOperationImpl implements MeteredOperation {
         return hasFallback;
     }
 
+    @Override
+    public boolean hasLoadShedding() {
+        return hasLoadShedding;
+    }
+
     @Override
     public boolean hasRateLimit() {
         return hasRateLimit;
@@ -66,6 +76,11 @@ final class BasicMeteredOperationImpl implements MeteredOperation {
         return hasTimeout;
     }
 
+    @Override
+    public int samplingRate() {
+        return samplingRate;
+    }
+
     @Override
     public String name() {
         return name;
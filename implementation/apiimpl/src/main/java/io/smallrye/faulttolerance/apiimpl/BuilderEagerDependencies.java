@@ -1,6 +1,13 @@
 package io.smallrye.faulttolerance.apiimpl;
 
+import io.smallrye.faulttolerance.core.bulkhead.BulkheadPoolRegistry;
+import io.smallrye.faulttolerance.core.inspection.GuardStateRegistry;
+
 // dependencies that may be accessed eagerly; these must be safe to use during static initialization
 public interface BuilderEagerDependencies {
     BasicCircuitBreakerMaintenanceImpl cbMaintenance();
+
+    BulkheadPoolRegistry bulkheadPools();
+
+    GuardStateRegistry guardStates();
 }
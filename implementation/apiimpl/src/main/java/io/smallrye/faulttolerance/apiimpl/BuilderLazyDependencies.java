@@ -3,8 +3,11 @@ package io.smallrye.faulttolerance.apiimpl;
 import java.util.concurrent.ExecutorService;
 
 import io.smallrye.faulttolerance.core.event.loop.EventLoop;
+import io.smallrye.faulttolerance.core.inspection.EventBuffer;
+import io.smallrye.faulttolerance.core.load.shedding.SystemLoadMonitor;
 import io.smallrye.faulttolerance.core.metrics.MetricsProvider;
 import io.smallrye.faulttolerance.core.timer.Timer;
+import io.smallrye.faulttolerance.core.tracing.TracingProvider;
 
 // dependencies that must NOT be accessed eagerly; these are NOT safe to use during static initialization
 public interface BuilderLazyDependencies {
@@ -16,5 +19,18 @@ public interface BuilderLazyDependencies {
 
     Timer timer();
 
+    SystemLoadMonitor systemLoadMonitor();
+
     MetricsProvider metricsProvider();
+
+    // `null` if the buffer of recent events is disabled
+    EventBuffer eventBuffer();
+
+    TracingProvider tracingProvider();
+
+    // whether bulkheads, circuit breakers and rate limits reject invocations using exceptions without stack trace
+    boolean stacklessRejections();
+
+    // whether JDK Flight Recorder events are emitted
+    boolean flightRecorderEnabled();
 }
@@ -17,16 +17,21 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 import io.smallrye.faulttolerance.api.CircuitBreakerState;
 import io.smallrye.faulttolerance.api.CustomBackoffStrategy;
 import io.smallrye.faulttolerance.api.ExponentialBackoff;
 import io.smallrye.faulttolerance.api.FibonacciBackoff;
+import io.smallrye.faulttolerance.api.NoRateLimitKey;
 import io.smallrye.faulttolerance.api.RateLimitType;
 import io.smallrye.faulttolerance.api.TypedGuard;
+import io.smallrye.faulttolerance.api.UnitRateLimitCost;
 import io.smallrye.faulttolerance.apiimpl.basicconfig.BasicFaultToleranceOperation;
+import io.smallrye.faulttolerance.apiimpl.basicconfig.ConfigUtil;
 import io.smallrye.faulttolerance.core.FaultToleranceContext;
 import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
 import io.smallrye.faulttolerance.core.Future;
@@ -38,12 +43,19 @@ import io.smallrye.faulttolerance.core.circuit.breaker.CircuitBreaker;
 import io.smallrye.faulttolerance.core.circuit.breaker.CircuitBreakerEvents;
 import io.smallrye.faulttolerance.core.fallback.Fallback;
 import io.smallrye.faulttolerance.core.fallback.FallbackFunction;
+import io.smallrye.faulttolerance.core.inspection.EventBuffer;
+import io.smallrye.faulttolerance.core.inspection.EventBufferCollector;
+import io.smallrye.faulttolerance.core.inspection.GuardState;
 import io.smallrye.faulttolerance.core.invocation.AsyncSupport;
 import io.smallrye.faulttolerance.core.invocation.ConstantInvoker;
+import io.smallrye.faulttolerance.core.jfr.FlightRecorderCollector;
+import io.smallrye.faulttolerance.core.jfr.FlightRecorderSupport;
+import io.smallrye.faulttolerance.core.load.shedding.LoadShedding;
 import io.smallrye.faulttolerance.core.metrics.DelegatingMetricsCollector;
 import io.smallrye.faulttolerance.core.metrics.MeteredOperation;
 import io.smallrye.faulttolerance.core.metrics.MetricsProvider;
 import io.smallrye.faulttolerance.core.rate.limit.RateLimit;
+import io.smallrye.faulttolerance.core.rate.limit.RateLimitOptions;
 import io.smallrye.faulttolerance.core.retry.BackOff;
 import io.smallrye.faulttolerance.core.retry.ConstantBackOff;
 import io.smallrye.faulttolerance.core.retry.CustomBackOff;
@@ -55,7 +67,9 @@ import io.smallrye.faulttolerance.core.retry.Retry;
 import io.smallrye.faulttolerance.core.retry.ThreadSleepDelay;
 import io.smallrye.faulttolerance.core.retry.TimerDelay;
 import io.smallrye.faulttolerance.core.stopwatch.SystemStopwatch;
+import io.smallrye.faulttolerance.core.timeout.AdaptiveTimeout;
 import io.smallrye.faulttolerance.core.timeout.Timeout;
+import io.smallrye.faulttolerance.core.tracing.TracingProvider;
 import io.smallrye.faulttolerance.core.util.ExceptionDecision;
 
 // V = value type, e.g. String
@@ -67,6 +81,8 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
     private final FaultToleranceStrategy<V> strategy;
     private final AsyncSupport<V, T> asyncSupport;
     private final EventHandlers eventHandlers;
+    // only referenced here, so that the guard state is registered as long as this guard is reachable
+    private final GuardState guardState;
 
     // Circuit breakers created using the programmatic API are registered with `CircuitBreakerMaintenance`
     // in two phases:
@@ -86,8 +102,10 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
     // but that instance is never used. The useful `TypedGuard` instance is held by the actual bean instance,
     // which is created lazily, on the first method invocation on the client proxy.
 
-    TypedGuardImpl(FaultToleranceStrategy<V> strategy, AsyncSupport<V, T> asyncSupport, EventHandlers eventHandlers) {
+    TypedGuardImpl(FaultToleranceStrategy<V> strategy, GuardState guardState, AsyncSupport<V, T> asyncSupport,
+            EventHandlers eventHandlers) {
         this.strategy = strategy;
+        this.guardState = guardState;
         this.asyncSupport = asyncSupport;
         this.eventHandlers = eventHandlers;
     }
@@ -126,11 +144,13 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
         private BulkheadBuilderImpl<V, T> bulkheadBuilder;
         private CircuitBreakerBuilderImpl<V, T> circuitBreakerBuilder;
         private FallbackBuilderImpl<V, T> fallbackBuilder;
+        private LoadSheddingBuilderImpl<V, T> loadSheddingBuilder;
         private RateLimitBuilderImpl<V, T> rateLimitBuilder;
         private RetryBuilderImpl<V, T> retryBuilder;
         private TimeoutBuilderImpl<V, T> timeoutBuilder;
         private boolean offloadToAnotherThread;
         private Executor offloadExecutor;
+        private int metricsSamplingRate = 1;
 
         public BuilderImpl(BuilderEagerDependencies eagerDependencies, Supplier<BuilderLazyDependencies> lazyDependencies,
                 Type valueType) {
@@ -164,6 +184,11 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
             return new FallbackBuilderImpl<>(this);
         }
 
+        @Override
+        public LoadSheddingBuilder<T> withLoadShedding() {
+            return new LoadSheddingBuilderImpl<>(this);
+        }
+
         @Override
         public RateLimitBuilder<T> withRateLimit() {
             return new RateLimitBuilderImpl<>(this);
@@ -191,11 +216,20 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
             return this;
         }
 
+        @Override
+        public Builder<T> withMetricsSamplingRate(int samplingRate) {
+            this.metricsSamplingRate = check(samplingRate, samplingRate >= 1, "Metrics sampling rate must be >= 1");
+            return this;
+        }
+
         @Override
         public TypedGuard<T> build() {
             eagerInitialization();
-            return new LazyTypedGuard<>(cfg -> new TypedGuardImpl<>(
-                    buildStrategy(cfg, lazyDependencies.get()), asyncSupport, buildEventHandlers()));
+            return new LazyTypedGuard<>(cfg -> {
+                GuardState guardState = new GuardState(description);
+                return new TypedGuardImpl<>(buildStrategy(cfg, lazyDependencies.get(), guardState), guardState,
+                        asyncSupport, buildEventHandlers());
+            });
         }
 
         // must not access lazyDependencies
@@ -203,6 +237,10 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
             if (circuitBreakerBuilder != null && circuitBreakerBuilder.name != null) {
                 eagerDependencies.cbMaintenance().registerName(circuitBreakerBuilder.name);
             }
+            if (bulkheadBuilder != null && bulkheadBuilder.poolName != null) {
+                // fails fast if the pool exists with a different size
+                eagerDependencies.bulkheadPools().get(bulkheadBuilder.poolName, bulkheadBuilder.poolSize);
+            }
         }
 
         final EventHandlers buildEventHandlers() {
@@ -229,9 +267,11 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
                     timeoutBuilder != null ? timeoutBuilder.onFinished : null);
         }
 
-        final FaultToleranceStrategy<V> buildStrategy(String id, BuilderLazyDependencies lazyDependencies) {
+        final FaultToleranceStrategy<V> buildStrategy(String id, BuilderLazyDependencies lazyDependencies,
+                GuardState guardState) {
             BasicFaultToleranceOperation op = new BasicFaultToleranceOperation(id, bulkheadBuilder,
-                    circuitBreakerBuilder, rateLimitBuilder, retryBuilder, timeoutBuilder,
+                    circuitBreakerBuilder, loadSheddingBuilder, rateLimitBuilder, retryBuilder,
+                    timeoutBuilder,
                     retryBuilder != null ? retryBuilder.exponentialBackoffBuilder : null,
                     retryBuilder != null ? retryBuilder.fibonacciBackoffBuilder : null);
             op.validate();
@@ -245,29 +285,53 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
                     result);
 
             if (lazyDependencies.ftEnabled() && op.hasBulkhead()) {
-                result = new Bulkhead<>(result, description,
+                result = guardState.bulkhead(new Bulkhead<>(result, description,
                         op.getBulkhead().value(),
                         op.getBulkhead().waitingTaskQueue(),
-                        bulkheadBuilder.syncQueueingEnabled);
+                        bulkheadBuilder.syncQueueingEnabled,
+                        // the pool only holds the member weakly, the member is held by the bulkhead
+                        // and so the reservation is returned to the pool when this guard goes away
+                        bulkheadBuilder.poolName != null
+                                ? eagerDependencies.bulkheadPools().get(bulkheadBuilder.poolName, bulkheadBuilder.poolSize)
+                                        .join(bulkheadBuilder.poolReserved)
+                                : null,
+                        lazyDependencies.stacklessRejections()));
             }
 
             if (lazyDependencies.ftEnabled() && op.hasTimeout()) {
-                result = new Timeout<>(result, description,
-                        timeInMillis(op.getTimeout().value(), op.getTimeout().unit()),
-                        lazyDependencies.timer());
+                long timeoutInMillis = timeInMillis(op.getTimeout().value(), op.getTimeout().unit());
+                result = new Timeout<>(result, description, timeoutInMillis, lazyDependencies.timer(),
+                        timeoutBuilder.adaptive
+                                ? new AdaptiveTimeout(timeoutBuilder.adaptivePercentile, timeoutBuilder.adaptiveMultiplier,
+                                        timeInMillis(timeoutBuilder.adaptiveMinTimeout, timeoutBuilder.adaptiveMinTimeoutUnit),
+                                        timeoutInMillis, SystemStopwatch.INSTANCE)
+                                : null);
             }
 
             if (lazyDependencies.ftEnabled() && op.hasRateLimit()) {
-                result = new RateLimit<>(result, description,
+                result = guardState.rateLimit(new RateLimit<>(result, description,
                         op.getRateLimit().value(),
                         timeInMillis(op.getRateLimit().window(), op.getRateLimit().windowUnit()),
                         timeInMillis(op.getRateLimit().minSpacing(), op.getRateLimit().minSpacingUnit()),
                         op.getRateLimit().type(),
-                        SystemStopwatch.INSTANCE);
+                        SystemStopwatch.INSTANCE,
+                        RateLimitOptions.DEFAULT
+                                .withKey(rateLimitBuilder.key != null ? ignored -> rateLimitBuilder.key.get() : null,
+                                        op.getRateLimit().maxKeys())
+                                .withCost(rateLimitBuilder.cost != null ? ignored -> rateLimitBuilder.cost.getAsInt() : null)
+                                .withMaxWait(timeInMillis(op.getRateLimit().maxWait(), op.getRateLimit().maxWaitUnit()),
+                                        lazyDependencies.timer())
+                                .withWarmUp(timeInMillis(op.getRateLimit().warmUp(), op.getRateLimit().warmUpUnit()))
+                                .withStacklessRejections(lazyDependencies.stacklessRejections())));
+            }
+
+            if (lazyDependencies.ftEnabled() && op.hasLoadShedding()) {
+                result = new LoadShedding<>(result, description, op.getLoadShedding().threshold(),
+                        lazyDependencies.systemLoadMonitor(), lazyDependencies.stacklessRejections());
             }
 
             if (lazyDependencies.ftEnabled() && op.hasCircuitBreaker()) {
-                result = new CircuitBreaker<>(result, description,
+                result = guardState.circuitBreaker(new CircuitBreaker<>(result, description,
                         createExceptionDecision(op.getCircuitBreaker().skipOn(), op.getCircuitBreaker().failOn(),
                                 circuitBreakerBuilder.whenPredicate),
                         timeInMillis(op.getCircuitBreaker().delay(), op.getCircuitBreaker().delayUnit()),
@@ -275,7 +339,8 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
                         op.getCircuitBreaker().failureRatio(),
                         op.getCircuitBreaker().successThreshold(),
                         SystemStopwatch.INSTANCE,
-                        lazyDependencies.timer());
+                        lazyDependencies.timer(),
+                        lazyDependencies.stacklessRejections()));
 
                 if (circuitBreakerBuilder.name != null) {
                     CircuitBreaker<?> circuitBreaker = (CircuitBreaker<?>) result;
@@ -287,7 +352,7 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
                 Supplier<BackOff> backoff = prepareRetryBackoff(op, retryBuilder);
                 Consumer<Throwable> beforeRetryAction = retryBuilder.beforeRetry;
 
-                result = new Retry<>(result, description,
+                result = guardState.retry(new Retry<>(result, description,
                         createResultDecision(retryBuilder.whenResultPredicate),
                         createExceptionDecision(op.getRetry().abortOn(), op.getRetry().retryOn(),
                                 retryBuilder.whenExceptionPredicate),
@@ -296,7 +361,7 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
                         () -> new ThreadSleepDelay(backoff.get()),
                         () -> new TimerDelay(backoff.get(), lazyDependencies.timer()),
                         SystemStopwatch.INSTANCE,
-                        beforeRetryAction != null ? ctx -> beforeRetryAction.accept(ctx.failure) : null);
+                        beforeRetryAction != null ? ctx -> beforeRetryAction.accept(ctx.failure) : null));
             }
 
             // fallback is always enabled
@@ -323,9 +388,23 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
             }
             result = new Fallback<>(result, description, fallbackFunction, exceptionDecision);
 
+            if (lazyDependencies.flightRecorderEnabled() && FlightRecorderSupport.isAvailable()) {
+                result = new FlightRecorderCollector<>(result, description);
+            }
+
+            EventBuffer eventBuffer = lazyDependencies.eventBuffer();
+            if (eventBuffer != null) {
+                result = new EventBufferCollector<>(result, eventBuffer, description);
+            }
+
+            TracingProvider tracingProvider = lazyDependencies.tracingProvider();
+            if (tracingProvider.isEnabled()) {
+                result = tracingProvider.createCollector(result, description);
+            }
+
             MetricsProvider metricsProvider = lazyDependencies.metricsProvider();
             if (metricsProvider.isEnabled()) {
-                MeteredOperation defaultOperation = buildMeteredOperation();
+                MeteredOperation defaultOperation = buildMeteredOperation(id);
                 result = new DelegatingMetricsCollector<>(result, metricsProvider, defaultOperation);
             }
 
@@ -334,13 +413,16 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
                     new RememberEventLoop<>(result, lazyDependencies.eventLoop(), offloadToAnotherThread),
                     result);
 
+            eagerDependencies.guardStates().register(guardState);
+
             return result;
         }
 
-        private MeteredOperation buildMeteredOperation() {
+        private MeteredOperation buildMeteredOperation(String id) {
+            int samplingRate = id != null ? ConfigUtil.getMetricsSamplingRate(id, metricsSamplingRate) : metricsSamplingRate;
             return new BasicMeteredOperationImpl(descriptionSet, description, asyncSupport != null, bulkheadBuilder != null,
-                    circuitBreakerBuilder != null, false, rateLimitBuilder != null,
-                    retryBuilder != null, timeoutBuilder != null);
+                    circuitBreakerBuilder != null, false, loadSheddingBuilder != null, rateLimitBuilder != null,
+                    retryBuilder != null, timeoutBuilder != null, samplingRate);
         }
 
         private static Supplier<BackOff> prepareRetryBackoff(BasicFaultToleranceOperation op,
@@ -376,6 +458,9 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
             private int limit = 10;
             private int queueSize = 10;
             private boolean syncQueueingEnabled;
+            private String poolName;
+            private int poolSize;
+            private int poolReserved;
 
             private Runnable onAccepted;
             private Runnable onRejected;
@@ -403,6 +488,15 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
                 return this;
             }
 
+            @Override
+            public BulkheadBuilder<T> pool(String name, int size, int reserved) {
+                this.poolName = checkNotNull(name, "Bulkhead pool name must be set");
+                this.poolSize = check(size, size >= 1, "Bulkhead pool size must be >= 1");
+                this.poolReserved = check(reserved, reserved >= 0 && reserved <= size,
+                        "Bulkhead pool reservation must be >= 0 and <= pool size");
+                return this;
+            }
+
             @Override
             public BulkheadBuilder<T> onAccepted(Runnable callback) {
                 this.onAccepted = checkNotNull(callback, "Accepted callback must be set");
@@ -701,6 +795,44 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
             }
         }
 
+        static class LoadSheddingBuilderImpl<V, T> implements LoadSheddingBuilder<T>,
+                Supplier<io.smallrye.faulttolerance.api.LoadShedding> {
+            private final BuilderImpl<V, T> parent;
+
+            private double threshold = 0.8;
+
+            LoadSheddingBuilderImpl(BuilderImpl<V, T> parent) {
+                this.parent = parent;
+            }
+
+            @Override
+            public LoadSheddingBuilder<T> threshold(double value) {
+                this.threshold = check(value, value >= 0.0 && value < 1.0, "Load threshold must be >= 0 and < 1");
+                return this;
+            }
+
+            @Override
+            public Builder<T> done() {
+                parent.loadSheddingBuilder = this;
+                return parent;
+            }
+
+            @Override
+            public io.smallrye.faulttolerance.api.LoadShedding get() {
+                return new io.smallrye.faulttolerance.api.LoadShedding() {
+                    @Override
+                    public double threshold() {
+                        return threshold;
+                    }
+
+                    @Override
+                    public Class<? extends Annotation> annotationType() {
+                        return io.smallrye.faulttolerance.api.LoadShedding.class;
+                    }
+                };
+            }
+        }
+
         static class RateLimitBuilderImpl<V, T> implements RateLimitBuilder<T>,
                 Supplier<io.smallrye.faulttolerance.api.RateLimit> {
             private final BuilderImpl<V, T> parent;
@@ -711,6 +843,13 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
             private long minSpacing = 0;
             private ChronoUnit minSpacingUnit = ChronoUnit.SECONDS;
             private RateLimitType type = RateLimitType.FIXED;
+            private Supplier<?> key; // not keyed by default
+            private int maxKeys = 10_000;
+            private IntSupplier cost; // one permit per invocation by default
+            private long maxWait = 0;
+            private ChronoUnit maxWaitUnit = ChronoUnit.SECONDS;
+            private long warmUp = 0;
+            private ChronoUnit warmUpUnit = ChronoUnit.SECONDS;
 
             private Runnable onPermitted;
             private Runnable onRejected;
@@ -751,6 +890,44 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
                 return this;
             }
 
+            @Override
+            public RateLimitBuilder<T> key(Supplier<?> value) {
+                this.key = checkNotNull(value, "Rate limit key supplier must be set");
+                return this;
+            }
+
+            @Override
+            public RateLimitBuilder<T> maxKeys(int value) {
+                this.maxKeys = check(value, value >= 1, "Max keys must be >= 1");
+                return this;
+            }
+
+            @Override
+            public RateLimitBuilder<T> cost(IntSupplier value) {
+                this.cost = checkNotNull(value, "Rate limit cost supplier must be set");
+                return this;
+            }
+
+            @Override
+            public RateLimitBuilder<T> maxWait(long value, ChronoUnit unit) {
+                check(value, value >= 0, "Max wait must be >= 0");
+                checkNotNull(unit, "Max wait unit must be set");
+
+                this.maxWait = value;
+                this.maxWaitUnit = unit;
+                return this;
+            }
+
+            @Override
+            public RateLimitBuilder<T> warmUp(long value, ChronoUnit unit) {
+                check(value, value >= 0, "Warm-up period must be >= 0");
+                checkNotNull(unit, "Warm-up period unit must be set");
+
+                this.warmUp = value;
+                this.warmUpUnit = unit;
+                return this;
+            }
+
             @Override
             public RateLimitBuilder<T> onPermitted(Runnable callback) {
                 this.onPermitted = checkNotNull(callback, "Permitted callback must be set");
@@ -802,6 +979,41 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
                         return type;
                     }
 
+                    @Override
+                    public Class<? extends Function<Object[], ?>> key() {
+                        return NoRateLimitKey.class;
+                    }
+
+                    @Override
+                    public int maxKeys() {
+                        return maxKeys;
+                    }
+
+                    @Override
+                    public Class<? extends ToIntFunction<Object[]>> cost() {
+                        return UnitRateLimitCost.class;
+                    }
+
+                    @Override
+                    public long maxWait() {
+                        return maxWait;
+                    }
+
+                    @Override
+                    public ChronoUnit maxWaitUnit() {
+                        return maxWaitUnit;
+                    }
+
+                    @Override
+                    public long warmUp() {
+                        return warmUp;
+                    }
+
+                    @Override
+                    public ChronoUnit warmUpUnit() {
+                        return warmUpUnit;
+                    }
+
                     @Override
                     public Class<? extends Annotation> annotationType() {
                         return io.smallrye.faulttolerance.api.RateLimit.class;
@@ -1181,6 +1393,12 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
             private long value = 1000;
             private ChronoUnit unit = ChronoUnit.MILLIS;
 
+            private boolean adaptive;
+            private double adaptivePercentile;
+            private double adaptiveMultiplier;
+            private long adaptiveMinTimeout;
+            private ChronoUnit adaptiveMinTimeoutUnit;
+
             private Runnable onTimeout;
             private Runnable onFinished;
 
@@ -1198,6 +1416,22 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
                 return this;
             }
 
+            @Override
+            public TimeoutBuilder<T> adaptive(double percentile, double multiplier, long minTimeout,
+                    ChronoUnit minTimeoutUnit) {
+                check(percentile, percentile > 0.0 && percentile <= 1.0, "Percentile must be > 0 and <= 1");
+                check(multiplier, multiplier >= 1.0, "Multiplier must be >= 1");
+                check(minTimeout, minTimeout > 0, "Min timeout must be > 0");
+                checkNotNull(minTimeoutUnit, "Min timeout unit must be set");
+
+                this.adaptive = true;
+                this.adaptivePercentile = percentile;
+                this.adaptiveMultiplier = multiplier;
+                this.adaptiveMinTimeout = minTimeout;
+                this.adaptiveMinTimeoutUnit = minTimeoutUnit;
+                return this;
+            }
+
             @Override
             public TimeoutBuilder<T> onTimeout(Runnable callback) {
                 this.onTimeout = checkNotNull(callback, "Timeout callback must be set");
@@ -1212,6 +1446,12 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
 
             @Override
             public Builder<T> done() {
+                if (adaptive) {
+                    long minTimeoutInMillis = timeInMillis(adaptiveMinTimeout, adaptiveMinTimeoutUnit);
+                    check(minTimeoutInMillis, minTimeoutInMillis <= timeInMillis(value, unit),
+                            "Min timeout must be <= timeout duration");
+                }
+
                 parent.timeoutBuilder = this;
                 return parent;
             }
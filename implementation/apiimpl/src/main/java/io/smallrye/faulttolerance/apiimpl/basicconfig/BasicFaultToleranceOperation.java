@@ -18,6 +18,7 @@ import org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefiniti
 
 import io.smallrye.faulttolerance.api.ExponentialBackoff;
 import io.smallrye.faulttolerance.api.FibonacciBackoff;
+import io.smallrye.faulttolerance.api.LoadShedding;
 import io.smallrye.faulttolerance.api.RateLimit;
 import io.smallrye.faulttolerance.autoconfig.Config;
 import io.smallrye.faulttolerance.autoconfig.FaultToleranceMethod;
@@ -30,6 +31,7 @@ public class BasicFaultToleranceOperation {
 
     protected final BulkheadConfig bulkhead;
     protected final CircuitBreakerConfig circuitBreaker;
+    protected final LoadSheddingConfig loadShedding;
     protected final RateLimitConfig rateLimit;
     protected final RetryConfig retry;
     protected final TimeoutConfig timeout;
@@ -44,6 +46,7 @@ public class BasicFaultToleranceOperation {
 
         this.bulkhead = BulkheadConfigImpl.create(method);
         this.circuitBreaker = CircuitBreakerConfigImpl.create(method);
+        this.loadShedding = LoadSheddingConfigImpl.create(method);
         this.rateLimit = RateLimitConfigImpl.create(method);
         this.retry = RetryConfigImpl.create(method);
         this.timeout = TimeoutConfigImpl.create(method);
@@ -54,13 +57,15 @@ public class BasicFaultToleranceOperation {
 
     // `id == null` means no configuration
     public BasicFaultToleranceOperation(String id, Supplier<Bulkhead> bulkhead, Supplier<CircuitBreaker> circuitBreaker,
-            Supplier<RateLimit> rateLimit, Supplier<Retry> retry, Supplier<Timeout> timeout,
+            Supplier<LoadShedding> loadShedding, Supplier<RateLimit> rateLimit, Supplier<Retry> retry,
+            Supplier<Timeout> timeout,
             Supplier<ExponentialBackoff> exponentialBackoff,
             Supplier<FibonacciBackoff> fibonacciBackoff) {
         this.description = id != null ? id : "<unknown>";
         if (id != null) {
             this.bulkhead = BulkheadConfigImpl.create(id, bulkhead);
             this.circuitBreaker = CircuitBreakerConfigImpl.create(id, circuitBreaker);
+            this.loadShedding = LoadSheddingConfigImpl.create(id, loadShedding);
             this.rateLimit = RateLimitConfigImpl.create(id, rateLimit);
             this.retry = RetryConfigImpl.create(id, retry);
             this.timeout = TimeoutConfigImpl.create(id, timeout);
@@ -69,6 +74,7 @@ public class BasicFaultToleranceOperation {
         } else {
             this.bulkhead = BulkheadNoConfigImpl.create(bulkhead);
             this.circuitBreaker = CircuitBreakerNoConfigImpl.create(circuitBreaker);
+            this.loadShedding = LoadSheddingNoConfigImpl.create(loadShedding);
             this.rateLimit = RateLimitNoConfigImpl.create(rateLimit);
             this.retry = RetryNoConfigImpl.create(retry);
             this.timeout = TimeoutNoConfigImpl.create(timeout);
@@ -93,6 +99,14 @@ public class BasicFaultToleranceOperation {
         return circuitBreaker;
     }
 
+    public boolean hasLoadShedding() {
+        return loadShedding != null;
+    }
+
+    public LoadShedding getLoadShedding() {
+        return loadShedding;
+    }
+
     public boolean hasRateLimit() {
         return rateLimit != null;
     }
@@ -152,6 +166,9 @@ public class BasicFaultToleranceOperation {
         if (circuitBreaker != null) {
             circuitBreaker.validate();
         }
+        if (loadShedding != null) {
+            loadShedding.validate();
+        }
         if (rateLimit != null) {
             rateLimit.validate();
         }
@@ -219,6 +236,9 @@ public class BasicFaultToleranceOperation {
         if (circuitBreaker != null) {
             circuitBreaker.materialize();
         }
+        if (loadShedding != null) {
+            loadShedding.materialize();
+        }
         if (rateLimit != null) {
             rateLimit.materialize();
         }
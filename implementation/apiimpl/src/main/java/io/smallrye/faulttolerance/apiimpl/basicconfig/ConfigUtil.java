@@ -4,12 +4,14 @@ import java.util.Optional;
 
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException;
 
 import io.smallrye.faulttolerance.autoconfig.ConfigConstants;
 import io.smallrye.faulttolerance.autoconfig.MethodDescriptor;
 
 public final class ConfigUtil {
     private static final String OLD_FALLBACK = "Fallback/enabled";
+    private static final String METRICS_SAMPLING_RATE = "metrics.sampling-rate";
 
     private static String newKey(String newSuffix, String configKey) {
         return ConfigConstants.PREFIX + "\"" + configKey + "\"." + newSuffix;
@@ -130,4 +132,50 @@ public final class ConfigUtil {
 
         return true;
     }
+
+    public static int getMetricsSamplingRate(MethodDescriptor method) {
+        Config config = ConfigProvider.getConfig();
+
+        Optional<Integer> onMethod = config.getOptionalValue(
+                newKey(METRICS_SAMPLING_RATE, method.declaringClass.getName() + "/" + method.name), Integer.class);
+        if (onMethod.isPresent()) {
+            return checkSamplingRate(onMethod.get());
+        }
+
+        Optional<Integer> onClass = config.getOptionalValue(
+                newKey(METRICS_SAMPLING_RATE, method.declaringClass.getName()), Integer.class);
+        if (onClass.isPresent()) {
+            return checkSamplingRate(onClass.get());
+        }
+
+        Optional<Integer> onGlobal = config.getOptionalValue(newKey(METRICS_SAMPLING_RATE), Integer.class);
+        if (onGlobal.isPresent()) {
+            return checkSamplingRate(onGlobal.get());
+        }
+
+        return 1;
+    }
+
+    public static int getMetricsSamplingRate(String id, int defaultValue) {
+        Config config = ConfigProvider.getConfig();
+
+        Optional<Integer> identified = config.getOptionalValue(newKey(METRICS_SAMPLING_RATE, id), Integer.class);
+        if (identified.isPresent()) {
+            return checkSamplingRate(identified.get());
+        }
+
+        Optional<Integer> global = config.getOptionalValue(newKey(METRICS_SAMPLING_RATE), Integer.class);
+        if (global.isPresent()) {
+            return checkSamplingRate(global.get());
+        }
+
+        return defaultValue;
+    }
+
+    private static int checkSamplingRate(int value) {
+        if (value < 1) {
+            throw new FaultToleranceDefinitionException("Invalid metrics sampling rate " + value + ", must be >= 1");
+        }
+        return value;
+    }
 }
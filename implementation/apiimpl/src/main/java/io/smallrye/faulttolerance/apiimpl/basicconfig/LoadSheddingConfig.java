@@ -0,0 +1,18 @@
+package io.smallrye.faulttolerance.apiimpl.basicconfig;
+
+import io.smallrye.faulttolerance.api.LoadShedding;
+import io.smallrye.faulttolerance.autoconfig.AutoConfig;
+import io.smallrye.faulttolerance.autoconfig.Config;
+
+@AutoConfig
+public interface LoadSheddingConfig extends LoadShedding, Config {
+    @Override
+    default void validate() {
+        if (threshold() < 0.0) {
+            throw fail("threshold", "shouldn't be lower than 0");
+        }
+        if (threshold() >= 1.0) {
+            throw fail("threshold", "should be lower than 1");
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.smallrye.faulttolerance.apiimpl.basicconfig;
 
 import io.smallrye.faulttolerance.api.RateLimit;
+import io.smallrye.faulttolerance.api.RateLimitType;
 import io.smallrye.faulttolerance.autoconfig.AutoConfig;
 import io.smallrye.faulttolerance.autoconfig.Config;
 
@@ -17,5 +18,17 @@ public interface RateLimitConfig extends RateLimit, Config {
         if (minSpacing() < 0) {
             throw fail("minSpacing", "shouldn't be lower than 0");
         }
+        if (maxKeys() < 1) {
+            throw fail("maxKeys", "shouldn't be lower than 1");
+        }
+        if (maxWait() < 0) {
+            throw fail("maxWait", "shouldn't be lower than 0");
+        }
+        if (warmUp() < 0) {
+            throw fail("warmUp", "shouldn't be lower than 0");
+        }
+        if (warmUp() > 0 && type() != RateLimitType.SMOOTH) {
+            throw fail("warmUp", "may only be set for smooth time windows");
+        }
     }
 }
@@ -11,13 +11,16 @@ import org.eclipse.microprofile.faulttolerance.Fallback;
 import org.eclipse.microprofile.faulttolerance.Retry;
 import org.eclipse.microprofile.faulttolerance.Timeout;
 
+import io.smallrye.faulttolerance.api.AdaptiveTimeout;
 import io.smallrye.faulttolerance.api.ApplyGuard;
 import io.smallrye.faulttolerance.api.AsynchronousNonBlocking;
 import io.smallrye.faulttolerance.api.BeforeRetry;
+import io.smallrye.faulttolerance.api.BulkheadPool;
 import io.smallrye.faulttolerance.api.CircuitBreakerName;
 import io.smallrye.faulttolerance.api.CustomBackoff;
 import io.smallrye.faulttolerance.api.ExponentialBackoff;
 import io.smallrye.faulttolerance.api.FibonacciBackoff;
+import io.smallrye.faulttolerance.api.LoadShedding;
 import io.smallrye.faulttolerance.api.RateLimit;
 import io.smallrye.faulttolerance.api.RetryWhen;
 
@@ -46,12 +49,15 @@ public class FaultToleranceMethod {
     public AsynchronousNonBlocking asynchronousNonBlocking;
 
     public Bulkhead bulkhead;
+    public BulkheadPool bulkheadPool;
     public CircuitBreaker circuitBreaker;
     public CircuitBreakerName circuitBreakerName;
     public Fallback fallback;
+    public LoadShedding loadShedding;
     public RateLimit rateLimit;
     public Retry retry;
     public Timeout timeout;
+    public AdaptiveTimeout adaptiveTimeout;
 
     public CustomBackoff customBackoff;
     public ExponentialBackoff exponentialBackoff;
@@ -72,8 +78,8 @@ public class FaultToleranceMethod {
             return false;
         }
 
-        // certain SmallRye annotations (@CircuitBreakerName, @*Backoff, @RetryWhen, @BeforeRetry)
-        // do _not_ trigger the fault tolerance interceptor alone, only in combination
+        // certain SmallRye annotations (@AdaptiveTimeout, @BulkheadPool, @CircuitBreakerName, @*Backoff,
+        // @RetryWhen, @BeforeRetry) do _not_ trigger the fault tolerance interceptor alone, only in combination
         // with other fault tolerance annotations
         return applyGuard != null
                 || asynchronous != null
@@ -81,6 +87,7 @@ public class FaultToleranceMethod {
                 || bulkhead != null
                 || circuitBreaker != null
                 || fallback != null
+                || loadShedding != null
                 || rateLimit != null
                 || retry != null
                 || timeout != null;
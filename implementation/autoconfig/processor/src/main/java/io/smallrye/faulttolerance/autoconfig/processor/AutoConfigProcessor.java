@@ -159,6 +159,17 @@ public class AutoConfigProcessor extends AbstractProcessor {
                                 ? "Backing annotation instance. Used when runtime configuration doesn't override it."
                                 : "Backing annotation instance.")
                         .build())
+                .addFields(configurable && newConfigAllowed ? List.of(
+                        FieldSpec.builder(TypeNames.STRING, "newKeyPrefix", Modifier.PRIVATE, Modifier.FINAL)
+                                .addJavadoc(
+                                        "Configuration key prefix: {@code smallrye.faulttolerance.\"<configKey>\".<annotation>.}")
+                                .build())
+                        : List.of())
+                .addFields(configurable ? List.of(
+                        FieldSpec.builder(TypeNames.STRING, "oldKeyPrefix", Modifier.PRIVATE, Modifier.FINAL)
+                                .addJavadoc("Configuration key prefix: {@code <configKey>/<annotation>/}")
+                                .build())
+                        : List.of())
                 .addFields(configurable ? ElementFilter.methodsIn(annotationDeclaration.getEnclosedElements())
                         .stream()
                         .map(annotationMember -> FieldSpec.builder(
@@ -189,6 +200,7 @@ public class AutoConfigProcessor extends AbstractProcessor {
                                 "this.configKey = onMethod ? method.method.declaringClass.getName() + \"/\" + method.method.name : method.method.declaringClass.getName()")
                         .addStatement("this.instance = method.$1L", firstToLowerCase(
                                 annotationDeclaration.getSimpleName().toString()))
+                        .addCode(generateKeyPrefixes(annotationDeclaration, configurable, newConfigAllowed))
                         .build())
                 .addMethods(declarativeOnly
                         ? List.of()
@@ -199,6 +211,7 @@ public class AutoConfigProcessor extends AbstractProcessor {
                                 .addStatement("this.description = \"Guard with @Identifier(\" + id + \")\"")
                                 .addStatement("this.configKey = id")
                                 .addStatement("this.instance = instance")
+                                .addCode(generateKeyPrefixes(annotationDeclaration, configurable, newConfigAllowed))
                                 .build()))
                 .addMethod(MethodSpec.methodBuilder("create")
                         .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
@@ -267,15 +280,24 @@ public class AutoConfigProcessor extends AbstractProcessor {
                                 .addModifiers(Modifier.PUBLIC)
                                 .returns(TypeName.get(annotationMember.getReturnType()))
                                 .addCode(configurable
-                                        ? generateConfigurableMethod(annotationMember, annotationDeclaration, newConfigAllowed)
+                                        ? generateConfigurableMethod(annotationMember)
                                         : generateNonconfigurableMethod(annotationMember))
                                 .build())
                         .collect(Collectors.toList()))
+                .addMethods(configurable ? ElementFilter.methodsIn(annotationDeclaration.getEnclosedElements())
+                        .stream()
+                        .map(annotationMember -> MethodSpec.methodBuilder(lookupMethodName(annotationMember))
+                                .addModifiers(Modifier.PRIVATE)
+                                .returns(TypeName.get(annotationMember.getReturnType()).box())
+                                .addParameter(TypeNames.MP_CONFIG, "config")
+                                .addCode(generateLookupMethod(annotationMember, annotationDeclaration, newConfigAllowed))
+                                .build())
+                        .collect(Collectors.toList()) : Collections.emptyList())
                 .addMethod(MethodSpec.methodBuilder("materialize")
                         .addAnnotation(Override.class)
                         .addModifiers(Modifier.PUBLIC)
                         .returns(TypeName.VOID)
-                        .addCode(generateMaterializeMethod(annotationDeclaration))
+                        .addCode(generateMaterializeMethod(annotationDeclaration, configurable))
                         .build())
                 .addMethod(MethodSpec.methodBuilder("fail")
                         .addAnnotation(Override.class)
@@ -374,27 +396,50 @@ public class AutoConfigProcessor extends AbstractProcessor {
                 .writeTo(processingEnv.getFiler());
     }
 
-    private CodeBlock generateConfigurableMethod(ExecutableElement annotationMember, TypeElement annotationDeclaration,
+    private CodeBlock generateKeyPrefixes(TypeElement annotationDeclaration, boolean configurable,
             boolean newConfigAllowed) {
+        CodeBlock.Builder builder = CodeBlock.builder();
+        if (configurable && newConfigAllowed) {
+            builder.addStatement("this.newKeyPrefix = \"" + ConfigConstants.PREFIX + "\\\"\" + this.configKey + \"\\\"."
+                    + newAnnotationName(annotationDeclaration) + ".\"");
+        }
+        if (configurable) {
+            builder.addStatement("this.oldKeyPrefix = this.configKey + \"/" + annotationDeclaration.getSimpleName() + "/\"");
+        }
+        return builder.build();
+    }
+
+    private CodeBlock generateConfigurableMethod(ExecutableElement annotationMember) {
+        return CodeBlock.builder()
+                .beginControlFlow("if (_$L == null)", annotationMember.getSimpleName())
+                .addStatement("_$1L = $2L($3T.getConfig())", annotationMember.getSimpleName(),
+                        lookupMethodName(annotationMember), TypeNames.MP_CONFIG_PROVIDER)
+                .endControlFlow()
+                .addStatement("return _$L", annotationMember.getSimpleName())
+                .build();
+    }
+
+    private CodeBlock generateLookupMethod(ExecutableElement annotationMember, TypeElement annotationDeclaration,
+            boolean newConfigAllowed) {
+        TypeName type = TypeName.get(annotationMember.getReturnType()).box();
+        TypeName rawType = rawType(annotationMember.getReturnType());
+
         if (newConfigAllowed) {
             String newAnnotationName = newAnnotationName(annotationDeclaration);
             String newMemberName = newMemberName(annotationMember);
 
             return CodeBlock.builder()
-                    .beginControlFlow("if (_$L == null)", annotationMember.getSimpleName())
-                    .addStatement("$1T config = $2T.getConfig()", TypeNames.MP_CONFIG, TypeNames.MP_CONFIG_PROVIDER)
+                    .addStatement("$T result", type)
                     .beginControlFlow("")
                     .add("// smallrye.faulttolerance.\"<configKey>\".<annotation>.<member>\n")
-                    .addStatement("String newKey = \"" + ConfigConstants.PREFIX + "\\\"\" + this.configKey + \"\\\"."
-                            + newAnnotationName + "." + newMemberName + "\"")
+                    .addStatement("String newKey = this.newKeyPrefix + \"" + newMemberName + "\"")
                     .add("// <configKey>/<annotation>/<member>\n")
-                    .addStatement("String oldKey = this.configKey + " + "\"/" + annotationDeclaration.getSimpleName()
-                            + "/" + annotationMember.getSimpleName() + "\"")
+                    .addStatement("String oldKey = this.oldKeyPrefix + \"" + annotationMember.getSimpleName() + "\"")
                     .addStatement(
-                            "_$1L = config.getOptionalValue(newKey, $2T.class).or(() -> config.getOptionalValue(oldKey, $2T.class)).orElse(null)",
-                            annotationMember.getSimpleName(), rawType(annotationMember.getReturnType()))
+                            "result = config.getOptionalValue(newKey, $1T.class).or(() -> config.getOptionalValue(oldKey, $1T.class)).orElse(null)",
+                            rawType)
                     .endControlFlow()
-                    .beginControlFlow("if (_$L == null)", annotationMember.getSimpleName())
+                    .beginControlFlow("if (result == null)")
                     .add("// smallrye.faulttolerance.global.<annotation>.<member>\n")
                     .addStatement("String newKey = \"" + ConfigConstants.PREFIX + ConfigConstants.GLOBAL + "."
                             + newAnnotationName + "." + newMemberName + "\"")
@@ -402,42 +447,34 @@ public class AutoConfigProcessor extends AbstractProcessor {
                     .addStatement("String oldKey = \"" + annotationDeclaration.getSimpleName()
                             + "/" + annotationMember.getSimpleName() + "\"")
                     .addStatement(
-                            "_$1L = config.getOptionalValue(newKey, $2T.class).or(() -> config.getOptionalValue(oldKey, $2T.class)).orElse(null)",
-                            annotationMember.getSimpleName(), rawType(annotationMember.getReturnType()))
+                            "result = config.getOptionalValue(newKey, $1T.class).or(() -> config.getOptionalValue(oldKey, $1T.class)).orElse(null)",
+                            rawType)
                     .endControlFlow()
-                    .beginControlFlow("if (_$L == null)", annotationMember.getSimpleName())
+                    .beginControlFlow("if (result == null)")
                     .add("// annotation value\n")
-                    .addStatement("_$1L = instance.$1L()", annotationMember.getSimpleName())
+                    .addStatement("result = instance.$1L()", annotationMember.getSimpleName())
                     .endControlFlow()
-                    .endControlFlow()
-                    .addStatement("return _$L", annotationMember.getSimpleName())
+                    .addStatement("return result")
                     .build();
         } else {
             return CodeBlock.builder()
-                    .beginControlFlow("if (_$L == null)", annotationMember.getSimpleName())
-                    .addStatement("$1T config = $2T.getConfig()", TypeNames.MP_CONFIG, TypeNames.MP_CONFIG_PROVIDER)
+                    .addStatement("$T result", type)
                     .beginControlFlow("")
                     .add("// <configKey>/<annotation>/<member>\n")
-                    .addStatement("String key = this.configKey + " + "\"/" + annotationDeclaration.getSimpleName()
-                            + "/" + annotationMember.getSimpleName() + "\"")
-                    .addStatement(
-                            "_$1L = config.getOptionalValue(key, $2T.class).orElse(null)",
-                            annotationMember.getSimpleName(), rawType(annotationMember.getReturnType()))
+                    .addStatement("String key = this.oldKeyPrefix + \"" + annotationMember.getSimpleName() + "\"")
+                    .addStatement("result = config.getOptionalValue(key, $1T.class).orElse(null)", rawType)
                     .endControlFlow()
-                    .beginControlFlow("if (_$L == null)", annotationMember.getSimpleName())
+                    .beginControlFlow("if (result == null)")
                     .add("// <annotation>/<member>\n")
                     .addStatement("String key = \"" + annotationDeclaration.getSimpleName()
                             + "/" + annotationMember.getSimpleName() + "\"")
-                    .addStatement(
-                            "_$1L = config.getOptionalValue(key, $2T.class).orElse(null)",
-                            annotationMember.getSimpleName(), rawType(annotationMember.getReturnType()))
+                    .addStatement("result = config.getOptionalValue(key, $1T.class).orElse(null)", rawType)
                     .endControlFlow()
-                    .beginControlFlow("if (_$L == null)", annotationMember.getSimpleName())
+                    .beginControlFlow("if (result == null)")
                     .add("// annotation value\n")
-                    .addStatement("_$1L = instance.$1L()", annotationMember.getSimpleName())
+                    .addStatement("result = instance.$1L()", annotationMember.getSimpleName())
                     .endControlFlow()
-                    .endControlFlow()
-                    .addStatement("return _$L", annotationMember.getSimpleName())
+                    .addStatement("return result")
                     .build();
         }
     }
@@ -448,10 +485,21 @@ public class AutoConfigProcessor extends AbstractProcessor {
                 .build();
     }
 
-    private CodeBlock generateMaterializeMethod(TypeElement annotationDeclaration) {
+    private CodeBlock generateMaterializeMethod(TypeElement annotationDeclaration, boolean configurable) {
         CodeBlock.Builder builder = CodeBlock.builder();
-        for (ExecutableElement annotationElement : ElementFilter.methodsIn(annotationDeclaration.getEnclosedElements())) {
-            builder.addStatement("$L()", annotationElement.getSimpleName());
+        if (configurable) {
+            // look up the config object only once for all members
+            builder.addStatement("$1T config = $2T.getConfig()", TypeNames.MP_CONFIG, TypeNames.MP_CONFIG_PROVIDER);
+            for (ExecutableElement annotationElement : ElementFilter.methodsIn(annotationDeclaration.getEnclosedElements())) {
+                builder.beginControlFlow("if (_$L == null)", annotationElement.getSimpleName())
+                        .addStatement("_$1L = $2L(config)", annotationElement.getSimpleName(),
+                                lookupMethodName(annotationElement))
+                        .endControlFlow();
+            }
+        } else {
+            for (ExecutableElement annotationElement : ElementFilter.methodsIn(annotationDeclaration.getEnclosedElements())) {
+                builder.addStatement("$L()", annotationElement.getSimpleName());
+            }
         }
         return builder.build();
     }
@@ -481,6 +529,11 @@ public class AutoConfigProcessor extends AbstractProcessor {
         }, null);
     }
 
+    private static String lookupMethodName(ExecutableElement annotationMember) {
+        String name = annotationMember.getSimpleName().toString();
+        return "lookup" + name.substring(0, 1).toUpperCase(Locale.ROOT) + name.substring(1);
+    }
+
     private static String firstToLowerCase(String str) {
         return str.substring(0, 1).toLowerCase(Locale.ROOT) + str.substring(1);
     }
@@ -7,6 +7,8 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import io.smallrye.faulttolerance.core.inspection.EventBuffer;
+
 public final class FaultToleranceContext<V> {
     private final Supplier<Future<V>> delegate;
     private final boolean isAsync;
@@ -70,6 +72,11 @@ public final class FaultToleranceContext<V> {
     }
 
     public <E extends FaultToleranceEvent> void fireEvent(E event) {
+        EventBuffer eventBuffer = this.eventBuffer;
+        if (eventBuffer != null) {
+            eventBuffer.record(eventBufferDescription, event);
+        }
+
         Collection<Consumer<? extends FaultToleranceEvent>> handlers = eventHandlers.get(event.getClass());
         if (handlers != null) {
             for (Consumer<? extends FaultToleranceEvent> handler : handlers) {
@@ -79,4 +86,19 @@ public final class FaultToleranceContext<V> {
             }
         }
     }
+
+    // recording of all events into the buffer of recent events, see `EventBufferCollector`
+
+    private EventBuffer eventBuffer;
+    private String eventBufferDescription;
+
+    /**
+     * Records all events fired later on this context into given {@code buffer}.
+     * Must be called before the events may be fired, typically before the chain of strategies
+     * starts processing this context.
+     */
+    public void recordEventsTo(EventBuffer buffer, String description) {
+        this.eventBufferDescription = description;
+        this.eventBuffer = buffer;
+    }
 }
@@ -29,24 +29,56 @@ import io.smallrye.faulttolerance.core.async.FutureCancellationEvent;
  * It also allows synchronous queueing, which is an implementation of a thread pool
  * bulkhead for pseudo-asynchronous invocations. Those are already offloaded to
  * an extra thread and so don't require proper queueing, just two semaphores.
+ * <p>
+ * Optionally, the bulkhead may be a member of a {@link BulkheadPool}, in which case
+ * a running task also holds a permit from the pool.
+ * <p>
+ * If stackless rejections are enabled, rejected tasks fail with a {@link BulkheadException}
+ * that doesn't capture a stack trace.
  */
 public class Bulkhead<V> implements FaultToleranceStrategy<V> {
     private final FaultToleranceStrategy<V> delegate;
-    private final String description;
 
+    private final int size;
+    private final int queueSize;
     private final Deque<BulkheadTask> queue;
     private final Semaphore capacitySemaphore;
     private final Semaphore workSemaphore;
     private final boolean syncQueueing;
+    private final BulkheadPool.Member poolMember;
+    private final boolean stacklessRejections;
+
+    private final String preventedMessage;
+    private final String rejectedMessage;
 
     // `syncQueueing` may only be enabled if this bulkhead is executed on an extra thread
     public Bulkhead(FaultToleranceStrategy<V> delegate, String description, int size, int queueSize, boolean syncQueueing) {
+        this(delegate, description, size, queueSize, syncQueueing, null);
+    }
+
+    // `syncQueueing` may only be enabled if this bulkhead is executed on an extra thread
+    // `poolMember` may be `null`, in which case the bulkhead doesn't use a shared pool
+    public Bulkhead(FaultToleranceStrategy<V> delegate, String description, int size, int queueSize, boolean syncQueueing,
+            BulkheadPool.Member poolMember) {
+        this(delegate, description, size, queueSize, syncQueueing, poolMember, false);
+    }
+
+    public Bulkhead(FaultToleranceStrategy<V> delegate, String description, int size, int queueSize, boolean syncQueueing,
+            BulkheadPool.Member poolMember, boolean stacklessRejections) {
         this.delegate = delegate;
-        this.description = description;
+        this.size = size;
+        this.queueSize = queueSize;
         this.queue = new ConcurrentLinkedDeque<>();
         this.capacitySemaphore = new Semaphore(Math.addExact(size, queueSize), true);
         this.workSemaphore = new Semaphore(size, true);
         this.syncQueueing = syncQueueing;
+        this.poolMember = poolMember;
+        this.stacklessRejections = stacklessRejections;
+        this.preventedMessage = description + " invocation prevented by bulkhead";
+        this.rejectedMessage = description + " rejected from bulkhead";
+        if (poolMember != null) {
+            poolMember.onRelease(this::runQueuedTask);
+        }
     }
 
     @Override
@@ -70,14 +102,14 @@ public class Bulkhead<V> implements FaultToleranceStrategy<V> {
     private Future<V> applySync(FaultToleranceContext<V> ctx) {
         if (capacitySemaphore.tryAcquire()) {
             LOG.trace("Capacity semaphore acquired, accepting task into bulkhead");
-            if (workSemaphore.tryAcquire()) {
+            if (tryAcquireWork()) {
                 LOG.trace("Work semaphore acquired, running task");
                 ctx.fireEvent(BulkheadEvents.DecisionMade.ACCEPTED);
                 ctx.fireEvent(BulkheadEvents.StartedRunning.INSTANCE);
                 try {
                     return delegate.apply(ctx);
                 } finally {
-                    workSemaphore.release();
+                    releaseWork();
                     LOG.trace("Work semaphore released, task finished");
                     capacitySemaphore.release();
                     LOG.trace("Capacity semaphore released, task leaving bulkhead");
@@ -86,16 +118,16 @@ public class Bulkhead<V> implements FaultToleranceStrategy<V> {
             } else {
                 capacitySemaphore.release();
 
-                LOG.debugOrTrace(description + " invocation prevented by bulkhead",
+                LOG.debugOrTrace(preventedMessage,
                         "Work semaphore not acquired, rejecting task from bulkhead");
                 ctx.fireEvent(BulkheadEvents.DecisionMade.REJECTED);
-                return Future.ofError(new BulkheadException(description + " rejected from bulkhead"));
+                return Future.ofError(rejected());
             }
         } else {
-            LOG.debugOrTrace(description + " invocation prevented by bulkhead",
+            LOG.debugOrTrace(preventedMessage,
                     "Capacity semaphore not acquired, rejecting task from bulkhead");
             ctx.fireEvent(BulkheadEvents.DecisionMade.REJECTED);
-            return Future.ofError(new BulkheadException(description + " rejected from bulkhead"));
+            return Future.ofError(rejected());
         }
     }
 
@@ -126,7 +158,7 @@ public class Bulkhead<V> implements FaultToleranceStrategy<V> {
             });
 
             try {
-                workSemaphore.acquire();
+                acquireWork();
                 LOG.trace("Work semaphore acquired, running task");
             } catch (InterruptedException e) {
                 cancellationInvalid.set(true);
@@ -147,17 +179,17 @@ public class Bulkhead<V> implements FaultToleranceStrategy<V> {
             } finally {
                 cancellationInvalid.set(true);
 
-                workSemaphore.release();
+                releaseWork();
                 LOG.trace("Work semaphore released, task finished");
                 capacitySemaphore.release();
                 LOG.trace("Capacity semaphore released, task leaving bulkhead");
                 ctx.fireEvent(BulkheadEvents.FinishedRunning.INSTANCE);
             }
         } else {
-            LOG.debugOrTrace(description + " invocation prevented by bulkhead",
+            LOG.debugOrTrace(preventedMessage,
                     "Capacity semaphore not acquired, rejecting task from bulkhead");
             ctx.fireEvent(BulkheadEvents.DecisionMade.REJECTED);
-            return Future.ofError(new BulkheadException(description + " rejected from bulkhead"));
+            return Future.ofError(rejected());
         }
     }
 
@@ -172,10 +204,10 @@ public class Bulkhead<V> implements FaultToleranceStrategy<V> {
             runQueuedTask();
             return task.result.future();
         } else {
-            LOG.debugOrTrace(description + " invocation prevented by bulkhead",
+            LOG.debugOrTrace(preventedMessage,
                     "Capacity semaphore not acquired, rejecting task from bulkhead");
             ctx.fireEvent(BulkheadEvents.DecisionMade.REJECTED);
-            return Future.ofError(new BulkheadException(description + " rejected from bulkhead"));
+            return Future.ofError(rejected());
         }
     }
 
@@ -189,17 +221,81 @@ public class Bulkhead<V> implements FaultToleranceStrategy<V> {
             loop = false;
             BulkheadTask queuedTask = queue.pollFirst();
             if (queuedTask != null) {
-                if (workSemaphore.tryAcquire()) {
+                if (tryAcquireWork()) {
                     LOG.trace("Work semaphore acquired, running task");
                     loop = queuedTask.run();
                 } else {
                     LOG.trace("Work semaphore not acquired, putting task back to queue");
                     queue.addFirst(queuedTask);
+                    if (poolMember != null && workSemaphore.availablePermits() > 0) {
+                        // the pool permit might have been released by another member before
+                        // the registration, in which case no notification may come
+                        poolMember.awaitRelease();
+                        loop = poolMember.isAvailable() && workSemaphore.availablePermits() > 0;
+                    }
                 }
             }
         } while (loop);
     }
 
+    private boolean tryAcquireWork() {
+        if (!workSemaphore.tryAcquire()) {
+            return false;
+        }
+        if (poolMember != null && !poolMember.tryAcquire()) {
+            workSemaphore.release();
+            LOG.trace("Bulkhead pool permit not acquired");
+            return false;
+        }
+        return true;
+    }
+
+    private void acquireWork() throws InterruptedException {
+        workSemaphore.acquire();
+        if (poolMember != null) {
+            try {
+                poolMember.acquire();
+            } catch (InterruptedException e) {
+                workSemaphore.release();
+                throw e;
+            }
+        }
+    }
+
+    private void releaseWork() {
+        workSemaphore.release();
+        if (poolMember != null) {
+            poolMember.release();
+        }
+    }
+
+    private BulkheadException rejected() {
+        return stacklessRejections
+                ? new StacklessBulkheadException(rejectedMessage)
+                : new BulkheadException(rejectedMessage);
+    }
+
+    // inspection
+
+    public int size() {
+        return size;
+    }
+
+    public int queueSize() {
+        return queueSize;
+    }
+
+    // computed from semaphore permits, which never blocks; the result may be slightly
+    // out of date when tasks are entering or leaving the bulkhead concurrently
+    public int runningTasks() {
+        return Math.max(size - workSemaphore.availablePermits(), 0);
+    }
+
+    public int queuedTasks() {
+        int accepted = size + queueSize - capacitySemaphore.availablePermits();
+        return Math.max(accepted - runningTasks(), 0);
+    }
+
     // only for tests
     int getQueueSize() {
         return queue.size();
@@ -260,7 +356,7 @@ public class Bulkhead<V> implements FaultToleranceStrategy<V> {
         }
 
         private void releaseSemaphores() {
-            workSemaphore.release();
+            releaseWork();
             LOG.trace("Work semaphore released, task finished");
 
             capacitySemaphore.release();
@@ -0,0 +1,233 @@
+package io.smallrye.faulttolerance.core.bulkhead;
+
+import static io.smallrye.faulttolerance.core.util.Preconditions.check;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A named pool of execution permits shared by multiple bulkheads. The total number
+ * of executions running in all member bulkheads is bounded by the pool {@linkplain #size() size},
+ * in addition to each bulkhead's own limit.
+ * <p>
+ * Each member may reserve a number of permits that are never used by other members.
+ * The remaining permits are shared by all members on a first come, first served basis.
+ * The sum of all reservations must not exceed the pool size.
+ * <p>
+ * Members joined for a {@linkplain #join(Object, int) use site} are permanent. This allows
+ * making reservations effective before a bulkhead is first used, in which case the bulkhead
+ * later obtains the existing member for the same use site. {@linkplain #join(int) Anonymous}
+ * members are only held weakly; when a member is garbage collected, its reservation
+ * is returned to the pool.
+ */
+public final class BulkheadPool {
+    private final String name;
+    private final int size;
+
+    private final ConcurrentMap<Object, Member> members = new ConcurrentHashMap<>();
+
+    private final ReferenceQueue<Member> staleMembers = new ReferenceQueue<>();
+
+    // guarded by `this`
+    private final Set<MemberReference> anonymousMembers = new HashSet<>();
+    // members whose bulkheads have queued tasks that couldn't acquire a permit
+    private final Set<Member> waitingMembers = new LinkedHashSet<>();
+    private int totalReserved;
+    private int sharedInUse;
+
+    public BulkheadPool(String name, int size) {
+        this.name = name;
+        this.size = check(size, size >= 1, "Bulkhead pool size must be >= 1");
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the member of this pool for given use site, adding a new member if it doesn't exist yet.
+     * If the member already exists, the {@code reserved} parameter is ignored.
+     *
+     * @param useSite identifies the member, must not be {@code null}
+     * @param reserved number of permits reserved for the new member, must be &gt;= 0
+     * @return the member for given use site
+     */
+    public Member join(Object useSite, int reserved) {
+        check(reserved, reserved >= 0, "Bulkhead pool reservation must be >= 0");
+        return members.computeIfAbsent(useSite, ignored -> {
+            synchronized (this) {
+                return newMember(reserved);
+            }
+        });
+    }
+
+    /**
+     * Adds a new anonymous member to this pool. The pool only holds the member weakly,
+     * so the caller must hold it strongly for as long as it is used.
+     *
+     * @param reserved number of permits reserved for the new member, must be &gt;= 0
+     * @return the new member
+     */
+    public Member join(int reserved) {
+        check(reserved, reserved >= 0, "Bulkhead pool reservation must be >= 0");
+        synchronized (this) {
+            Member member = newMember(reserved);
+            anonymousMembers.add(new MemberReference(member, staleMembers));
+            return member;
+        }
+    }
+
+    // must be called while holding the lock
+    private Member newMember(int reserved) {
+        expungeStaleMembers();
+        if (totalReserved + reserved > size) {
+            throw new IllegalArgumentException("Bulkhead pool '" + name + "' of size " + size
+                    + " cannot reserve " + reserved + " more permits, " + totalReserved + " already reserved");
+        }
+        totalReserved += reserved;
+        return new Member(new Usage(reserved));
+    }
+
+    // must be called while holding the lock
+    private void expungeStaleMembers() {
+        Reference<? extends Member> ref;
+        while ((ref = staleMembers.poll()) != null) {
+            MemberReference member = (MemberReference) ref;
+            anonymousMembers.remove(member);
+            Usage usage = member.usage;
+            totalReserved -= usage.reserved;
+            if (usage.inUse > usage.reserved) {
+                sharedInUse -= usage.inUse - usage.reserved;
+            }
+        }
+    }
+
+    // only for tests
+    synchronized int getSharedInUse() {
+        return sharedInUse;
+    }
+
+    // only for tests
+    synchronized int getTotalReserved() {
+        expungeStaleMembers();
+        return totalReserved;
+    }
+
+    // guarded by the enclosing `BulkheadPool`; kept separately from the `Member`
+    // so that the accounting is still available after the member is garbage collected
+    private static final class Usage {
+        private final int reserved;
+        private int inUse;
+
+        private Usage(int reserved) {
+            this.reserved = reserved;
+        }
+    }
+
+    private static final class MemberReference extends WeakReference<Member> {
+        private final Usage usage;
+
+        private MemberReference(Member member, ReferenceQueue<Member> queue) {
+            super(member, queue);
+            this.usage = member.usage;
+        }
+    }
+
+    public final class Member {
+        private final Usage usage;
+
+        // invoked when another member releases a permit while this member is waiting;
+        // used by asynchronous bulkheads to process their queues
+        private volatile Runnable onRelease;
+
+        private Member(Usage usage) {
+            this.usage = usage;
+        }
+
+        void onRelease(Runnable callback) {
+            this.onRelease = callback;
+        }
+
+        /**
+         * Registers this member to be notified when another member releases a permit.
+         * The registration is removed when the notification is delivered.
+         */
+        void awaitRelease() {
+            synchronized (BulkheadPool.this) {
+                waitingMembers.add(this);
+            }
+        }
+
+        public boolean tryAcquire() {
+            synchronized (BulkheadPool.this) {
+                return tryAcquireLocked();
+            }
+        }
+
+        public void acquire() throws InterruptedException {
+            synchronized (BulkheadPool.this) {
+                while (!tryAcquireLocked()) {
+                    BulkheadPool.this.wait();
+                }
+            }
+        }
+
+        public boolean isAvailable() {
+            synchronized (BulkheadPool.this) {
+                return usage.inUse < usage.reserved || sharedInUse < size - totalReserved;
+            }
+        }
+
+        public void release() {
+            List<Member> waiting;
+            synchronized (BulkheadPool.this) {
+                if (usage.inUse > usage.reserved) {
+                    sharedInUse--;
+                }
+                usage.inUse--;
+                expungeStaleMembers();
+                BulkheadPool.this.notifyAll();
+
+                if (waitingMembers.isEmpty()) {
+                    waiting = Collections.emptyList();
+                } else {
+                    waiting = new ArrayList<>(waitingMembers);
+                    waitingMembers.clear();
+                }
+            }
+
+            for (Member member : waiting) {
+                Runnable callback = member.onRelease;
+                if (member != this && callback != null) {
+                    callback.run();
+                }
+            }
+        }
+
+        private boolean tryAcquireLocked() {
+            if (usage.inUse < usage.reserved) {
+                usage.inUse++;
+                return true;
+            }
+            if (sharedInUse < size - totalReserved) {
+                sharedInUse++;
+                usage.inUse++;
+                return true;
+            }
+            return false;
+        }
+    }
+}
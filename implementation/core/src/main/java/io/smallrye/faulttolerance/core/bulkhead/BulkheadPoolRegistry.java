@@ -0,0 +1,21 @@
+package io.smallrye.faulttolerance.core.bulkhead;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds all {@link BulkheadPool}s, indexed by name. All usages of the same name
+ * must declare the same pool size.
+ */
+public class BulkheadPoolRegistry {
+    private final ConcurrentMap<String, BulkheadPool> pools = new ConcurrentHashMap<>();
+
+    public BulkheadPool get(String name, int size) {
+        BulkheadPool pool = pools.computeIfAbsent(name, ignored -> new BulkheadPool(name, size));
+        if (pool.size() != size) {
+            throw new IllegalArgumentException("Bulkhead pool '" + name + "' has size " + pool.size()
+                    + ", cannot use it with size " + size);
+        }
+        return pool;
+    }
+}
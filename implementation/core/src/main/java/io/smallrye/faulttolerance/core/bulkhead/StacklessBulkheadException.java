@@ -0,0 +1,17 @@
+package io.smallrye.faulttolerance.core.bulkhead;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+
+/**
+ * A {@link BulkheadException} that doesn't capture a stack trace, used when stackless rejections are enabled.
+ */
+final class StacklessBulkheadException extends BulkheadException {
+    StacklessBulkheadException(String message) {
+        super(message);
+    }
+
+    @Override
+    public Throwable fillInStackTrace() {
+        return this;
+    }
+}
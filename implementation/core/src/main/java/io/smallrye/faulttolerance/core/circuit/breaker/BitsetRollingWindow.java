@@ -10,6 +10,10 @@ final class BitsetRollingWindow implements RollingWindow {
     private int index = 0;
     private long counter = 0; // long to avoid int overflow
 
+    // only written when holding the lock, may be read without it
+    private volatile int recordedInvocations = 0;
+    private volatile int recordedFailures = 0;
+
     BitsetRollingWindow(int size, int failureThreshold) {
         this.failures = new BitSet(size);
         this.size = size;
@@ -18,18 +22,39 @@ final class BitsetRollingWindow implements RollingWindow {
 
     @Override
     public synchronized boolean recordSuccess() {
-        failures.clear(nextIndex());
+        int position = nextIndex();
+        if (failures.get(position)) {
+            failures.clear(position);
+            recordedFailures--;
+        }
         return failureThresholdReached();
     }
 
     @Override
     public synchronized boolean recordFailure() {
-        failures.set(nextIndex());
+        int position = nextIndex();
+        if (!failures.get(position)) {
+            failures.set(position);
+            recordedFailures++;
+        }
         return failureThresholdReached();
     }
 
+    @Override
+    public int recordedInvocations() {
+        return recordedInvocations;
+    }
+
+    @Override
+    public int recordedFailures() {
+        return recordedFailures;
+    }
+
     private int nextIndex() {
         counter++;
+        if (counter <= size) {
+            recordedInvocations = (int) counter;
+        }
 
         int result = index;
         index = (index + 1) % size;
@@ -41,6 +66,6 @@ final class BitsetRollingWindow implements RollingWindow {
             return false;
         }
 
-        return failures.cardinality() >= failureThreshold;
+        return recordedFailures >= failureThreshold;
     }
 }
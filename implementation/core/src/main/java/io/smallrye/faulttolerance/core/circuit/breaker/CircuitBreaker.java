@@ -24,7 +24,6 @@ public class CircuitBreaker<V> implements FaultToleranceStrategy<V> {
     public static final int STATE_HALF_OPEN = 2;
 
     private final FaultToleranceStrategy<V> delegate;
-    private final String description;
 
     private final ExceptionDecision exceptionDecision;
     private final long delayInMillis;
@@ -33,14 +32,30 @@ public class CircuitBreaker<V> implements FaultToleranceStrategy<V> {
     private final int successThreshold;
     private final Stopwatch stopwatch;
     private final Timer timer;
+    private final boolean stacklessRejections;
+
+    private final String preventedMessage;
+    private final String openMessage;
+    private final String halfOpenMessage;
 
     private final AtomicReference<State> state;
 
     public CircuitBreaker(FaultToleranceStrategy<V> delegate, String description, ExceptionDecision exceptionDecision,
             long delayInMillis, int requestVolumeThreshold, double failureRatio, int successThreshold,
             Stopwatch stopwatch, Timer timer) {
+        this(delegate, description, exceptionDecision, delayInMillis, requestVolumeThreshold, failureRatio,
+                successThreshold, stopwatch, timer, false);
+    }
+
+    /**
+     * If {@code stacklessRejections} is {@code true}, prevented invocations fail with
+     * a {@link CircuitBreakerOpenException} that doesn't capture a stack trace.
+     */
+    public CircuitBreaker(FaultToleranceStrategy<V> delegate, String description, ExceptionDecision exceptionDecision,
+            long delayInMillis, int requestVolumeThreshold, double failureRatio, int successThreshold,
+            Stopwatch stopwatch, Timer timer, boolean stacklessRejections) {
         this.delegate = checkNotNull(delegate, "Circuit breaker delegate must be set");
-        this.description = checkNotNull(description, "Circuit breaker description must be set");
+        checkNotNull(description, "Circuit breaker description must be set");
         this.exceptionDecision = checkNotNull(exceptionDecision, "Exception decision must be set");
         this.delayInMillis = check(delayInMillis, delayInMillis >= 0, "Circuit breaker delay must be >= 0");
         this.successThreshold = check(successThreshold, successThreshold > 0, "Circuit breaker success threshold must be > 0");
@@ -51,6 +66,11 @@ public class CircuitBreaker<V> implements FaultToleranceStrategy<V> {
                 "Circuit breaker rolling window failure ratio must be >= 0 && <= 1");
         this.rollingWindowSize = check(requestVolumeThreshold, requestVolumeThreshold > 0,
                 "Circuit breaker rolling window size must be > 0");
+        this.stacklessRejections = stacklessRejections;
+
+        this.preventedMessage = description + " invocation prevented by circuit breaker";
+        this.openMessage = description + " circuit breaker is open";
+        this.halfOpenMessage = description + " circuit breaker is half-open";
 
         this.state = new AtomicReference<>(State.closed(rollingWindowSize, failureThreshold));
     }
@@ -110,10 +130,10 @@ public class CircuitBreaker<V> implements FaultToleranceStrategy<V> {
 
     private Future<V> inOpen(FaultToleranceContext<V> ctx, State state) {
         if (state.runningStopwatch.elapsedTimeInMillis() < delayInMillis) {
-            LOG.debugOrTrace(description + " invocation prevented by circuit breaker",
+            LOG.debugOrTrace(preventedMessage,
                     "Circuit breaker open, invocation prevented");
             ctx.fireEvent(CircuitBreakerEvents.Finished.PREVENTED);
-            return Future.ofError(new CircuitBreakerOpenException(description + " circuit breaker is open"));
+            return Future.ofError(prevented(openMessage));
         } else {
             LOG.trace("Delay elapsed synchronously, circuit breaker moving to half-open");
             toHalfOpen(ctx, state);
@@ -133,10 +153,10 @@ public class CircuitBreaker<V> implements FaultToleranceStrategy<V> {
 
     private Future<V> inHalfOpen(FaultToleranceContext<V> ctx, State state) {
         if (state.probeAttempts.incrementAndGet() > successThreshold) {
-            LOG.debugOrTrace(description + " invocation prevented by circuit breaker",
+            LOG.debugOrTrace(preventedMessage,
                     "Circuit breaker half-open, invocation prevented");
             ctx.fireEvent(CircuitBreakerEvents.Finished.PREVENTED);
-            return Future.ofError(new CircuitBreakerOpenException(description + " circuit breaker is half-open"));
+            return Future.ofError(prevented(halfOpenMessage));
         }
 
         try {
@@ -175,6 +195,12 @@ public class CircuitBreaker<V> implements FaultToleranceStrategy<V> {
         }
     }
 
+    private CircuitBreakerOpenException prevented(String message) {
+        return stacklessRejections
+                ? new StacklessCircuitBreakerOpenException(message)
+                : new CircuitBreakerOpenException(message);
+    }
+
     void toClosed(FaultToleranceContext<V> ctx, State state) {
         State newState = State.closed(rollingWindowSize, failureThreshold);
         boolean moved = this.state.compareAndSet(state, newState);
@@ -262,4 +288,25 @@ public class CircuitBreaker<V> implements FaultToleranceStrategy<V> {
         State newState = State.closed(rollingWindowSize, failureThreshold);
         this.state.set(newState);
     }
+
+    // inspection
+
+    public int rollingWindowSize() {
+        return rollingWindowSize;
+    }
+
+    public int failureThreshold() {
+        return failureThreshold;
+    }
+
+    // the rolling window only exists in the closed state, the counts are 0 otherwise
+    public int recordedInvocations() {
+        RollingWindow rollingWindow = this.state.get().rollingWindow;
+        return rollingWindow != null ? rollingWindow.recordedInvocations() : 0;
+    }
+
+    public int recordedFailures() {
+        RollingWindow rollingWindow = this.state.get().rollingWindow;
+        return rollingWindow != null ? rollingWindow.recordedFailures() : 0;
+    }
 }
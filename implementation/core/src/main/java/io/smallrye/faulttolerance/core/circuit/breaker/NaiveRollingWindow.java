@@ -32,17 +32,27 @@ final class NaiveRollingWindow implements RollingWindow {
         return result;
     }
 
-    private boolean failureThresholdReached() {
-        if (counter < failures.length) {
-            return false;
-        }
+    @Override
+    public synchronized int recordedInvocations() {
+        return (int) Math.min(counter, failures.length);
+    }
 
+    @Override
+    public synchronized int recordedFailures() {
         int failures = 0;
         for (boolean failure : this.failures) {
             if (failure) {
                 failures++;
             }
         }
-        return failures >= failureThreshold;
+        return failures;
+    }
+
+    private boolean failureThresholdReached() {
+        if (counter < failures.length) {
+            return false;
+        }
+
+        return recordedFailures() >= failureThreshold;
     }
 }
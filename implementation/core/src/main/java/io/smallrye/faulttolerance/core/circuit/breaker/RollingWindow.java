@@ -15,6 +15,18 @@ public interface RollingWindow {
      */
     boolean recordFailure();
 
+    /**
+     * Returns the number of invocations currently present in this rolling window, at most the window size.
+     * Doesn't block, so the result may be slightly out of date when invocations are being recorded concurrently.
+     */
+    int recordedInvocations();
+
+    /**
+     * Returns the number of failed invocations currently present in this rolling window.
+     * Doesn't block, so the result may be slightly out of date when invocations are being recorded concurrently.
+     */
+    int recordedFailures();
+
     static RollingWindow create(int size, int failureThreshold) {
         return new BitsetRollingWindow(size, failureThreshold);
     }
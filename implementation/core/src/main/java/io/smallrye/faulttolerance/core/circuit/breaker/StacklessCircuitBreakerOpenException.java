@@ -0,0 +1,17 @@
+package io.smallrye.faulttolerance.core.circuit.breaker;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+
+/**
+ * A {@link CircuitBreakerOpenException} that doesn't capture a stack trace, used when stackless rejections are enabled.
+ */
+final class StacklessCircuitBreakerOpenException extends CircuitBreakerOpenException {
+    StacklessCircuitBreakerOpenException(String message) {
+        super(message);
+    }
+
+    @Override
+    public Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,186 @@
+package io.smallrye.faulttolerance.core.inspection;
+
+import static io.smallrye.faulttolerance.core.util.Preconditions.check;
+
+import java.lang.invoke.ConstantBootstraps;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.smallrye.faulttolerance.api.RecordedEvent;
+import io.smallrye.faulttolerance.core.FaultToleranceEvent;
+
+/**
+ * Fixed-size buffer of the most recent {@link FaultToleranceEvent}s of all guards. Recording an event
+ * claims the next sequence number and overwrites the fields of a preallocated slot in place, so it doesn't
+ * allocate. There's no locking and older events are simply overwritten. Events are fed into the buffer
+ * from {@code FaultToleranceContext.fireEvent()} when the {@link EventBufferCollector} is present
+ * in the chain of strategies.
+ * <p>
+ * The events are only converted to their public representation when the buffer is {@linkplain #dump() dumped}.
+ * This includes the thread name, which is therefore the name the thread has at the time of dumping.
+ */
+public final class EventBuffer {
+    private static final VarHandle SLOT_SEQUENCE = ConstantBootstraps.fieldVarHandle(MethodHandles.lookup(),
+            "sequence", VarHandle.class, Slot.class, long.class);
+
+    // values of `Slot.sequence` that are not sequence numbers
+    private static final long EMPTY = -1;
+    private static final long WRITING = -2;
+
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong sequence = new AtomicLong();
+
+    // `System.nanoTime()` is cheaper and more precise than `Instant.now()`, so the recorded
+    // times are only converted to wall clock time when dumping
+    private final long epochNanosBase;
+    private final long nanoTimeBase;
+
+    /**
+     * Creates a buffer that holds at least {@code capacity} events. The capacity is rounded up
+     * to the nearest power of 2.
+     */
+    public EventBuffer(int capacity) {
+        check(capacity, capacity > 0 && capacity <= 1 << 30, "Event buffer capacity must be > 0 and <= 2^30");
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+        }
+        this.mask = size - 1;
+
+        Instant now = Instant.now();
+        this.nanoTimeBase = System.nanoTime();
+        this.epochNanosBase = TimeUnit.SECONDS.toNanos(now.getEpochSecond()) + now.getNano();
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    public void record(String description, FaultToleranceEvent event) {
+        long seq = sequence.getAndIncrement();
+        Slot slot = slots[(int) (seq & mask)];
+
+        // the slot is only contended when the buffer wraps around while another event is being written
+        // into the same slot; the newer event always wins
+        while (true) {
+            long current = slot.sequence;
+            if (current > seq) {
+                return;
+            }
+            if (current != WRITING && SLOT_SEQUENCE.compareAndSet(slot, current, WRITING)) {
+                break;
+            }
+            Thread.onSpinWait();
+        }
+
+        slot.nanoTime = System.nanoTime();
+        slot.thread = Thread.currentThread();
+        slot.description = description;
+        slot.event = event;
+        // readers don't need to see the slot immediately, a release store is enough
+        SLOT_SEQUENCE.setRelease(slot, seq);
+    }
+
+    /**
+     * Returns the events currently present in the buffer, ordered by their sequence numbers.
+     * Never blocks the recording threads.
+     */
+    public List<RecordedEvent> dump() {
+        long end = sequence.get();
+        long start = Math.max(0, end - capacity());
+
+        // each slot is visited exactly once
+        List<Entry> found = new ArrayList<>((int) (end - start));
+        for (long seq = start; seq < end; seq++) {
+            Slot slot = slots[(int) (seq & mask)];
+            // the slot may not be written yet, or it may have been overwritten by a newer event
+            // in the meantime; the newer event is kept, as there's no way to recover the older one
+            long slotSequence = (long) SLOT_SEQUENCE.getAcquire(slot);
+            if (slotSequence < start) {
+                continue;
+            }
+            long nanoTime = slot.nanoTime;
+            Thread thread = slot.thread;
+            String description = slot.description;
+            FaultToleranceEvent event = slot.event;
+            // if the slot was rewritten while reading, the fields may be inconsistent
+            VarHandle.acquireFence();
+            if (slot.sequence == slotSequence) {
+                found.add(new Entry(slotSequence, nanoTime, thread, description, event));
+            }
+        }
+        found.sort(Comparator.comparingLong(Entry::sequence));
+
+        List<RecordedEvent> result = new ArrayList<>(found.size());
+        for (Entry entry : found) {
+            result.add(toRecordedEvent(entry));
+        }
+        return result;
+    }
+
+    private RecordedEvent toRecordedEvent(Entry entry) {
+        long epochNanos = epochNanosBase + (entry.nanoTime - nanoTimeBase);
+        Instant timestamp = Instant.ofEpochSecond(0, epochNanos);
+        return new RecordedEventImpl(entry.sequence, timestamp, entry.thread.getName(), entry.description,
+                strategyName(entry.event), eventName(entry.event));
+    }
+
+    // all events are enums nested in a class named after the strategy, such as `RetryEvents.AttemptStarted`,
+    // or top-level enums named after the event, such as `FutureCancellationEvent`
+    static String strategyName(FaultToleranceEvent event) {
+        Class<?> eventClass = event.getClass();
+        if (eventClass.isAnonymousClass()) {
+            // enum constant with a body
+            eventClass = eventClass.getSuperclass();
+        }
+        Class<?> enclosingClass = eventClass.getEnclosingClass();
+        String name = enclosingClass != null ? enclosingClass.getSimpleName() : eventClass.getSimpleName();
+        if (name.endsWith("Events")) {
+            return name.substring(0, name.length() - "Events".length());
+        } else if (name.endsWith("Event")) {
+            return name.substring(0, name.length() - "Event".length());
+        }
+        return name;
+    }
+
+    static String eventName(FaultToleranceEvent event) {
+        if (event instanceof Enum<?> constant) {
+            Class<?> eventClass = constant.getDeclaringClass();
+            if (eventClass.getEnclosingClass() == null) {
+                return constant.name();
+            }
+            return "INSTANCE".equals(constant.name())
+                    ? eventClass.getSimpleName()
+                    : eventClass.getSimpleName() + "." + constant.name();
+        }
+        return event.toString();
+    }
+
+    // fields other than `sequence` are only accessed after claiming the slot by setting `sequence` to `WRITING`
+    // (when recording) or validated by re-reading `sequence` (when dumping)
+    private static final class Slot {
+        volatile long sequence = EMPTY;
+        long nanoTime;
+        Thread thread;
+        String description;
+        FaultToleranceEvent event;
+    }
+
+    private record Entry(long sequence, long nanoTime, Thread thread, String description, FaultToleranceEvent event) {
+    }
+
+    private record RecordedEventImpl(long sequence, Instant timestamp, String thread, String description,
+            String strategy, String event) implements RecordedEvent {
+    }
+}
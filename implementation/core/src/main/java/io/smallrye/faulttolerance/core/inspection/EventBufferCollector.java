@@ -0,0 +1,27 @@
+package io.smallrye.faulttolerance.core.inspection;
+
+import io.smallrye.faulttolerance.core.FaultToleranceContext;
+import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
+import io.smallrye.faulttolerance.core.Future;
+
+/**
+ * Records all events fired by the nested strategies into an {@link EventBuffer}.
+ * Should only be added to the chain of strategies when the event buffer is enabled.
+ */
+public class EventBufferCollector<V> implements FaultToleranceStrategy<V> {
+    private final FaultToleranceStrategy<V> delegate;
+    private final EventBuffer buffer;
+    private final String description;
+
+    public EventBufferCollector(FaultToleranceStrategy<V> delegate, EventBuffer buffer, String description) {
+        this.delegate = delegate;
+        this.buffer = buffer;
+        this.description = description;
+    }
+
+    @Override
+    public Future<V> apply(FaultToleranceContext<V> ctx) {
+        ctx.recordEventsTo(buffer, description);
+        return delegate.apply(ctx);
+    }
+}
@@ -0,0 +1,86 @@
+package io.smallrye.faulttolerance.core.inspection;
+
+import static io.smallrye.faulttolerance.core.inspection.InspectionLogger.LOG;
+import static io.smallrye.faulttolerance.core.util.Preconditions.checkNotNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import io.smallrye.faulttolerance.api.FaultToleranceSnapshot;
+import io.smallrye.faulttolerance.api.GuardSnapshot;
+
+/**
+ * Exposes {@link FaultToleranceSnapshot}s as an MXBean registered with the platform MBean server
+ * under the {@value #OBJECT_NAME} name. Only one instance may be registered at a time; if another
+ * instance is already registered (e.g. by another application in the same JVM), registration is skipped.
+ */
+public final class FaultToleranceJmx implements FaultToleranceMXBean {
+    public static final String OBJECT_NAME = "io.smallrye.faulttolerance:type=FaultTolerance";
+
+    private final Supplier<FaultToleranceSnapshot> snapshots;
+
+    private volatile ObjectName registeredName;
+
+    public FaultToleranceJmx(Supplier<FaultToleranceSnapshot> snapshots) {
+        this.snapshots = checkNotNull(snapshots, "Snapshot supplier must be set");
+    }
+
+    @Override
+    public List<GuardStateData> getGuards() {
+        List<GuardSnapshot> guards = snapshots.get().guards();
+        List<GuardStateData> result = new ArrayList<>(guards.size());
+        for (GuardSnapshot guard : guards) {
+            result.add(new GuardStateData(guard));
+        }
+        return result;
+    }
+
+    @Override
+    public int getTimerScheduledTasks() {
+        return snapshots.get().timerScheduledTasks();
+    }
+
+    public synchronized void register() {
+        if (registeredName != null) {
+            return;
+        }
+
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+            registeredName = name;
+        } catch (InstanceAlreadyExistsException e) {
+            LOG.debugf("MBean %s already registered, skipping", OBJECT_NAME);
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalStateException(e);
+        } catch (JMException e) {
+            LOG.warnf(e, "Failed to register MBean %s", OBJECT_NAME);
+        }
+    }
+
+    public synchronized void unregister() {
+        ObjectName name = registeredName;
+        if (name == null) {
+            return;
+        }
+
+        registeredName = null;
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(name);
+        } catch (InstanceNotFoundException ignored) {
+            // unregistered by someone else
+        } catch (JMException e) {
+            LOG.warnf(e, "Failed to unregister MBean %s", OBJECT_NAME);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package io.smallrye.faulttolerance.core.inspection;
+
+import java.util.List;
+
+/**
+ * JMX view of {@link io.smallrye.faulttolerance.api.FaultToleranceSnapshot}. Each attribute read
+ * takes a fresh snapshot.
+ *
+ * @see FaultToleranceJmx
+ */
+public interface FaultToleranceMXBean {
+    List<GuardStateData> getGuards();
+
+    int getTimerScheduledTasks();
+}
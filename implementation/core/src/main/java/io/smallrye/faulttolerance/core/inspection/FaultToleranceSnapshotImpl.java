@@ -0,0 +1,22 @@
+package io.smallrye.faulttolerance.core.inspection;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import io.smallrye.faulttolerance.api.FaultToleranceSnapshot;
+import io.smallrye.faulttolerance.api.GuardSnapshot;
+import io.smallrye.faulttolerance.core.timer.Timer;
+
+public record FaultToleranceSnapshotImpl(List<GuardSnapshot> guards, int timerScheduledTasks)
+        implements
+            FaultToleranceSnapshot {
+
+    public static FaultToleranceSnapshot of(Collection<GuardState> states, Timer timer) {
+        List<GuardSnapshot> guards = new ArrayList<>(states.size());
+        for (GuardState state : states) {
+            guards.add(state.snapshot());
+        }
+        return new FaultToleranceSnapshotImpl(List.copyOf(guards), timer.countScheduledTasks());
+    }
+}
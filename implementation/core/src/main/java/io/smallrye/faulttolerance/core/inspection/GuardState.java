@@ -0,0 +1,113 @@
+package io.smallrye.faulttolerance.core.inspection;
+
+import static io.smallrye.faulttolerance.core.util.Preconditions.checkNotNull;
+
+import io.smallrye.faulttolerance.api.CircuitBreakerState;
+import io.smallrye.faulttolerance.api.GuardSnapshot;
+import io.smallrye.faulttolerance.core.bulkhead.Bulkhead;
+import io.smallrye.faulttolerance.core.circuit.breaker.CircuitBreaker;
+import io.smallrye.faulttolerance.core.rate.limit.RateLimit;
+import io.smallrye.faulttolerance.core.retry.Retry;
+
+/**
+ * Holds references to the stateful strategies of a single guard, so that their state may be inspected
+ * without walking the chain of strategies. The references are recorded while the chain is being built,
+ * for example:
+ *
+ * <pre>
+ * result = guardState.bulkhead(new Bulkhead&lt;&gt;(result, ...));
+ * </pre>
+ *
+ * An instance must not be published (e.g. {@linkplain GuardStateRegistry#register(GuardState) registered})
+ * before the chain is built completely. Taking a {@linkplain #snapshot() snapshot} never blocks.
+ */
+public final class GuardState {
+    private final String description;
+
+    private Bulkhead<?> bulkhead;
+    private CircuitBreaker<?> circuitBreaker;
+    private RateLimit<?> rateLimit;
+    private Retry<?> retry;
+
+    public GuardState(String description) {
+        this.description = checkNotNull(description, "Guard description must be set");
+    }
+
+    public <V> Bulkhead<V> bulkhead(Bulkhead<V> bulkhead) {
+        this.bulkhead = bulkhead;
+        return bulkhead;
+    }
+
+    public <V> CircuitBreaker<V> circuitBreaker(CircuitBreaker<V> circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+        return circuitBreaker;
+    }
+
+    public <V> RateLimit<V> rateLimit(RateLimit<V> rateLimit) {
+        this.rateLimit = rateLimit;
+        return rateLimit;
+    }
+
+    public <V> Retry<V> retry(Retry<V> retry) {
+        this.retry = retry;
+        return retry;
+    }
+
+    public GuardSnapshot snapshot() {
+        return new GuardSnapshotImpl(description,
+                bulkhead != null ? bulkheadSnapshot(bulkhead) : null,
+                circuitBreaker != null ? circuitBreakerSnapshot(circuitBreaker) : null,
+                rateLimit != null ? rateLimitSnapshot(rateLimit) : null,
+                retry != null ? retrySnapshot(retry) : null);
+    }
+
+    private static GuardSnapshot.BulkheadSnapshot bulkheadSnapshot(Bulkhead<?> bulkhead) {
+        return new BulkheadSnapshotImpl(bulkhead.size(), bulkhead.queueSize(), bulkhead.runningTasks(),
+                bulkhead.queuedTasks());
+    }
+
+    private static GuardSnapshot.CircuitBreakerSnapshot circuitBreakerSnapshot(CircuitBreaker<?> circuitBreaker) {
+        CircuitBreakerState state = switch (circuitBreaker.currentState()) {
+            case CircuitBreaker.STATE_CLOSED -> CircuitBreakerState.CLOSED;
+            case CircuitBreaker.STATE_OPEN -> CircuitBreakerState.OPEN;
+            case CircuitBreaker.STATE_HALF_OPEN -> CircuitBreakerState.HALF_OPEN;
+            default -> throw new AssertionError("Invalid circuit breaker state: " + circuitBreaker.currentState());
+        };
+        return new CircuitBreakerSnapshotImpl(state, circuitBreaker.rollingWindowSize(),
+                circuitBreaker.failureThreshold(), circuitBreaker.recordedInvocations(),
+                circuitBreaker.recordedFailures());
+    }
+
+    private static GuardSnapshot.RateLimitSnapshot rateLimitSnapshot(RateLimit<?> rateLimit) {
+        return new RateLimitSnapshotImpl(rateLimit.maxInvocations(), rateLimit.timeWindowInMillis(),
+                rateLimit.permitsRemaining(), rateLimit.keys());
+    }
+
+    private static GuardSnapshot.RetrySnapshot retrySnapshot(Retry<?> retry) {
+        return new RetrySnapshotImpl(unlimitedAsNegative(retry.maxRetries()),
+                unlimitedAsNegative(retry.maxTotalDurationInMillis()));
+    }
+
+    private static long unlimitedAsNegative(long value) {
+        return value == Long.MAX_VALUE ? -1 : value;
+    }
+
+    private record GuardSnapshotImpl(String description, BulkheadSnapshot bulkhead, CircuitBreakerSnapshot circuitBreaker,
+            RateLimitSnapshot rateLimit, RetrySnapshot retry) implements GuardSnapshot {
+    }
+
+    private record BulkheadSnapshotImpl(int maxConcurrentInvocations, int maxWaitingInvocations, int runningInvocations,
+            int waitingInvocations) implements GuardSnapshot.BulkheadSnapshot {
+    }
+
+    private record CircuitBreakerSnapshotImpl(CircuitBreakerState state, int rollingWindowSize, int failureThreshold,
+            int recordedInvocations, int recordedFailures) implements GuardSnapshot.CircuitBreakerSnapshot {
+    }
+
+    private record RateLimitSnapshotImpl(int maxInvocations, long timeWindowInMillis, int permitsRemaining,
+            int keys) implements GuardSnapshot.RateLimitSnapshot {
+    }
+
+    private record RetrySnapshotImpl(long maxRetries, long maxDurationInMillis) implements GuardSnapshot.RetrySnapshot {
+    }
+}
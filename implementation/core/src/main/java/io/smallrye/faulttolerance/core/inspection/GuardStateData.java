@@ -0,0 +1,117 @@
+package io.smallrye.faulttolerance.core.inspection;
+
+import io.smallrye.faulttolerance.api.GuardSnapshot;
+
+/**
+ * Flattened {@link GuardSnapshot}, so that it maps to a JMX {@code CompositeData}.
+ * Attributes of strategies the guard doesn't use are {@code null}.
+ */
+public final class GuardStateData {
+    private final String description;
+    private final Integer bulkheadMaxConcurrentInvocations;
+    private final Integer bulkheadMaxWaitingInvocations;
+    private final Integer bulkheadRunningInvocations;
+    private final Integer bulkheadWaitingInvocations;
+    private final String circuitBreakerState;
+    private final Integer circuitBreakerRollingWindowSize;
+    private final Integer circuitBreakerFailureThreshold;
+    private final Integer circuitBreakerRecordedInvocations;
+    private final Integer circuitBreakerRecordedFailures;
+    private final Integer rateLimitMaxInvocations;
+    private final Long rateLimitTimeWindowInMillis;
+    private final Integer rateLimitPermitsRemaining;
+    private final Integer rateLimitKeys;
+    private final Long retryMaxRetries;
+    private final Long retryMaxDurationInMillis;
+
+    GuardStateData(GuardSnapshot snapshot) {
+        this.description = snapshot.description();
+
+        GuardSnapshot.BulkheadSnapshot bulkhead = snapshot.bulkhead();
+        this.bulkheadMaxConcurrentInvocations = bulkhead != null ? bulkhead.maxConcurrentInvocations() : null;
+        this.bulkheadMaxWaitingInvocations = bulkhead != null ? bulkhead.maxWaitingInvocations() : null;
+        this.bulkheadRunningInvocations = bulkhead != null ? bulkhead.runningInvocations() : null;
+        this.bulkheadWaitingInvocations = bulkhead != null ? bulkhead.waitingInvocations() : null;
+
+        GuardSnapshot.CircuitBreakerSnapshot circuitBreaker = snapshot.circuitBreaker();
+        this.circuitBreakerState = circuitBreaker != null ? circuitBreaker.state().name() : null;
+        this.circuitBreakerRollingWindowSize = circuitBreaker != null ? circuitBreaker.rollingWindowSize() : null;
+        this.circuitBreakerFailureThreshold = circuitBreaker != null ? circuitBreaker.failureThreshold() : null;
+        this.circuitBreakerRecordedInvocations = circuitBreaker != null ? circuitBreaker.recordedInvocations() : null;
+        this.circuitBreakerRecordedFailures = circuitBreaker != null ? circuitBreaker.recordedFailures() : null;
+
+        GuardSnapshot.RateLimitSnapshot rateLimit = snapshot.rateLimit();
+        this.rateLimitMaxInvocations = rateLimit != null ? rateLimit.maxInvocations() : null;
+        this.rateLimitTimeWindowInMillis = rateLimit != null ? rateLimit.timeWindowInMillis() : null;
+        this.rateLimitPermitsRemaining = rateLimit != null ? rateLimit.permitsRemaining() : null;
+        this.rateLimitKeys = rateLimit != null ? rateLimit.keys() : null;
+
+        GuardSnapshot.RetrySnapshot retry = snapshot.retry();
+        this.retryMaxRetries = retry != null ? retry.maxRetries() : null;
+        this.retryMaxDurationInMillis = retry != null ? retry.maxDurationInMillis() : null;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Integer getBulkheadMaxConcurrentInvocations() {
+        return bulkheadMaxConcurrentInvocations;
+    }
+
+    public Integer getBulkheadMaxWaitingInvocations() {
+        return bulkheadMaxWaitingInvocations;
+    }
+
+    public Integer getBulkheadRunningInvocations() {
+        return bulkheadRunningInvocations;
+    }
+
+    public Integer getBulkheadWaitingInvocations() {
+        return bulkheadWaitingInvocations;
+    }
+
+    public String getCircuitBreakerState() {
+        return circuitBreakerState;
+    }
+
+    public Integer getCircuitBreakerRollingWindowSize() {
+        return circuitBreakerRollingWindowSize;
+    }
+
+    public Integer getCircuitBreakerFailureThreshold() {
+        return circuitBreakerFailureThreshold;
+    }
+
+    public Integer getCircuitBreakerRecordedInvocations() {
+        return circuitBreakerRecordedInvocations;
+    }
+
+    public Integer getCircuitBreakerRecordedFailures() {
+        return circuitBreakerRecordedFailures;
+    }
+
+    public Integer getRateLimitMaxInvocations() {
+        return rateLimitMaxInvocations;
+    }
+
+    public Long getRateLimitTimeWindowInMillis() {
+        return rateLimitTimeWindowInMillis;
+    }
+
+    public Integer getRateLimitPermitsRemaining() {
+        return rateLimitPermitsRemaining;
+    }
+
+    public Integer getRateLimitKeys() {
+        return rateLimitKeys;
+    }
+
+    public Long getRetryMaxRetries() {
+        return retryMaxRetries;
+    }
+
+    public Long getRetryMaxDurationInMillis() {
+        return retryMaxDurationInMillis;
+    }
+}
@@ -0,0 +1,48 @@
+package io.smallrye.faulttolerance.core.inspection;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds {@link GuardState}s of guards created using the programmatic API. The states are only
+ * held weakly, so that the registry doesn't prevent unused guards from being garbage collected;
+ * each guard is supposed to hold its own state strongly.
+ */
+public class GuardStateRegistry {
+    private static final int PRUNE_INTERVAL = 256;
+
+    private final Queue<WeakReference<GuardState>> states = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger registrations = new AtomicInteger();
+
+    public void register(GuardState state) {
+        states.add(new WeakReference<>(state));
+        // guards may be created and thrown away repeatedly, so entries of garbage collected
+        // states are removed from time to time even if no one ever asks for the states
+        if (registrations.incrementAndGet() % PRUNE_INTERVAL == 0) {
+            states.removeIf(it -> it.get() == null);
+        }
+    }
+
+    /**
+     * Returns all registered states that have not been garbage collected yet.
+     * Entries of garbage collected states are removed as a side effect.
+     */
+    public List<GuardState> states() {
+        List<GuardState> result = new ArrayList<>();
+        Iterator<WeakReference<GuardState>> iterator = states.iterator();
+        while (iterator.hasNext()) {
+            GuardState state = iterator.next().get();
+            if (state != null) {
+                result.add(state);
+            } else {
+                iterator.remove();
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,13 @@
+package io.smallrye.faulttolerance.core.inspection;
+
+import java.lang.invoke.MethodHandles;
+
+import org.jboss.logging.BasicLogger;
+import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.MessageLogger;
+
+@MessageLogger(projectCode = "SRFTL", length = 5)
+interface InspectionLogger extends BasicLogger {
+    InspectionLogger LOG = Logger.getMessageLogger(MethodHandles.lookup(), InspectionLogger.class,
+            InspectionLogger.class.getPackage().getName());
+}
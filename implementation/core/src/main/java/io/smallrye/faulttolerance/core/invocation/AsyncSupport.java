@@ -11,6 +11,15 @@ public interface AsyncSupport<V, AT> {
 
     boolean applies(Class<?>[] parameterTypes, Class<?> returnType);
 
+    /**
+     * Returns whether {@link #applies(Class[], Class) applies()} inspects the parameter types.
+     * If it doesn't, {@code applies()} must only depend on the return type, so that its result
+     * may be cached per return type. Returns {@code true} by default.
+     */
+    default boolean inspectsParameterTypes() {
+        return true;
+    }
+
     AT createComplete(V value);
 
     Future<V> toFuture(Invoker<AT> invoker);
@@ -1,14 +1,44 @@
 package io.smallrye.faulttolerance.core.invocation;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.ServiceLoader;
 
 public class AsyncSupportRegistry {
+    private static final Class<?>[] NO_PARAMS = new Class<?>[0];
+
     private static final List<AsyncSupport<?, ?>> registry;
 
+    // resolution is cached per return type; parameter types are only inspected
+    // for async supports that declare they need them (see `AsyncSupport.inspectsParameterTypes()`)
+    //
+    // the cached value contains indices into `registry`: the async supports that inspect parameter types
+    // and precede the match, followed by the first async support that doesn't inspect parameter types
+    // and applies to the return type, or -1 if there's none; only JDK types are stored, so that
+    // the cache doesn't keep the async support classes (and their class loaders) reachable
+    private static final ClassValue<int[]> resolutions = new ClassValue<>() {
+        @Override
+        protected int[] computeValue(Class<?> returnType) {
+            int[] result = new int[registry.size() + 1];
+            int candidates = 0;
+            int match = -1;
+            for (int i = 0; i < registry.size(); i++) {
+                AsyncSupport<?, ?> asyncSupport = registry.get(i);
+                if (asyncSupport.inspectsParameterTypes()) {
+                    result[candidates++] = i;
+                } else if (asyncSupport.applies(NO_PARAMS, returnType)) {
+                    match = i;
+                    break;
+                }
+            }
+            result[candidates] = match;
+            return Arrays.copyOf(result, candidates + 1);
+        }
+    };
+
     static {
         List<AsyncSupport<?, ?>> list = new ArrayList<>();
         Iterable<AsyncSupport> instances = ServiceLoader.load(AsyncSupport.class, AsyncSupport.class.getClassLoader());
@@ -19,21 +49,20 @@ public class AsyncSupportRegistry {
     }
 
     public static boolean isKnown(Class<?>[] parameterTypes, Class<?> returnType) {
-        for (AsyncSupport<?, ?> asyncSupport : registry) {
-            if (asyncSupport.applies(parameterTypes, returnType)) {
-                return true;
-            }
-        }
-        return false;
+        return get(parameterTypes, returnType) != null;
     }
 
     public static <V, AT> AsyncSupport<V, AT> get(Class<?>[] parameterTypes, Class<?> returnType) {
-        for (AsyncSupport<?, ?> asyncSupport : registry) {
-            if (asyncSupport.applies(parameterTypes, returnType)) {
-                return (AsyncSupport<V, AT>) asyncSupport;
+        int[] resolution = resolutions.get(returnType);
+        int last = resolution.length - 1;
+        for (int i = 0; i < last; i++) {
+            AsyncSupport<?, ?> candidate = registry.get(resolution[i]);
+            if (candidate.applies(parameterTypes, returnType)) {
+                return (AsyncSupport<V, AT>) candidate;
             }
         }
-        return null;
+        int match = resolution[last];
+        return match >= 0 ? (AsyncSupport<V, AT>) registry.get(match) : null;
     }
 
     public static Collection<AsyncSupport<?, ?>> allKnown() {
@@ -25,6 +25,11 @@ public class CompletionStageSupport<T> implements AsyncSupport<T, CompletionStag
         return CompletionStage.class.equals(returnType);
     }
 
+    @Override
+    public boolean inspectsParameterTypes() {
+        return false;
+    }
+
     @Override
     public CompletionStage<T> createComplete(T value) {
         return completedFuture(value);
@@ -0,0 +1,121 @@
+package io.smallrye.faulttolerance.core.invocation;
+
+import static io.smallrye.faulttolerance.core.util.Preconditions.checkNotNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+/**
+ * Invokes a method using a {@link MethodHandle} created by {@link #prepare(Method)}. The method handle
+ * should be created once per method and reused for all invocations, which avoids the reflective
+ * access checks of {@link NormalMethodInvoker} and the method handle lookup of {@link SpecialMethodInvoker}.
+ * <p>
+ * Same as {@link Method#invoke(Object, Object...)}, exceptions thrown by the method are wrapped
+ * into {@link InvocationTargetException} and arguments that don't match the method parameters
+ * are reported as {@link IllegalArgumentException}. Unlike {@code Method.invoke()}, errors thrown
+ * by the method are not wrapped.
+ * <p>
+ * The method handle is invoked using {@code invokeExact()}, so the only adaptation at invocation time
+ * is the one built into the method handle by {@code prepare()}.
+ */
+public class MethodHandleInvoker<V> implements Invoker<V> {
+    private static final MethodType SPREAD_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private static final MethodHandle WRAP_EXCEPTION;
+
+    static {
+        try {
+            WRAP_EXCEPTION = MethodHandles.lookup().findStatic(MethodHandleInvoker.class, "wrapException",
+                    MethodType.methodType(Object.class, Exception.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final MethodHandle methodHandle;
+    private final Object target;
+    private final Object[] arguments;
+
+    /**
+     * Returns a method handle for given {@code method} that is suitable for {@link MethodHandleInvoker}.
+     * The {@code method} must be accessible. Default methods are invoked as if using {@code super}.
+     */
+    public static MethodHandle prepare(Method method) throws ReflectiveOperationException {
+        MethodHandle handle;
+        if (method.isDefault()) {
+            MethodType methodType = MethodType.methodType(method.getReturnType(), method.getParameterTypes());
+            Class<?> declaringClass = method.getDeclaringClass();
+            handle = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup())
+                    .findSpecial(declaringClass, method.getName(), methodType, declaringClass);
+        } else {
+            handle = MethodHandles.lookup().unreflect(method);
+        }
+        // varargs are passed as an array, same as with reflection
+        handle = handle.asFixedArity();
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        // exceptions thrown by the method are wrapped before the argument adaptation below,
+        // so that they can be distinguished from exceptions thrown by the adaptation
+        MethodType type = handle.type();
+        MethodHandle handler = MethodHandles.dropArguments(
+                WRAP_EXCEPTION.asType(MethodType.methodType(type.returnType(), Exception.class)),
+                1, type.parameterList());
+        handle = MethodHandles.catchException(handle, Exception.class, handler);
+        return handle.asSpreader(Object[].class, method.getParameterCount()).asType(SPREAD_TYPE);
+    }
+
+    private static Object wrapException(Exception e) throws InvocationTargetException {
+        throw new InvocationTargetException(e);
+    }
+
+    public MethodHandleInvoker(MethodHandle methodHandle, Object target, Object[] arguments) {
+        checkNotNull(arguments, "Arguments array must be set");
+        if (!methodHandle.type().equals(SPREAD_TYPE)) {
+            throw new IllegalArgumentException("Method handle must be created by MethodHandleInvoker.prepare()");
+        }
+        this.methodHandle = methodHandle;
+        this.target = target;
+        this.arguments = arguments;
+    }
+
+    @Override
+    public int parametersCount() {
+        return arguments.length;
+    }
+
+    @Override
+    public <T> T getArgument(int index, Class<T> parameterType) {
+        return parameterType.cast(arguments[index]);
+    }
+
+    @Override
+    public <T> T replaceArgument(int index, Class<T> parameterType, Function<T, T> transformation) {
+        T oldArg = parameterType.cast(arguments[index]);
+        T newArg = transformation.apply(oldArg);
+        arguments[index] = newArg;
+        return oldArg;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V proceed() throws InvocationTargetException {
+        try {
+            return (V) methodHandle.invokeExact(target, arguments);
+        } catch (InvocationTargetException | Error e) {
+            throw e;
+        } catch (RuntimeException e) {
+            // exceptions thrown by the method are already wrapped, so this is an argument mismatch:
+            // wrong number of arguments, an argument of wrong type, or `null` for a primitive parameter
+            throw new IllegalArgumentException("Arguments don't match the method parameters", e);
+        } catch (Throwable e) {
+            // a `Throwable` that is neither an `Exception` nor an `Error`, thrown by the method
+            throw new InvocationTargetException(e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.smallrye.faulttolerance.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(FlightRecorderEvents.PREFIX + "BulkheadWaiting")
+@Label("Bulkhead Waiting")
+@Category({ FlightRecorderEvents.CATEGORY, "Bulkhead" })
+@Description("Invocation waiting in the bulkhead queue")
+@Enabled(false)
+@StackTrace(false)
+final class BulkheadWaitingEvent extends Event {
+    @Label("Description")
+    @Description("Description of the guarded operation")
+    String description;
+}
@@ -0,0 +1,21 @@
+package io.smallrye.faulttolerance.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(FlightRecorderEvents.PREFIX + "CircuitBreakerRejected")
+@Label("Circuit Breaker Rejected")
+@Category({ FlightRecorderEvents.CATEGORY, "Circuit Breaker" })
+@Description("Invocation prevented by an open circuit breaker")
+@Enabled(false)
+@StackTrace(false)
+final class CircuitBreakerRejectedEvent extends Event {
+    @Label("Description")
+    @Description("Description of the guarded operation")
+    String description;
+}
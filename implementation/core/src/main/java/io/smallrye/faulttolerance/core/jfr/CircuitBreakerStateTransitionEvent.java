@@ -0,0 +1,24 @@
+package io.smallrye.faulttolerance.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(FlightRecorderEvents.PREFIX + "CircuitBreakerStateTransition")
+@Label("Circuit Breaker State Transition")
+@Category({ FlightRecorderEvents.CATEGORY, "Circuit Breaker" })
+@Description("Circuit breaker moved to another state")
+@Enabled(false)
+@StackTrace(false)
+final class CircuitBreakerStateTransitionEvent extends Event {
+    @Label("Description")
+    @Description("Description of the guarded operation")
+    String description;
+
+    @Label("Target State")
+    String targetState;
+}
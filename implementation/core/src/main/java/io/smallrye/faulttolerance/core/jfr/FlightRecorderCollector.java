@@ -0,0 +1,29 @@
+package io.smallrye.faulttolerance.core.jfr;
+
+import io.smallrye.faulttolerance.core.FaultToleranceContext;
+import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
+import io.smallrye.faulttolerance.core.Future;
+
+/**
+ * Emits JDK Flight Recorder events for fault tolerance decisions made by the nested strategies.
+ * When none of the events is enabled in a running recording, this strategy only delegates.
+ * <p>
+ * Must only be used when {@link FlightRecorderSupport#isAvailable()}.
+ */
+public class FlightRecorderCollector<V> implements FaultToleranceStrategy<V> {
+    private final FaultToleranceStrategy<V> delegate;
+    private final String description;
+
+    public FlightRecorderCollector(FaultToleranceStrategy<V> delegate, String description) {
+        this.delegate = delegate;
+        this.description = description;
+    }
+
+    @Override
+    public Future<V> apply(FaultToleranceContext<V> ctx) {
+        if (FlightRecorderSupport.isEnabled()) {
+            FlightRecorderEvents.register(ctx, description);
+        }
+        return delegate.apply(ctx);
+    }
+}
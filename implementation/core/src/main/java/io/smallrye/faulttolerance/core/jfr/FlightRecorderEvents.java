@@ -0,0 +1,200 @@
+package io.smallrye.faulttolerance.core.jfr;
+
+import java.util.List;
+
+import io.smallrye.faulttolerance.core.FaultToleranceContext;
+import io.smallrye.faulttolerance.core.bulkhead.BulkheadEvents;
+import io.smallrye.faulttolerance.core.circuit.breaker.CircuitBreakerEvents;
+import io.smallrye.faulttolerance.core.load.shedding.LoadSheddingEvents;
+import io.smallrye.faulttolerance.core.rate.limit.RateLimitEvents;
+import io.smallrye.faulttolerance.core.retry.RetryEvents;
+import io.smallrye.faulttolerance.core.timeout.TimeoutEvents;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+
+// all references to `jdk.jfr` are confined to this class and the event classes,
+// so that nothing breaks when the `jdk.jfr` module is not present
+final class FlightRecorderEvents {
+    static final String PREFIX = "io.smallrye.faulttolerance.";
+    static final String CATEGORY = "SmallRye Fault Tolerance";
+
+    private static final List<Class<? extends Event>> EVENTS = List.of(
+            BulkheadWaitingEvent.class,
+            BulkheadRunningEvent.class,
+            BulkheadRejectedEvent.class,
+            RetryAttemptEvent.class,
+            RetryDelayEvent.class,
+            CircuitBreakerStateTransitionEvent.class,
+            CircuitBreakerRejectedEvent.class,
+            RateLimitRejectedEvent.class,
+            LoadSheddingRejectedEvent.class,
+            TimeoutEvent.class);
+
+    private FlightRecorderEvents() {
+    }
+
+    static void install() {
+        for (Class<? extends Event> event : EVENTS) {
+            FlightRecorder.register(event);
+        }
+        FlightRecorder.addListener(new FlightRecorderListener() {
+            @Override
+            public void recorderInitialized(FlightRecorder recorder) {
+                update();
+            }
+
+            @Override
+            public void recordingStateChanged(Recording recording) {
+                update();
+            }
+        });
+    }
+
+    private static void update() {
+        boolean enabled = false;
+        for (Class<? extends Event> event : EVENTS) {
+            if (EventType.getEventType(event).isEnabled()) {
+                enabled = true;
+                break;
+            }
+        }
+        FlightRecorderSupport.setEnabled(enabled);
+    }
+
+    static <V> void register(FaultToleranceContext<V> ctx, String description) {
+        InvocationEvents invocation = new InvocationEvents();
+
+        // bulkhead
+
+        ctx.registerEventHandler(BulkheadEvents.DecisionMade.class, event -> {
+            if (!event.accepted) {
+                BulkheadRejectedEvent jfrEvent = new BulkheadRejectedEvent();
+                jfrEvent.description = description;
+                jfrEvent.commit();
+            }
+        });
+        ctx.registerEventHandler(BulkheadEvents.StartedWaiting.class, ignored -> {
+            BulkheadWaitingEvent jfrEvent = new BulkheadWaitingEvent();
+            jfrEvent.description = description;
+            jfrEvent.begin();
+            invocation.bulkheadWaiting = jfrEvent;
+        });
+        ctx.registerEventHandler(BulkheadEvents.FinishedWaiting.class, ignored -> {
+            BulkheadWaitingEvent jfrEvent = invocation.bulkheadWaiting;
+            if (jfrEvent != null) {
+                invocation.bulkheadWaiting = null;
+                jfrEvent.commit();
+            }
+        });
+        ctx.registerEventHandler(BulkheadEvents.StartedRunning.class, ignored -> {
+            BulkheadRunningEvent jfrEvent = new BulkheadRunningEvent();
+            jfrEvent.description = description;
+            jfrEvent.begin();
+            invocation.bulkheadRunning = jfrEvent;
+        });
+        ctx.registerEventHandler(BulkheadEvents.FinishedRunning.class, ignored -> {
+            BulkheadRunningEvent jfrEvent = invocation.bulkheadRunning;
+            if (jfrEvent != null) {
+                invocation.bulkheadRunning = null;
+                jfrEvent.commit();
+            }
+        });
+
+        // retry
+
+        ctx.registerEventHandler(RetryEvents.Retried.class, ignored -> {
+            RetryDelayEvent jfrEvent = new RetryDelayEvent();
+            jfrEvent.description = description;
+            jfrEvent.attempt = invocation.retryAttempt + 1;
+            jfrEvent.begin();
+            invocation.retryDelay = jfrEvent;
+        });
+        ctx.registerEventHandler(RetryEvents.AttemptStarted.class, ignored -> {
+            RetryDelayEvent delay = invocation.retryDelay;
+            if (delay != null) {
+                invocation.retryDelay = null;
+                delay.commit();
+                invocation.retryAttempt = delay.attempt;
+            }
+
+            RetryAttemptEvent jfrEvent = new RetryAttemptEvent();
+            jfrEvent.description = description;
+            jfrEvent.attempt = invocation.retryAttempt;
+            jfrEvent.begin();
+            invocation.retryAttemptEvent = jfrEvent;
+        });
+        ctx.registerEventHandler(RetryEvents.AttemptFinished.class, ignored -> {
+            RetryAttemptEvent jfrEvent = invocation.retryAttemptEvent;
+            if (jfrEvent != null) {
+                invocation.retryAttemptEvent = null;
+                jfrEvent.commit();
+            }
+        });
+        ctx.registerEventHandler(RetryEvents.Finished.class, ignored -> {
+            // max duration may be reached after the delay, in which case no attempt follows
+            RetryDelayEvent delay = invocation.retryDelay;
+            if (delay != null) {
+                invocation.retryDelay = null;
+                delay.commit();
+            }
+        });
+
+        // circuit breaker
+
+        ctx.registerEventHandler(CircuitBreakerEvents.StateTransition.class, event -> {
+            CircuitBreakerStateTransitionEvent jfrEvent = new CircuitBreakerStateTransitionEvent();
+            jfrEvent.description = description;
+            jfrEvent.targetState = event.targetState.name();
+            jfrEvent.commit();
+        });
+        ctx.registerEventHandler(CircuitBreakerEvents.Finished.class, event -> {
+            if (event.result == CircuitBreakerEvents.Result.PREVENTED) {
+                CircuitBreakerRejectedEvent jfrEvent = new CircuitBreakerRejectedEvent();
+                jfrEvent.description = description;
+                jfrEvent.commit();
+            }
+        });
+
+        // rate limit
+
+        ctx.registerEventHandler(RateLimitEvents.DecisionMade.class, event -> {
+            if (!event.permitted) {
+                RateLimitRejectedEvent jfrEvent = new RateLimitRejectedEvent();
+                jfrEvent.description = description;
+                jfrEvent.commit();
+            }
+        });
+
+        // load shedding
+
+        ctx.registerEventHandler(LoadSheddingEvents.DecisionMade.class, event -> {
+            if (!event.accepted) {
+                LoadSheddingRejectedEvent jfrEvent = new LoadSheddingRejectedEvent();
+                jfrEvent.description = description;
+                jfrEvent.commit();
+            }
+        });
+
+        // timeout
+
+        ctx.registerEventHandler(TimeoutEvents.Finished.class, event -> {
+            if (event.timedOut) {
+                TimeoutEvent jfrEvent = new TimeoutEvent();
+                jfrEvent.description = description;
+                jfrEvent.commit();
+            }
+        });
+    }
+
+    // events of one invocation are never fired concurrently, but may be fired on different threads
+    private static final class InvocationEvents {
+        volatile BulkheadWaitingEvent bulkheadWaiting;
+        volatile BulkheadRunningEvent bulkheadRunning;
+        volatile RetryDelayEvent retryDelay;
+        volatile RetryAttemptEvent retryAttemptEvent;
+        volatile int retryAttempt;
+    }
+}
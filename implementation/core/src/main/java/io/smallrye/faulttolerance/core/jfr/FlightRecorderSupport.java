@@ -0,0 +1,50 @@
+package io.smallrye.faulttolerance.core.jfr;
+
+/**
+ * Keeps track of whether any fault tolerance JDK Flight Recorder event is currently being recorded.
+ * All events are disabled by default, so unless a recording explicitly enables them, the only cost
+ * of the {@link FlightRecorderCollector} is a single volatile read per invocation.
+ * <p>
+ * Initializing this class registers the events and a recorder listener with the JDK Flight Recorder.
+ * Callers must therefore only access this class when emitting the events is enabled by configuration.
+ * <p>
+ * The {@code jdk.jfr} module may be missing from the runtime (e.g. in a custom runtime image).
+ * In that case, JFR classes are never loaded and {@link #isAvailable()} returns {@code false}.
+ */
+public final class FlightRecorderSupport {
+    private static final boolean AVAILABLE;
+
+    private static volatile boolean enabled;
+
+    static {
+        boolean available = false;
+        if (ModuleLayer.boot().findModule("jdk.jfr").isPresent()) {
+            try {
+                FlightRecorderEvents.install();
+                available = true;
+            } catch (Throwable ignored) {
+                // JFR not usable in this environment, for example due to a security manager
+            }
+        }
+        AVAILABLE = available;
+    }
+
+    private FlightRecorderSupport() {
+    }
+
+    /**
+     * Returns whether JDK Flight Recorder is available in this JVM. If not, there's no point in
+     * adding the {@link FlightRecorderCollector} to a fault tolerance strategy chain.
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    static boolean isEnabled() {
+        return enabled;
+    }
+
+    static void setEnabled(boolean enabled) {
+        FlightRecorderSupport.enabled = enabled;
+    }
+}
@@ -0,0 +1,21 @@
+package io.smallrye.faulttolerance.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(FlightRecorderEvents.PREFIX + "RateLimitRejected")
+@Label("Rate Limit Rejected")
+@Category({ FlightRecorderEvents.CATEGORY, "Rate Limit" })
+@Description("Invocation rejected by the rate limit")
+@Enabled(false)
+@StackTrace(false)
+final class RateLimitRejectedEvent extends Event {
+    @Label("Description")
+    @Description("Description of the guarded operation")
+    String description;
+}
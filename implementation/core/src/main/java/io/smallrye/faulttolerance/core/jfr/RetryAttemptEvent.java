@@ -0,0 +1,25 @@
+package io.smallrye.faulttolerance.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(FlightRecorderEvents.PREFIX + "RetryAttempt")
+@Label("Retry Attempt")
+@Category({ FlightRecorderEvents.CATEGORY, "Retry" })
+@Description("Single attempt of a retried invocation")
+@Enabled(false)
+@StackTrace(false)
+final class RetryAttemptEvent extends Event {
+    @Label("Description")
+    @Description("Description of the guarded operation")
+    String description;
+
+    @Label("Attempt")
+    @Description("Attempt number, 0 is the initial attempt")
+    int attempt;
+}
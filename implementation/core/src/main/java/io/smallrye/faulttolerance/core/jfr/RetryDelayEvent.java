@@ -0,0 +1,25 @@
+package io.smallrye.faulttolerance.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(FlightRecorderEvents.PREFIX + "RetryDelay")
+@Label("Retry Delay")
+@Category({ FlightRecorderEvents.CATEGORY, "Retry" })
+@Description("Delay before a retry attempt")
+@Enabled(false)
+@StackTrace(false)
+final class RetryDelayEvent extends Event {
+    @Label("Description")
+    @Description("Description of the guarded operation")
+    String description;
+
+    @Label("Attempt")
+    @Description("Number of the attempt that follows the delay")
+    int attempt;
+}
@@ -0,0 +1,21 @@
+package io.smallrye.faulttolerance.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(FlightRecorderEvents.PREFIX + "Timeout")
+@Label("Timeout")
+@Category({ FlightRecorderEvents.CATEGORY, "Timeout" })
+@Description("Invocation timed out")
+@Enabled(false)
+@StackTrace(false)
+final class TimeoutEvent extends Event {
+    @Label("Description")
+    @Description("Description of the guarded operation")
+    String description;
+}
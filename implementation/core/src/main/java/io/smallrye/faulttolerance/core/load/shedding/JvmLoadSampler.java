@@ -0,0 +1,112 @@
+package io.smallrye.faulttolerance.core.load.shedding;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Samples the load of this JVM using {@code java.lang.management}. The load is a number
+ * between 0 and 1, computed as the maximum of:
+ * <ul>
+ * <li>process CPU load, if available (it is obtained from {@code com.sun.management.OperatingSystemMXBean},
+ * which is looked up reflectively, because it is not present on all JVMs);</li>
+ * <li>fraction of time spent in garbage collection since the previous sample, multiplied
+ * by {@value #GC_TIME_FACTOR} (so that spending 1 / {@value #GC_TIME_FACTOR} of time
+ * in garbage collection means full load);</li>
+ * <li>occupancy of old generation heap memory pools after the last garbage collection.</li>
+ * </ul>
+ * Not thread safe, must only be called from one thread at a time.
+ */
+final class JvmLoadSampler implements DoubleSupplier {
+    static final int GC_TIME_FACTOR = 5;
+
+    private final OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+    private final List<GarbageCollectorMXBean> gcs = ManagementFactory.getGarbageCollectorMXBeans();
+    private final List<MemoryPoolMXBean> memoryPools = ManagementFactory.getMemoryPoolMXBeans();
+    // `null` if the process CPU load is not available
+    private final Method processCpuLoad = findProcessCpuLoad(os);
+
+    private long previousSampleTime = System.nanoTime();
+    private long previousGcTime = totalGcTimeInMillis();
+
+    @Override
+    public double getAsDouble() {
+        return Math.max(cpuLoad(), Math.max(gcLoad(), heapLoad()));
+    }
+
+    private static Method findProcessCpuLoad(OperatingSystemMXBean os) {
+        try {
+            Class<?> clazz = Class.forName("com.sun.management.OperatingSystemMXBean");
+            return clazz.isInstance(os) ? clazz.getMethod("getProcessCpuLoad") : null;
+        } catch (ReflectiveOperationException | LinkageError | SecurityException e) {
+            return null;
+        }
+    }
+
+    private double cpuLoad() {
+        if (processCpuLoad != null) {
+            double load;
+            try {
+                load = (Double) processCpuLoad.invoke(os);
+            } catch (ReflectiveOperationException e) {
+                load = -1.0;
+            }
+            if (load >= 0.0) {
+                return load;
+            }
+        }
+        double loadAverage = os.getSystemLoadAverage();
+        if (loadAverage >= 0.0) {
+            return Math.min(loadAverage / os.getAvailableProcessors(), 1.0);
+        }
+        return 0.0;
+    }
+
+    private double gcLoad() {
+        long now = System.nanoTime();
+        long gcTime = totalGcTimeInMillis();
+        long elapsedMillis = (now - previousSampleTime) / 1_000_000;
+        long gcMillis = gcTime - previousGcTime;
+        previousSampleTime = now;
+        previousGcTime = gcTime;
+
+        if (elapsedMillis <= 0 || gcMillis <= 0) {
+            return 0.0;
+        }
+        return Math.min((double) gcMillis * GC_TIME_FACTOR / elapsedMillis, 1.0);
+    }
+
+    private double heapLoad() {
+        double result = 0.0;
+        for (MemoryPoolMXBean pool : memoryPools) {
+            // young generation pools typically don't support usage thresholds and their occupancy
+            // doesn't indicate memory pressure, so only old generation pools are considered
+            if (pool.getType() != MemoryType.HEAP || !pool.isUsageThresholdSupported()) {
+                continue;
+            }
+            MemoryUsage usage = pool.getCollectionUsage();
+            if (usage == null || usage.getMax() <= 0) {
+                continue;
+            }
+            result = Math.max(result, (double) usage.getUsed() / usage.getMax());
+        }
+        return result;
+    }
+
+    private long totalGcTimeInMillis() {
+        long result = 0;
+        for (GarbageCollectorMXBean gc : gcs) {
+            long time = gc.getCollectionTime();
+            if (time > 0) {
+                result += time;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,86 @@
+package io.smallrye.faulttolerance.core.load.shedding;
+
+import static io.smallrye.faulttolerance.core.load.shedding.LoadSheddingLogger.LOG;
+import static io.smallrye.faulttolerance.core.util.Preconditions.check;
+import static io.smallrye.faulttolerance.core.util.Preconditions.checkNotNull;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+import io.smallrye.faulttolerance.api.LoadSheddingException;
+import io.smallrye.faulttolerance.core.FaultToleranceContext;
+import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
+import io.smallrye.faulttolerance.core.Future;
+
+/**
+ * Rejects a fraction of invocations when the load of this JVM, as observed by the {@link SystemLoadMonitor},
+ * exceeds the {@code threshold}. The fraction of rejected invocations grows linearly from 0 at the threshold
+ * to 1 at full load. Invocations of operations with lower priority should use lower threshold, so that
+ * they are shed first.
+ */
+public class LoadShedding<V> implements FaultToleranceStrategy<V> {
+    private final FaultToleranceStrategy<V> delegate;
+    private final String description;
+
+    private final double threshold;
+    private final SystemLoadMonitor monitor;
+    private final DoubleSupplier random;
+
+    private final boolean stacklessRejections;
+    private final String rejectedMessage;
+
+    public LoadShedding(FaultToleranceStrategy<V> delegate, String description, double threshold,
+            SystemLoadMonitor monitor) {
+        this(delegate, description, threshold, monitor, false);
+    }
+
+    /**
+     * If {@code stacklessRejections} is {@code true}, rejected invocations fail with
+     * a {@link LoadSheddingException} that doesn't capture a stack trace.
+     */
+    public LoadShedding(FaultToleranceStrategy<V> delegate, String description, double threshold,
+            SystemLoadMonitor monitor, boolean stacklessRejections) {
+        this(delegate, description, threshold, monitor, stacklessRejections,
+                () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    LoadShedding(FaultToleranceStrategy<V> delegate, String description, double threshold, SystemLoadMonitor monitor,
+            boolean stacklessRejections, DoubleSupplier random) {
+        this.delegate = checkNotNull(delegate, "Load shedding delegate must be set");
+        this.description = checkNotNull(description, "Load shedding description must be set");
+        this.threshold = check(threshold, threshold >= 0.0 && threshold < 1.0, "Threshold must be >= 0 and < 1");
+        this.monitor = checkNotNull(monitor, "System load monitor must be set");
+        this.random = random;
+        this.stacklessRejections = stacklessRejections;
+        this.rejectedMessage = description + " shed due to high system load";
+
+        monitor.start();
+    }
+
+    @Override
+    public Future<V> apply(FaultToleranceContext<V> ctx) {
+        LOG.trace("LoadShedding started");
+        try {
+            double load = monitor.load();
+            if (load > threshold) {
+                double rejectedFraction = (load - threshold) / (1.0 - threshold);
+                if (random.getAsDouble() < rejectedFraction) {
+                    LOG.debugf("%s shed due to system load %.2f", description, load);
+                    ctx.fireEvent(LoadSheddingEvents.DecisionMade.REJECTED);
+                    return Future.ofError(stacklessRejections
+                            ? new StacklessLoadSheddingException(rejectedMessage)
+                            : new LoadSheddingException(rejectedMessage));
+                }
+            }
+
+            ctx.fireEvent(LoadSheddingEvents.DecisionMade.ACCEPTED);
+            try {
+                return delegate.apply(ctx);
+            } catch (Exception e) {
+                return Future.ofError(e);
+            }
+        } finally {
+            LOG.trace("LoadShedding finished");
+        }
+    }
+}
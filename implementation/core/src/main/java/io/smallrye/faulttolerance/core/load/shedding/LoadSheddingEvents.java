@@ -0,0 +1,17 @@
+package io.smallrye.faulttolerance.core.load.shedding;
+
+import io.smallrye.faulttolerance.core.FaultToleranceEvent;
+
+public class LoadSheddingEvents {
+    public enum DecisionMade implements FaultToleranceEvent {
+        ACCEPTED(true),
+        REJECTED(false),
+        ;
+
+        public final boolean accepted;
+
+        DecisionMade(boolean accepted) {
+            this.accepted = accepted;
+        }
+    }
+}
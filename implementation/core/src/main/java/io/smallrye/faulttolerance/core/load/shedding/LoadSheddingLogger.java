@@ -0,0 +1,13 @@
+package io.smallrye.faulttolerance.core.load.shedding;
+
+import java.lang.invoke.MethodHandles;
+
+import org.jboss.logging.BasicLogger;
+import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.MessageLogger;
+
+@MessageLogger(projectCode = "SRFTL", length = 5)
+interface LoadSheddingLogger extends BasicLogger {
+    LoadSheddingLogger LOG = Logger.getMessageLogger(MethodHandles.lookup(), LoadSheddingLogger.class,
+            LoadSheddingLogger.class.getPackage().getName());
+}
@@ -0,0 +1,17 @@
+package io.smallrye.faulttolerance.core.load.shedding;
+
+import io.smallrye.faulttolerance.api.LoadSheddingException;
+
+/**
+ * A {@link LoadSheddingException} that doesn't capture a stack trace, used when stackless rejections are enabled.
+ */
+final class StacklessLoadSheddingException extends LoadSheddingException {
+    StacklessLoadSheddingException(String message) {
+        super(message);
+    }
+
+    @Override
+    public Throwable fillInStackTrace() {
+        return this;
+    }
+}
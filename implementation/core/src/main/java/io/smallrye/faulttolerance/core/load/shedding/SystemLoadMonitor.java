@@ -0,0 +1,84 @@
+package io.smallrye.faulttolerance.core.load.shedding;
+
+import static io.smallrye.faulttolerance.core.load.shedding.LoadSheddingLogger.LOG;
+import static io.smallrye.faulttolerance.core.util.Preconditions.check;
+import static io.smallrye.faulttolerance.core.util.Preconditions.checkNotNull;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.DoubleSupplier;
+
+import io.smallrye.faulttolerance.core.timer.Timer;
+
+/**
+ * Periodically samples the load of this JVM on a {@link Timer} and makes the latest
+ * sample available to {@link LoadShedding} strategies. One instance is meant to be
+ * shared by all load shedding strategies that use the same timer.
+ * <p>
+ * Sampling doesn't start until {@link #start()} is called, so that there's no overhead
+ * when load shedding is not used. Sampling stops when the timer is shut down.
+ */
+public final class SystemLoadMonitor {
+    public static final long DEFAULT_SAMPLING_INTERVAL_IN_MILLIS = 1000;
+
+    private final Timer timer;
+    private final long samplingIntervalInMillis;
+
+    // created lazily, because obtaining the `java.lang.management` beans isn't free
+    private DoubleSupplier sampler;
+
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private volatile double load;
+
+    public SystemLoadMonitor(Timer timer) {
+        this.timer = checkNotNull(timer, "Timer must be set");
+        this.samplingIntervalInMillis = DEFAULT_SAMPLING_INTERVAL_IN_MILLIS;
+    }
+
+    /**
+     * @param sampler returns the current load, a number between 0 and 1; never called concurrently
+     */
+    public SystemLoadMonitor(Timer timer, long samplingIntervalInMillis, DoubleSupplier sampler) {
+        this.timer = checkNotNull(timer, "Timer must be set");
+        this.samplingIntervalInMillis = check(samplingIntervalInMillis, samplingIntervalInMillis > 0,
+                "Sampling interval must be > 0");
+        this.sampler = checkNotNull(sampler, "Sampler must be set");
+    }
+
+    /**
+     * Starts periodic sampling, unless it has already started. Takes the first sample immediately.
+     */
+    public void start() {
+        if (started.compareAndSet(false, true)) {
+            sample();
+        }
+    }
+
+    /**
+     * Returns the latest load sample, a number between 0 and 1. Returns 0 if sampling hasn't started yet.
+     */
+    public double load() {
+        return load;
+    }
+
+    private void sample() {
+        try {
+            if (sampler == null) {
+                sampler = new JvmLoadSampler();
+            }
+            double value = sampler.getAsDouble();
+            load = Double.isNaN(value) ? 0.0 : Math.min(Math.max(value, 0.0), 1.0);
+            LOG.tracef("System load sampled: %f", load);
+        } catch (Exception | LinkageError e) {
+            LOG.debug("System load sampling failed", e);
+        }
+
+        try {
+            // sampling doesn't run application code, so there's no context to propagate
+            timer.scheduleWithoutContext(samplingIntervalInMillis, this::sample, null);
+        } catch (Exception | LinkageError e) {
+            // the timer is most likely shut down
+            LOG.debug("System load sampling stopped", e);
+        }
+    }
+}
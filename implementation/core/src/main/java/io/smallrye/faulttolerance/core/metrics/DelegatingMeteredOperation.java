@@ -35,6 +35,11 @@ final class DelegatingMeteredOperation implements MeteredOperation {
         return operation.hasFallback();
     }
 
+    @Override
+    public boolean hasLoadShedding() {
+        return operation.hasLoadShedding();
+    }
+
     @Override
     public boolean hasRateLimit() {
         return operation.hasRateLimit();
@@ -50,6 +55,11 @@ final class DelegatingMeteredOperation implements MeteredOperation {
         return operation.hasTimeout();
     }
 
+    @Override
+    public int samplingRate() {
+        return operation.samplingRate();
+    }
+
     @Override
     public String name() {
         return name;
@@ -12,7 +12,11 @@ public class DelegatingMetricsCollector<V> implements FaultToleranceStrategy<V>
     private final MetricsProvider provider;
     private final MeteredOperation originalOperation;
 
-    private final ConcurrentMap<MeteredOperation, MetricsCollector<V>> cache = new ConcurrentHashMap<>();
+    // only used when the `FaultToleranceContext` doesn't contain `MeteredOperationName`
+    private volatile MetricsCollector<V> originalCollector;
+
+    // keyed by the operation name, so that looking up an existing collector doesn't allocate
+    private final ConcurrentMap<String, MetricsCollector<V>> namedCollectors = new ConcurrentHashMap<>();
 
     public DelegatingMetricsCollector(FaultToleranceStrategy<V> delegate,
             MetricsProvider provider, MeteredOperation originalOperation) {
@@ -24,16 +28,41 @@ public class DelegatingMetricsCollector<V> implements FaultToleranceStrategy<V>
     @Override
     public Future<V> apply(FaultToleranceContext<V> ctx) {
         MeteredOperationName name = ctx.get(MeteredOperationName.class);
-        MeteredOperation operation = name != null
-                ? new DelegatingMeteredOperation(originalOperation, name.get())
-                : originalOperation;
         FaultToleranceStrategy<V> delegate;
-        if (operation.enabled()) {
-            delegate = cache.computeIfAbsent(operation,
-                    ignored -> new MetricsCollector<>(this.delegate, provider.create(operation), operation));
+        if (name != null) {
+            // named operations are always enabled, see `DelegatingMeteredOperation.enabled()`
+            delegate = namedCollector(name.get());
+        } else if (originalOperation.enabled()) {
+            delegate = originalCollector();
         } else {
             delegate = this.delegate;
         }
         return delegate.apply(ctx);
     }
+
+    private MetricsCollector<V> namedCollector(String name) {
+        MetricsCollector<V> collector = namedCollectors.get(name);
+        if (collector == null) {
+            collector = namedCollectors.computeIfAbsent(name, ignored -> {
+                MeteredOperation operation = new DelegatingMeteredOperation(originalOperation, name);
+                return new MetricsCollector<>(this.delegate, provider.create(operation), operation);
+            });
+        }
+        return collector;
+    }
+
+    private MetricsCollector<V> originalCollector() {
+        MetricsCollector<V> collector = originalCollector;
+        if (collector == null) {
+            synchronized (this) {
+                collector = originalCollector;
+                if (collector == null) {
+                    collector = new MetricsCollector<>(this.delegate, provider.create(originalOperation),
+                            originalOperation);
+                    originalCollector = collector;
+                }
+            }
+        }
+        return collector;
+    }
 }
@@ -11,12 +11,22 @@ public interface MeteredOperation {
 
     boolean hasFallback();
 
+    boolean hasLoadShedding();
+
     boolean hasRateLimit();
 
     boolean hasRetry();
 
     boolean hasTimeout();
 
+    /**
+     * Returns how often timing metrics (durations and histograms) should be recorded.
+     * The value {@code N} means that timing metrics are only recorded for 1 in {@code N} invocations
+     * on average. Counters and gauges are always exact. The value {@code 1} means that all invocations
+     * are measured.
+     */
+    int samplingRate();
+
     String name();
 
     Object cacheKey();
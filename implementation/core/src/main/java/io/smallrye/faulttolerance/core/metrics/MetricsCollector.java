@@ -2,8 +2,9 @@ package io.smallrye.faulttolerance.core.metrics;
 
 import static io.smallrye.faulttolerance.core.metrics.MetricsLogger.LOG;
 
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 import io.smallrye.faulttolerance.api.CircuitBreakerState;
 import io.smallrye.faulttolerance.core.Completer;
@@ -13,6 +14,7 @@ import io.smallrye.faulttolerance.core.Future;
 import io.smallrye.faulttolerance.core.bulkhead.BulkheadEvents;
 import io.smallrye.faulttolerance.core.circuit.breaker.CircuitBreakerEvents;
 import io.smallrye.faulttolerance.core.fallback.FallbackEvents;
+import io.smallrye.faulttolerance.core.load.shedding.LoadSheddingEvents;
 import io.smallrye.faulttolerance.core.rate.limit.RateLimitEvents;
 import io.smallrye.faulttolerance.core.retry.RetryEvents;
 import io.smallrye.faulttolerance.core.timeout.TimeoutEvents;
@@ -23,27 +25,24 @@ public class MetricsCollector<V> implements FaultToleranceStrategy<V> {
     private final boolean mayBeAsync;
     private final boolean hasBulkhead;
     private final boolean hasCircuitBreaker;
+    private final boolean hasLoadShedding;
     private final boolean hasRateLimit;
     private final boolean hasRetry;
     private final boolean hasTimeout;
+    private final int samplingRate;
 
-    // per-invocation metric values are stored in local variables in the `registerMetrics` method
-    // shared metric values (for stateful fault tolerance strategies) are stored in fields below
+    // per-invocation metric values are stored in an `InvocationMetrics` object created in the `registerMetrics` method
+    // shared metric values (for stateful fault tolerance strategies) are stored in fields below; these are updated
+    // concurrently by all invocations, so they use striped counters or a single immutable state swapped atomically
 
     // circuit breaker
 
-    private volatile CircuitBreakerState state;
-    private final AtomicLong previousHalfOpenTime = new AtomicLong();
-    private volatile long halfOpenStart;
-    private final AtomicLong previousClosedTime = new AtomicLong();
-    private volatile long closedStart;
-    private final AtomicLong previousOpenTime = new AtomicLong();
-    private volatile long openStart;
+    private final AtomicReference<CircuitBreakerTimes> circuitBreakerTimes;
 
     // bulkhead
 
-    private final AtomicLong runningExecutions = new AtomicLong();
-    private final AtomicLong waitingExecutions = new AtomicLong();
+    private final LongAdder runningExecutions = new LongAdder();
+    private final LongAdder waitingExecutions = new LongAdder();
 
     public MetricsCollector(FaultToleranceStrategy<V> delegate, MetricsRecorder metrics, MeteredOperation operation) {
         this.delegate = delegate;
@@ -51,45 +50,43 @@ public class MetricsCollector<V> implements FaultToleranceStrategy<V> {
         this.mayBeAsync = operation.mayBeAsynchronous();
         this.hasBulkhead = operation.hasBulkhead();
         this.hasCircuitBreaker = operation.hasCircuitBreaker();
+        this.hasLoadShedding = operation.hasLoadShedding();
         this.hasRateLimit = operation.hasRateLimit();
         this.hasRetry = operation.hasRetry();
         this.hasTimeout = operation.hasTimeout();
+        this.samplingRate = operation.samplingRate();
 
-        this.state = CircuitBreakerState.CLOSED;
-        this.closedStart = System.nanoTime();
+        this.circuitBreakerTimes = new AtomicReference<>(CircuitBreakerTimes.initial(System.nanoTime()));
 
         if (hasCircuitBreaker) {
-            metrics.registerCircuitBreakerIsClosed(() -> CircuitBreakerState.CLOSED == state);
-            metrics.registerCircuitBreakerIsOpen(() -> CircuitBreakerState.OPEN == state);
-            metrics.registerCircuitBreakerIsHalfOpen(() -> CircuitBreakerState.HALF_OPEN == state);
+            metrics.registerCircuitBreakerIsClosed(() -> CircuitBreakerState.CLOSED == circuitBreakerTimes.get().state());
+            metrics.registerCircuitBreakerIsOpen(() -> CircuitBreakerState.OPEN == circuitBreakerTimes.get().state());
+            metrics.registerCircuitBreakerIsHalfOpen(() -> CircuitBreakerState.HALF_OPEN == circuitBreakerTimes.get().state());
 
             metrics.registerCircuitBreakerTimeSpentInClosed(
-                    () -> getTime(CircuitBreakerState.CLOSED, closedStart, previousClosedTime));
+                    () -> circuitBreakerTimes.get().timeSpentIn(CircuitBreakerState.CLOSED, System.nanoTime()));
             metrics.registerCircuitBreakerTimeSpentInOpen(
-                    () -> getTime(CircuitBreakerState.OPEN, openStart, previousOpenTime));
+                    () -> circuitBreakerTimes.get().timeSpentIn(CircuitBreakerState.OPEN, System.nanoTime()));
             metrics.registerCircuitBreakerTimeSpentInHalfOpen(
-                    () -> getTime(CircuitBreakerState.HALF_OPEN, halfOpenStart, previousHalfOpenTime));
+                    () -> circuitBreakerTimes.get().timeSpentIn(CircuitBreakerState.HALF_OPEN, System.nanoTime()));
         }
 
         if (hasBulkhead) {
-            metrics.registerBulkheadExecutionsRunning(runningExecutions::get);
+            metrics.registerBulkheadExecutionsRunning(runningExecutions::sum);
             if (mayBeAsync) {
-                metrics.registerBulkheadExecutionsWaiting(waitingExecutions::get);
+                metrics.registerBulkheadExecutionsWaiting(waitingExecutions::sum);
             }
         }
     }
 
-    private long getTime(CircuitBreakerState measuredState, long measuredStateStart, AtomicLong prevMeasuredStateTime) {
-        return state == measuredState
-                ? prevMeasuredStateTime.get() + System.nanoTime() - measuredStateStart
-                : prevMeasuredStateTime.get();
-    }
-
     @Override
     public Future<V> apply(FaultToleranceContext<V> ctx) {
         LOG.trace("MetricsCollector started");
         try {
-            registerMetrics(ctx);
+            // counters are always exact, timing metrics are only recorded for sampled invocations
+            boolean sampled = samplingRate <= 1 || ThreadLocalRandom.current().nextInt(samplingRate) == 0;
+            long start = sampled ? System.nanoTime() : 0;
+            InvocationMetrics invocationMetrics = registerMetrics(ctx, sampled);
 
             Completer<V> result = Completer.create();
 
@@ -101,11 +98,14 @@ public class MetricsCollector<V> implements FaultToleranceStrategy<V> {
             }
 
             originalResult.then((value, error) -> {
+                metrics.executionFinished(error == null, invocationMetrics.fallbackDefined,
+                        invocationMetrics.fallbackApplied);
+                if (sampled) {
+                    metrics.updateInvocationDuration(System.nanoTime() - start);
+                }
                 if (error == null) {
-                    ctx.fireEvent(GeneralMetricsEvents.ExecutionFinished.VALUE_RETURNED);
                     result.complete(value);
                 } else {
-                    ctx.fireEvent(GeneralMetricsEvents.ExecutionFinished.EXCEPTION_THROWN);
                     result.completeWithError(error);
                 }
             });
@@ -116,34 +116,36 @@ public class MetricsCollector<V> implements FaultToleranceStrategy<V> {
         }
     }
 
-    private void registerMetrics(FaultToleranceContext<V> ctx) {
-        // general + fallback
+    private InvocationMetrics registerMetrics(FaultToleranceContext<V> ctx, boolean sampled) {
+        InvocationMetrics invocation = new InvocationMetrics();
 
-        AtomicBoolean fallbackDefined = new AtomicBoolean(false);
-        AtomicBoolean fallbackApplied = new AtomicBoolean(false);
-        ctx.registerEventHandler(FallbackEvents.Defined.class, ignored -> fallbackDefined.set(true));
-        ctx.registerEventHandler(FallbackEvents.Applied.class, ignored -> fallbackApplied.set(true));
+        // fallback
 
-        ctx.registerEventHandler(GeneralMetricsEvents.ExecutionFinished.class,
-                event -> metrics.executionFinished(event.succeeded, fallbackDefined.get(), fallbackApplied.get()));
+        ctx.registerEventHandler(FallbackEvents.Defined.class, ignored -> invocation.fallbackDefined = true);
+        ctx.registerEventHandler(FallbackEvents.Applied.class, ignored -> invocation.fallbackApplied = true);
 
         // retry
 
         if (hasRetry) {
-            AtomicBoolean retried = new AtomicBoolean(false);
             ctx.registerEventHandler(RetryEvents.Retried.class, ignored -> {
                 metrics.retryAttempted();
-                retried.set(true);
+                invocation.retried = true;
             });
+            if (sampled) {
+                ctx.registerEventHandler(RetryEvents.AttemptStarted.class,
+                        ignored -> invocation.attemptStart = System.nanoTime());
+                ctx.registerEventHandler(RetryEvents.AttemptFinished.class,
+                        ignored -> metrics.updateRetryAttemptDuration(System.nanoTime() - invocation.attemptStart));
+            }
             ctx.registerEventHandler(RetryEvents.Finished.class, event -> {
                 if (RetryEvents.Result.VALUE_RETURNED == event.result) {
-                    metrics.retryValueReturned(retried.get());
+                    metrics.retryValueReturned(invocation.retried);
                 } else if (RetryEvents.Result.EXCEPTION_NOT_RETRYABLE == event.result) {
-                    metrics.retryExceptionNotRetryable(retried.get());
+                    metrics.retryExceptionNotRetryable(invocation.retried);
                 } else if (RetryEvents.Result.MAX_RETRIES_REACHED == event.result) {
-                    metrics.retryMaxRetriesReached(retried.get());
+                    metrics.retryMaxRetriesReached(invocation.retried);
                 } else if (RetryEvents.Result.MAX_DURATION_REACHED == event.result) {
-                    metrics.retryMaxDurationReached(retried.get());
+                    metrics.retryMaxDurationReached(invocation.retried);
                 }
             });
         }
@@ -151,11 +153,16 @@ public class MetricsCollector<V> implements FaultToleranceStrategy<V> {
         // timeout
 
         if (hasTimeout) {
-            AtomicLong timeoutStart = new AtomicLong();
-            ctx.registerEventHandler(TimeoutEvents.Started.class,
-                    ignored -> timeoutStart.set(System.nanoTime()));
-            ctx.registerEventHandler(TimeoutEvents.Finished.class,
-                    event -> metrics.timeoutFinished(event.timedOut, System.nanoTime() - timeoutStart.get()));
+            if (sampled) {
+                ctx.registerEventHandler(TimeoutEvents.Started.class,
+                        ignored -> invocation.timeoutStart = System.nanoTime());
+                ctx.registerEventHandler(TimeoutEvents.Finished.class, event -> {
+                    metrics.timeoutFinished(event.timedOut);
+                    metrics.updateTimeoutExecutionDuration(System.nanoTime() - invocation.timeoutStart);
+                });
+            } else {
+                ctx.registerEventHandler(TimeoutEvents.Finished.class, event -> metrics.timeoutFinished(event.timedOut));
+            }
         }
 
         // circuit breaker
@@ -164,25 +171,11 @@ public class MetricsCollector<V> implements FaultToleranceStrategy<V> {
             ctx.registerEventHandler(CircuitBreakerEvents.Finished.class,
                     event -> metrics.circuitBreakerFinished(event.result));
             ctx.registerEventHandler(CircuitBreakerEvents.StateTransition.class, event -> {
-                state = event.targetState;
-
                 long now = System.nanoTime();
+                circuitBreakerTimes.updateAndGet(times -> times.transitionTo(event.targetState, now));
 
-                switch (event.targetState) {
-                    case CLOSED -> {
-                        closedStart = now;
-                        previousHalfOpenTime.addAndGet(now - halfOpenStart);
-                    }
-                    case OPEN -> {
-                        openStart = now;
-                        previousClosedTime.addAndGet(now - closedStart);
-
-                        metrics.circuitBreakerMovedToOpen();
-                    }
-                    case HALF_OPEN -> {
-                        halfOpenStart = now;
-                        previousOpenTime.addAndGet(now - openStart);
-                    }
+                if (event.targetState == CircuitBreakerState.OPEN) {
+                    metrics.circuitBreakerMovedToOpen();
                 }
             });
         }
@@ -190,35 +183,94 @@ public class MetricsCollector<V> implements FaultToleranceStrategy<V> {
         // bulkhead
 
         if (hasBulkhead) {
-            AtomicLong runningStart = new AtomicLong();
             ctx.registerEventHandler(BulkheadEvents.DecisionMade.class, event -> metrics.bulkheadDecisionMade(event.accepted));
             ctx.registerEventHandler(BulkheadEvents.StartedRunning.class, ignored -> {
-                runningExecutions.incrementAndGet();
-                runningStart.set(System.nanoTime());
+                runningExecutions.increment();
+                if (sampled) {
+                    invocation.runningStart = System.nanoTime();
+                }
             });
             ctx.registerEventHandler(BulkheadEvents.FinishedRunning.class, ignored -> {
-                runningExecutions.decrementAndGet();
-                metrics.updateBulkheadRunningDuration(System.nanoTime() - runningStart.get());
+                runningExecutions.decrement();
+                if (sampled) {
+                    metrics.updateBulkheadRunningDuration(System.nanoTime() - invocation.runningStart);
+                }
             });
 
             if (mayBeAsync) {
-                AtomicLong waitingStart = new AtomicLong();
                 ctx.registerEventHandler(BulkheadEvents.StartedWaiting.class, ignored -> {
-                    waitingExecutions.incrementAndGet();
-                    waitingStart.set(System.nanoTime());
+                    waitingExecutions.increment();
+                    if (sampled) {
+                        invocation.waitingStart = System.nanoTime();
+                    }
                 });
                 ctx.registerEventHandler(BulkheadEvents.FinishedWaiting.class, ignored -> {
-                    waitingExecutions.decrementAndGet();
-                    metrics.updateBulkheadWaitingDuration(System.nanoTime() - waitingStart.get());
+                    waitingExecutions.decrement();
+                    if (sampled) {
+                        metrics.updateBulkheadWaitingDuration(System.nanoTime() - invocation.waitingStart);
+                    }
                 });
             }
         }
 
+        // load shedding
+
+        if (hasLoadShedding) {
+            ctx.registerEventHandler(LoadSheddingEvents.DecisionMade.class,
+                    event -> metrics.loadSheddingDecisionMade(event.accepted));
+        }
+
         // rate limit
 
         if (hasRateLimit) {
             ctx.registerEventHandler(RateLimitEvents.DecisionMade.class,
                     event -> metrics.rateLimitDecisionMade(event.permitted));
+            if (sampled) {
+                ctx.registerEventHandler(RateLimitEvents.StartedWaiting.class,
+                        ignored -> invocation.rateLimitWaitingStart = System.nanoTime());
+                ctx.registerEventHandler(RateLimitEvents.FinishedWaiting.class,
+                        ignored -> metrics.updateRateLimitWaitingDuration(
+                                System.nanoTime() - invocation.rateLimitWaitingStart));
+            }
+        }
+
+        return invocation;
+    }
+
+    // event handlers of a single invocation may run on different threads, but never concurrently
+    private static final class InvocationMetrics {
+        volatile boolean fallbackDefined;
+        volatile boolean fallbackApplied;
+        volatile boolean retried;
+        volatile long attemptStart;
+        volatile long timeoutStart;
+        volatile long runningStart;
+        volatile long waitingStart;
+        volatile long rateLimitWaitingStart;
+    }
+
+    // immutable, so that the state and the times spent in each state are always consistent with each other
+    private record CircuitBreakerTimes(CircuitBreakerState state, long stateStart,
+            long closedTime, long openTime, long halfOpenTime) {
+        static CircuitBreakerTimes initial(long now) {
+            return new CircuitBreakerTimes(CircuitBreakerState.CLOSED, now, 0, 0, 0);
+        }
+
+        CircuitBreakerTimes transitionTo(CircuitBreakerState targetState, long now) {
+            long elapsed = now - stateStart;
+            return new CircuitBreakerTimes(targetState, now,
+                    state == CircuitBreakerState.CLOSED ? closedTime + elapsed : closedTime,
+                    state == CircuitBreakerState.OPEN ? openTime + elapsed : openTime,
+                    state == CircuitBreakerState.HALF_OPEN ? halfOpenTime + elapsed : halfOpenTime);
+        }
+
+        long timeSpentIn(CircuitBreakerState measuredState, long now) {
+            long previousTime = switch (measuredState) {
+                case CLOSED -> closedTime;
+                case OPEN -> openTime;
+                case HALF_OPEN -> halfOpenTime;
+            };
+            return state == measuredState ? previousTime + now - stateStart : previousTime;
         }
     }
 }
@@ -6,9 +6,11 @@ public final class MetricsConstants {
     }
 
     public static final String INVOCATIONS_TOTAL = "ft.invocations.total";
+    public static final String INVOCATIONS_DURATION = "ft.invocations.duration";
 
     public static final String RETRY_CALLS_TOTAL = "ft.retry.calls.total";
     public static final String RETRY_RETRIES_TOTAL = "ft.retry.retries.total";
+    public static final String RETRY_ATTEMPT_DURATION = "ft.retry.attemptDuration";
 
     public static final String TIMEOUT_CALLS_TOTAL = "ft.timeout.calls.total";
     public static final String TIMEOUT_EXECUTION_DURATION = "ft.timeout.executionDuration";
@@ -24,7 +26,14 @@ public final class MetricsConstants {
     public static final String BULKHEAD_RUNNING_DURATION = "ft.bulkhead.runningDuration";
     public static final String BULKHEAD_WAITING_DURATION = "ft.bulkhead.waitingDuration";
 
+    public static final String LOAD_SHEDDING_CALLS_TOTAL = "ft.loadshedding.calls.total";
+
     public static final String RATE_LIMIT_CALLS_TOTAL = "ft.ratelimit.calls.total";
+    public static final String RATE_LIMIT_WAITING_DURATION = "ft.ratelimit.waitingDuration";
 
     public static final String TIMER_SCHEDULED = "ft.timer.scheduled";
+    public static final String TIMER_TASKS_SCHEDULED_TOTAL = "ft.timer.tasks.scheduled.total";
+    public static final String TIMER_TASKS_CANCELLED_TOTAL = "ft.timer.tasks.cancelled.total";
+    public static final String TIMER_TASKS_FIRED_TOTAL = "ft.timer.tasks.fired.total";
+    public static final String TIMER_FIRING_LAG = "ft.timer.firingLag";
 }
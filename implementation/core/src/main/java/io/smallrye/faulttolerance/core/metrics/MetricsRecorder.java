@@ -10,6 +10,8 @@ public interface MetricsRecorder {
 
     void executionFinished(boolean succeeded, boolean fallbackDefined, boolean fallbackApplied);
 
+    void updateInvocationDuration(long time);
+
     // retry
 
     void retryAttempted();
@@ -22,9 +24,13 @@ public interface MetricsRecorder {
 
     void retryMaxDurationReached(boolean retried);
 
+    void updateRetryAttemptDuration(long time);
+
     // timeout
 
-    void timeoutFinished(boolean timedOut, long time);
+    void timeoutFinished(boolean timedOut);
+
+    void updateTimeoutExecutionDuration(long time);
 
     // circuit breaker
 
@@ -56,15 +62,25 @@ public interface MetricsRecorder {
 
     void updateBulkheadWaitingDuration(long time);
 
+    // load shedding
+
+    void loadSheddingDecisionMade(boolean accepted);
+
     // rate limit
 
     void rateLimitDecisionMade(boolean permitted);
 
+    void updateRateLimitWaitingDuration(long time);
+
     MetricsRecorder NOOP = new MetricsRecorder() {
         @Override
         public void executionFinished(boolean succeeded, boolean fallbackDefined, boolean fallbackApplied) {
         }
 
+        @Override
+        public void updateInvocationDuration(long time) {
+        }
+
         @Override
         public void retryAttempted() {
         }
@@ -86,7 +102,15 @@ public interface MetricsRecorder {
         }
 
         @Override
-        public void timeoutFinished(boolean timedOut, long time) {
+        public void updateRetryAttemptDuration(long time) {
+        }
+
+        @Override
+        public void timeoutFinished(boolean timedOut) {
+        }
+
+        @Override
+        public void updateTimeoutExecutionDuration(long time) {
         }
 
         @Override
@@ -141,8 +165,16 @@ public interface MetricsRecorder {
         public void updateBulkheadWaitingDuration(long time) {
         }
 
+        @Override
+        public void loadSheddingDecisionMade(boolean accepted) {
+        }
+
         @Override
         public void rateLimitDecisionMade(boolean permitted) {
         }
+
+        @Override
+        public void updateRateLimitWaitingDuration(long time) {
+        }
     };
 }
@@ -9,8 +9,12 @@ import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.CIRCUIT_B
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.CIRCUIT_BREAKER_OPENED_TOTAL;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.CIRCUIT_BREAKER_STATE_CURRENT;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.CIRCUIT_BREAKER_STATE_TOTAL;
+import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.INVOCATIONS_DURATION;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.INVOCATIONS_TOTAL;
+import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.LOAD_SHEDDING_CALLS_TOTAL;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.RATE_LIMIT_CALLS_TOTAL;
+import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.RATE_LIMIT_WAITING_DURATION;
+import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.RETRY_ATTEMPT_DURATION;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.RETRY_CALLS_TOTAL;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.RETRY_RETRIES_TOTAL;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.TIMEOUT_CALLS_TOTAL;
@@ -55,6 +59,9 @@ public class MicrometerRecorder implements MetricsRecorder {
     private static final Tag BULKHEAD_RESULT_ACCEPTED = Tag.of("bulkheadResult", "accepted");
     private static final Tag BULKHEAD_RESULT_REJECTED = Tag.of("bulkheadResult", "rejected");
 
+    private static final Tag LOAD_SHEDDING_RESULT_ACCEPTED = Tag.of("loadSheddingResult", "accepted");
+    private static final Tag LOAD_SHEDDING_RESULT_REJECTED = Tag.of("loadSheddingResult", "rejected");
+
     private static final Tag RATE_LIMIT_RESULT_PERMITTED = Tag.of("rateLimitResult", "permitted");
     private static final Tag RATE_LIMIT_RESULT_REJECTED = Tag.of("rateLimitResult", "rejected");
 
@@ -83,6 +90,7 @@ public class MicrometerRecorder implements MetricsRecorder {
             registry.counter(INVOCATIONS_TOTAL, Arrays.asList(methodTag, RESULT_VALUE_RETURNED, FALLBACK_NOT_DEFINED));
             registry.counter(INVOCATIONS_TOTAL, Arrays.asList(methodTag, RESULT_EXCEPTION_THROWN, FALLBACK_NOT_DEFINED));
         }
+        registry.timer(INVOCATIONS_DURATION, methodTagSingleton);
 
         if (operation.hasRetry()) {
             registry.counter(RETRY_RETRIES_TOTAL, methodTagSingleton);
@@ -95,6 +103,8 @@ public class MicrometerRecorder implements MetricsRecorder {
             registry.counter(RETRY_CALLS_TOTAL, Arrays.asList(methodTag, RETRIED_TRUE, RETRY_RESULT_EXCEPTION_NOT_RETRYABLE));
             registry.counter(RETRY_CALLS_TOTAL, Arrays.asList(methodTag, RETRIED_TRUE, RETRY_RESULT_MAX_RETRIES_REACHED));
             registry.counter(RETRY_CALLS_TOTAL, Arrays.asList(methodTag, RETRIED_TRUE, RETRY_RESULT_MAX_DURATION_REACHED));
+
+            registry.timer(RETRY_ATTEMPT_DURATION, methodTagSingleton);
         }
 
         if (operation.hasTimeout()) {
@@ -122,9 +132,16 @@ public class MicrometerRecorder implements MetricsRecorder {
             }
         }
 
+        if (operation.hasLoadShedding()) {
+            registry.counter(LOAD_SHEDDING_CALLS_TOTAL, Arrays.asList(methodTag, LOAD_SHEDDING_RESULT_ACCEPTED));
+            registry.counter(LOAD_SHEDDING_CALLS_TOTAL, Arrays.asList(methodTag, LOAD_SHEDDING_RESULT_REJECTED));
+        }
+
         if (operation.hasRateLimit()) {
             registry.counter(RATE_LIMIT_CALLS_TOTAL, Arrays.asList(methodTag, BULKHEAD_RESULT_ACCEPTED));
             registry.counter(RATE_LIMIT_CALLS_TOTAL, Arrays.asList(methodTag, BULKHEAD_RESULT_REJECTED));
+
+            registry.timer(RATE_LIMIT_WAITING_DURATION, methodTagSingleton);
         }
     }
 
@@ -159,6 +176,11 @@ public class MicrometerRecorder implements MetricsRecorder {
         registry.counter(INVOCATIONS_TOTAL, Arrays.asList(methodTag, resultTag, fallbackTag)).increment();
     }
 
+    @Override
+    public void updateInvocationDuration(long time) {
+        registry.timer(INVOCATIONS_DURATION, methodTagSingleton).record(time, TimeUnit.NANOSECONDS);
+    }
+
     @Override
     public void retryAttempted() {
         registry.counter(RETRY_RETRIES_TOTAL, methodTagSingleton).increment();
@@ -189,9 +211,18 @@ public class MicrometerRecorder implements MetricsRecorder {
     }
 
     @Override
-    public void timeoutFinished(boolean timedOut, long time) {
+    public void updateRetryAttemptDuration(long time) {
+        registry.timer(RETRY_ATTEMPT_DURATION, methodTagSingleton).record(time, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void timeoutFinished(boolean timedOut) {
         registry.counter(TIMEOUT_CALLS_TOTAL, Arrays.asList(methodTag, timedOut ? TIMED_OUT_TRUE : TIMED_OUT_FALSE))
                 .increment();
+    }
+
+    @Override
+    public void updateTimeoutExecutionDuration(long time) {
         registry.timer(TIMEOUT_EXECUTION_DURATION, methodTagSingleton).record(time, TimeUnit.NANOSECONDS);
     }
 
@@ -266,9 +297,20 @@ public class MicrometerRecorder implements MetricsRecorder {
         registry.timer(BULKHEAD_WAITING_DURATION, methodTagSingleton).record(time, TimeUnit.NANOSECONDS);
     }
 
+    @Override
+    public void loadSheddingDecisionMade(boolean accepted) {
+        Tag loadSheddingResultTag = accepted ? LOAD_SHEDDING_RESULT_ACCEPTED : LOAD_SHEDDING_RESULT_REJECTED;
+        registry.counter(LOAD_SHEDDING_CALLS_TOTAL, Arrays.asList(methodTag, loadSheddingResultTag)).increment();
+    }
+
     @Override
     public void rateLimitDecisionMade(boolean permitted) {
         Tag rateLimitResultTag = permitted ? RATE_LIMIT_RESULT_PERMITTED : RATE_LIMIT_RESULT_REJECTED;
         registry.counter(RATE_LIMIT_CALLS_TOTAL, Arrays.asList(methodTag, rateLimitResultTag)).increment();
     }
+
+    @Override
+    public void updateRateLimitWaitingDuration(long time) {
+        registry.timer(RATE_LIMIT_WAITING_DURATION, methodTagSingleton).record(time, TimeUnit.NANOSECONDS);
+    }
 }
@@ -0,0 +1,44 @@
+package io.smallrye.faulttolerance.core.metrics;
+
+import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.TIMER_FIRING_LAG;
+import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.TIMER_SCHEDULED;
+import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.TIMER_TASKS_CANCELLED_TOTAL;
+import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.TIMER_TASKS_FIRED_TOTAL;
+import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.TIMER_TASKS_SCHEDULED_TOTAL;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.smallrye.faulttolerance.core.timer.Timer;
+
+/**
+ * Registers metrics of a {@link Timer} to a Micrometer {@link MeterRegistry}.
+ */
+public final class MicrometerTimerMetrics {
+    private MicrometerTimerMetrics() {
+        // avoid instantiation
+    }
+
+    public static void register(MeterRegistry registry, Timer timer) {
+        List<Tag> tags = Collections.singletonList(Tag.of("id", "" + timer.getId()));
+
+        registry.gauge(TIMER_SCHEDULED, tags, timer, Timer::countScheduledTasks);
+
+        FunctionCounter.builder(TIMER_TASKS_SCHEDULED_TOTAL, timer, Timer::countScheduledTasksTotal)
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder(TIMER_TASKS_CANCELLED_TOTAL, timer, Timer::countCancelledTasksTotal)
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder(TIMER_TASKS_FIRED_TOTAL, timer, Timer::countFiredTasksTotal)
+                .tags(tags)
+                .register(registry);
+
+        io.micrometer.core.instrument.Timer firingLag = registry.timer(TIMER_FIRING_LAG, tags);
+        timer.addFiringLagListener(lag -> firingLag.record(lag, TimeUnit.NANOSECONDS));
+    }
+}
@@ -9,8 +9,12 @@ import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.CIRCUIT_B
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.CIRCUIT_BREAKER_OPENED_TOTAL;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.CIRCUIT_BREAKER_STATE_CURRENT;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.CIRCUIT_BREAKER_STATE_TOTAL;
+import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.INVOCATIONS_DURATION;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.INVOCATIONS_TOTAL;
+import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.LOAD_SHEDDING_CALLS_TOTAL;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.RATE_LIMIT_CALLS_TOTAL;
+import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.RATE_LIMIT_WAITING_DURATION;
+import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.RETRY_ATTEMPT_DURATION;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.RETRY_CALLS_TOTAL;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.RETRY_RETRIES_TOTAL;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.TIMEOUT_CALLS_TOTAL;
@@ -73,6 +77,10 @@ public class OpenTelemetryRecorder implements MetricsRecorder {
     private static final String BULKHEAD_RESULT_ACCEPTED = "accepted";
     private static final String BULKHEAD_RESULT_REJECTED = "rejected";
 
+    private static final AttributeKey<String> LOAD_SHEDDING_RESULT = AttributeKey.stringKey("loadSheddingResult");
+    private static final String LOAD_SHEDDING_RESULT_ACCEPTED = "accepted";
+    private static final String LOAD_SHEDDING_RESULT_REJECTED = "rejected";
+
     private static final AttributeKey<String> RATE_LIMIT_RESULT = AttributeKey.stringKey("rateLimitResult");
     private static final String RATE_LIMIT_RESULT_PERMITTED = "permitted";
     private static final String RATE_LIMIT_RESULT_REJECTED = "rejected";
@@ -81,8 +89,10 @@ public class OpenTelemetryRecorder implements MetricsRecorder {
     private final String methodName;
 
     private final LongCounter invocationsTotal;
+    private final DoubleHistogram invocationsDuration;
     private final LongCounter retryCallsTotal;
     private final LongCounter retryRetriesTotal;
+    private final DoubleHistogram retryAttemptDuration;
     private final LongCounter timeoutCallsTotal;
     private final DoubleHistogram timeoutExecutionDuration;
     private final LongCounter circuitBreakerCallsTotal;
@@ -90,7 +100,9 @@ public class OpenTelemetryRecorder implements MetricsRecorder {
     private final LongCounter bulkheadCallsTotal;
     private final DoubleHistogram bulkheadRunningDuration;
     private final DoubleHistogram bulkheadWaitingDuration;
+    private final LongCounter loadSheddingCallsTotal;
     private final LongCounter rateLimitCallsTotal;
+    private final DoubleHistogram rateLimitWaitingDuration;
 
     public OpenTelemetryRecorder(Meter meter, MeteredOperation operation) {
         this.meter = meter;
@@ -100,13 +112,22 @@ public class OpenTelemetryRecorder implements MetricsRecorder {
         // we only touch sync metrics, because async metrics are registered eagerly elsewhere
 
         this.invocationsTotal = meter.counterBuilder(INVOCATIONS_TOTAL).build();
+        this.invocationsDuration = meter.histogramBuilder(INVOCATIONS_DURATION)
+                .setUnit("seconds")
+                .setExplicitBucketBoundariesAdvice(BUCKET_BOUNDARIES)
+                .build();
 
         if (operation.hasRetry()) {
             this.retryCallsTotal = meter.counterBuilder(RETRY_CALLS_TOTAL).build();
             this.retryRetriesTotal = meter.counterBuilder(RETRY_RETRIES_TOTAL).build();
+            this.retryAttemptDuration = meter.histogramBuilder(RETRY_ATTEMPT_DURATION)
+                    .setUnit("seconds")
+                    .setExplicitBucketBoundariesAdvice(BUCKET_BOUNDARIES)
+                    .build();
         } else {
             this.retryCallsTotal = null;
             this.retryRetriesTotal = null;
+            this.retryAttemptDuration = null;
         }
 
         if (operation.hasTimeout()) {
@@ -148,10 +169,21 @@ public class OpenTelemetryRecorder implements MetricsRecorder {
             this.bulkheadWaitingDuration = null;
         }
 
+        if (operation.hasLoadShedding()) {
+            this.loadSheddingCallsTotal = meter.counterBuilder(LOAD_SHEDDING_CALLS_TOTAL).build();
+        } else {
+            this.loadSheddingCallsTotal = null;
+        }
+
         if (operation.hasRateLimit()) {
             this.rateLimitCallsTotal = meter.counterBuilder(RATE_LIMIT_CALLS_TOTAL).build();
+            this.rateLimitWaitingDuration = meter.histogramBuilder(RATE_LIMIT_WAITING_DURATION)
+                    .setUnit("seconds")
+                    .setExplicitBucketBoundariesAdvice(BUCKET_BOUNDARIES)
+                    .build();
         } else {
             this.rateLimitCallsTotal = null;
+            this.rateLimitWaitingDuration = null;
         }
     }
 
@@ -181,6 +213,11 @@ public class OpenTelemetryRecorder implements MetricsRecorder {
                 FALLBACK, fallback));
     }
 
+    @Override
+    public void updateInvocationDuration(long time) {
+        invocationsDuration.record(time * NANOS_TO_SECONDS, Attributes.of(METHOD, methodName));
+    }
+
     @Override
     public void retryAttempted() {
         retryRetriesTotal.add(1, Attributes.of(METHOD, methodName));
@@ -219,10 +256,19 @@ public class OpenTelemetryRecorder implements MetricsRecorder {
     }
 
     @Override
-    public void timeoutFinished(boolean timedOut, long time) {
+    public void updateRetryAttemptDuration(long time) {
+        retryAttemptDuration.record(time * NANOS_TO_SECONDS, Attributes.of(METHOD, methodName));
+    }
+
+    @Override
+    public void timeoutFinished(boolean timedOut) {
         timeoutCallsTotal.add(1, Attributes.of(
                 METHOD, methodName,
                 TIMED_OUT, timedOut ? TIMED_OUT_TRUE : TIMED_OUT_FALSE));
+    }
+
+    @Override
+    public void updateTimeoutExecutionDuration(long time) {
         timeoutExecutionDuration.record(time * NANOS_TO_SECONDS, Attributes.of(METHOD, methodName));
     }
 
@@ -312,10 +358,22 @@ public class OpenTelemetryRecorder implements MetricsRecorder {
         bulkheadWaitingDuration.record(time * NANOS_TO_SECONDS, Attributes.of(METHOD, methodName));
     }
 
+    @Override
+    public void loadSheddingDecisionMade(boolean accepted) {
+        loadSheddingCallsTotal.add(1, Attributes.of(
+                METHOD, methodName,
+                LOAD_SHEDDING_RESULT, accepted ? LOAD_SHEDDING_RESULT_ACCEPTED : LOAD_SHEDDING_RESULT_REJECTED));
+    }
+
     @Override
     public void rateLimitDecisionMade(boolean permitted) {
         rateLimitCallsTotal.add(1, Attributes.of(
                 METHOD, methodName,
                 RATE_LIMIT_RESULT, permitted ? RATE_LIMIT_RESULT_PERMITTED : RATE_LIMIT_RESULT_REJECTED));
     }
+
+    @Override
+    public void updateRateLimitWaitingDuration(long time) {
+        rateLimitWaitingDuration.record(time * NANOS_TO_SECONDS, Attributes.of(METHOD, methodName));
+    }
 }
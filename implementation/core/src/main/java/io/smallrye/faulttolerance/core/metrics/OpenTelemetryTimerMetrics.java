@@ -0,0 +1,52 @@
+package io.smallrye.faulttolerance.core.metrics;
+
+import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.TIMER_FIRING_LAG;
+import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.TIMER_SCHEDULED;
+import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.TIMER_TASKS_CANCELLED_TOTAL;
+import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.TIMER_TASKS_FIRED_TOTAL;
+import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.TIMER_TASKS_SCHEDULED_TOTAL;
+
+import java.util.List;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.smallrye.faulttolerance.core.timer.Timer;
+
+/**
+ * Registers metrics of a {@link Timer} to an OpenTelemetry {@link Meter}.
+ */
+public final class OpenTelemetryTimerMetrics {
+    // firing lag is typically much shorter than durations of guarded operations
+    private static final List<Double> FIRING_LAG_BUCKET_BOUNDARIES = List.of(
+            0.0001, 0.0005,
+            0.001, 0.0025, 0.005, 0.01,
+            0.025, 0.05, 0.1, 0.25,
+            0.5, 1.0);
+    private static final double NANOS_TO_SECONDS = 1.0 / 1_000_000_000.0;
+
+    private OpenTelemetryTimerMetrics() {
+        // avoid instantiation
+    }
+
+    public static void register(Meter meter, Timer timer) {
+        Attributes attributes = Attributes.of(AttributeKey.stringKey("id"), "" + timer.getId());
+
+        meter.upDownCounterBuilder(TIMER_SCHEDULED)
+                .buildWithCallback(m -> m.record(timer.countScheduledTasks(), attributes));
+
+        meter.counterBuilder(TIMER_TASKS_SCHEDULED_TOTAL)
+                .buildWithCallback(m -> m.record(timer.countScheduledTasksTotal(), attributes));
+        meter.counterBuilder(TIMER_TASKS_CANCELLED_TOTAL)
+                .buildWithCallback(m -> m.record(timer.countCancelledTasksTotal(), attributes));
+        meter.counterBuilder(TIMER_TASKS_FIRED_TOTAL)
+                .buildWithCallback(m -> m.record(timer.countFiredTasksTotal(), attributes));
+
+        DoubleHistogram firingLag = meter.histogramBuilder(TIMER_FIRING_LAG)
+                .setUnit("seconds")
+                .setExplicitBucketBoundariesAdvice(FIRING_LAG_BUCKET_BOUNDARIES)
+                .build();
+        timer.addFiringLagListener(lag -> firingLag.record(lag * NANOS_TO_SECONDS, attributes));
+    }
+}
@@ -15,6 +15,9 @@ final class FixedWindow implements TimeWindow {
 
     private long lastInvocation;
 
+    // only written when holding the lock, may be read without it
+    private volatile int permitsRemaining;
+
     FixedWindow(Stopwatch stopwatch, int maxInvocations, long timeWindowInMillis, long minSpacingInMillis) {
         this.stopwatch = stopwatch.start();
         this.maxInvocations = maxInvocations;
@@ -24,10 +27,25 @@ final class FixedWindow implements TimeWindow {
         this.currentPermits = maxInvocations;
         this.nextRefresh = timeWindowInMillis;
         this.lastInvocation = -minSpacingInMillis;
+        this.permitsRemaining = maxInvocations;
+    }
+
+    @Override
+    public long record(int cost) {
+        return record(cost, true);
+    }
+
+    @Override
+    public long recordIfPermitted(int cost) {
+        return record(cost, false);
     }
 
     @Override
-    public synchronized long record() {
+    public int permitsRemaining() {
+        return permitsRemaining;
+    }
+
+    private synchronized long record(int cost, boolean recordRejected) {
         long now = stopwatch.elapsedTimeInMillis();
         if (now >= nextRefresh) {
             currentPermits = maxInvocations;
@@ -36,16 +54,26 @@ final class FixedWindow implements TimeWindow {
             nextRefresh += timeWindowInMillis * (1 + (now - nextRefresh) / timeWindowInMillis);
         }
 
-        long result = currentPermits > 0 ? 0 : nextRefresh - now;
-        if (result == 0 && minSpacingInMillis != 0) {
-            long timeFromPrevious = now - lastInvocation;
-            if (timeFromPrevious < minSpacingInMillis) {
-                result = minSpacingInMillis - timeFromPrevious;
+        long result;
+        if (cost > maxInvocations) {
+            // can never be permitted, but the rejection is still recorded below
+            result = -1;
+        } else {
+            result = currentPermits >= cost ? 0 : nextRefresh - now;
+            if (result == 0 && minSpacingInMillis != 0) {
+                long timeFromPrevious = now - lastInvocation;
+                if (timeFromPrevious < minSpacingInMillis) {
+                    result = minSpacingInMillis - timeFromPrevious;
+                }
             }
         }
 
-        currentPermits--;
-        lastInvocation = now;
+        if (result == 0 || recordRejected) {
+            // rejected invocations count as a single invocation, regardless of their cost
+            currentPermits -= result == 0 ? cost : 1;
+            lastInvocation = now;
+        }
+        permitsRemaining = (int) Math.max(currentPermits, 0);
 
         return result;
     }
@@ -0,0 +1,353 @@
+package io.smallrye.faulttolerance.core.rate.limit;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.smallrye.faulttolerance.api.RateLimitType;
+import io.smallrye.faulttolerance.core.stopwatch.RunningStopwatch;
+import io.smallrye.faulttolerance.core.stopwatch.Stopwatch;
+
+/**
+ * A bounded map of time windows, one per key. All time windows share a single {@link RunningStopwatch}
+ * and a single configuration, so each key only costs a small object with primitive state
+ * (and an array of timestamps in case of rolling windows).
+ * <p>
+ * When the number of keys exceeds the maximum, time windows that have been idle for at least
+ * the time window length (and the minimum spacing) are evicted first. Such time windows have
+ * a full set of permits again (except for smooth windows, which start with a single permit),
+ * so evicting them never makes the rate limit more permissive. If that's not enough, arbitrary
+ * time windows are evicted until the number of keys drops to 3/4 of the maximum. A key whose
+ * time window was evicted starts afresh on its next invocation. Eviction and recording are
+ * atomic with respect to each time window, so concurrent invocations with the same key never
+ * record into an evicted time window and a new one at the same time.
+ */
+public final class KeyedTimeWindows {
+    private static final Object NULL_KEY = new Object();
+
+    private final RunningStopwatch stopwatch;
+
+    private final RateLimitType type;
+    private final int maxInvocations;
+    private final long timeWindowInMillis;
+    private final long minSpacingInMillis;
+    private final long idleThresholdInMillis;
+
+    // smooth windows only
+    private final double refreshPermitsPerMillis;
+    private final double millisToRefreshOnePermit;
+    private final long warmUpInMillis;
+
+    private final int maxKeys;
+    private final int evictionTarget;
+    private final ConcurrentMap<Object, Window> windows;
+    private final AtomicBoolean evicting = new AtomicBoolean(false);
+
+    public KeyedTimeWindows(Stopwatch stopwatch, RateLimitType type, int maxInvocations, long timeWindowInMillis,
+            long minSpacingInMillis, int maxKeys) {
+        this(stopwatch, type, maxInvocations, timeWindowInMillis, minSpacingInMillis, maxKeys, 0);
+    }
+
+    public KeyedTimeWindows(Stopwatch stopwatch, RateLimitType type, int maxInvocations, long timeWindowInMillis,
+            long minSpacingInMillis, int maxKeys, long warmUpInMillis) {
+        this.stopwatch = stopwatch.start();
+        this.type = type;
+        this.maxInvocations = maxInvocations;
+        this.timeWindowInMillis = timeWindowInMillis;
+        this.minSpacingInMillis = minSpacingInMillis;
+        this.idleThresholdInMillis = Math.max(timeWindowInMillis, minSpacingInMillis);
+        this.refreshPermitsPerMillis = (double) maxInvocations / (double) timeWindowInMillis;
+        this.millisToRefreshOnePermit = (double) timeWindowInMillis / (double) maxInvocations;
+        this.warmUpInMillis = warmUpInMillis;
+        this.maxKeys = maxKeys;
+        this.evictionTarget = maxKeys - maxKeys / 4;
+        this.windows = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Records an invocation attempt for given {@code key}. The {@code key} may be {@code null};
+     * all invocations with the {@code null} key share one time window.
+     *
+     * @return same as {@link TimeWindow#record()}
+     */
+    public long record(Object key) {
+        return record(key, 1);
+    }
+
+    /**
+     * Records an invocation attempt for given {@code key} that consumes {@code cost} permits.
+     * The {@code key} may be {@code null}; all invocations with the {@code null} key share one time window.
+     *
+     * @return same as {@link TimeWindow#record(int)}
+     */
+    public long record(Object key, int cost) {
+        return record(key, cost, true);
+    }
+
+    /**
+     * Same as {@link #record(Object, int)}, except that a rejected invocation attempt is not recorded at all.
+     *
+     * @return same as {@link TimeWindow#recordIfPermitted(int)}
+     */
+    public long recordIfPermitted(Object key, int cost) {
+        return record(key, cost, false);
+    }
+
+    private long record(Object key, int cost, boolean recordRejected) {
+        if (key == null) {
+            key = NULL_KEY;
+        }
+
+        long now = stopwatch.elapsedTimeInMillis();
+
+        while (true) {
+            Window window = windows.get(key);
+            if (window == null) {
+                window = windows.computeIfAbsent(key, ignored -> createWindow(now));
+                if (windows.size() > maxKeys) {
+                    evict(now);
+                }
+            }
+
+            synchronized (window) {
+                // an evicted time window must not be used, otherwise the invocation could be permitted
+                // by the evicted time window, while other invocations with the same key are recorded
+                // into a new time window
+                if (!window.evicted) {
+                    return window.record(this, now, cost, recordRejected);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of keys whose time windows are currently retained.
+     */
+    public int size() {
+        return windows.size();
+    }
+
+    private Window createWindow(long now) {
+        if (type == RateLimitType.FIXED) {
+            return new FixedWindow(this, now);
+        } else if (type == RateLimitType.ROLLING) {
+            return new RollingWindow(this, now);
+        } else if (type == RateLimitType.SMOOTH) {
+            return new SmoothWindow(this, now);
+        } else {
+            throw new IllegalArgumentException("Unknown rate limit type: " + type);
+        }
+    }
+
+    private void evict(long now) {
+        if (!evicting.compareAndSet(false, true)) {
+            // another thread is already evicting
+            return;
+        }
+
+        try {
+            for (Map.Entry<Object, Window> entry : windows.entrySet()) {
+                Window window = entry.getValue();
+                synchronized (window) {
+                    if (window.isIdle(this, now)) {
+                        evict(entry.getKey(), window);
+                    }
+                }
+            }
+
+            int excess = windows.size() - evictionTarget;
+            Iterator<Map.Entry<Object, Window>> iterator = windows.entrySet().iterator();
+            while (excess > 0 && iterator.hasNext()) {
+                Map.Entry<Object, Window> entry = iterator.next();
+                Window window = entry.getValue();
+                synchronized (window) {
+                    if (!window.evicted) {
+                        evict(entry.getKey(), window);
+                        excess--;
+                    }
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    // must be called while holding the lock of the `window`
+    private void evict(Object key, Window window) {
+        window.evicted = true;
+        windows.remove(key, window);
+    }
+
+    // the configuration is passed to the methods of time windows instead of being referenced
+    // from each of them; all state is guarded by the time window's own lock
+    private abstract static class Window {
+        long lastInvocation;
+        boolean evicted;
+
+        Window(KeyedTimeWindows config, long now) {
+            this.lastInvocation = now - config.minSpacingInMillis;
+        }
+
+        abstract long record(KeyedTimeWindows config, long now, int cost, boolean recordRejected);
+
+        final boolean isIdle(KeyedTimeWindows config, long now) {
+            return now - lastInvocation >= config.idleThresholdInMillis;
+        }
+    }
+
+    // same algorithm as `io.smallrye.faulttolerance.core.rate.limit.FixedWindow`
+    private static final class FixedWindow extends Window {
+        private long currentPermits;
+        private long nextRefresh;
+
+        FixedWindow(KeyedTimeWindows config, long now) {
+            super(config, now);
+            this.currentPermits = config.maxInvocations;
+            this.nextRefresh = now + config.timeWindowInMillis;
+        }
+
+        @Override
+        long record(KeyedTimeWindows config, long now, int cost, boolean recordRejected) {
+            if (now >= nextRefresh) {
+                currentPermits = config.maxInvocations;
+                nextRefresh += config.timeWindowInMillis * (1 + (now - nextRefresh) / config.timeWindowInMillis);
+            }
+
+            long result;
+            if (cost > config.maxInvocations) {
+                result = -1;
+            } else {
+                result = currentPermits >= cost ? 0 : nextRefresh - now;
+                if (result == 0 && config.minSpacingInMillis != 0) {
+                    long timeFromPrevious = now - lastInvocation;
+                    if (timeFromPrevious < config.minSpacingInMillis) {
+                        result = config.minSpacingInMillis - timeFromPrevious;
+                    }
+                }
+            }
+
+            if (result == 0 || recordRejected) {
+                currentPermits -= result == 0 ? cost : 1;
+                lastInvocation = now;
+            }
+
+            return result;
+        }
+    }
+
+    // same algorithm as `io.smallrye.faulttolerance.core.rate.limit.RingBufferRollingWindow`
+    private static final class RollingWindow extends Window {
+        private final long[] timestamps; // length == maxInvocations
+
+        private int head; // index of newest entry
+        private int tail; // index of oldest still valid entry
+
+        RollingWindow(KeyedTimeWindows config, long now) {
+            super(config, now);
+            this.timestamps = new long[config.maxInvocations];
+            Arrays.fill(timestamps, Long.MAX_VALUE);
+            this.head = -1;
+            this.tail = 0;
+        }
+
+        @Override
+        long record(KeyedTimeWindows config, long now, int cost, boolean recordRejected) {
+            long validity = now - config.timeWindowInMillis; // all entries before or at this timestamp have expired
+
+            while (timestamps[tail] <= validity && head != tail) {
+                tail = (tail + 1) % timestamps.length;
+            }
+
+            long result;
+            if (cost > timestamps.length) {
+                result = -1;
+            } else {
+                int size = head < 0 || timestamps[tail] <= validity ? 0
+                        : (head - tail + timestamps.length) % timestamps.length + 1;
+                int excess = size + cost - timestamps.length;
+                result = excess <= 0 ? 0
+                        : timestamps[(tail + excess - 1) % timestamps.length] - now + config.timeWindowInMillis;
+
+                if (result == 0 && config.minSpacingInMillis != 0 && head >= 0) {
+                    long timeFromPrevious = now - timestamps[head];
+                    if (timeFromPrevious < config.minSpacingInMillis) {
+                        result = config.minSpacingInMillis - timeFromPrevious;
+                    }
+                }
+            }
+
+            int recorded = result == 0 ? cost : (recordRejected ? 1 : 0);
+            for (int i = 0; i < recorded; i++) {
+                if (head >= 0 && (head - tail + 1) % timestamps.length == 0) {
+                    tail = (tail + 1) % timestamps.length;
+                }
+                head = (head + 1) % timestamps.length;
+                timestamps[head] = now;
+            }
+            if (recorded > 0) {
+                lastInvocation = now;
+            }
+
+            return result;
+        }
+    }
+
+    // same algorithm as `io.smallrye.faulttolerance.core.rate.limit.SmoothWindow`
+    private static final class SmoothWindow extends Window {
+        private double currentPermits;
+        private long lastPermitRefresh;
+        private long warmUpStart;
+
+        SmoothWindow(KeyedTimeWindows config, long now) {
+            super(config, now);
+            this.currentPermits = 1.0;
+            this.lastPermitRefresh = now;
+            this.warmUpStart = now;
+        }
+
+        @Override
+        long record(KeyedTimeWindows config, long now, int cost, boolean recordRejected) {
+            boolean coldAgain = config.warmUpInMillis > 0 && now - lastInvocation >= config.warmUpInMillis;
+            if (coldAgain) {
+                warmUpStart = now;
+            }
+
+            double permitsToRefresh = (now - lastPermitRefresh) * config.refreshPermitsPerMillis
+                    * WarmUp.averageRateFactor(lastPermitRefresh, now, warmUpStart, config.warmUpInMillis);
+            if (permitsToRefresh > 0.01) {
+                currentPermits = Math.min(currentPermits + permitsToRefresh, config.maxInvocations);
+                lastPermitRefresh = now;
+            }
+            if (coldAgain) {
+                currentPermits = Math.min(currentPermits, WarmUp.maxColdPermits(config.maxInvocations));
+            }
+
+            long result;
+            if (cost > config.maxInvocations) {
+                result = -1;
+            } else {
+                result = currentPermits >= cost ? 0
+                        : Math.round((cost - currentPermits) * config.millisToRefreshOnePermit
+                                / WarmUp.rateFactor(now, warmUpStart, config.warmUpInMillis));
+                if (result == 0 && config.minSpacingInMillis != 0) {
+                    long timeFromPrevious = now - lastInvocation;
+                    if (timeFromPrevious < config.minSpacingInMillis) {
+                        result = config.minSpacingInMillis - timeFromPrevious;
+                    }
+                }
+            }
+
+            if (result == 0) {
+                currentPermits -= cost;
+            }
+            if (result == 0 || recordRejected) {
+                lastInvocation = now;
+            }
+
+            return result;
+        }
+    }
+}
@@ -23,22 +23,47 @@ final class NaiveRollingWindow implements TimeWindow {
     }
 
     @Override
-    public synchronized long record() {
+    public long record(int cost) {
+        return record(cost, true);
+    }
+
+    @Override
+    public long recordIfPermitted(int cost) {
+        return record(cost, false);
+    }
+
+    @Override
+    public synchronized int permitsRemaining() {
+        return Math.max(maxInvocations - timestamps.size(), 0);
+    }
+
+    private synchronized long record(int cost, boolean recordRejected) {
         long now = stopwatch.elapsedTimeInMillis();
         long validity = now - timeWindowInMillis; // all entries before or at this timestamp have expired
 
         timestamps.removeIf(it -> it <= validity);
 
-        long result = timestamps.size() < maxInvocations ? 0 : timestamps.get(0) - now + timeWindowInMillis;
+        long result;
+        if (cost > maxInvocations) {
+            // can never be permitted, but the rejection is still recorded below
+            result = -1;
+        } else {
+            int excess = timestamps.size() + cost - maxInvocations;
+            result = excess <= 0 ? 0 : timestamps.get(excess - 1) - now + timeWindowInMillis;
 
-        if (result == 0 && minSpacingInMillis != 0 && !timestamps.isEmpty()) {
-            long timeFromPrevious = now - timestamps.get(timestamps.size() - 1);
-            if (timeFromPrevious < minSpacingInMillis) {
-                result = minSpacingInMillis - timeFromPrevious;
+            if (result == 0 && minSpacingInMillis != 0 && !timestamps.isEmpty()) {
+                long timeFromPrevious = now - timestamps.get(timestamps.size() - 1);
+                if (timeFromPrevious < minSpacingInMillis) {
+                    result = minSpacingInMillis - timeFromPrevious;
+                }
             }
         }
 
-        timestamps.add(now);
+        // rejected invocations count as a single invocation, regardless of their cost
+        int recorded = result == 0 ? cost : (recordRejected ? 1 : 0);
+        for (int i = 0; i < recorded; i++) {
+            timestamps.add(now);
+        }
 
         return result;
     }
@@ -4,6 +4,10 @@ import static io.smallrye.faulttolerance.core.rate.limit.RateLimitLogger.LOG;
 import static io.smallrye.faulttolerance.core.util.Preconditions.check;
 import static io.smallrye.faulttolerance.core.util.Preconditions.checkNotNull;
 
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
 import io.smallrye.faulttolerance.api.RateLimitException;
 import io.smallrye.faulttolerance.api.RateLimitType;
 import io.smallrye.faulttolerance.core.Completer;
@@ -11,15 +15,35 @@ import io.smallrye.faulttolerance.core.FaultToleranceContext;
 import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
 import io.smallrye.faulttolerance.core.Future;
 import io.smallrye.faulttolerance.core.stopwatch.Stopwatch;
+import io.smallrye.faulttolerance.core.timer.Timer;
 
 public class RateLimit<V> implements FaultToleranceStrategy<V> {
     private final FaultToleranceStrategy<V> delegate;
     private final String description;
 
+    private final int maxInvocations;
+    private final long timeWindowInMillis;
     private final TimeWindow timeWindow;
 
+    private final Function<FaultToleranceContext<?>, Object> keyFunction;
+    private final KeyedTimeWindows keyedTimeWindows;
+
+    private final ToIntFunction<FaultToleranceContext<?>> costFunction;
+
+    private final long maxWaitInMillis;
+    private final Timer timer;
+
+    private final boolean stacklessRejections;
+    private final String rejectedMessage;
+
     public RateLimit(FaultToleranceStrategy<V> delegate, String description, int maxInvocations, long timeWindowInMillis,
             long minSpacingInMillis, RateLimitType type, Stopwatch stopwatch) {
+        this(delegate, description, maxInvocations, timeWindowInMillis, minSpacingInMillis, type, stopwatch,
+                RateLimitOptions.DEFAULT);
+    }
+
+    public RateLimit(FaultToleranceStrategy<V> delegate, String description, int maxInvocations, long timeWindowInMillis,
+            long minSpacingInMillis, RateLimitType type, Stopwatch stopwatch, RateLimitOptions options) {
         this.delegate = checkNotNull(delegate, "Rate limit delegate must be set");
         this.description = checkNotNull(description, "Rate limit description must be set");
         checkNotNull(type, "Rate limit type must be set");
@@ -27,13 +51,45 @@ public class RateLimit<V> implements FaultToleranceStrategy<V> {
         check(timeWindowInMillis, timeWindowInMillis > 0, "Time window length must be > 0");
         check(minSpacingInMillis, minSpacingInMillis >= 0, "Min spacing must be >= 0");
         checkNotNull(stopwatch, "Stopwatch must be set");
+        checkNotNull(options, "Rate limit options must be set");
+        long warmUpInMillis = options.warmUpInMillis;
+        check(warmUpInMillis, warmUpInMillis >= 0, "Warm-up period must be >= 0");
+        check(warmUpInMillis, warmUpInMillis == 0 || type == RateLimitType.SMOOTH,
+                "Warm-up period may only be set for smooth time windows");
+
+        this.maxInvocations = maxInvocations;
+        this.timeWindowInMillis = timeWindowInMillis;
+
+        this.keyFunction = options.keyFunction;
+        if (keyFunction != null) {
+            check(options.maxKeys, options.maxKeys > 0, "Max keys must be > 0");
+            this.timeWindow = null;
+            this.keyedTimeWindows = new KeyedTimeWindows(stopwatch, type, maxInvocations, timeWindowInMillis,
+                    minSpacingInMillis, options.maxKeys, warmUpInMillis);
+        } else {
+            this.timeWindow = createTimeWindow(type, stopwatch, maxInvocations, timeWindowInMillis, minSpacingInMillis,
+                    warmUpInMillis);
+            this.keyedTimeWindows = null;
+        }
+
+        this.costFunction = options.costFunction;
+
+        this.maxWaitInMillis = check(options.maxWaitInMillis, options.maxWaitInMillis >= 0, "Max wait must be >= 0");
+        this.timer = maxWaitInMillis > 0 ? checkNotNull(options.timer, "Timer must be set") : options.timer;
+
+        this.stacklessRejections = options.stacklessRejections;
+        this.rejectedMessage = description + " rate limit exceeded";
+    }
 
+    private static TimeWindow createTimeWindow(RateLimitType type, Stopwatch stopwatch, int maxInvocations,
+            long timeWindowInMillis, long minSpacingInMillis, long warmUpInMillis) {
         if (type == RateLimitType.FIXED) {
-            timeWindow = TimeWindow.createFixed(stopwatch, maxInvocations, timeWindowInMillis, minSpacingInMillis);
+            return TimeWindow.createFixed(stopwatch, maxInvocations, timeWindowInMillis, minSpacingInMillis);
         } else if (type == RateLimitType.ROLLING) {
-            timeWindow = TimeWindow.createRolling(stopwatch, maxInvocations, timeWindowInMillis, minSpacingInMillis);
+            return TimeWindow.createRolling(stopwatch, maxInvocations, timeWindowInMillis, minSpacingInMillis);
         } else if (type == RateLimitType.SMOOTH) {
-            timeWindow = TimeWindow.createSmooth(stopwatch, maxInvocations, timeWindowInMillis, minSpacingInMillis);
+            return TimeWindow.createSmooth(stopwatch, maxInvocations, timeWindowInMillis, minSpacingInMillis,
+                    warmUpInMillis);
         } else {
             throw new IllegalArgumentException("Unknown rate limit type: " + type);
         }
@@ -43,21 +99,27 @@ public class RateLimit<V> implements FaultToleranceStrategy<V> {
     public Future<V> apply(FaultToleranceContext<V> ctx) {
         LOG.trace("RateLimit started");
         try {
+            Object key;
+            int invocationCost;
+            try {
+                key = keyFunction != null ? key(ctx) : null;
+                invocationCost = costFunction != null ? cost(ctx) : 1;
+            } catch (Exception e) {
+                return Future.ofError(e);
+            }
+
             Completer<V> result = Completer.create();
 
-            long retryAfter = timeWindow.record();
-            if (retryAfter == 0) {
-                try {
-                    LOG.trace("Task permitted by rate limit");
-                    ctx.fireEvent(RateLimitEvents.DecisionMade.PERMITTED);
-                    delegate.apply(ctx).thenComplete(result);
-                } catch (Exception e) {
-                    result.completeWithError(e);
+            if (maxWaitInMillis > 0) {
+                long retryAfter = record(key, invocationCost, false);
+                if (shouldWait(retryAfter, maxWaitInMillis)) {
+                    ctx.fireEvent(RateLimitEvents.StartedWaiting.INSTANCE);
+                    waitForPermit(ctx, key, invocationCost, retryAfter, maxWaitInMillis, result);
+                } else {
+                    decide(ctx, recordRejection(key, invocationCost, retryAfter), result);
                 }
             } else {
-                LOG.debugf("%s rate limit exceeded", description);
-                ctx.fireEvent(RateLimitEvents.DecisionMade.REJECTED);
-                result.completeWithError(new RateLimitException(retryAfter, description + " rate limit exceeded"));
+                decide(ctx, record(key, invocationCost, true), result);
             }
 
             return result.future();
@@ -65,4 +127,135 @@ public class RateLimit<V> implements FaultToleranceStrategy<V> {
             LOG.trace("RateLimit finished");
         }
     }
+
+    private static boolean shouldWait(long retryAfter, long remainingWait) {
+        return retryAfter > 0 && retryAfter <= remainingWait;
+    }
+
+    // `retryAfter` must be positive and not greater than `remainingWait`
+    private void waitForPermit(FaultToleranceContext<V> ctx, Object key, int invocationCost, long retryAfter,
+            long remainingWait, Completer<V> result) {
+        if (ctx.isSync()) {
+            do {
+                LOG.debugf("%s rate limit exceeded, waiting %d ms", description, retryAfter);
+                try {
+                    Thread.sleep(retryAfter);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    ctx.fireEvent(RateLimitEvents.FinishedWaiting.INSTANCE);
+                    result.completeWithError(e);
+                    return;
+                }
+                remainingWait -= retryAfter;
+                retryAfter = record(key, invocationCost, false);
+            } while (shouldWait(retryAfter, remainingWait));
+
+            ctx.fireEvent(RateLimitEvents.FinishedWaiting.INSTANCE);
+            decide(ctx, recordRejection(key, invocationCost, retryAfter), result);
+        } else {
+            LOG.debugf("%s rate limit exceeded, waiting %d ms", description, retryAfter);
+            long newRemainingWait = remainingWait - retryAfter;
+            try {
+                timer.schedule(retryAfter, () -> {
+                    long newRetryAfter = record(key, invocationCost, false);
+                    if (shouldWait(newRetryAfter, newRemainingWait)) {
+                        waitForPermit(ctx, key, invocationCost, newRetryAfter, newRemainingWait, result);
+                    } else {
+                        ctx.fireEvent(RateLimitEvents.FinishedWaiting.INSTANCE);
+                        decide(ctx, recordRejection(key, invocationCost, newRetryAfter), result);
+                    }
+                }, ctx.get(Executor.class));
+            } catch (Exception e) {
+                ctx.fireEvent(RateLimitEvents.FinishedWaiting.INSTANCE);
+                result.completeWithError(e);
+            }
+        }
+    }
+
+    private void decide(FaultToleranceContext<V> ctx, long retryAfter, Completer<V> result) {
+        if (retryAfter == 0) {
+            try {
+                LOG.trace("Task permitted by rate limit");
+                ctx.fireEvent(RateLimitEvents.DecisionMade.PERMITTED);
+                delegate.apply(ctx).thenComplete(result);
+            } catch (Exception e) {
+                result.completeWithError(e);
+            }
+        } else {
+            LOG.debugf("%s rate limit exceeded", description);
+            ctx.fireEvent(RateLimitEvents.DecisionMade.REJECTED);
+            result.completeWithError(stacklessRejections
+                    ? new StacklessRateLimitException(retryAfter, rejectedMessage)
+                    : new RateLimitException(retryAfter, rejectedMessage));
+        }
+    }
+
+    // attempts rejected while waiting are not recorded, but the final rejection is,
+    // so that it counts the same as a rejection of an invocation that doesn't wait
+    private long recordRejection(Object key, int invocationCost, long retryAfter) {
+        return retryAfter != 0 ? record(key, invocationCost, true) : 0;
+    }
+
+    private long record(Object key, int invocationCost, boolean recordRejected) {
+        if (keyedTimeWindows != null) {
+            return recordRejected
+                    ? keyedTimeWindows.record(key, invocationCost)
+                    : keyedTimeWindows.recordIfPermitted(key, invocationCost);
+        }
+        return recordRejected ? timeWindow.record(invocationCost) : timeWindow.recordIfPermitted(invocationCost);
+    }
+
+    // inspection
+
+    public int maxInvocations() {
+        return maxInvocations;
+    }
+
+    public long timeWindowInMillis() {
+        return timeWindowInMillis;
+    }
+
+    /**
+     * Returns the number of permits remaining after the most recent invocation attempt,
+     * or {@code -1} if invocations are rate limited per key.
+     *
+     * @see TimeWindow#permitsRemaining()
+     */
+    public int permitsRemaining() {
+        return timeWindow != null ? timeWindow.permitsRemaining() : -1;
+    }
+
+    /**
+     * Returns the number of keys whose time windows are currently retained,
+     * or {@code 0} if invocations are not rate limited per key.
+     */
+    public int keys() {
+        return keyedTimeWindows != null ? keyedTimeWindows.size() : 0;
+    }
+
+    private Object key(FaultToleranceContext<V> ctx) {
+        Key key = ctx.get(Key.class);
+        if (key == null) {
+            key = new Key(keyFunction.apply(ctx));
+            ctx.set(Key.class, key);
+        }
+        return key.value;
+    }
+
+    private record Key(Object value) {
+    }
+
+    private int cost(FaultToleranceContext<V> ctx) {
+        Cost cost = ctx.get(Cost.class);
+        if (cost == null) {
+            int value = costFunction.applyAsInt(ctx);
+            check(value, value >= 1, "Rate limit cost must be >= 1");
+            cost = new Cost(value);
+            ctx.set(Cost.class, cost);
+        }
+        return cost.value;
+    }
+
+    private record Cost(int value) {
+    }
 }
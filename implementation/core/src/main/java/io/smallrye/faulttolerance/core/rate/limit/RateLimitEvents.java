@@ -14,4 +14,12 @@ public class RateLimitEvents {
             this.permitted = permitted;
         }
     }
+
+    public enum StartedWaiting implements FaultToleranceEvent {
+        INSTANCE
+    }
+
+    public enum FinishedWaiting implements FaultToleranceEvent {
+        INSTANCE
+    }
 }
@@ -0,0 +1,91 @@
+package io.smallrye.faulttolerance.core.rate.limit;
+
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import io.smallrye.faulttolerance.api.RateLimitException;
+import io.smallrye.faulttolerance.api.RateLimitType;
+import io.smallrye.faulttolerance.core.FaultToleranceContext;
+import io.smallrye.faulttolerance.core.timer.Timer;
+
+/**
+ * Optional settings of a {@link RateLimit}. Instances are immutable; each {@code with*} method
+ * returns a new instance. Use {@link #DEFAULT} as a starting point.
+ */
+public final class RateLimitOptions {
+    /**
+     * No key, no cost function, no waiting, no warm-up, rejections capture stack traces.
+     */
+    public static final RateLimitOptions DEFAULT = new RateLimitOptions(null, 0, null, 0, null, 0, false);
+
+    final Function<FaultToleranceContext<?>, Object> keyFunction;
+    final int maxKeys;
+    final ToIntFunction<FaultToleranceContext<?>> costFunction;
+    final long maxWaitInMillis;
+    final Timer timer;
+    final long warmUpInMillis;
+    final boolean stacklessRejections;
+
+    private RateLimitOptions(Function<FaultToleranceContext<?>, Object> keyFunction, int maxKeys,
+            ToIntFunction<FaultToleranceContext<?>> costFunction, long maxWaitInMillis, Timer timer, long warmUpInMillis,
+            boolean stacklessRejections) {
+        this.keyFunction = keyFunction;
+        this.maxKeys = maxKeys;
+        this.costFunction = costFunction;
+        this.maxWaitInMillis = maxWaitInMillis;
+        this.timer = timer;
+        this.warmUpInMillis = warmUpInMillis;
+        this.stacklessRejections = stacklessRejections;
+    }
+
+    /**
+     * If {@code keyFunction} is not {@code null}, invocations are rate limited per key: each key
+     * has its own time window. The key is computed once per guarded invocation (that is, when
+     * the invocation is retried, all attempts use the same key). At most {@code maxKeys}
+     * time windows are retained, see {@link KeyedTimeWindows}.
+     */
+    public RateLimitOptions withKey(Function<FaultToleranceContext<?>, Object> keyFunction, int maxKeys) {
+        return new RateLimitOptions(keyFunction, maxKeys, costFunction, maxWaitInMillis, timer, warmUpInMillis,
+                stacklessRejections);
+    }
+
+    /**
+     * If {@code costFunction} is not {@code null}, each invocation consumes the number of permits
+     * it returns instead of a single permit. Like the key, the cost is computed once per guarded invocation.
+     */
+    public RateLimitOptions withCost(ToIntFunction<FaultToleranceContext<?>> costFunction) {
+        return new RateLimitOptions(keyFunction, maxKeys, costFunction, maxWaitInMillis, timer, warmUpInMillis,
+                stacklessRejections);
+    }
+
+    /**
+     * If {@code maxWaitInMillis} is positive, an invocation that would be rejected waits for a permit
+     * instead, as long as the total waiting time doesn't exceed {@code maxWaitInMillis}. Synchronous
+     * invocations sleep on the calling thread, asynchronous invocations are resumed by the {@code timer}.
+     * Attempts rejected while waiting are not recorded in the time window. If the invocation is eventually
+     * rejected, the rejection is recorded the same way as a rejection of an invocation that doesn't wait.
+     */
+    public RateLimitOptions withMaxWait(long maxWaitInMillis, Timer timer) {
+        return new RateLimitOptions(keyFunction, maxKeys, costFunction, maxWaitInMillis, timer, warmUpInMillis,
+                stacklessRejections);
+    }
+
+    /**
+     * If {@code warmUpInMillis} is positive, the rate of smooth time windows starts at a fraction
+     * of the full rate and increases to the full rate during the warm-up period. Only allowed
+     * with {@link RateLimitType#SMOOTH}.
+     */
+    public RateLimitOptions withWarmUp(long warmUpInMillis) {
+        return new RateLimitOptions(keyFunction, maxKeys, costFunction, maxWaitInMillis, timer, warmUpInMillis,
+                stacklessRejections);
+    }
+
+    /**
+     * If {@code stacklessRejections} is {@code true}, rejected invocations fail with
+     * a {@link RateLimitException} that doesn't capture a stack trace.
+     */
+    public RateLimitOptions withStacklessRejections(boolean stacklessRejections) {
+        return new RateLimitOptions(keyFunction, maxKeys, costFunction, maxWaitInMillis, timer, warmUpInMillis,
+                stacklessRejections);
+    }
+}
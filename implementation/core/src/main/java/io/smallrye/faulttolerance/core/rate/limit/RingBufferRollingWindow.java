@@ -16,6 +16,9 @@ final class RingBufferRollingWindow implements TimeWindow {
     private int head; // index of newest entry
     private int tail; // index of oldest still valid entry
 
+    // only written when holding the lock, may be read without it
+    private volatile int permitsRemaining;
+
     RingBufferRollingWindow(Stopwatch stopwatch, int maxInvocations, long timeWindowInMillis, long minSpacingInMillis) {
         this.stopwatch = stopwatch.start();
         this.timeWindowInMillis = timeWindowInMillis;
@@ -24,10 +27,25 @@ final class RingBufferRollingWindow implements TimeWindow {
         Arrays.fill(timestamps, Long.MAX_VALUE);
         this.head = -1;
         this.tail = 0;
+        this.permitsRemaining = maxInvocations;
+    }
+
+    @Override
+    public long record(int cost) {
+        return record(cost, true);
     }
 
     @Override
-    public synchronized long record() {
+    public long recordIfPermitted(int cost) {
+        return record(cost, false);
+    }
+
+    @Override
+    public int permitsRemaining() {
+        return permitsRemaining;
+    }
+
+    private synchronized long record(int cost, boolean recordRejected) {
         long now = stopwatch.elapsedTimeInMillis();
         long validity = now - timeWindowInMillis; // all entries before or at this timestamp have expired
 
@@ -35,28 +53,48 @@ final class RingBufferRollingWindow implements TimeWindow {
             advanceTail();
         }
 
-        boolean isFull = isFull();
-        long result = !isFull ? 0 : timestamps[tail] - now + timeWindowInMillis;
-
-        if (result == 0 && minSpacingInMillis != 0 && head >= 0) {
-            long previous = timestamps[head];
-            if (previous != Long.MAX_VALUE) {
-                long timeFromPrevious = now - previous;
-                if (timeFromPrevious < minSpacingInMillis) {
-                    result = minSpacingInMillis - timeFromPrevious;
+        long result;
+        if (cost > timestamps.length) {
+            // can never be permitted, but the rejection is still recorded below
+            result = -1;
+        } else {
+            // number of entries that must expire before the invocation would fit into the window
+            int excess = size(validity) + cost - timestamps.length;
+            result = excess <= 0 ? 0 : timestamps[(tail + excess - 1) % timestamps.length] - now + timeWindowInMillis;
+
+            if (result == 0 && minSpacingInMillis != 0 && head >= 0) {
+                long previous = timestamps[head];
+                if (previous != Long.MAX_VALUE) {
+                    long timeFromPrevious = now - previous;
+                    if (timeFromPrevious < minSpacingInMillis) {
+                        result = minSpacingInMillis - timeFromPrevious;
+                    }
                 }
             }
         }
 
-        if (isFull) {
-            advanceTail();
+        // rejected invocations count as a single invocation, regardless of their cost
+        int recorded = result == 0 ? cost : (recordRejected ? 1 : 0);
+        for (int i = 0; i < recorded; i++) {
+            if (isFull()) {
+                advanceTail();
+            }
+            advanceHead();
+            timestamps[head] = now;
         }
-        advanceHead();
-        timestamps[head] = now;
+        permitsRemaining = timestamps.length - size(validity);
 
         return result;
     }
 
+    private int size(long validity) {
+        // the oldest entry may only be expired if it is the only one
+        if (head < 0 || timestamps[tail] <= validity) {
+            return 0;
+        }
+        return (head - tail + timestamps.length) % timestamps.length + 1;
+    }
+
     private boolean isFull() {
         if (head < 0) {
             return false;
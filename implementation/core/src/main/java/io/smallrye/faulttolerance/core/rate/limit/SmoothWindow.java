@@ -10,47 +10,95 @@ final class SmoothWindow implements TimeWindow {
     private final long minSpacingInMillis;
     private final double refreshPermitsPerMillis;
     private final double millisToRefreshOnePermit; // could be `long`, but we always use it as `double`
+    private final long warmUpInMillis;
 
     private double currentPermits;
 
     private long lastInvocation;
     private long lastPermitRefresh;
+    private long warmUpStart;
+
+    // only written when holding the lock, may be read without it
+    private volatile int permitsRemaining;
 
     SmoothWindow(Stopwatch stopwatch, int maxInvocations, long timeWindowInMillis, long minSpacingInMillis) {
+        this(stopwatch, maxInvocations, timeWindowInMillis, minSpacingInMillis, 0);
+    }
+
+    SmoothWindow(Stopwatch stopwatch, int maxInvocations, long timeWindowInMillis, long minSpacingInMillis,
+            long warmUpInMillis) {
         this.stopwatch = stopwatch.start();
 
         this.refreshPermitsPerMillis = (double) maxInvocations / (double) timeWindowInMillis;
         this.millisToRefreshOnePermit = (double) timeWindowInMillis / (double) maxInvocations;
         this.maxInvocations = maxInvocations;
         this.minSpacingInMillis = minSpacingInMillis;
+        this.warmUpInMillis = warmUpInMillis;
 
         this.currentPermits = 1.0;
         this.lastInvocation = -minSpacingInMillis;
         this.lastPermitRefresh = 0;
+        this.warmUpStart = 0;
+        this.permitsRemaining = 1;
+    }
+
+    @Override
+    public long record(int cost) {
+        return record(cost, true);
     }
 
     @Override
-    public synchronized long record() {
+    public long recordIfPermitted(int cost) {
+        return record(cost, false);
+    }
+
+    @Override
+    public int permitsRemaining() {
+        return permitsRemaining;
+    }
+
+    private synchronized long record(int cost, boolean recordRejected) {
         long now = stopwatch.elapsedTimeInMillis();
 
-        double permitsToRefresh = (now - lastPermitRefresh) * refreshPermitsPerMillis;
+        // idle for the whole warm-up period, warm up again
+        boolean coldAgain = warmUpInMillis > 0 && now - lastInvocation >= warmUpInMillis;
+        if (coldAgain) {
+            warmUpStart = now;
+        }
+
+        double permitsToRefresh = (now - lastPermitRefresh) * refreshPermitsPerMillis
+                * WarmUp.averageRateFactor(lastPermitRefresh, now, warmUpStart, warmUpInMillis);
         if (permitsToRefresh > 0.01) {
             currentPermits = Math.min(currentPermits + permitsToRefresh, maxInvocations);
             lastPermitRefresh = now;
         }
+        if (coldAgain) {
+            currentPermits = Math.min(currentPermits, WarmUp.maxColdPermits(maxInvocations));
+        }
 
-        long result = currentPermits >= 1.0 ? 0 : Math.round((1.0 - currentPermits) * millisToRefreshOnePermit);
-        if (result == 0 && minSpacingInMillis != 0) {
-            long timeFromPrevious = now - lastInvocation;
-            if (timeFromPrevious < minSpacingInMillis) {
-                result = minSpacingInMillis - timeFromPrevious;
+        long result;
+        if (cost > maxInvocations) {
+            // can never be permitted, but the rejection is still recorded below
+            result = -1;
+        } else {
+            result = currentPermits >= cost ? 0
+                    : Math.round((cost - currentPermits) * millisToRefreshOnePermit
+                            / WarmUp.rateFactor(now, warmUpStart, warmUpInMillis));
+            if (result == 0 && minSpacingInMillis != 0) {
+                long timeFromPrevious = now - lastInvocation;
+                if (timeFromPrevious < minSpacingInMillis) {
+                    result = minSpacingInMillis - timeFromPrevious;
+                }
             }
         }
 
         if (result == 0) {
-            currentPermits--;
+            currentPermits -= cost;
+        }
+        if (result == 0 || recordRejected) {
+            lastInvocation = now;
         }
-        lastInvocation = now;
+        permitsRemaining = (int) Math.max(currentPermits, 0.0);
 
         return result;
     }
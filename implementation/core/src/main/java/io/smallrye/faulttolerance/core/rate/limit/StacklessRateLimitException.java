@@ -0,0 +1,17 @@
+package io.smallrye.faulttolerance.core.rate.limit;
+
+import io.smallrye.faulttolerance.api.RateLimitException;
+
+/**
+ * A {@link RateLimitException} that doesn't capture a stack trace, used when stackless rejections are enabled.
+ */
+final class StacklessRateLimitException extends RateLimitException {
+    StacklessRateLimitException(long retryAfterMillis, String message) {
+        super(retryAfterMillis, message);
+    }
+
+    @Override
+    public Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -15,7 +15,41 @@ public interface TimeWindow {
      * @return zero when the invocation should be permitted, positive
      *         or negative when the invocation should be rejected
      */
-    long record();
+    default long record() {
+        return record(1);
+    }
+
+    /**
+     * Records an invocation attempt that consumes {@code cost} permits.
+     * The result has the same meaning as in case of {@link #record()}.
+     * A rejected invocation attempt counts as a single invocation, regardless of its cost.
+     * An invocation attempt that requires more permits than the time window
+     * can ever provide is always rejected with a negative result.
+     *
+     * @param cost the number of permits the invocation consumes, must be &gt;= 1
+     * @return zero when the invocation should be permitted, positive
+     *         or negative when the invocation should be rejected
+     */
+    long record(int cost);
+
+    /**
+     * Same as {@link #record(int)}, except that a rejected invocation attempt is not recorded at all.
+     * Used when the caller is going to wait and attempt the invocation again, instead of being rejected.
+     *
+     * @param cost the number of permits the invocation consumes, must be &gt;= 1
+     * @return zero when the invocation should be permitted, positive
+     *         or negative when the invocation should be rejected
+     */
+    long recordIfPermitted(int cost);
+
+    /**
+     * Returns the number of permits that were available after the most recent invocation attempt was recorded.
+     * Permits that would be refreshed since then are not taken into account. Doesn't block, so this method
+     * is only useful for monitoring.
+     *
+     * @return the number of permits remaining after the most recent invocation attempt
+     */
+    int permitsRemaining();
 
     static TimeWindow createFixed(Stopwatch stopwatch, int maxInvocations, long timeWindowInMillis, long minSpacingInMillis) {
         return new FixedWindow(stopwatch, maxInvocations, timeWindowInMillis, minSpacingInMillis);
@@ -28,4 +62,14 @@ public interface TimeWindow {
     static TimeWindow createSmooth(Stopwatch stopwatch, int maxInvocations, long timeWindowInMillis, long minSpacingInMillis) {
         return new SmoothWindow(stopwatch, maxInvocations, timeWindowInMillis, minSpacingInMillis);
     }
+
+    /**
+     * Creates a smooth time window whose rate starts at a fraction of the full rate and increases
+     * linearly to the full rate during {@code warmUpInMillis}. When the time window is idle
+     * for at least {@code warmUpInMillis}, it warms up again.
+     */
+    static TimeWindow createSmooth(Stopwatch stopwatch, int maxInvocations, long timeWindowInMillis, long minSpacingInMillis,
+            long warmUpInMillis) {
+        return new SmoothWindow(stopwatch, maxInvocations, timeWindowInMillis, minSpacingInMillis, warmUpInMillis);
+    }
 }
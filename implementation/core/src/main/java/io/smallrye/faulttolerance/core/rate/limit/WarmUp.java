@@ -0,0 +1,39 @@
+package io.smallrye.faulttolerance.core.rate.limit;
+
+/**
+ * Warm-up of smooth time windows. During the warm-up period, the rate starts at a fraction
+ * of the full rate and increases linearly to the full rate.
+ */
+final class WarmUp {
+    // fraction of the full rate at the beginning of a warm-up period
+    static final double COLD_RATE_FRACTION = 1.0 / 3.0;
+
+    private WarmUp() {
+    }
+
+    static double rateFactor(long time, long warmUpStart, long warmUpInMillis) {
+        if (warmUpInMillis == 0) {
+            return 1.0;
+        }
+        long warmingUp = Math.max(time - warmUpStart, 0);
+        if (warmingUp >= warmUpInMillis) {
+            return 1.0;
+        }
+        return COLD_RATE_FRACTION + (1.0 - COLD_RATE_FRACTION) * warmingUp / warmUpInMillis;
+    }
+
+    // the rate increases linearly during the warm-up period, so the average over an interval
+    // is the average of the factors at the interval boundaries (ignoring the end of warm-up)
+    static double averageRateFactor(long from, long to, long warmUpStart, long warmUpInMillis) {
+        if (warmUpInMillis == 0) {
+            return 1.0;
+        }
+        return (rateFactor(from, warmUpStart, warmUpInMillis) + rateFactor(to, warmUpStart, warmUpInMillis)) / 2.0;
+    }
+
+    // when warming up again after being idle, the permits accumulated in the meantime are capped,
+    // so that the time window doesn't permit a burst larger than the cold rate allows
+    static double maxColdPermits(int maxInvocations) {
+        return Math.max(1.0, maxInvocations * COLD_RATE_FRACTION);
+    }
+}
@@ -115,6 +115,18 @@ public class Retry<V> implements FaultToleranceStrategy<V> {
         return completer.future();
     }
 
+    // inspection
+
+    // `Long.MAX_VALUE` means unlimited
+    public long maxRetries() {
+        return maxRetries;
+    }
+
+    // `Long.MAX_VALUE` means unlimited
+    public long maxTotalDurationInMillis() {
+        return maxTotalDurationInMillis;
+    }
+
     private Future<State<V>> retryLoopIteration(FaultToleranceContext<V> ctx, RunningStopwatch stopwatch, State<V> state) {
         if (stopwatch.elapsedTimeInMillis() >= maxTotalDurationInMillis) {
             ctx.fireEvent(RetryEvents.Finished.MAX_DURATION_REACHED);
@@ -135,7 +147,9 @@ public class Retry<V> implements FaultToleranceStrategy<V> {
 
         Completer<State<V>> result = Completer.create();
         try {
+            ctx.fireEvent(RetryEvents.AttemptStarted.INSTANCE);
             delegate.apply(ctx).then((value, error) -> {
+                ctx.fireEvent(RetryEvents.AttemptFinished.INSTANCE);
                 if (ctx.isSync()) {
                     if (error instanceof InterruptedException) {
                         ctx.fireEvent(RetryEvents.Finished.EXCEPTION_NOT_RETRYABLE);
@@ -165,6 +179,7 @@ public class Retry<V> implements FaultToleranceStrategy<V> {
                 }
             });
         } catch (Throwable e) {
+            ctx.fireEvent(RetryEvents.AttemptFinished.INSTANCE);
             if (exceptionDecision.isConsideredExpected(e)) {
                 ctx.fireEvent(RetryEvents.Finished.EXCEPTION_NOT_RETRYABLE);
                 result.completeWithError(e);
@@ -14,6 +14,14 @@ public class RetryEvents {
         INSTANCE
     }
 
+    public enum AttemptStarted implements FaultToleranceEvent {
+        INSTANCE
+    }
+
+    public enum AttemptFinished implements FaultToleranceEvent {
+        INSTANCE
+    }
+
     public enum Finished implements FaultToleranceEvent {
         VALUE_RETURNED(Result.VALUE_RETURNED),
         EXCEPTION_NOT_RETRYABLE(Result.EXCEPTION_NOT_RETRYABLE),
@@ -0,0 +1,81 @@
+package io.smallrye.faulttolerance.core.timeout;
+
+import static io.smallrye.faulttolerance.core.util.Preconditions.check;
+import static io.smallrye.faulttolerance.core.util.Preconditions.checkNotNull;
+
+import io.smallrye.faulttolerance.core.stopwatch.RunningStopwatch;
+import io.smallrye.faulttolerance.core.stopwatch.Stopwatch;
+
+/**
+ * Computes the timeout from latencies of previous invocations. The effective timeout
+ * is the given percentile of observed latencies, multiplied by the given multiplier,
+ * and clamped between the minimum and maximum timeout. Until enough latencies are
+ * observed, the maximum timeout is used.
+ * <p>
+ * Latencies are recorded in a lock-free {@link LatencyHistogram}. When the histogram
+ * contains {@code samplesPerUpdate} latencies, the effective timeout is recomputed
+ * and a fresh histogram is used, so that the timeout follows recent behavior.
+ * <p>
+ * Only latencies of invocations that finish successfully are recorded, because failures
+ * are often much faster or slower than successes. Invocations that time out are recorded
+ * as taking the timeout duration, so that the timeout may grow when latencies increase.
+ */
+public final class AdaptiveTimeout {
+    public static final int DEFAULT_SAMPLES_PER_UPDATE = 1000;
+
+    private final double percentile;
+    private final double multiplier;
+    private final long minTimeoutInMillis;
+    private final long maxTimeoutInMillis;
+    private final int samplesPerUpdate;
+    private final Stopwatch stopwatch;
+
+    private volatile LatencyHistogram histogram;
+    private volatile long currentTimeoutInMillis;
+
+    public AdaptiveTimeout(double percentile, double multiplier, long minTimeoutInMillis, long maxTimeoutInMillis,
+            Stopwatch stopwatch) {
+        this(percentile, multiplier, minTimeoutInMillis, maxTimeoutInMillis, DEFAULT_SAMPLES_PER_UPDATE, stopwatch);
+    }
+
+    public AdaptiveTimeout(double percentile, double multiplier, long minTimeoutInMillis, long maxTimeoutInMillis,
+            int samplesPerUpdate, Stopwatch stopwatch) {
+        this.percentile = check(percentile, percentile > 0.0 && percentile <= 1.0, "Percentile must be > 0 and <= 1");
+        this.multiplier = check(multiplier, multiplier >= 1.0, "Multiplier must be >= 1");
+        this.minTimeoutInMillis = check(minTimeoutInMillis, minTimeoutInMillis > 0, "Min timeout must be > 0");
+        this.maxTimeoutInMillis = check(maxTimeoutInMillis, maxTimeoutInMillis >= minTimeoutInMillis,
+                "Max timeout must be >= min timeout");
+        this.samplesPerUpdate = check(samplesPerUpdate, samplesPerUpdate > 0, "Samples per update must be > 0");
+        this.stopwatch = checkNotNull(stopwatch, "Stopwatch must be set");
+
+        this.histogram = new LatencyHistogram(maxTimeoutInMillis);
+        this.currentTimeoutInMillis = maxTimeoutInMillis;
+    }
+
+    public long currentTimeoutInMillis() {
+        return currentTimeoutInMillis;
+    }
+
+    RunningStopwatch startMeasuring() {
+        return stopwatch.start();
+    }
+
+    void recordSuccess(RunningStopwatch measurement) {
+        record(measurement.elapsedTimeInMillis());
+    }
+
+    void recordTimeout(long timeoutInMillis) {
+        record(timeoutInMillis);
+    }
+
+    private void record(long latencyInMillis) {
+        LatencyHistogram histogram = this.histogram;
+        // exactly one thread observes the count reaching the threshold
+        if (histogram.record(latencyInMillis) == samplesPerUpdate) {
+            long value = histogram.percentile(percentile);
+            long timeout = (long) Math.ceil(value * multiplier);
+            currentTimeoutInMillis = Math.max(minTimeoutInMillis, Math.min(timeout, maxTimeoutInMillis));
+            this.histogram = new LatencyHistogram(maxTimeoutInMillis);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.smallrye.faulttolerance.core.timeout;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of latencies in milliseconds. Latencies lower than {@value #LINEAR_LIMIT} ms
+ * are recorded exactly, higher latencies are recorded in log-linear buckets, each power of 2 being
+ * split into {@value #SUB_BUCKETS} buckets (so the relative error is at most ~3%). Latencies higher
+ * than the configured maximum are recorded as the maximum.
+ */
+final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = 2 * SUB_BUCKETS;
+    private static final int LINEAR_LIMIT_BITS = SUB_BUCKET_BITS + 1;
+
+    private final long maxValue;
+    private final AtomicLongArray buckets;
+    private final AtomicLong count = new AtomicLong();
+
+    LatencyHistogram(long maxValue) {
+        this.maxValue = maxValue;
+        this.buckets = new AtomicLongArray(bucketIndex(maxValue) + 1);
+    }
+
+    /**
+     * Records given latency and returns the number of latencies recorded so far, including this one.
+     */
+    long record(long latencyInMillis) {
+        long value = Math.min(Math.max(latencyInMillis, 0), maxValue);
+        buckets.incrementAndGet(bucketIndex(value));
+        return count.incrementAndGet();
+    }
+
+    long count() {
+        return count.get();
+    }
+
+    /**
+     * Returns the upper bound of the bucket that contains given percentile of the recorded latencies,
+     * or -1 if no latency has been recorded.
+     *
+     * @param percentile the percentile, must be &gt; 0 and &lt;= 1
+     */
+    long percentile(double percentile) {
+        long total = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            total += buckets.get(i);
+        }
+        if (total == 0) {
+            return -1;
+        }
+
+        long target = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= target) {
+                return Math.min(bucketUpperBound(i), maxValue);
+            }
+        }
+        // concurrent updates may have happened since computing the total
+        return maxValue;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_LIMIT + (exponent - LINEAR_LIMIT_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int exponent = LINEAR_LIMIT_BITS + (index - LINEAR_LIMIT) / SUB_BUCKETS;
+        int subBucket = (index - LINEAR_LIMIT) % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -13,6 +13,7 @@ import io.smallrye.faulttolerance.core.Completer;
 import io.smallrye.faulttolerance.core.FaultToleranceContext;
 import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
 import io.smallrye.faulttolerance.core.Future;
+import io.smallrye.faulttolerance.core.stopwatch.RunningStopwatch;
 import io.smallrye.faulttolerance.core.timer.Timer;
 import io.smallrye.faulttolerance.core.timer.TimerTask;
 
@@ -23,11 +24,24 @@ public class Timeout<V> implements FaultToleranceStrategy<V> {
     private final long timeoutInMillis;
     private final Timer timer;
 
+    private final AdaptiveTimeout adaptiveTimeout;
+
     public Timeout(FaultToleranceStrategy<V> delegate, String description, long timeoutInMillis, Timer timer) {
+        this(delegate, description, timeoutInMillis, timer, null);
+    }
+
+    /**
+     * If {@code adaptiveTimeout} is not {@code null}, the timeout of each invocation is
+     * {@linkplain AdaptiveTimeout#currentTimeoutInMillis() determined} from latencies of previous
+     * invocations and {@code timeoutInMillis} is ignored.
+     */
+    public Timeout(FaultToleranceStrategy<V> delegate, String description, long timeoutInMillis, Timer timer,
+            AdaptiveTimeout adaptiveTimeout) {
         this.delegate = checkNotNull(delegate, "Timeout delegate must be set");
         this.description = checkNotNull(description, "Timeout description must be set");
         this.timeoutInMillis = check(timeoutInMillis, timeoutInMillis > 0, "Timeout must be > 0");
         this.timer = checkNotNull(timer, "Timer must be set");
+        this.adaptiveTimeout = adaptiveTimeout;
     }
 
     @Override
@@ -43,17 +57,34 @@ public class Timeout<V> implements FaultToleranceStrategy<V> {
             // by the time the timeout callback is invoked
             FutureTimeoutNotification notification = ctx.remove(FutureTimeoutNotification.class);
 
-            Thread executingThread = ctx.isSync() ? Thread.currentThread() : null;
-            TimeoutExecution execution = new TimeoutExecution(executingThread, () -> {
+            long timeoutInMillis = adaptiveTimeout != null ? adaptiveTimeout.currentTimeoutInMillis() : this.timeoutInMillis;
+            RunningStopwatch measurement = adaptiveTimeout != null ? adaptiveTimeout.startMeasuring() : null;
+
+            Runnable onTimeout = () -> {
                 LOG.debugf("%s invocation timed out (%d ms)", description, timeoutInMillis);
+                if (adaptiveTimeout != null) {
+                    adaptiveTimeout.recordTimeout(timeoutInMillis);
+                }
                 ctx.fireEvent(TimeoutEvents.Finished.TIMED_OUT);
                 TimeoutException timeout = new TimeoutException(description + " timed out");
                 if (notification != null) {
                     notification.accept(timeout);
                 }
                 result.completeWithError(timeout);
-            });
-            TimerTask task = timer.schedule(timeoutInMillis, execution::timeoutAndInterrupt, ctx.get(Executor.class));
+            };
+
+            // for synchronous invocations without a `FutureTimeoutNotification`, nobody can observe the result
+            // before the guarded thread returns, so the timer task only interrupts the guarded thread and
+            // the "on timeout" callback is called on the guarded thread (see below); such timer task
+            // doesn't need the context of the guarded thread, which saves capturing it for each invocation
+            boolean handleTimeoutOnGuardedThread = ctx.isSync() && notification == null;
+
+            Thread executingThread = ctx.isSync() ? Thread.currentThread() : null;
+            TimeoutExecution execution = new TimeoutExecution(executingThread,
+                    handleTimeoutOnGuardedThread ? null : onTimeout);
+            TimerTask task = handleTimeoutOnGuardedThread
+                    ? timer.scheduleWithoutContext(timeoutInMillis, execution::timeoutAndInterrupt, ctx.get(Executor.class))
+                    : timer.schedule(timeoutInMillis, execution::timeoutAndInterrupt, ctx.get(Executor.class));
 
             Future<V> originalResult;
             try {
@@ -76,8 +107,15 @@ public class Timeout<V> implements FaultToleranceStrategy<V> {
                 }
 
                 if (execution.hasTimedOut()) {
-                    // the "on timeout" callback is called by `execution::timeoutAndInterrupt` above
+                    // the "on timeout" callback is called by `execution::timeoutAndInterrupt` above,
+                    // unless it is supposed to be called on the guarded thread
+                    if (handleTimeoutOnGuardedThread) {
+                        onTimeout.run();
+                    }
                 } else if (error == null) {
+                    if (adaptiveTimeout != null) {
+                        adaptiveTimeout.recordSuccess(measurement);
+                    }
                     ctx.fireEvent(TimeoutEvents.Finished.NORMALLY);
                     result.complete(value);
                 } else {
@@ -4,14 +4,18 @@ import static io.smallrye.faulttolerance.core.timer.TimerLogger.LOG;
 import static io.smallrye.faulttolerance.core.util.Preconditions.checkNotNull;
 
 import java.util.Comparator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.SortedSet;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongConsumer;
 
 import io.smallrye.faulttolerance.core.util.RunnableWrapper;
 
@@ -51,6 +55,12 @@ public final class ThreadTimer implements Timer {
 
     private final AtomicBoolean running = new AtomicBoolean(true);
 
+    private final LongAdder scheduledTasksTotal = new LongAdder();
+    private final LongAdder cancelledTasksTotal = new LongAdder();
+    private final LongAdder firedTasksTotal = new LongAdder();
+
+    private final List<LongConsumer> firingLagListeners = new CopyOnWriteArrayList<>();
+
     /**
      * Creates a timer with given {@code defaultExecutor}, unless a timer already exists,
      * in which case an exception is thrown.
@@ -92,6 +102,7 @@ public final class ThreadTimer implements Timer {
                                     executorForTask = defaultExecutor;
                                 }
 
+                                firedTasksTotal.increment();
                                 executorForTask.execute(task);
                             }
                         } else {
@@ -123,12 +134,21 @@ public final class ThreadTimer implements Timer {
 
     @Override
     public TimerTask schedule(long delayInMillis, Runnable task, Executor executor) {
+        return doSchedule(delayInMillis, RunnableWrapper.INSTANCE.wrap(task), executor);
+    }
+
+    @Override
+    public TimerTask scheduleWithoutContext(long delayInMillis, Runnable task, Executor executor) {
+        return doSchedule(delayInMillis, task, executor);
+    }
+
+    private TimerTask doSchedule(long delayInMillis, Runnable task, Executor executor) {
         long startTime = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayInMillis);
-        task = RunnableWrapper.INSTANCE.wrap(task);
         Task timerTask = executor == null || executor == defaultExecutor
                 ? new Task(startTime, task)
                 : new TaskWithExecutor(startTime, task, executor);
         tasks.add(timerTask);
+        scheduledTasksTotal.increment();
         LockSupport.unpark(thread);
         LOG.scheduledTimerTask(timerTask, delayInMillis);
         return timerTask;
@@ -139,12 +159,34 @@ public final class ThreadTimer implements Timer {
         return tasks.size();
     }
 
+    @Override
+    public long countScheduledTasksTotal() {
+        return scheduledTasksTotal.sum();
+    }
+
+    @Override
+    public long countCancelledTasksTotal() {
+        return cancelledTasksTotal.sum();
+    }
+
+    @Override
+    public long countFiredTasksTotal() {
+        return firedTasksTotal.sum();
+    }
+
+    @Override
+    public Runnable addFiringLagListener(LongConsumer listener) {
+        firingLagListeners.add(checkNotNull(listener, "Firing lag listener must be set"));
+        return () -> firingLagListeners.remove(listener);
+    }
+
     @Override
     public void shutdown() throws InterruptedException {
         if (running.compareAndSet(true, false)) {
             LOG.shutdownTimer(id);
             thread.interrupt();
             thread.join();
+            firingLagListeners.clear();
         }
     }
 
@@ -177,6 +219,7 @@ public final class ThreadTimer implements Timer {
             boolean removed = tasks.remove(this);
             if (removed) {
                 runnable = null;
+                cancelledTasksTotal.increment();
                 LOG.cancelledTimerTask(this);
                 return true;
             }
@@ -190,6 +233,12 @@ public final class ThreadTimer implements Timer {
         @Override
         public void run() {
             LOG.runningTimerTask(this);
+            if (!firingLagListeners.isEmpty()) {
+                long lag = Math.max(System.nanoTime() - startTime, 0);
+                for (LongConsumer listener : firingLagListeners) {
+                    listener.accept(lag);
+                }
+            }
             try {
                 runnable.run();
             } finally {
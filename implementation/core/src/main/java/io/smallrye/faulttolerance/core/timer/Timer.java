@@ -1,6 +1,9 @@
 package io.smallrye.faulttolerance.core.timer;
 
 import java.util.concurrent.Executor;
+import java.util.function.LongConsumer;
+
+import io.smallrye.faulttolerance.core.util.RunnableWrapper;
 
 /**
  * Timer allows scheduling tasks for execution in the future. Tasks are always executed
@@ -30,6 +33,20 @@ public interface Timer {
      */
     TimerTask schedule(long delayInMillis, Runnable task, Executor executor);
 
+    /**
+     * Schedules the {@code task} to be executed in {@code delayInMillis} on given {@code executor},
+     * same as {@link #schedule(long, Runnable, Executor)}, except the context of the current thread
+     * does not have to be propagated to the {@code task} (see {@link RunnableWrapper}). Capturing
+     * the context is relatively expensive, so this should be used for tasks that don't run any
+     * application code and don't complete any futures, especially if they are usually cancelled.
+     * <p>
+     * Timer implementations that don't propagate context may simply delegate to
+     * {@link #schedule(long, Runnable, Executor)}, which is what the default implementation does.
+     */
+    default TimerTask scheduleWithoutContext(long delayInMillis, Runnable task, Executor executor) {
+        return schedule(delayInMillis, task, executor);
+    }
+
     /**
      * Returns the number of tasks that are currently scheduled for execution by the timer.
      * Finished tasks and tasks that are already running are not included.
@@ -38,6 +55,55 @@ public interface Timer {
      */
     int countScheduledTasks();
 
+    /**
+     * Returns the total number of tasks that were scheduled on this timer since it was created.
+     * The default implementation returns 0, for timers that don't keep statistics.
+     *
+     * @return the total number of scheduled tasks
+     */
+    default long countScheduledTasksTotal() {
+        return 0;
+    }
+
+    /**
+     * Returns the total number of tasks that were cancelled before they started running,
+     * since this timer was created. The default implementation returns 0, for timers
+     * that don't keep statistics.
+     *
+     * @return the total number of cancelled tasks
+     */
+    default long countCancelledTasksTotal() {
+        return 0;
+    }
+
+    /**
+     * Returns the total number of tasks that were fired (submitted to their executor),
+     * since this timer was created. The default implementation returns 0, for timers
+     * that don't keep statistics.
+     *
+     * @return the total number of fired tasks
+     */
+    default long countFiredTasksTotal() {
+        return 0;
+    }
+
+    /**
+     * Registers a listener that is notified about the firing lag of each task that starts running.
+     * Firing lag is the time, in nanoseconds, between the moment the task was scheduled to run
+     * and the moment it actually started running. It grows when the timer thread or the executors
+     * fall behind.
+     * <p>
+     * The listener is called on the thread that runs the task, so it must be fast and thread safe.
+     * The default implementation ignores the listener, for timers that don't keep statistics.
+     *
+     * @param listener the firing lag listener, must not be {@code null}
+     * @return an action that removes the listener when run
+     */
+    default Runnable addFiringLagListener(LongConsumer listener) {
+        return () -> {
+        };
+    }
+
     /**
      * Shuts down this timer. Returns after all internal resources of this timer are shut down.
      */
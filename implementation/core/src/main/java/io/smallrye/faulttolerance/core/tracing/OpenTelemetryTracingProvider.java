@@ -0,0 +1,29 @@
+package io.smallrye.faulttolerance.core.tracing;
+
+import static io.smallrye.faulttolerance.core.util.Preconditions.checkNotNull;
+
+import io.opentelemetry.api.trace.Tracer;
+import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
+
+public final class OpenTelemetryTracingProvider implements TracingProvider {
+    /**
+     * Name of the instrumentation scope that should be used to obtain the {@link Tracer}.
+     */
+    public static final String INSTRUMENTATION_SCOPE = "io.smallrye.faulttolerance";
+
+    private final Tracer tracer;
+
+    public OpenTelemetryTracingProvider(Tracer tracer) {
+        this.tracer = checkNotNull(tracer, "Tracer must be set");
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public <V> FaultToleranceStrategy<V> createCollector(FaultToleranceStrategy<V> delegate, String description) {
+        return new TracingCollector<>(delegate, tracer, description);
+    }
+}
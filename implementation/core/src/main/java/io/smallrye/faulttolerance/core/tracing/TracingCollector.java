@@ -0,0 +1,205 @@
+package io.smallrye.faulttolerance.core.tracing;
+
+import static io.smallrye.faulttolerance.core.tracing.TracingLogger.LOG;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.smallrye.faulttolerance.core.Completer;
+import io.smallrye.faulttolerance.core.FaultToleranceContext;
+import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
+import io.smallrye.faulttolerance.core.Future;
+import io.smallrye.faulttolerance.core.bulkhead.BulkheadEvents;
+import io.smallrye.faulttolerance.core.circuit.breaker.CircuitBreakerEvents;
+import io.smallrye.faulttolerance.core.fallback.FallbackEvents;
+import io.smallrye.faulttolerance.core.load.shedding.LoadSheddingEvents;
+import io.smallrye.faulttolerance.core.rate.limit.RateLimitEvents;
+import io.smallrye.faulttolerance.core.retry.RetryEvents;
+import io.smallrye.faulttolerance.core.timeout.TimeoutEvents;
+
+/**
+ * Creates an OpenTelemetry span for each invocation. The span is a child of the span current when
+ * the invocation starts, and it is current while the nested strategies are being applied on the calling thread.
+ * Decisions made by the nested strategies are recorded as child spans (each retry attempt, waiting in
+ * a bulkhead queue, waiting for a rate limit permit) or span events (rejections, timeouts, fallback).
+ */
+public class TracingCollector<V> implements FaultToleranceStrategy<V> {
+    static final String PREFIX = "smallrye.faulttolerance.";
+
+    static final AttributeKey<Long> RETRY_ATTEMPT = AttributeKey.longKey(PREFIX + "retry.attempt");
+    static final AttributeKey<String> RETRY_RESULT = AttributeKey.stringKey(PREFIX + "retry.result");
+    static final AttributeKey<String> CIRCUIT_BREAKER_STATE = AttributeKey.stringKey(PREFIX + "circuit_breaker.state");
+
+    static final String RETRY_ATTEMPT_SPAN = "retry attempt";
+    static final String BULKHEAD_WAIT_SPAN = "bulkhead wait";
+    static final String RATE_LIMIT_WAIT_SPAN = "rate limit wait";
+
+    static final String BULKHEAD_REJECTED_EVENT = "bulkhead rejected";
+    static final String RATE_LIMIT_REJECTED_EVENT = "rate limit rejected";
+    static final String LOAD_SHEDDING_REJECTED_EVENT = "load shedding rejected";
+    static final String CIRCUIT_BREAKER_REJECTED_EVENT = "circuit breaker rejected";
+    static final String CIRCUIT_BREAKER_STATE_TRANSITION_EVENT = "circuit breaker state transition";
+    static final String TIMEOUT_EVENT = "timeout";
+    static final String FALLBACK_APPLIED_EVENT = "fallback applied";
+
+    private final FaultToleranceStrategy<V> delegate;
+    private final Tracer tracer;
+    private final String description;
+
+    public TracingCollector(FaultToleranceStrategy<V> delegate, Tracer tracer, String description) {
+        this.delegate = delegate;
+        this.tracer = tracer;
+        this.description = description;
+    }
+
+    @Override
+    public Future<V> apply(FaultToleranceContext<V> ctx) {
+        LOG.trace("TracingCollector started");
+        try {
+            Span span = tracer.spanBuilder(description)
+                    .setSpanKind(SpanKind.INTERNAL)
+                    .startSpan();
+            Context spanContext = Context.current().with(span);
+            registerSpans(ctx, span, spanContext);
+
+            Completer<V> result = Completer.create();
+
+            Future<V> originalResult;
+            try (Scope ignored = spanContext.makeCurrent()) {
+                originalResult = delegate.apply(ctx);
+            } catch (Exception e) {
+                originalResult = Future.ofError(e);
+            }
+
+            originalResult.then((value, error) -> {
+                if (error != null) {
+                    span.recordException(error);
+                    span.setStatus(StatusCode.ERROR);
+                }
+                span.end();
+
+                if (error == null) {
+                    result.complete(value);
+                } else {
+                    result.completeWithError(error);
+                }
+            });
+
+            return result.future();
+        } finally {
+            LOG.trace("TracingCollector finished");
+        }
+    }
+
+    private void registerSpans(FaultToleranceContext<V> ctx, Span span, Context spanContext) {
+        InvocationSpans invocation = new InvocationSpans();
+
+        // retry
+
+        ctx.registerEventHandler(RetryEvents.AttemptStarted.class, ignored -> {
+            invocation.retryAttemptSpan = startChildSpan(RETRY_ATTEMPT_SPAN, spanContext)
+                    .setAttribute(RETRY_ATTEMPT, invocation.retryAttempt);
+            invocation.retryAttempt++;
+        });
+        ctx.registerEventHandler(RetryEvents.AttemptFinished.class, ignored -> {
+            Span attemptSpan = invocation.retryAttemptSpan;
+            if (attemptSpan != null) {
+                invocation.retryAttemptSpan = null;
+                attemptSpan.end();
+            }
+        });
+        ctx.registerEventHandler(RetryEvents.Finished.class, event -> {
+            span.setAttribute(RETRY_RESULT, event.result.name());
+        });
+
+        // bulkhead
+
+        ctx.registerEventHandler(BulkheadEvents.DecisionMade.class, event -> {
+            if (!event.accepted) {
+                span.addEvent(BULKHEAD_REJECTED_EVENT);
+            }
+        });
+        ctx.registerEventHandler(BulkheadEvents.StartedWaiting.class, ignored -> {
+            invocation.bulkheadWaitSpan = startChildSpan(BULKHEAD_WAIT_SPAN, spanContext);
+        });
+        ctx.registerEventHandler(BulkheadEvents.FinishedWaiting.class, ignored -> {
+            Span waitSpan = invocation.bulkheadWaitSpan;
+            if (waitSpan != null) {
+                invocation.bulkheadWaitSpan = null;
+                waitSpan.end();
+            }
+        });
+
+        // rate limit
+
+        ctx.registerEventHandler(RateLimitEvents.DecisionMade.class, event -> {
+            if (!event.permitted) {
+                span.addEvent(RATE_LIMIT_REJECTED_EVENT);
+            }
+        });
+        ctx.registerEventHandler(RateLimitEvents.StartedWaiting.class, ignored -> {
+            invocation.rateLimitWaitSpan = startChildSpan(RATE_LIMIT_WAIT_SPAN, spanContext);
+        });
+        ctx.registerEventHandler(RateLimitEvents.FinishedWaiting.class, ignored -> {
+            Span waitSpan = invocation.rateLimitWaitSpan;
+            if (waitSpan != null) {
+                invocation.rateLimitWaitSpan = null;
+                waitSpan.end();
+            }
+        });
+
+        // load shedding
+
+        ctx.registerEventHandler(LoadSheddingEvents.DecisionMade.class, event -> {
+            if (!event.accepted) {
+                span.addEvent(LOAD_SHEDDING_REJECTED_EVENT);
+            }
+        });
+
+        // circuit breaker
+
+        ctx.registerEventHandler(CircuitBreakerEvents.Finished.class, event -> {
+            if (event.result == CircuitBreakerEvents.Result.PREVENTED) {
+                span.addEvent(CIRCUIT_BREAKER_REJECTED_EVENT);
+            }
+        });
+        ctx.registerEventHandler(CircuitBreakerEvents.StateTransition.class, event -> {
+            span.addEvent(CIRCUIT_BREAKER_STATE_TRANSITION_EVENT,
+                    Attributes.of(CIRCUIT_BREAKER_STATE, event.targetState.name()));
+        });
+
+        // timeout
+
+        ctx.registerEventHandler(TimeoutEvents.Finished.class, event -> {
+            if (event.timedOut) {
+                span.addEvent(TIMEOUT_EVENT);
+            }
+        });
+
+        // fallback
+
+        ctx.registerEventHandler(FallbackEvents.Applied.class, ignored -> {
+            span.addEvent(FALLBACK_APPLIED_EVENT);
+        });
+    }
+
+    private Span startChildSpan(String name, Context parent) {
+        return tracer.spanBuilder(name)
+                .setParent(parent)
+                .setSpanKind(SpanKind.INTERNAL)
+                .startSpan();
+    }
+
+    // event handlers of a single invocation may run on different threads, but never concurrently
+    private static final class InvocationSpans {
+        volatile Span retryAttemptSpan;
+        volatile long retryAttempt;
+        volatile Span bulkheadWaitSpan;
+        volatile Span rateLimitWaitSpan;
+    }
+}
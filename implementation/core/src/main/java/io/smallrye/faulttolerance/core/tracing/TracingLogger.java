@@ -0,0 +1,13 @@
+package io.smallrye.faulttolerance.core.tracing;
+
+import java.lang.invoke.MethodHandles;
+
+import org.jboss.logging.BasicLogger;
+import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.MessageLogger;
+
+@MessageLogger(projectCode = "SRFTL", length = 5)
+interface TracingLogger extends BasicLogger {
+    TracingLogger LOG = Logger.getMessageLogger(MethodHandles.lookup(), TracingLogger.class,
+            TracingLogger.class.getPackage().getName());
+}
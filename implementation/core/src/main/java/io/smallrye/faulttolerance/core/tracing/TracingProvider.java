@@ -0,0 +1,30 @@
+package io.smallrye.faulttolerance.core.tracing;
+
+import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
+
+/**
+ * Creates the {@link TracingCollector} strategy for guards. Implementations of this interface
+ * must not expose OpenTelemetry types, so that the OpenTelemetry API is only required on the classpath
+ * when tracing is actually enabled.
+ */
+public interface TracingProvider {
+    TracingProvider DISABLED = new TracingProvider() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public <V> FaultToleranceStrategy<V> createCollector(FaultToleranceStrategy<V> delegate, String description) {
+            return delegate;
+        }
+    };
+
+    boolean isEnabled();
+
+    /**
+     * Wraps given {@code delegate} into a strategy that creates a span for each invocation.
+     * Returns the {@code delegate} unchanged if tracing is disabled.
+     */
+    <V> FaultToleranceStrategy<V> createCollector(FaultToleranceStrategy<V> delegate, String description);
+}
@@ -17,6 +17,14 @@ public class SetBasedExceptionDecision implements ExceptionDecision {
     private final boolean nonDefaultConsideredFailure;
     private final boolean nonDefaultConsideredExpected;
 
+    // without inspecting the cause chain, the decision only depends on the exception class
+    private final ClassValue<Boolean> consideredExpectedByClass = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return isConsideredExpectedDefault((Class<? extends Throwable>) type);
+        }
+    };
+
     public SetBasedExceptionDecision(SetOfThrowables consideredFailure, SetOfThrowables consideredExpected,
             boolean inspectCauseChain) {
         this.consideredFailure = checkNotNull(consideredFailure, "Set of considered-failure throwables must be set");
@@ -34,15 +42,15 @@ public class SetBasedExceptionDecision implements ExceptionDecision {
         if (inspectCauseChain) {
             return isConsideredExpectedWithCauseChain(e);
         } else {
-            return isConsideredExpectedDefault(e);
+            return consideredExpectedByClass.get(e.getClass());
         }
     }
 
-    private boolean isConsideredExpectedDefault(Throwable e) {
-        if (consideredExpected.includes(e.getClass())) {
+    private boolean isConsideredExpectedDefault(Class<? extends Throwable> exceptionClass) {
+        if (consideredExpected.includes(exceptionClass)) {
             return true;
         }
-        if (consideredFailure.includes(e.getClass())) {
+        if (consideredFailure.includes(exceptionClass)) {
             return false;
         }
         return true;
@@ -67,6 +75,11 @@ public class SetBasedExceptionDecision implements ExceptionDecision {
     }
 
     private boolean includes(SetOfThrowables set, Throwable e) {
+        if (e.getCause() == null) {
+            // common case, no need to guard against cycles
+            return set.includes(e.getClass());
+        }
+
         Set<Throwable> alreadySeen = Collections.newSetFromMap(new IdentityHashMap<>());
 
         // guard against hypothetical cycle in the cause chain
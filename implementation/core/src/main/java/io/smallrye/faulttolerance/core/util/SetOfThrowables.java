@@ -48,6 +48,20 @@ public class SetOfThrowables {
 
     private final Set<Class<? extends Throwable>> classes;
 
+    // the result of `includes()` only depends on the class, so it's computed at most once per class;
+    // `ClassValue` doesn't prevent the classes from being unloaded
+    private final ClassValue<Boolean> included = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<? extends Throwable> clazz : classes) {
+                if (clazz.isAssignableFrom(type)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    };
+
     private SetOfThrowables(Set<Class<? extends Throwable>> classes) {
         this.classes = classes;
     }
@@ -70,12 +84,9 @@ public class SetOfThrowables {
      *         Note that subtyping is a reflexive relation, so a type is always a subtype of itself.
      */
     public boolean includes(Class<? extends Throwable> searchedFor) {
-        for (Class<? extends Throwable> clazz : classes) {
-            if (clazz.isAssignableFrom(searchedFor)) {
-                return true;
-            }
+        if (classes.isEmpty()) {
+            return false;
         }
-
-        return false;
+        return included.get(searchedFor);
     }
 }
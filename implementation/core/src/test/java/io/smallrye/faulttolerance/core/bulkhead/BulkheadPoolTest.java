@@ -0,0 +1,189 @@
+package io.smallrye.faulttolerance.core.bulkhead;
+
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.async;
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.sync;
+import static io.smallrye.faulttolerance.core.util.TestThread.runOnTestThread;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.core.Completer;
+import io.smallrye.faulttolerance.core.Future;
+import io.smallrye.faulttolerance.core.util.TestInvocation;
+import io.smallrye.faulttolerance.core.util.TestThread;
+import io.smallrye.faulttolerance.core.util.party.Party;
+
+public class BulkheadPoolTest {
+    @Test
+    public void reservedAndSharedPermits() {
+        BulkheadPool pool = new BulkheadPool("reservedAndSharedPermits", 3);
+        BulkheadPool.Member a = pool.join(1);
+        BulkheadPool.Member b = pool.join(1);
+
+        assertThat(a.tryAcquire()).isTrue(); // reserved
+        assertThat(a.tryAcquire()).isTrue(); // shared
+        assertThat(a.tryAcquire()).isFalse();
+        assertThat(pool.getSharedInUse()).isEqualTo(1);
+
+        assertThat(b.tryAcquire()).isTrue(); // reserved
+        assertThat(b.tryAcquire()).isFalse();
+
+        a.release();
+        assertThat(pool.getSharedInUse()).isEqualTo(0);
+        assertThat(b.tryAcquire()).isTrue(); // shared
+        assertThat(a.tryAcquire()).isFalse();
+
+        b.release();
+        b.release();
+        a.release();
+        assertThat(pool.getSharedInUse()).isEqualTo(0);
+        assertThat(a.isAvailable()).isTrue();
+        assertThat(b.isAvailable()).isTrue();
+    }
+
+    @Test
+    public void reservationsMustNotExceedSize() {
+        BulkheadPool pool = new BulkheadPool("reservationsMustNotExceedSize", 3);
+        pool.join(2);
+
+        assertThatThrownBy(() -> pool.join(2))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void joinIsIdempotentPerUseSite() {
+        BulkheadPool pool = new BulkheadPool("joinIsIdempotentPerUseSite", 2);
+        Object useSite = new Object();
+        BulkheadPool.Member member = pool.join(useSite, 2);
+
+        assertThat(pool.join(useSite, 2)).isSameAs(member);
+        assertThatThrownBy(() -> pool.join(new Object(), 1))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void unreachableMemberReturnsReservation() throws InterruptedException {
+        BulkheadPool pool = new BulkheadPool("unreachableMemberReturnsReservation", 3);
+        pool.join(2);
+
+        for (int i = 0; i < 100 && pool.getTotalReserved() > 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertThat(pool.getTotalReserved()).isEqualTo(0);
+        assertThat(pool.join(3).tryAcquire()).isTrue();
+    }
+
+    @Test
+    public void releaseOnlyNotifiesWaitingMembers() {
+        BulkheadPool pool = new BulkheadPool("releaseOnlyNotifiesWaitingMembers", 1);
+        BulkheadPool.Member a = pool.join(0);
+        BulkheadPool.Member b = pool.join(0);
+        BulkheadPool.Member c = pool.join(0);
+
+        AtomicInteger bNotified = new AtomicInteger();
+        AtomicInteger cNotified = new AtomicInteger();
+        b.onRelease(bNotified::incrementAndGet);
+        c.onRelease(cNotified::incrementAndGet);
+
+        assertThat(a.tryAcquire()).isTrue();
+        assertThat(b.tryAcquire()).isFalse();
+        b.awaitRelease();
+
+        a.release();
+        assertThat(bNotified).hasValue(1);
+        assertThat(cNotified).hasValue(0);
+
+        // the registration is removed when the notification is delivered
+        assertThat(a.tryAcquire()).isTrue();
+        a.release();
+        assertThat(bNotified).hasValue(1);
+    }
+
+    @Test
+    public void registrySizeMismatch() {
+        BulkheadPoolRegistry registry = new BulkheadPoolRegistry();
+        BulkheadPool pool = registry.get("registrySizeMismatch", 3);
+
+        assertThat(registry.get("registrySizeMismatch", 3)).isSameAs(pool);
+        assertThatThrownBy(() -> registry.get("registrySizeMismatch", 4))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void syncBulkheadsShareLimit() throws Throwable {
+        BulkheadPool pool = new BulkheadPool("syncBulkheadsShareLimit", 1);
+
+        Party party = Party.create(1);
+        TestInvocation<String> invocation1 = TestInvocation.of(() -> {
+            party.participant().attend();
+            return "first";
+        });
+        Bulkhead<String> bulkhead1 = new Bulkhead<>(invocation1, "first", 5, 0, false, pool.join(0));
+
+        TestInvocation<String> invocation2 = TestInvocation.of(() -> "second");
+        Bulkhead<String> bulkhead2 = new Bulkhead<>(invocation2, "second", 5, 0, false, pool.join(0));
+
+        TestThread<String> thread = runOnTestThread(bulkhead1, false);
+        party.organizer().waitForAll();
+
+        assertThatThrownBy(bulkhead2.apply(sync(null))::awaitBlocking)
+                .isExactlyInstanceOf(BulkheadException.class);
+
+        party.organizer().disband();
+        assertThat(thread.await()).isEqualTo("first");
+
+        assertThat(bulkhead2.apply(sync(null)).awaitBlocking()).isEqualTo("second");
+    }
+
+    @Test
+    public void syncBulkheadUsesReservation() throws Throwable {
+        BulkheadPool pool = new BulkheadPool("syncBulkheadUsesReservation", 2);
+
+        Party party = Party.create(1);
+        TestInvocation<String> invocation1 = TestInvocation.of(() -> {
+            party.participant().attend();
+            return "first";
+        });
+        Bulkhead<String> bulkhead1 = new Bulkhead<>(invocation1, "first", 5, 0, false, pool.join(0));
+
+        TestInvocation<String> invocation2 = TestInvocation.of(() -> "second");
+        Bulkhead<String> bulkhead2 = new Bulkhead<>(invocation2, "second", 5, 0, false, pool.join(1));
+
+        TestThread<String> thread = runOnTestThread(bulkhead1, false);
+        party.organizer().waitForAll();
+
+        // the only shared permit is taken, but there's a reserved one
+        assertThat(bulkhead2.apply(sync(null)).awaitBlocking()).isEqualTo("second");
+
+        party.organizer().disband();
+        assertThat(thread.await()).isEqualTo("first");
+    }
+
+    @Test
+    public void asyncQueuedTaskRunsWhenOtherMemberReleases() throws Throwable {
+        BulkheadPool pool = new BulkheadPool("asyncQueuedTaskRunsWhenOtherMemberReleases", 1);
+
+        Completer<String> completer = Completer.create();
+        Bulkhead<String> bulkhead1 = new Bulkhead<>(ignored -> completer.future(), "first", 5, 5, false, pool.join(0));
+        Bulkhead<String> bulkhead2 = new Bulkhead<>(ignored -> Future.of("second"), "second", 5, 5, false, pool.join(0));
+
+        Future<String> result1 = bulkhead1.apply(async(null));
+        Future<String> result2 = bulkhead2.apply(async(null));
+
+        assertThat(result1.isComplete()).isFalse();
+        assertThat(result2.isComplete()).isFalse();
+        assertThat(bulkhead2.getQueueSize()).isEqualTo(1);
+
+        completer.complete("first");
+
+        assertThat(result1.awaitBlocking()).isEqualTo("first");
+        assertThat(result2.awaitBlocking()).isEqualTo("second");
+        assertThat(bulkhead2.getQueueSize()).isEqualTo(0);
+    }
+}
@@ -26,5 +26,23 @@ public abstract class AbstractRollingWindowTest {
         assertThat(window.recordFailure()).isTrue();
     }
 
+    @Test
+    public void recordedCounts() {
+        RollingWindow window = createRollingWindow(4, 2);
+        assertThat(window.recordedInvocations()).isEqualTo(0);
+        assertThat(window.recordedFailures()).isEqualTo(0);
+
+        window.recordFailure();
+        window.recordSuccess();
+        window.recordFailure();
+        assertThat(window.recordedInvocations()).isEqualTo(3);
+        assertThat(window.recordedFailures()).isEqualTo(2);
+
+        window.recordSuccess();
+        window.recordSuccess(); // overwrites the first failure
+        assertThat(window.recordedInvocations()).isEqualTo(4);
+        assertThat(window.recordedFailures()).isEqualTo(1);
+    }
+
     protected abstract RollingWindow createRollingWindow(int size, int failureThreshold);
 }
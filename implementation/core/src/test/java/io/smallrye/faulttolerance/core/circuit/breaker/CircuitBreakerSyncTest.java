@@ -141,4 +141,19 @@ public class CircuitBreakerSyncTest {
         assertThat(cb.currentState()).isEqualTo(CircuitBreaker.STATE_CLOSED);
         assertThat(cb.apply(sync(() -> "foobar5")).awaitBlocking()).isEqualTo("foobar5");
     }
+
+    @Test
+    public void stacklessRejections() throws Throwable {
+        CircuitBreaker<String> cb = new CircuitBreaker<>(invocation(), "test invocation",
+                new SetBasedExceptionDecision(testException, SetOfThrowables.EMPTY, false),
+                1000, 2, 0.5, 1, stopwatch, new TestTimer(), true);
+
+        assertThatThrownBy(cb.apply(sync(TestException::doThrow))::awaitBlocking).isExactlyInstanceOf(TestException.class);
+        assertThatThrownBy(cb.apply(sync(TestException::doThrow))::awaitBlocking).isExactlyInstanceOf(TestException.class);
+        assertThat(cb.currentState()).isEqualTo(CircuitBreaker.STATE_OPEN);
+        assertThatThrownBy(cb.apply(sync(() -> "ignored"))::awaitBlocking)
+                .isInstanceOf(CircuitBreakerOpenException.class)
+                .hasMessage("test invocation circuit breaker is open")
+                .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+    }
 }
@@ -0,0 +1,107 @@
+package io.smallrye.faulttolerance.core.inspection;
+
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.sync;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.api.RecordedEvent;
+import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
+import io.smallrye.faulttolerance.core.async.FutureCancellationEvent;
+import io.smallrye.faulttolerance.core.bulkhead.Bulkhead;
+import io.smallrye.faulttolerance.core.retry.RetryEvents;
+import io.smallrye.faulttolerance.core.util.TestInvocation;
+
+public class EventBufferTest {
+    @Test
+    public void capacityRoundedUp() {
+        assertThat(new EventBuffer(1).capacity()).isEqualTo(1);
+        assertThat(new EventBuffer(3).capacity()).isEqualTo(4);
+        assertThat(new EventBuffer(1000).capacity()).isEqualTo(1024);
+        assertThat(new EventBuffer(1024).capacity()).isEqualTo(1024);
+    }
+
+    @Test
+    public void eventsFromStrategies() throws Throwable {
+        EventBuffer buffer = new EventBuffer(16);
+        FaultToleranceStrategy<String> strategy = new EventBufferCollector<>(
+                new Bulkhead<>(TestInvocation.of(() -> "foobar"), "test invocation", 1, 1, false),
+                buffer, "test guard");
+
+        assertThat(strategy.apply(sync(null)).awaitBlocking()).isEqualTo("foobar");
+
+        List<RecordedEvent> events = buffer.dump();
+        assertThat(events).isNotEmpty();
+        assertThat(events).allSatisfy(event -> {
+            assertThat(event.description()).isEqualTo("test guard");
+            assertThat(event.strategy()).isEqualTo("Bulkhead");
+            assertThat(event.thread()).isEqualTo(Thread.currentThread().getName());
+        });
+        assertThat(events).extracting(RecordedEvent::event)
+                .contains("DecisionMade.ACCEPTED", "StartedRunning", "FinishedRunning");
+        for (int i = 1; i < events.size(); i++) {
+            assertThat(events.get(i).sequence()).isEqualTo(events.get(i - 1).sequence() + 1);
+            assertThat(events.get(i).timestamp()).isAfterOrEqualTo(events.get(i - 1).timestamp());
+        }
+    }
+
+    @Test
+    public void oldestEventsOverwritten() {
+        EventBuffer buffer = new EventBuffer(4);
+        for (int i = 0; i < 10; i++) {
+            buffer.record("guard " + i, RetryEvents.AttemptStarted.INSTANCE);
+        }
+
+        List<RecordedEvent> events = buffer.dump();
+        assertThat(events).extracting(RecordedEvent::sequence).containsExactly(6L, 7L, 8L, 9L);
+        assertThat(events).extracting(RecordedEvent::description)
+                .containsExactly("guard 6", "guard 7", "guard 8", "guard 9");
+    }
+
+    @Test
+    public void eventNames() {
+        EventBuffer buffer = new EventBuffer(4);
+        buffer.record("guard", RetryEvents.AttemptStarted.INSTANCE);
+        buffer.record("guard", RetryEvents.Finished.MAX_RETRIES_REACHED);
+        buffer.record("guard", FutureCancellationEvent.INTERRUPTIBLE);
+
+        List<RecordedEvent> events = buffer.dump();
+        assertThat(events).extracting(RecordedEvent::strategy)
+                .containsExactly("Retry", "Retry", "FutureCancellation");
+        assertThat(events).extracting(RecordedEvent::event)
+                .containsExactly("AttemptStarted", "Finished.MAX_RETRIES_REACHED", "INTERRUPTIBLE");
+    }
+
+    @Test
+    public void concurrentRecording() throws InterruptedException {
+        EventBuffer buffer = new EventBuffer(64);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    buffer.record("guard", RetryEvents.Retried.INSTANCE);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        // dumping concurrently with recording must not fail
+        while (threads.stream().anyMatch(Thread::isAlive)) {
+            List<RecordedEvent> events = buffer.dump();
+            assertThat(events.size()).isLessThanOrEqualTo(64);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        List<RecordedEvent> events = buffer.dump();
+        assertThat(events).hasSize(64);
+        assertThat(events.get(0).sequence()).isEqualTo(40_000 - 64);
+        assertThat(events.get(63).sequence()).isEqualTo(40_000 - 1);
+    }
+}
@@ -0,0 +1,85 @@
+package io.smallrye.faulttolerance.core.inspection;
+
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.async;
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.sync;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.api.GuardSnapshot;
+import io.smallrye.faulttolerance.api.RateLimitType;
+import io.smallrye.faulttolerance.core.Completer;
+import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
+import io.smallrye.faulttolerance.core.bulkhead.Bulkhead;
+import io.smallrye.faulttolerance.core.rate.limit.RateLimit;
+import io.smallrye.faulttolerance.core.stopwatch.TestStopwatch;
+import io.smallrye.faulttolerance.core.util.TestInvocation;
+
+public class GuardStateTest {
+    @Test
+    public void bulkheadCounts() {
+        List<Completer<String>> completers = new ArrayList<>();
+        FaultToleranceStrategy<String> pending = ctx -> {
+            Completer<String> completer = Completer.create();
+            completers.add(completer);
+            return completer.future();
+        };
+
+        GuardState state = new GuardState("test guard");
+        Bulkhead<String> bulkhead = state.bulkhead(new Bulkhead<>(pending, "test invocation", 1, 2, false));
+
+        GuardSnapshot.BulkheadSnapshot snapshot = state.snapshot().bulkhead();
+        assertThat(snapshot.maxConcurrentInvocations()).isEqualTo(1);
+        assertThat(snapshot.maxWaitingInvocations()).isEqualTo(2);
+        assertThat(snapshot.runningInvocations()).isEqualTo(0);
+        assertThat(snapshot.waitingInvocations()).isEqualTo(0);
+
+        bulkhead.apply(async(null));
+        bulkhead.apply(async(null));
+        bulkhead.apply(async(null));
+
+        snapshot = state.snapshot().bulkhead();
+        assertThat(snapshot.runningInvocations()).isEqualTo(1);
+        assertThat(snapshot.waitingInvocations()).isEqualTo(2);
+
+        completers.get(0).complete("foobar");
+
+        snapshot = state.snapshot().bulkhead();
+        assertThat(snapshot.runningInvocations()).isEqualTo(1);
+        assertThat(snapshot.waitingInvocations()).isEqualTo(1);
+    }
+
+    @Test
+    public void rateLimitPermits() throws Throwable {
+        TestStopwatch stopwatch = new TestStopwatch();
+
+        GuardState state = new GuardState("test guard");
+        RateLimit<String> rateLimit = state.rateLimit(new RateLimit<>(TestInvocation.of(() -> "foobar"),
+                "test invocation", 3, 100, 0, RateLimitType.FIXED, stopwatch));
+
+        assertThat(state.snapshot().rateLimit().permitsRemaining()).isEqualTo(3);
+
+        rateLimit.apply(sync(null)).awaitBlocking();
+        rateLimit.apply(sync(null)).awaitBlocking();
+        assertThat(state.snapshot().rateLimit().permitsRemaining()).isEqualTo(1);
+
+        // refreshed permits are only taken into account on the next invocation attempt
+        stopwatch.setCurrentValue(100);
+        assertThat(state.snapshot().rateLimit().permitsRemaining()).isEqualTo(1);
+        rateLimit.apply(sync(null)).awaitBlocking();
+        assertThat(state.snapshot().rateLimit().permitsRemaining()).isEqualTo(2);
+    }
+
+    @Test
+    public void onlyUsedStrategies() {
+        GuardSnapshot snapshot = new GuardState("test guard").snapshot();
+        assertThat(snapshot.description()).isEqualTo("test guard");
+        assertThat(snapshot.bulkhead()).isNull();
+        assertThat(snapshot.circuitBreaker()).isNull();
+        assertThat(snapshot.rateLimit()).isNull();
+        assertThat(snapshot.retry()).isNull();
+    }
+}
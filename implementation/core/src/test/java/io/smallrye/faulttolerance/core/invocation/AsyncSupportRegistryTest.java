@@ -0,0 +1,27 @@
+package io.smallrye.faulttolerance.core.invocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.junit.jupiter.api.Test;
+
+public class AsyncSupportRegistryTest {
+    private static final Class<?>[] NO_PARAMS = new Class<?>[0];
+
+    @Test
+    public void knownType() {
+        assertThat(AsyncSupportRegistry.isKnown(NO_PARAMS, CompletionStage.class)).isTrue();
+        assertThat(AsyncSupportRegistry.<Object, Object> get(NO_PARAMS, CompletionStage.class))
+                .isInstanceOf(CompletionStageSupport.class)
+                .isSameAs(AsyncSupportRegistry.get(new Class<?>[] { String.class }, CompletionStage.class));
+    }
+
+    @Test
+    public void unknownType() {
+        assertThat(AsyncSupportRegistry.isKnown(NO_PARAMS, String.class)).isFalse();
+        assertThat(AsyncSupportRegistry.isKnown(NO_PARAMS, CompletableFuture.class)).isFalse();
+        assertThat(AsyncSupportRegistry.<Object, Object> get(NO_PARAMS, String.class)).isNull();
+    }
+}
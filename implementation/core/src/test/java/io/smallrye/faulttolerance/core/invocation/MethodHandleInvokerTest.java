@@ -0,0 +1,125 @@
+package io.smallrye.faulttolerance.core.invocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.core.util.TestException;
+
+public class MethodHandleInvokerTest {
+    public interface Greeting {
+        default String greet(String name) {
+            return "Hello " + name;
+        }
+    }
+
+    public static class Service implements Greeting {
+        @Override
+        public String greet(String name) {
+            return "Hi " + name;
+        }
+
+        private int sum(int a, int b) {
+            return a + b;
+        }
+
+        public String join(String separator, String... parts) {
+            return String.join(separator, parts);
+        }
+
+        public static String upper(String value) {
+            return value.toUpperCase();
+        }
+
+        public void fail() throws TestException {
+            throw new TestException();
+        }
+
+        public void error() {
+            throw new StackOverflowError();
+        }
+
+        public void failWithClassCastException() {
+            throw new ClassCastException();
+        }
+    }
+
+    private static MethodHandle prepare(Class<?> clazz, String name, Class<?>... parameterTypes) throws Exception {
+        Method method = clazz.getDeclaredMethod(name, parameterTypes);
+        method.setAccessible(true);
+        return MethodHandleInvoker.prepare(method);
+    }
+
+    @Test
+    public void privateMethod() throws Exception {
+        MethodHandle handle = prepare(Service.class, "sum", int.class, int.class);
+        assertThat(new MethodHandleInvoker<>(handle, new Service(), new Object[] { 1, 2 }).proceed()).isEqualTo(3);
+    }
+
+    @Test
+    public void varargsMethod() throws Exception {
+        MethodHandle handle = prepare(Service.class, "join", String.class, String[].class);
+        Object[] arguments = { "-", new String[] { "a", "b" } };
+        assertThat(new MethodHandleInvoker<>(handle, new Service(), arguments).proceed()).isEqualTo("a-b");
+    }
+
+    @Test
+    public void staticMethod() throws Exception {
+        MethodHandle handle = prepare(Service.class, "upper", String.class);
+        assertThat(new MethodHandleInvoker<>(handle, new Service(), new Object[] { "foo" }).proceed()).isEqualTo("FOO");
+    }
+
+    @Test
+    public void defaultMethodIsNotOverridden() throws Exception {
+        MethodHandle handle = prepare(Greeting.class, "greet", String.class);
+        assertThat(new MethodHandleInvoker<>(handle, new Service(), new Object[] { "world" }).proceed())
+                .isEqualTo("Hello world");
+    }
+
+    @Test
+    public void replacedArgument() throws Exception {
+        MethodHandle handle = prepare(Service.class, "upper", String.class);
+        MethodHandleInvoker<Object> invoker = new MethodHandleInvoker<>(handle, null, new Object[] { "foo" });
+        assertThat(invoker.replaceArgument(0, String.class, it -> it + "bar")).isEqualTo("foo");
+        assertThat(invoker.proceed()).isEqualTo("FOOBAR");
+    }
+
+    @Test
+    public void exceptionIsWrapped() throws Exception {
+        MethodHandle handle = prepare(Service.class, "fail");
+        assertThatThrownBy(new MethodHandleInvoker<>(handle, new Service(), new Object[0])::proceed)
+                .isExactlyInstanceOf(InvocationTargetException.class)
+                .hasCauseExactlyInstanceOf(TestException.class);
+    }
+
+    @Test
+    public void runtimeExceptionIsWrapped() throws Exception {
+        MethodHandle handle = prepare(Service.class, "failWithClassCastException");
+        assertThatThrownBy(new MethodHandleInvoker<>(handle, new Service(), new Object[0])::proceed)
+                .isExactlyInstanceOf(InvocationTargetException.class)
+                .hasCauseExactlyInstanceOf(ClassCastException.class);
+    }
+
+    @Test
+    public void errorIsNotWrapped() throws Exception {
+        MethodHandle handle = prepare(Service.class, "error");
+        assertThatThrownBy(new MethodHandleInvoker<>(handle, new Service(), new Object[0])::proceed)
+                .isExactlyInstanceOf(StackOverflowError.class);
+    }
+
+    @Test
+    public void argumentMismatch() throws Exception {
+        MethodHandle handle = prepare(Service.class, "sum", int.class, int.class);
+        assertThatThrownBy(new MethodHandleInvoker<>(handle, new Service(), new Object[] { 1, "2" })::proceed)
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(new MethodHandleInvoker<>(handle, new Service(), new Object[] { 1, null })::proceed)
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(new MethodHandleInvoker<>(handle, new Service(), new Object[] { 1 })::proceed)
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,130 @@
+package io.smallrye.faulttolerance.core.jfr;
+
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.sync;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
+import io.smallrye.faulttolerance.core.bulkhead.BulkheadEvents;
+import io.smallrye.faulttolerance.core.circuit.breaker.CircuitBreakerEvents;
+import io.smallrye.faulttolerance.core.load.shedding.LoadSheddingEvents;
+import io.smallrye.faulttolerance.core.rate.limit.RateLimitEvents;
+import io.smallrye.faulttolerance.core.retry.RetryEvents;
+import io.smallrye.faulttolerance.core.timeout.TimeoutEvents;
+import io.smallrye.faulttolerance.core.util.TestInvocation;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class FlightRecorderCollectorTest {
+    @Test
+    public void disabledByDefault() throws Throwable {
+        assertThat(FlightRecorderSupport.isAvailable()).isTrue();
+        assertThat(FlightRecorderSupport.isEnabled()).isFalse();
+
+        FlightRecorderCollector<String> collector = new FlightRecorderCollector<>(firingEvents(), "test invocation");
+        assertThat(collector.apply(sync(null)).awaitBlocking()).isEqualTo("foobar");
+    }
+
+    @Test
+    public void eventsRecorded() throws Throwable {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(FlightRecorderEvents.PREFIX + "BulkheadWaiting");
+            recording.enable(FlightRecorderEvents.PREFIX + "BulkheadRunning");
+            recording.enable(FlightRecorderEvents.PREFIX + "BulkheadRejected");
+            recording.enable(FlightRecorderEvents.PREFIX + "RetryAttempt");
+            recording.enable(FlightRecorderEvents.PREFIX + "RetryDelay");
+            recording.enable(FlightRecorderEvents.PREFIX + "CircuitBreakerStateTransition");
+            recording.enable(FlightRecorderEvents.PREFIX + "CircuitBreakerRejected");
+            recording.enable(FlightRecorderEvents.PREFIX + "RateLimitRejected");
+            recording.enable(FlightRecorderEvents.PREFIX + "LoadSheddingRejected");
+            recording.enable(FlightRecorderEvents.PREFIX + "Timeout");
+            recording.start();
+            await().until(FlightRecorderSupport::isEnabled);
+
+            FlightRecorderCollector<String> collector = new FlightRecorderCollector<>(firingEvents(), "test invocation");
+            assertThat(collector.apply(sync(null)).awaitBlocking()).isEqualTo("foobar");
+
+            recording.stop();
+            Path file = Files.createTempFile("smallrye-fault-tolerance", ".jfr");
+            try {
+                recording.dump(file);
+                events = RecordingFile.readAllEvents(file);
+            } finally {
+                Files.delete(file);
+            }
+        }
+        await().until(() -> !FlightRecorderSupport.isEnabled());
+
+        assertThat(events).allSatisfy(event -> {
+            assertThat(event.getString("description")).isEqualTo("test invocation");
+        });
+        assertThat(events.stream().map(event -> event.getEventType().getName()).collect(Collectors.toList()))
+                .containsExactlyInAnyOrder(
+                        FlightRecorderEvents.PREFIX + "BulkheadWaiting",
+                        FlightRecorderEvents.PREFIX + "BulkheadRunning",
+                        FlightRecorderEvents.PREFIX + "BulkheadRejected",
+                        FlightRecorderEvents.PREFIX + "RetryAttempt",
+                        FlightRecorderEvents.PREFIX + "RetryDelay",
+                        FlightRecorderEvents.PREFIX + "RetryAttempt",
+                        FlightRecorderEvents.PREFIX + "CircuitBreakerStateTransition",
+                        FlightRecorderEvents.PREFIX + "CircuitBreakerRejected",
+                        FlightRecorderEvents.PREFIX + "RateLimitRejected",
+                        FlightRecorderEvents.PREFIX + "LoadSheddingRejected",
+                        FlightRecorderEvents.PREFIX + "Timeout");
+
+        assertThat(events)
+                .filteredOn(event -> event.getEventType().getName().equals(FlightRecorderEvents.PREFIX + "RetryAttempt"))
+                .extracting(event -> event.getInt("attempt"))
+                .containsExactlyInAnyOrder(0, 1);
+        assertThat(events)
+                .filteredOn(event -> event.getEventType().getName().equals(FlightRecorderEvents.PREFIX + "RetryDelay"))
+                .extracting(event -> event.getInt("attempt"))
+                .containsExactly(1);
+        assertThat(events)
+                .filteredOn(event -> event.getEventType().getName()
+                        .equals(FlightRecorderEvents.PREFIX + "CircuitBreakerStateTransition"))
+                .extracting(event -> event.getString("targetState"))
+                .containsExactly("OPEN");
+    }
+
+    // fires the same events as the real strategies would, without the timing complexity
+    private static FaultToleranceStrategy<String> firingEvents() {
+        FaultToleranceStrategy<String> invocation = TestInvocation.of(() -> "foobar");
+        return ctx -> {
+            ctx.fireEvent(BulkheadEvents.DecisionMade.REJECTED);
+            ctx.fireEvent(BulkheadEvents.DecisionMade.ACCEPTED);
+            ctx.fireEvent(BulkheadEvents.StartedWaiting.INSTANCE);
+            ctx.fireEvent(BulkheadEvents.FinishedWaiting.INSTANCE);
+            ctx.fireEvent(BulkheadEvents.StartedRunning.INSTANCE);
+            ctx.fireEvent(BulkheadEvents.FinishedRunning.INSTANCE);
+
+            ctx.fireEvent(RetryEvents.AttemptStarted.INSTANCE);
+            ctx.fireEvent(TimeoutEvents.Started.INSTANCE);
+            ctx.fireEvent(TimeoutEvents.Finished.TIMED_OUT);
+            ctx.fireEvent(CircuitBreakerEvents.Finished.FAILURE);
+            ctx.fireEvent(CircuitBreakerEvents.StateTransition.TO_OPEN);
+            ctx.fireEvent(RetryEvents.AttemptFinished.INSTANCE);
+
+            ctx.fireEvent(RetryEvents.Retried.INSTANCE);
+            ctx.fireEvent(RetryEvents.AttemptStarted.INSTANCE);
+            ctx.fireEvent(CircuitBreakerEvents.Finished.PREVENTED);
+            ctx.fireEvent(RateLimitEvents.DecisionMade.REJECTED);
+            ctx.fireEvent(RateLimitEvents.DecisionMade.PERMITTED);
+            ctx.fireEvent(LoadSheddingEvents.DecisionMade.REJECTED);
+            ctx.fireEvent(LoadSheddingEvents.DecisionMade.ACCEPTED);
+            ctx.fireEvent(RetryEvents.AttemptFinished.INSTANCE);
+            ctx.fireEvent(RetryEvents.Finished.VALUE_RETURNED);
+
+            return invocation.apply(ctx);
+        };
+    }
+}
@@ -0,0 +1,191 @@
+package io.smallrye.faulttolerance.core.load.shedding;
+
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.sync;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.api.LoadSheddingException;
+import io.smallrye.faulttolerance.core.FaultToleranceContext;
+import io.smallrye.faulttolerance.core.timer.TestTimer;
+import io.smallrye.faulttolerance.core.util.TestException;
+import io.smallrye.faulttolerance.core.util.TestInvocation;
+
+public class LoadSheddingTest {
+    private TestTimer timer;
+    private volatile double currentLoad;
+    private AtomicInteger samples;
+    private SystemLoadMonitor monitor;
+
+    @BeforeEach
+    public void setUp() {
+        timer = new TestTimer();
+        currentLoad = 0.0;
+        samples = new AtomicInteger();
+        monitor = new SystemLoadMonitor(timer, 1000, () -> {
+            samples.incrementAndGet();
+            return currentLoad;
+        });
+    }
+
+    @Test
+    public void samplingStartsLazily() {
+        assertThat(timer.hasScheduledTasks()).isFalse();
+
+        new LoadShedding<>(TestInvocation.of(() -> "foobar"), "test invocation", 0.5, monitor);
+        assertThat(samples).hasValue(1);
+        assertThat(timer.countScheduledTasks()).isEqualTo(1);
+
+        // the monitor is shared, sampling only starts once
+        new LoadShedding<>(TestInvocation.of(() -> "foobar"), "test invocation", 0.5, monitor);
+        assertThat(samples).hasValue(1);
+        assertThat(timer.countScheduledTasks()).isEqualTo(1);
+
+        currentLoad = 0.7;
+        timer.executeSynchronously(timer.nextScheduledTask());
+        assertThat(samples).hasValue(2);
+        assertThat(monitor.load()).isEqualTo(0.7);
+        assertThat(timer.countScheduledTasks()).isEqualTo(1);
+    }
+
+    @Test
+    public void loadIsClamped() {
+        currentLoad = 1.5;
+        monitor.start();
+        assertThat(monitor.load()).isEqualTo(1.0);
+
+        currentLoad = -0.5;
+        timer.executeSynchronously(timer.nextScheduledTask());
+        assertThat(monitor.load()).isEqualTo(0.0);
+
+        currentLoad = Double.NaN;
+        timer.executeSynchronously(timer.nextScheduledTask());
+        assertThat(monitor.load()).isEqualTo(0.0);
+    }
+
+    @Test
+    public void lowLoad() throws Throwable {
+        currentLoad = 0.5;
+        LoadShedding<String> loadShedding = new LoadShedding<>(TestInvocation.of(() -> "foobar"), "test invocation",
+                0.5, monitor, false, () -> 0.0);
+
+        assertThat(loadShedding.apply(sync(null)).awaitBlocking()).isEqualTo("foobar");
+    }
+
+    @Test
+    public void highLoad() throws Throwable {
+        currentLoad = 0.75;
+        LoadShedding<String> shedHalf = new LoadShedding<>(TestInvocation.of(() -> "foobar"), "test invocation",
+                0.5, monitor, false, () -> 0.49);
+        assertThatThrownBy(shedHalf.apply(sync(null))::awaitBlocking)
+                .isExactlyInstanceOf(LoadSheddingException.class);
+
+        LoadShedding<String> passHalf = new LoadShedding<>(TestInvocation.of(() -> "foobar"), "test invocation",
+                0.5, monitor, false, () -> 0.5);
+        assertThat(passHalf.apply(sync(null)).awaitBlocking()).isEqualTo("foobar");
+    }
+
+    @Test
+    public void lowerThresholdIsShedFirst() throws Throwable {
+        currentLoad = 0.6;
+        LoadShedding<String> lowPriority = new LoadShedding<>(TestInvocation.of(() -> "foobar"), "test invocation",
+                0.2, monitor, false, () -> 0.4);
+        LoadShedding<String> highPriority = new LoadShedding<>(TestInvocation.of(() -> "foobar"), "test invocation",
+                0.6, monitor, false, () -> 0.4);
+
+        assertThatThrownBy(lowPriority.apply(sync(null))::awaitBlocking)
+                .isExactlyInstanceOf(LoadSheddingException.class);
+        assertThat(highPriority.apply(sync(null)).awaitBlocking()).isEqualTo("foobar");
+    }
+
+    @Test
+    public void fullLoad() {
+        currentLoad = 1.0;
+        LoadShedding<String> loadShedding = new LoadShedding<>(TestInvocation.of(() -> "foobar"), "test invocation",
+                0.8, monitor, false, () -> 0.999);
+
+        assertThatThrownBy(loadShedding.apply(sync(null))::awaitBlocking)
+                .isExactlyInstanceOf(LoadSheddingException.class);
+    }
+
+    @Test
+    public void events() throws Throwable {
+        currentLoad = 0.75;
+        LoadShedding<String> loadShedding = new LoadShedding<>(TestInvocation.of(() -> "foobar"), "test invocation",
+                0.5, monitor, false, () -> 0.49);
+        LoadShedding<String> passing = new LoadShedding<>(TestInvocation.of(() -> "foobar"), "test invocation",
+                0.5, monitor, false, () -> 0.5);
+
+        List<LoadSheddingEvents.DecisionMade> decisions = new ArrayList<>();
+
+        FaultToleranceContext<String> ctx = sync(null);
+        ctx.registerEventHandler(LoadSheddingEvents.DecisionMade.class, decisions::add);
+        assertThatThrownBy(loadShedding.apply(ctx)::awaitBlocking)
+                .isExactlyInstanceOf(LoadSheddingException.class);
+
+        FaultToleranceContext<String> ctx2 = sync(null);
+        ctx2.registerEventHandler(LoadSheddingEvents.DecisionMade.class, decisions::add);
+        assertThat(passing.apply(ctx2).awaitBlocking()).isEqualTo("foobar");
+
+        assertThat(decisions).containsExactly(LoadSheddingEvents.DecisionMade.REJECTED,
+                LoadSheddingEvents.DecisionMade.ACCEPTED);
+    }
+
+    @Test
+    public void stacklessRejections() {
+        currentLoad = 1.0;
+        LoadShedding<String> loadShedding = new LoadShedding<>(TestInvocation.of(() -> "foobar"), "test invocation",
+                0.8, monitor, true, () -> 0.999);
+
+        assertThatThrownBy(loadShedding.apply(sync(null))::awaitBlocking)
+                .isInstanceOf(LoadSheddingException.class)
+                .hasMessage("test invocation shed due to high system load")
+                .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+    }
+
+    @Test
+    public void exceptionPassesThrough() {
+        LoadShedding<String> loadShedding = new LoadShedding<>(TestInvocation.of(TestException::doThrow),
+                "test invocation", 0.8, monitor);
+
+        assertThatThrownBy(loadShedding.apply(sync(null))::awaitBlocking)
+                .isExactlyInstanceOf(TestException.class);
+    }
+
+    @Test
+    public void samplingFailureKeepsPreviousLoad() {
+        currentLoad = 0.9;
+        monitor.start();
+        assertThat(monitor.load()).isEqualTo(0.9);
+
+        SystemLoadMonitor failing = new SystemLoadMonitor(timer, 1000, () -> {
+            throw new IllegalStateException();
+        });
+        failing.start();
+        assertThat(failing.load()).isEqualTo(0.0);
+        // sampling continues even after a failure
+        assertThat(timer.countScheduledTasks()).isEqualTo(2);
+    }
+
+    @Test
+    public void invalidThreshold() {
+        assertThatThrownBy(() -> new LoadShedding<>(TestInvocation.of(() -> "foobar"), "test invocation", -0.1, monitor))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LoadShedding<>(TestInvocation.of(() -> "foobar"), "test invocation", 1.0, monitor))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void jvmSampler() {
+        JvmLoadSampler sampler = new JvmLoadSampler();
+        for (int i = 0; i < 3; i++) {
+            assertThat(sampler.getAsDouble()).isBetween(0.0, 1.0);
+        }
+    }
+}
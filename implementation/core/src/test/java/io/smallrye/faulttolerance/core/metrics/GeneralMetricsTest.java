@@ -5,11 +5,21 @@ import static io.smallrye.faulttolerance.core.Invocation.invocation;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import java.util.function.LongSupplier;
 
 import org.junit.jupiter.api.Test;
 
+import io.smallrye.faulttolerance.core.FaultToleranceContext;
+import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
+import io.smallrye.faulttolerance.core.bulkhead.BulkheadEvents;
 import io.smallrye.faulttolerance.core.circuit.breaker.CircuitBreakerEvents;
 import io.smallrye.faulttolerance.core.util.TestException;
 
@@ -25,6 +35,7 @@ public class GeneralMetricsTest {
 
         assertThat(metrics.valueReturned).isEqualTo(1);
         assertThat(metrics.exceptionThrown).isEqualTo(0);
+        assertThat(metrics.invocationDurations).isEqualTo(1);
     }
 
     @Test
@@ -37,9 +48,144 @@ public class GeneralMetricsTest {
 
         assertThat(metrics.valueReturned).isEqualTo(0);
         assertThat(metrics.exceptionThrown).isEqualTo(1);
+        assertThat(metrics.invocationDurations).isEqualTo(1);
+    }
+
+    @Test
+    public void sampledTimingMetrics() throws Throwable {
+        MockMetricsRecorder metrics = new MockMetricsRecorder();
+
+        MockMeteredOperation operation = new MockMeteredOperation();
+        operation.samplingRate = 4;
+        MetricsCollector<String> collector = new MetricsCollector<>(invocation(), metrics, operation);
+        for (int i = 0; i < 4000; i++) {
+            assertThat(collector.apply(sync(() -> "foobar")).awaitBlocking()).isEqualTo("foobar");
+        }
+
+        // counters are exact, timing metrics are only recorded for roughly 1 in 4 invocations
+        assertThat(metrics.valueReturned).isEqualTo(4000);
+        assertThat(metrics.invocationDurations).isBetween(500, 1500);
+    }
+
+    @Test
+    public void circuitBreakerState() throws Throwable {
+        MockMetricsRecorder metrics = new MockMetricsRecorder();
+
+        MockMeteredOperation operation = new MockMeteredOperation();
+        operation.hasCircuitBreaker = true;
+        MetricsCollector<String> collector = new MetricsCollector<>(invocation(), metrics, operation);
+        assertThat(metrics.circuitBreakerIsClosed.getAsBoolean()).isTrue();
+        assertThat(metrics.circuitBreakerIsOpen.getAsBoolean()).isFalse();
+
+        FaultToleranceStrategy<String> toOpen = ctx -> {
+            ctx.fireEvent(CircuitBreakerEvents.StateTransition.TO_OPEN);
+            return ctx.call();
+        };
+        collector = new MetricsCollector<>(toOpen, metrics, operation);
+        assertThat(collector.apply(sync(() -> "foobar")).awaitBlocking()).isEqualTo("foobar");
+
+        assertThat(metrics.circuitBreakerOpened).isEqualTo(1);
+        assertThat(metrics.circuitBreakerIsClosed.getAsBoolean()).isFalse();
+        assertThat(metrics.circuitBreakerIsOpen.getAsBoolean()).isTrue();
+        assertThat(metrics.circuitBreakerIsHalfOpen.getAsBoolean()).isFalse();
+
+        long closedTime = metrics.circuitBreakerTimeSpentInClosed.getAsLong();
+        assertThat(closedTime).isPositive();
+        // the circuit breaker is no longer closed, so the time spent in closed doesn't grow
+        assertThat(metrics.circuitBreakerTimeSpentInClosed.getAsLong()).isEqualTo(closedTime);
+        assertThat(metrics.circuitBreakerTimeSpentInHalfOpen.getAsLong()).isZero();
+
+        long openTime = metrics.circuitBreakerTimeSpentInOpen.getAsLong();
+        assertThat(metrics.circuitBreakerTimeSpentInOpen.getAsLong()).isGreaterThanOrEqualTo(openTime);
+    }
+
+    @Test
+    public void bulkheadExecutionsRunningUnderContention() throws Exception {
+        MockMetricsRecorder metrics = new MockMetricsRecorder();
+
+        MockMeteredOperation operation = new MockMeteredOperation();
+        operation.hasBulkhead = true;
+        CountDownLatch allStarted = new CountDownLatch(8);
+        CountDownLatch finish = new CountDownLatch(1);
+        FaultToleranceStrategy<String> bulkhead = ctx -> {
+            ctx.fireEvent(BulkheadEvents.StartedRunning.INSTANCE);
+            try {
+                allStarted.countDown();
+                finish.await();
+                return ctx.call();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            } finally {
+                ctx.fireEvent(BulkheadEvents.FinishedRunning.INSTANCE);
+            }
+        };
+        MetricsCollector<String> collector = new MetricsCollector<>(bulkhead, metrics, operation);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    try {
+                        return collector.apply(sync(() -> "foobar")).awaitBlocking();
+                    } catch (Throwable e) {
+                        throw new Exception(e);
+                    }
+                }));
+            }
+
+            allStarted.await();
+            assertThat(metrics.bulkheadExecutionsRunning.getAsLong()).isEqualTo(8);
+
+            finish.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get()).isEqualTo("foobar");
+            }
+            assertThat(metrics.bulkheadExecutionsRunning.getAsLong()).isZero();
+            assertThat(metrics.valueReturned).isEqualTo(8);
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void delegatingCollectorReusesNamedCollectors() throws Throwable {
+        MockMetricsRecorder metrics = new MockMetricsRecorder();
+        List<String> createdFor = new ArrayList<>();
+        MetricsProvider provider = new MetricsProvider() {
+            @Override
+            public boolean isEnabled() {
+                return true;
+            }
+
+            @Override
+            public MetricsRecorder create(MeteredOperation operation) {
+                createdFor.add(operation.name());
+                return metrics;
+            }
+        };
+
+        DelegatingMetricsCollector<String> collector = new DelegatingMetricsCollector<>(invocation(), provider,
+                new MockMeteredOperation());
+        for (int i = 0; i < 3; i++) {
+            for (String name : List.of("foo", "bar")) {
+                FaultToleranceContext<String> ctx = sync(() -> "foobar");
+                ctx.set(MeteredOperationName.class, new MeteredOperationName(name));
+                assertThat(collector.apply(ctx).awaitBlocking()).isEqualTo("foobar");
+            }
+            assertThat(collector.apply(sync(() -> "foobar")).awaitBlocking()).isEqualTo("foobar");
+        }
+
+        assertThat(createdFor).containsExactly("foo", "bar", "mock");
+        assertThat(metrics.valueReturned).isEqualTo(9);
     }
 
     private static class MockMeteredOperation implements MeteredOperation {
+        boolean hasBulkhead;
+        boolean hasCircuitBreaker;
+        int samplingRate = 1;
+
         @Override
         public boolean enabled() {
             return true;
@@ -52,12 +198,12 @@ public class GeneralMetricsTest {
 
         @Override
         public boolean hasBulkhead() {
-            return false;
+            return hasBulkhead;
         }
 
         @Override
         public boolean hasCircuitBreaker() {
-            return false;
+            return hasCircuitBreaker;
         }
 
         @Override
@@ -65,6 +211,11 @@ public class GeneralMetricsTest {
             return false;
         }
 
+        @Override
+        public boolean hasLoadShedding() {
+            return false;
+        }
+
         @Override
         public boolean hasRateLimit() {
             return false;
@@ -80,6 +231,11 @@ public class GeneralMetricsTest {
             return false;
         }
 
+        @Override
+        public int samplingRate() {
+            return samplingRate;
+        }
+
         @Override
         public String name() {
             return "mock";
@@ -94,9 +250,18 @@ public class GeneralMetricsTest {
     private static class MockMetricsRecorder implements MetricsRecorder {
         int valueReturned;
         int exceptionThrown;
+        int invocationDurations;
+        int circuitBreakerOpened;
+        BooleanSupplier circuitBreakerIsClosed;
+        BooleanSupplier circuitBreakerIsOpen;
+        BooleanSupplier circuitBreakerIsHalfOpen;
+        LongSupplier circuitBreakerTimeSpentInClosed;
+        LongSupplier circuitBreakerTimeSpentInOpen;
+        LongSupplier circuitBreakerTimeSpentInHalfOpen;
+        LongSupplier bulkheadExecutionsRunning;
 
         @Override
-        public void executionFinished(boolean succeeded, boolean fallbackDefined, boolean fallbackApplied) {
+        public synchronized void executionFinished(boolean succeeded, boolean fallbackDefined, boolean fallbackApplied) {
             if (succeeded) {
                 valueReturned++;
             } else {
@@ -104,6 +269,11 @@ public class GeneralMetricsTest {
             }
         }
 
+        @Override
+        public synchronized void updateInvocationDuration(long time) {
+            invocationDurations++;
+        }
+
         @Override
         public void retryAttempted() {
         }
@@ -125,7 +295,15 @@ public class GeneralMetricsTest {
         }
 
         @Override
-        public void timeoutFinished(boolean timedOut, long time) {
+        public void updateRetryAttemptDuration(long time) {
+        }
+
+        @Override
+        public void timeoutFinished(boolean timedOut) {
+        }
+
+        @Override
+        public void updateTimeoutExecutionDuration(long time) {
         }
 
         @Override
@@ -134,30 +312,37 @@ public class GeneralMetricsTest {
 
         @Override
         public void circuitBreakerMovedToOpen() {
+            circuitBreakerOpened++;
         }
 
         @Override
         public void registerCircuitBreakerIsClosed(BooleanSupplier supplier) {
+            this.circuitBreakerIsClosed = supplier;
         }
 
         @Override
         public void registerCircuitBreakerIsOpen(BooleanSupplier supplier) {
+            this.circuitBreakerIsOpen = supplier;
         }
 
         @Override
         public void registerCircuitBreakerIsHalfOpen(BooleanSupplier supplier) {
+            this.circuitBreakerIsHalfOpen = supplier;
         }
 
         @Override
         public void registerCircuitBreakerTimeSpentInClosed(LongSupplier supplier) {
+            this.circuitBreakerTimeSpentInClosed = supplier;
         }
 
         @Override
         public void registerCircuitBreakerTimeSpentInOpen(LongSupplier supplier) {
+            this.circuitBreakerTimeSpentInOpen = supplier;
         }
 
         @Override
         public void registerCircuitBreakerTimeSpentInHalfOpen(LongSupplier supplier) {
+            this.circuitBreakerTimeSpentInHalfOpen = supplier;
         }
 
         @Override
@@ -166,6 +351,7 @@ public class GeneralMetricsTest {
 
         @Override
         public void registerBulkheadExecutionsRunning(LongSupplier supplier) {
+            this.bulkheadExecutionsRunning = supplier;
         }
 
         @Override
@@ -180,8 +366,16 @@ public class GeneralMetricsTest {
         public void updateBulkheadWaitingDuration(long time) {
         }
 
+        @Override
+        public void loadSheddingDecisionMade(boolean accepted) {
+        }
+
         @Override
         public void rateLimitDecisionMade(boolean permitted) {
         }
+
+        @Override
+        public void updateRateLimitWaitingDuration(long time) {
+        }
     }
 }
@@ -235,6 +235,65 @@ public abstract class AbstractRollingWindowTest {
         assertThat(window.record()).isEqualTo(0);
     }
 
+    @Test
+    public void weighted() {
+        TimeWindow window = createRollingWindow(stopwatch, 5, 100, 0);
+
+        // 0
+        assertThat(window.record(3)).isEqualTo(0);
+
+        stopwatch.setCurrentValue(10);
+
+        // 10
+        assertThat(window.record(2)).isEqualTo(0);
+
+        stopwatch.setCurrentValue(20);
+
+        // 20
+        assertThat(window.record(2)).isEqualTo(80);
+
+        stopwatch.setCurrentValue(100);
+
+        // 100
+        assertThat(window.record(1)).isEqualTo(0);
+        assertThat(window.record(6)).isLessThan(0);
+        assertThat(window.record(3)).isEqualTo(20);
+    }
+
+    @Test
+    public void costOverMaxInvocations() {
+        TimeWindow window = createRollingWindow(stopwatch, 2, 100, 0);
+
+        // 0
+        assertThat(window.recordIfPermitted(3)).isLessThan(0);
+        assertThat(window.permitsRemaining()).isEqualTo(2);
+        assertThat(window.record(3)).isLessThan(0);
+        assertThat(window.permitsRemaining()).isEqualTo(1);
+        assertThat(window.record(1)).isEqualTo(0);
+        assertThat(window.record(1)).isEqualTo(100);
+    }
+
+    @Test
+    public void recordIfPermitted() {
+        TimeWindow window = createRollingWindow(stopwatch, 2, 100, 0);
+
+        // 0
+        assertThat(window.recordIfPermitted(1)).isEqualTo(0);
+
+        stopwatch.setCurrentValue(50);
+
+        // 50
+        assertThat(window.recordIfPermitted(1)).isEqualTo(0);
+        assertThat(window.recordIfPermitted(1)).isEqualTo(50);
+        assertThat(window.recordIfPermitted(1)).isEqualTo(50);
+
+        stopwatch.setCurrentValue(100);
+
+        // 100
+        assertThat(window.recordIfPermitted(1)).isEqualTo(0);
+        assertThat(window.recordIfPermitted(1)).isEqualTo(50);
+    }
+
     protected abstract TimeWindow createRollingWindow(Stopwatch stopwatch, int maxInvocations, long timeWindowInMillis,
             long minSpacingInMillis);
 }
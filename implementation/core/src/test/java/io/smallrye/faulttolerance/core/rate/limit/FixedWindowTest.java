@@ -249,4 +249,50 @@ public class FixedWindowTest {
         // 130
         assertThat(window.record()).isEqualTo(0);
     }
+
+    @Test
+    public void weighted() {
+        TimeWindow window = new FixedWindow(stopwatch, 5, 100, 0);
+
+        // 0
+        assertThat(window.record(3)).isEqualTo(0);
+        assertThat(window.record(3)).isEqualTo(100);
+        assertThat(window.record(6)).isLessThan(0);
+
+        stopwatch.setCurrentValue(100);
+
+        // 100
+        assertThat(window.record(5)).isEqualTo(0);
+        assertThat(window.record(1)).isEqualTo(100);
+    }
+
+    @Test
+    public void costOverMaxInvocations() {
+        TimeWindow window = new FixedWindow(stopwatch, 2, 100, 0);
+
+        // 0
+        assertThat(window.recordIfPermitted(3)).isLessThan(0);
+        assertThat(window.permitsRemaining()).isEqualTo(2);
+        assertThat(window.record(3)).isLessThan(0);
+        assertThat(window.permitsRemaining()).isEqualTo(1);
+        assertThat(window.record(1)).isEqualTo(0);
+        assertThat(window.record(1)).isEqualTo(100);
+    }
+
+    @Test
+    public void recordIfPermitted() {
+        TimeWindow window = new FixedWindow(stopwatch, 2, 100, 0);
+
+        // 0
+        assertThat(window.recordIfPermitted(1)).isEqualTo(0);
+        assertThat(window.recordIfPermitted(2)).isEqualTo(100);
+        assertThat(window.recordIfPermitted(1)).isEqualTo(0);
+        assertThat(window.recordIfPermitted(1)).isEqualTo(100);
+        assertThat(window.recordIfPermitted(1)).isEqualTo(100);
+
+        stopwatch.setCurrentValue(100);
+
+        // 100
+        assertThat(window.recordIfPermitted(2)).isEqualTo(0);
+    }
 }
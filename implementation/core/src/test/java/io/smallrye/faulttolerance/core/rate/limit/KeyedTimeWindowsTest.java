@@ -0,0 +1,208 @@
+package io.smallrye.faulttolerance.core.rate.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.api.RateLimitType;
+import io.smallrye.faulttolerance.core.stopwatch.TestStopwatch;
+
+public class KeyedTimeWindowsTest {
+    private TestStopwatch stopwatch;
+
+    @BeforeEach
+    public void setUp() {
+        stopwatch = new TestStopwatch();
+    }
+
+    @Test
+    public void fixed() {
+        KeyedTimeWindows windows = new KeyedTimeWindows(stopwatch, RateLimitType.FIXED, 2, 100, 0, 100);
+
+        assertThat(windows.record("a")).isEqualTo(0);
+        assertThat(windows.record("a")).isEqualTo(0);
+        assertThat(windows.record("a")).isEqualTo(100);
+
+        assertThat(windows.record("b")).isEqualTo(0);
+        assertThat(windows.record("b")).isEqualTo(0);
+        assertThat(windows.record("b")).isEqualTo(100);
+
+        stopwatch.setCurrentValue(50);
+
+        assertThat(windows.record("a")).isEqualTo(50);
+        assertThat(windows.record("c")).isEqualTo(0);
+        assertThat(windows.record("c")).isEqualTo(0);
+        assertThat(windows.record("c")).isEqualTo(100);
+
+        stopwatch.setCurrentValue(100);
+
+        assertThat(windows.record("a")).isEqualTo(0);
+        assertThat(windows.record("b")).isEqualTo(0);
+        assertThat(windows.record("c")).isEqualTo(50);
+    }
+
+    @Test
+    public void rolling() {
+        KeyedTimeWindows windows = new KeyedTimeWindows(stopwatch, RateLimitType.ROLLING, 2, 100, 0, 100);
+
+        assertThat(windows.record("a")).isEqualTo(0);
+
+        stopwatch.setCurrentValue(50);
+
+        assertThat(windows.record("a")).isEqualTo(0);
+        assertThat(windows.record("a")).isEqualTo(50);
+        assertThat(windows.record("b")).isEqualTo(0);
+        assertThat(windows.record("b")).isEqualTo(0);
+        assertThat(windows.record("b")).isEqualTo(100);
+
+        stopwatch.setCurrentValue(100);
+
+        assertThat(windows.record("a")).isEqualTo(50);
+
+        stopwatch.setCurrentValue(150);
+
+        assertThat(windows.record("b")).isEqualTo(0);
+    }
+
+    @Test
+    public void smooth() {
+        KeyedTimeWindows windows = new KeyedTimeWindows(stopwatch, RateLimitType.SMOOTH, 2, 100, 0, 100);
+
+        assertThat(windows.record("a")).isEqualTo(0);
+        assertThat(windows.record("a")).isEqualTo(50);
+        assertThat(windows.record("b")).isEqualTo(0);
+        assertThat(windows.record("b")).isEqualTo(50);
+
+        stopwatch.setCurrentValue(50);
+
+        assertThat(windows.record("a")).isEqualTo(0);
+        assertThat(windows.record("a")).isEqualTo(50);
+        assertThat(windows.record("b")).isEqualTo(0);
+        assertThat(windows.record("b")).isEqualTo(50);
+    }
+
+    @Test
+    public void weighted() {
+        KeyedTimeWindows windows = new KeyedTimeWindows(stopwatch, RateLimitType.ROLLING, 5, 100, 0, 100);
+
+        assertThat(windows.record("a", 3)).isEqualTo(0);
+        assertThat(windows.record("a", 3)).isEqualTo(100);
+        assertThat(windows.record("a", 6)).isLessThan(0);
+        assertThat(windows.record("b", 5)).isEqualTo(0);
+
+        stopwatch.setCurrentValue(100);
+
+        assertThat(windows.record("a", 5)).isEqualTo(0);
+        assertThat(windows.record("b", 1)).isEqualTo(0);
+    }
+
+    @Test
+    public void costOverMaxInvocations() {
+        KeyedTimeWindows windows = new KeyedTimeWindows(stopwatch, RateLimitType.FIXED, 2, 100, 0, 100);
+
+        assertThat(windows.recordIfPermitted("a", 3)).isLessThan(0);
+        assertThat(windows.record("a", 1)).isEqualTo(0);
+        assertThat(windows.record("a", 1)).isEqualTo(0);
+
+        assertThat(windows.record("b", 3)).isLessThan(0);
+        assertThat(windows.record("b", 1)).isEqualTo(0);
+        assertThat(windows.record("b", 1)).isEqualTo(100);
+    }
+
+    @Test
+    public void smoothWarmUp() {
+        KeyedTimeWindows windows = new KeyedTimeWindows(stopwatch, RateLimitType.SMOOTH, 3, 300, 0, 100, 300);
+
+        assertThat(windows.record("a")).isEqualTo(0);
+        assertThat(windows.record("a")).isCloseTo(300, within(1L));
+
+        stopwatch.setCurrentValue(150);
+
+        assertThat(windows.record("a")).isCloseTo(38, within(1L));
+
+        stopwatch.setCurrentValue(300);
+
+        assertThat(windows.record("a")).isEqualTo(0);
+        assertThat(windows.record("a")).isEqualTo(0);
+        assertThat(windows.record("a")).isCloseTo(100, within(1L));
+
+        // a new key starts cold
+        assertThat(windows.record("b")).isEqualTo(0);
+        assertThat(windows.record("b")).isCloseTo(300, within(1L));
+    }
+
+    @Test
+    public void smoothWarmUpAgainLimitsBurst() {
+        KeyedTimeWindows windows = new KeyedTimeWindows(stopwatch, RateLimitType.SMOOTH, 9, 900, 0, 100, 300);
+
+        assertThat(windows.record("a")).isEqualTo(0);
+
+        stopwatch.setCurrentValue(5000);
+
+        // idle for much longer than the warm-up period, the burst is limited to 1/3 of the maximum
+        assertThat(windows.record("a")).isEqualTo(0);
+        assertThat(windows.record("a")).isEqualTo(0);
+        assertThat(windows.record("a")).isEqualTo(0);
+        assertThat(windows.record("a")).isCloseTo(300, within(1L));
+    }
+
+    @Test
+    public void minSpacing() {
+        KeyedTimeWindows windows = new KeyedTimeWindows(stopwatch, RateLimitType.FIXED, 10, 100, 10, 100);
+
+        assertThat(windows.record("a")).isEqualTo(0);
+        assertThat(windows.record("a")).isEqualTo(10);
+        assertThat(windows.record("b")).isEqualTo(0);
+
+        stopwatch.setCurrentValue(10);
+
+        assertThat(windows.record("a")).isEqualTo(0);
+        assertThat(windows.record("b")).isEqualTo(0);
+    }
+
+    @Test
+    public void nullKey() {
+        KeyedTimeWindows windows = new KeyedTimeWindows(stopwatch, RateLimitType.FIXED, 1, 100, 0, 100);
+
+        assertThat(windows.record(null)).isEqualTo(0);
+        assertThat(windows.record(null)).isEqualTo(100);
+        assertThat(windows.record("a")).isEqualTo(0);
+    }
+
+    @Test
+    public void evictIdleFirst() {
+        KeyedTimeWindows windows = new KeyedTimeWindows(stopwatch, RateLimitType.FIXED, 1, 100, 0, 4);
+
+        assertThat(windows.record("a")).isEqualTo(0);
+        assertThat(windows.record("b")).isEqualTo(0);
+
+        stopwatch.setCurrentValue(100);
+
+        assertThat(windows.record("c")).isEqualTo(0);
+        assertThat(windows.record("d")).isEqualTo(0);
+        assertThat(windows.size()).isEqualTo(4);
+
+        // exceeds max keys, "a" and "b" are idle
+        assertThat(windows.record("e")).isEqualTo(0);
+        assertThat(windows.size()).isEqualTo(3);
+
+        assertThat(windows.record("c")).isEqualTo(100);
+        assertThat(windows.record("d")).isEqualTo(100);
+        assertThat(windows.record("e")).isEqualTo(100);
+    }
+
+    @Test
+    public void evictArbitraryWhenNoneIdle() {
+        KeyedTimeWindows windows = new KeyedTimeWindows(stopwatch, RateLimitType.FIXED, 1, 100, 0, 8);
+
+        for (int i = 0; i < 8; i++) {
+            assertThat(windows.record(i)).isEqualTo(0);
+        }
+        assertThat(windows.size()).isEqualTo(8);
+
+        assertThat(windows.record(8)).isEqualTo(0);
+        assertThat(windows.size()).isEqualTo(6);
+    }
+}
@@ -25,6 +25,7 @@ import io.smallrye.faulttolerance.api.RateLimitType;
 import io.smallrye.faulttolerance.core.Future;
 import io.smallrye.faulttolerance.core.async.ThreadOffload;
 import io.smallrye.faulttolerance.core.stopwatch.TestStopwatch;
+import io.smallrye.faulttolerance.core.timer.TestTimer;
 import io.smallrye.faulttolerance.core.util.TestInvocation;
 import io.smallrye.faulttolerance.core.util.TestThread;
 
@@ -569,4 +570,39 @@ public class RateLimitAsyncTest {
                     .isEqualTo(10L);
         });
     }
+
+    @Test
+    public void waiting_singleThreaded() throws Throwable {
+        AtomicInteger counter = new AtomicInteger();
+        TestInvocation<String> invocation = TestInvocation.of(() -> "" + counter.incrementAndGet());
+        TestTimer timer = new TestTimer();
+        RateLimit<String> rateLimit = new RateLimit<>(invocation, "test invocation", 1, 100, 0,
+                RateLimitType.FIXED, stopwatch, RateLimitOptions.DEFAULT.withMaxWait(150, timer));
+
+        assertThat(rateLimit.apply(async(null)).awaitBlocking()).isEqualTo("1");
+
+        Future<String> result = rateLimit.apply(async(null));
+        assertThat(result.isComplete()).isFalse();
+        assertThat(timer.hasScheduledTasks()).isTrue();
+
+        stopwatch.setCurrentValue(100);
+        timer.executeSynchronously(timer.nextScheduledTask());
+        assertThat(result.awaitBlocking()).isEqualTo("2");
+
+        result = rateLimit.apply(async(null));
+        assertThat(result.isComplete()).isFalse();
+
+        // the time window doesn't move, so the max wait is exceeded
+        timer.executeSynchronously(timer.nextScheduledTask());
+        assertThat(timer.hasScheduledTasks()).isFalse();
+        assertThatThrownBy(result::awaitBlocking)
+                .isExactlyInstanceOf(RateLimitException.class)
+                .asInstanceOf(InstanceOfAssertFactories.throwable(RateLimitException.class))
+                .extracting(RateLimitException::getRetryAfterMillis)
+                .isEqualTo(100L);
+
+        // rejected attempts of waiting invocations are not recorded
+        stopwatch.setCurrentValue(200);
+        assertThat(rateLimit.apply(async(null)).awaitBlocking()).isEqualTo("3");
+    }
 }
@@ -17,7 +17,10 @@ import org.junit.jupiter.api.Test;
 
 import io.smallrye.faulttolerance.api.RateLimitException;
 import io.smallrye.faulttolerance.api.RateLimitType;
+import io.smallrye.faulttolerance.core.FaultToleranceContext;
+import io.smallrye.faulttolerance.core.Future;
 import io.smallrye.faulttolerance.core.stopwatch.TestStopwatch;
+import io.smallrye.faulttolerance.core.timer.TestTimer;
 import io.smallrye.faulttolerance.core.util.TestInvocation;
 import io.smallrye.faulttolerance.core.util.TestThread;
 
@@ -511,4 +514,183 @@ public class RateLimitSyncTest {
                     .isEqualTo(10L);
         });
     }
+
+    @Test
+    public void keyed_singleThreaded() throws Throwable {
+        AtomicInteger counter = new AtomicInteger();
+        TestInvocation<String> invocation = TestInvocation.of(() -> "" + counter.incrementAndGet());
+        RateLimit<String> rateLimit = new RateLimit<>(invocation, "test invocation", 1, 100, 0,
+                RateLimitType.FIXED, stopwatch, RateLimitOptions.DEFAULT.withKey(ctx -> ctx.get(String.class), 100));
+
+        assertThat(rateLimit.apply(keyed("a")).awaitBlocking()).isEqualTo("1");
+        assertThat(rateLimit.apply(keyed("b")).awaitBlocking()).isEqualTo("2");
+        assertThatThrownBy(rateLimit.apply(keyed("a"))::awaitBlocking)
+                .isExactlyInstanceOf(RateLimitException.class)
+                .asInstanceOf(InstanceOfAssertFactories.throwable(RateLimitException.class))
+                .extracting(RateLimitException::getRetryAfterMillis)
+                .isEqualTo(100L);
+        assertThatThrownBy(rateLimit.apply(keyed("b"))::awaitBlocking)
+                .isExactlyInstanceOf(RateLimitException.class);
+        assertThat(rateLimit.apply(keyed("c")).awaitBlocking()).isEqualTo("3");
+
+        stopwatch.setCurrentValue(100);
+
+        assertThat(rateLimit.apply(keyed("a")).awaitBlocking()).isEqualTo("4");
+        assertThat(rateLimit.apply(keyed("b")).awaitBlocking()).isEqualTo("5");
+    }
+
+    @Test
+    public void keyFunctionFailure() throws Throwable {
+        TestInvocation<String> invocation = TestInvocation.of(() -> "foobar");
+        RateLimit<String> rateLimit = new RateLimit<>(invocation, "test invocation", 1, 100, 0,
+                RateLimitType.FIXED, stopwatch, RateLimitOptions.DEFAULT.withKey(ctx -> {
+                    throw new IllegalStateException("no key");
+                }, 100));
+
+        Future<String> result = rateLimit.apply(sync(null));
+        assertThatThrownBy(result::awaitBlocking)
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("no key");
+    }
+
+    @Test
+    public void weighted_singleThreaded() throws Throwable {
+        AtomicInteger counter = new AtomicInteger();
+        TestInvocation<String> invocation = TestInvocation.of(() -> "" + counter.incrementAndGet());
+        RateLimit<String> rateLimit = new RateLimit<>(invocation, "test invocation", 5, 100, 0,
+                RateLimitType.FIXED, stopwatch, RateLimitOptions.DEFAULT.withCost(ctx -> ctx.get(Integer.class)));
+
+        assertThat(rateLimit.apply(costing(3)).awaitBlocking()).isEqualTo("1");
+        assertThatThrownBy(rateLimit.apply(costing(3))::awaitBlocking)
+                .isExactlyInstanceOf(RateLimitException.class)
+                .asInstanceOf(InstanceOfAssertFactories.throwable(RateLimitException.class))
+                .extracting(RateLimitException::getRetryAfterMillis)
+                .isEqualTo(100L);
+        assertThatThrownBy(rateLimit.apply(costing(0))::awaitBlocking)
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+
+        stopwatch.setCurrentValue(100);
+
+        assertThat(rateLimit.apply(costing(2)).awaitBlocking()).isEqualTo("2");
+        assertThat(rateLimit.apply(costing(3)).awaitBlocking()).isEqualTo("3");
+        assertThatThrownBy(rateLimit.apply(costing(1))::awaitBlocking)
+                .isExactlyInstanceOf(RateLimitException.class);
+    }
+
+    @Test
+    public void waiting_singleThreaded() throws Throwable {
+        AtomicInteger counter = new AtomicInteger();
+        TestInvocation<String> invocation = TestInvocation.of(() -> "" + counter.incrementAndGet());
+        RateLimit<String> rateLimit = new RateLimit<>(invocation, "test invocation", 1, 100, 0,
+                RateLimitType.FIXED, stopwatch, RateLimitOptions.DEFAULT.withMaxWait(250, new TestTimer()));
+
+        assertThat(rateLimit.apply(sync(null)).awaitBlocking()).isEqualTo("1");
+
+        TestThread<String> waiting = runOnTestThread(rateLimit, false);
+        stopwatch.setCurrentValue(100);
+        assertThat(waiting.await()).isEqualTo("2");
+
+        // the time window doesn't move, so the max wait is exceeded after 2 attempts
+        assertThatThrownBy(rateLimit.apply(sync(null))::awaitBlocking)
+                .isExactlyInstanceOf(RateLimitException.class)
+                .asInstanceOf(InstanceOfAssertFactories.throwable(RateLimitException.class))
+                .extracting(RateLimitException::getRetryAfterMillis)
+                .isEqualTo(100L);
+
+        // attempts rejected while waiting are not recorded, and the final rejection
+        // at time 100 doesn't affect the next time window
+        stopwatch.setCurrentValue(200);
+        assertThat(rateLimit.apply(sync(null)).awaitBlocking()).isEqualTo("3");
+    }
+
+    @Test
+    public void waiting_finalRejectionRecorded() throws Throwable {
+        TestInvocation<String> invocation = TestInvocation.of(() -> "foobar");
+        RateLimit<String> rateLimit = new RateLimit<>(invocation, "test invocation", 2, 100, 0,
+                RateLimitType.ROLLING, stopwatch, RateLimitOptions.DEFAULT.withMaxWait(60, new TestTimer()));
+
+        assertThat(rateLimit.apply(sync(null)).awaitBlocking()).isEqualTo("foobar");
+        assertThat(rateLimit.apply(sync(null)).awaitBlocking()).isEqualTo("foobar");
+
+        // the time window doesn't move, so the max wait is exceeded after 2 attempts
+        stopwatch.setCurrentValue(50);
+        assertThatThrownBy(rateLimit.apply(sync(null))::awaitBlocking)
+                .isExactlyInstanceOf(RateLimitException.class);
+
+        // the final rejection is recorded, like a rejection without waiting
+        stopwatch.setCurrentValue(100);
+        assertThat(rateLimit.apply(sync(null)).awaitBlocking()).isEqualTo("foobar");
+        assertThatThrownBy(rateLimit.apply(sync(null))::awaitBlocking)
+                .isExactlyInstanceOf(RateLimitException.class);
+    }
+
+    @Test
+    public void waiting_interrupted() throws Throwable {
+        TestInvocation<String> invocation = TestInvocation.of(() -> "foobar");
+        RateLimit<String> rateLimit = new RateLimit<>(invocation, "test invocation", 1, 100, 0,
+                RateLimitType.FIXED, stopwatch, RateLimitOptions.DEFAULT.withMaxWait(250, new TestTimer()));
+
+        assertThat(rateLimit.apply(sync(null)).awaitBlocking()).isEqualTo("foobar");
+
+        Thread.currentThread().interrupt();
+        Future<String> future = rateLimit.apply(sync(null));
+        // the interrupted status is restored
+        assertThat(Thread.interrupted()).isTrue();
+        assertThatThrownBy(future::awaitBlocking)
+                .isExactlyInstanceOf(InterruptedException.class);
+    }
+
+    @Test
+    public void waitingEventsOnlyWhenActuallyWaiting() throws Throwable {
+        TestInvocation<String> invocation = TestInvocation.of(() -> "foobar");
+        RateLimit<String> rateLimit = new RateLimit<>(invocation, "test invocation", 1, 100, 0,
+                RateLimitType.FIXED, stopwatch, RateLimitOptions.DEFAULT.withMaxWait(50, new TestTimer()));
+
+        AtomicInteger startedWaiting = new AtomicInteger();
+        AtomicInteger finishedWaiting = new AtomicInteger();
+
+        // permitted immediately
+        FaultToleranceContext<String> ctx = sync(null);
+        ctx.registerEventHandler(RateLimitEvents.StartedWaiting.class, ignored -> startedWaiting.incrementAndGet());
+        ctx.registerEventHandler(RateLimitEvents.FinishedWaiting.class, ignored -> finishedWaiting.incrementAndGet());
+        assertThat(rateLimit.apply(ctx).awaitBlocking()).isEqualTo("foobar");
+
+        // rejected immediately, because the max wait is shorter than the time to the next permit
+        FaultToleranceContext<String> ctx2 = sync(null);
+        ctx2.registerEventHandler(RateLimitEvents.StartedWaiting.class, ignored -> startedWaiting.incrementAndGet());
+        ctx2.registerEventHandler(RateLimitEvents.FinishedWaiting.class, ignored -> finishedWaiting.incrementAndGet());
+        assertThatThrownBy(rateLimit.apply(ctx2)::awaitBlocking)
+                .isExactlyInstanceOf(RateLimitException.class);
+
+        assertThat(startedWaiting).hasValue(0);
+        assertThat(finishedWaiting).hasValue(0);
+    }
+
+    private static FaultToleranceContext<String> costing(int cost) {
+        FaultToleranceContext<String> ctx = sync(null);
+        ctx.set(Integer.class, cost);
+        return ctx;
+    }
+
+    private static FaultToleranceContext<String> keyed(String key) {
+        FaultToleranceContext<String> ctx = sync(null);
+        ctx.set(String.class, key);
+        return ctx;
+    }
+
+    @Test
+    public void stacklessRejections() throws Throwable {
+        TestInvocation<String> invocation = TestInvocation.of(() -> "foobar");
+        RateLimit<String> rateLimit = new RateLimit<>(invocation, "test invocation", 1, 100, 0,
+                RateLimitType.FIXED, stopwatch, RateLimitOptions.DEFAULT.withStacklessRejections(true));
+
+        assertThat(rateLimit.apply(sync(null)).awaitBlocking()).isEqualTo("foobar");
+        assertThatThrownBy(rateLimit.apply(sync(null))::awaitBlocking)
+                .isInstanceOf(RateLimitException.class)
+                .hasMessage("test invocation rate limit exceeded")
+                .satisfies(e -> assertThat(e.getStackTrace()).isEmpty())
+                .asInstanceOf(InstanceOfAssertFactories.throwable(RateLimitException.class))
+                .extracting(RateLimitException::getRetryAfterMillis)
+                .isEqualTo(100L);
+    }
 }
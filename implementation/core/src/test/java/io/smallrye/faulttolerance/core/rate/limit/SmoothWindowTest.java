@@ -1,6 +1,7 @@
 package io.smallrye.faulttolerance.core.rate.limit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -245,4 +246,82 @@ public class SmoothWindowTest {
         // 130
         assertThat(window.record()).isEqualTo(0);
     }
+
+    @Test
+    public void weighted() {
+        TimeWindow window = new SmoothWindow(stopwatch, 4, 100, 0);
+
+        // 0
+        assertThat(window.record(2)).isEqualTo(25);
+
+        stopwatch.setCurrentValue(25);
+
+        // 25
+        assertThat(window.record(2)).isEqualTo(0);
+
+        stopwatch.setCurrentValue(50);
+
+        // 50
+        assertThat(window.record(3)).isEqualTo(50);
+        assertThat(window.record(5)).isLessThan(0);
+
+        stopwatch.setCurrentValue(100);
+
+        // 100
+        assertThat(window.record(3)).isEqualTo(0);
+    }
+
+    @Test
+    public void costOverMaxInvocations() {
+        TimeWindow notRecorded = new SmoothWindow(stopwatch, 2, 100, 50);
+        TimeWindow recorded = new SmoothWindow(stopwatch, 2, 100, 50);
+
+        // 0
+        assertThat(notRecorded.recordIfPermitted(3)).isLessThan(0);
+        assertThat(notRecorded.record(1)).isEqualTo(0);
+
+        // the rejected attempt counts as the previous invocation for the purpose of minimum spacing
+        assertThat(recorded.record(3)).isLessThan(0);
+        assertThat(recorded.record(1)).isEqualTo(50);
+    }
+
+    @Test
+    public void warmUp() {
+        TimeWindow window = new SmoothWindow(stopwatch, 3, 300, 0, 300);
+
+        // 0, cold: 1/3 of the full rate
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isCloseTo(300, within(1L));
+
+        stopwatch.setCurrentValue(150);
+
+        // 150, warming up: 2/3 of the full rate
+        assertThat(window.record()).isCloseTo(38, within(1L));
+
+        stopwatch.setCurrentValue(300);
+
+        // 300, warm: full rate
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isCloseTo(100, within(1L));
+
+        stopwatch.setCurrentValue(1000);
+
+        // 1000, idle for the whole warm-up period, cold again
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isCloseTo(300, within(1L));
+    }
+
+    @Test
+    public void warmUpAgainLimitsBurst() {
+        TimeWindow window = new SmoothWindow(stopwatch, 9, 900, 0, 300);
+
+        stopwatch.setCurrentValue(5000);
+
+        // 5000, idle for much longer than the warm-up period, the burst is limited to 1/3 of the maximum
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isCloseTo(300, within(1L));
+    }
 }
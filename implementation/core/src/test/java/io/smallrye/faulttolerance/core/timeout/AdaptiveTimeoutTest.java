@@ -0,0 +1,138 @@
+package io.smallrye.faulttolerance.core.timeout;
+
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.sync;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.core.stopwatch.RunningStopwatch;
+import io.smallrye.faulttolerance.core.stopwatch.TestStopwatch;
+import io.smallrye.faulttolerance.core.timer.TestTimer;
+import io.smallrye.faulttolerance.core.util.TestException;
+import io.smallrye.faulttolerance.core.util.TestInvocation;
+
+public class AdaptiveTimeoutTest {
+    @Test
+    public void histogramBuckets() {
+        for (long value = 0; value < 100_000; value++) {
+            int index = LatencyHistogram.bucketIndex(value);
+            long upperBound = LatencyHistogram.bucketUpperBound(index);
+            assertThat(upperBound).isGreaterThanOrEqualTo(value);
+            assertThat(upperBound - value).isLessThanOrEqualTo(value / 32);
+            if (index > 0) {
+                assertThat(LatencyHistogram.bucketUpperBound(index - 1)).isLessThan(value);
+            }
+        }
+    }
+
+    @Test
+    public void histogramPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram(10_000);
+        assertThat(histogram.percentile(0.99)).isEqualTo(-1);
+
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        assertThat(histogram.count()).isEqualTo(100);
+        assertThat(histogram.percentile(0.5)).isEqualTo(50);
+        assertThat(histogram.percentile(0.99)).isEqualTo(99);
+        assertThat(histogram.percentile(1.0)).isEqualTo(101); // 100 is in the bucket [100, 101]
+
+        histogram.record(1_000_000);
+        assertThat(histogram.percentile(1.0)).isEqualTo(10_000);
+    }
+
+    @Test
+    public void invalidConfiguration() {
+        TestStopwatch stopwatch = new TestStopwatch();
+        assertThatThrownBy(() -> new AdaptiveTimeout(0.0, 2.0, 100, 1000, stopwatch))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveTimeout(0.99, 0.5, 100, 1000, stopwatch))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveTimeout(0.99, 2.0, 0, 1000, stopwatch))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveTimeout(0.99, 2.0, 100, 10, stopwatch))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void timeoutFollowsLatencies() {
+        TestStopwatch stopwatch = new TestStopwatch();
+        AdaptiveTimeout adaptiveTimeout = new AdaptiveTimeout(0.9, 2.0, 10, 1000, 10, stopwatch);
+        assertThat(adaptiveTimeout.currentTimeoutInMillis()).isEqualTo(1000);
+
+        recordSuccesses(adaptiveTimeout, stopwatch, 9, 20);
+        assertThat(adaptiveTimeout.currentTimeoutInMillis()).isEqualTo(1000);
+        recordSuccesses(adaptiveTimeout, stopwatch, 1, 20);
+        assertThat(adaptiveTimeout.currentTimeoutInMillis()).isEqualTo(40);
+
+        // clamped to min
+        recordSuccesses(adaptiveTimeout, stopwatch, 10, 1);
+        assertThat(adaptiveTimeout.currentTimeoutInMillis()).isEqualTo(10);
+
+        // clamped to max
+        recordSuccesses(adaptiveTimeout, stopwatch, 10, 900);
+        assertThat(adaptiveTimeout.currentTimeoutInMillis()).isEqualTo(1000);
+
+        // percentile
+        recordSuccesses(adaptiveTimeout, stopwatch, 9, 5);
+        recordSuccesses(adaptiveTimeout, stopwatch, 1, 500);
+        assertThat(adaptiveTimeout.currentTimeoutInMillis()).isEqualTo(10);
+    }
+
+    @Test
+    public void timeoutGrowsAfterTimeouts() {
+        TestStopwatch stopwatch = new TestStopwatch();
+        AdaptiveTimeout adaptiveTimeout = new AdaptiveTimeout(0.5, 2.0, 10, 1000, 10, stopwatch);
+
+        recordSuccesses(adaptiveTimeout, stopwatch, 10, 20);
+        assertThat(adaptiveTimeout.currentTimeoutInMillis()).isEqualTo(40);
+
+        for (int i = 0; i < 10; i++) {
+            adaptiveTimeout.recordTimeout(adaptiveTimeout.currentTimeoutInMillis());
+        }
+        assertThat(adaptiveTimeout.currentTimeoutInMillis()).isEqualTo(80);
+    }
+
+    @Test
+    public void timeoutStrategyRecordsSuccessfulInvocations() throws Throwable {
+        TestStopwatch stopwatch = new TestStopwatch();
+        TestTimer timer = new TestTimer();
+        AdaptiveTimeout adaptiveTimeout = new AdaptiveTimeout(0.99, 2.0, 10, 1000, 10, stopwatch);
+
+        Timeout<String> success = new Timeout<>(TestInvocation.of(() -> {
+            stopwatch.setCurrentValue(30);
+            return "foobar";
+        }), "test invocation", 1000, timer, adaptiveTimeout);
+        Timeout<String> failure = new Timeout<>(TestInvocation.of(() -> {
+            stopwatch.setCurrentValue(1);
+            throw new TestException();
+        }), "test invocation", 1000, timer, adaptiveTimeout);
+
+        for (int i = 0; i < 9; i++) {
+            stopwatch.setCurrentValue(0);
+            assertThat(success.apply(sync(null)).awaitBlocking()).isEqualTo("foobar");
+        }
+        for (int i = 0; i < 10; i++) {
+            stopwatch.setCurrentValue(0);
+            assertThatThrownBy(failure.apply(sync(null))::awaitBlocking).isExactlyInstanceOf(TestException.class);
+        }
+        assertThat(adaptiveTimeout.currentTimeoutInMillis()).isEqualTo(1000);
+
+        stopwatch.setCurrentValue(0);
+        assertThat(success.apply(sync(null)).awaitBlocking()).isEqualTo("foobar");
+        assertThat(adaptiveTimeout.currentTimeoutInMillis()).isEqualTo(60);
+        assertThat(timer.hasScheduledTasks()).isFalse();
+    }
+
+    private static void recordSuccesses(AdaptiveTimeout adaptiveTimeout, TestStopwatch stopwatch, int count,
+            long latency) {
+        for (int i = 0; i < count; i++) {
+            stopwatch.setCurrentValue(0);
+            RunningStopwatch measurement = adaptiveTimeout.startMeasuring();
+            stopwatch.setCurrentValue(latency);
+            adaptiveTimeout.recordSuccess(measurement);
+        }
+    }
+}
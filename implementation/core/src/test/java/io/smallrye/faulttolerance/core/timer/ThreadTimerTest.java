@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -88,4 +89,54 @@ public class ThreadTimerTest {
         assertThat(barTask.isDone()).isTrue();
         assertThat(quuxTask.isDone()).isTrue();
     }
+
+    @Test
+    public void statistics() throws InterruptedException {
+        Queue<Long> lags = new ConcurrentLinkedQueue<>();
+        timer.addFiringLagListener(lags::add);
+
+        CountDownLatch fired = new CountDownLatch(2);
+        timer.schedule(50, fired::countDown);
+        timer.schedule(100, fired::countDown);
+        TimerTask cancelledTask = timer.schedule(10_000, () -> {
+        });
+
+        assertThat(timer.countScheduledTasksTotal()).isEqualTo(3);
+        assertThat(cancelledTask.cancel()).isTrue();
+        assertThat(timer.countCancelledTasksTotal()).isEqualTo(1);
+
+        assertThat(fired.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(timer.countFiredTasksTotal()).isEqualTo(2);
+        assertThat(timer.countScheduledTasks()).isZero();
+        assertThat(lags).hasSize(2).allSatisfy(lag -> assertThat(lag).isNotNegative());
+    }
+
+    @Test
+    public void removeFiringLagListener() throws InterruptedException {
+        Queue<Long> lags = new ConcurrentLinkedQueue<>();
+        Runnable removal = timer.addFiringLagListener(lags::add);
+        removal.run();
+
+        CountDownLatch fired = new CountDownLatch(1);
+        timer.schedule(50, fired::countDown);
+
+        assertThat(fired.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(lags).isEmpty();
+    }
+
+    @Test
+    public void scheduleWithoutContext() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        timer.scheduleWithoutContext(50, fired::countDown, null);
+        TimerTask cancelledTask = timer.scheduleWithoutContext(10_000, () -> {
+        }, executor);
+
+        assertThat(timer.countScheduledTasksTotal()).isEqualTo(2);
+        assertThat(cancelledTask.cancel()).isTrue();
+        assertThat(cancelledTask.isDone()).isTrue();
+
+        assertThat(fired.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(timer.countFiredTasksTotal()).isEqualTo(1);
+        assertThat(timer.countScheduledTasks()).isZero();
+    }
 }
@@ -0,0 +1,162 @@
+package io.smallrye.faulttolerance.core.tracing;
+
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.sync;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
+import io.smallrye.faulttolerance.core.bulkhead.BulkheadEvents;
+import io.smallrye.faulttolerance.core.circuit.breaker.CircuitBreakerEvents;
+import io.smallrye.faulttolerance.core.fallback.FallbackEvents;
+import io.smallrye.faulttolerance.core.load.shedding.LoadSheddingEvents;
+import io.smallrye.faulttolerance.core.rate.limit.RateLimitEvents;
+import io.smallrye.faulttolerance.core.retry.RetryEvents;
+import io.smallrye.faulttolerance.core.timeout.TimeoutEvents;
+import io.smallrye.faulttolerance.core.util.TestException;
+import io.smallrye.faulttolerance.core.util.TestInvocation;
+
+public class TracingCollectorTest {
+    private InMemorySpanExporter exporter;
+    private SdkTracerProvider tracerProvider;
+    private Tracer tracer;
+
+    @BeforeEach
+    public void setUp() {
+        exporter = InMemorySpanExporter.create();
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build();
+        tracer = tracerProvider.get(OpenTelemetryTracingProvider.INSTRUMENTATION_SCOPE);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    public void disabled() {
+        FaultToleranceStrategy<String> invocation = TestInvocation.of(() -> "foobar");
+        assertThat(TracingProvider.DISABLED.createCollector(invocation, "test invocation")).isSameAs(invocation);
+    }
+
+    @Test
+    public void spansAndEvents() throws Throwable {
+        FaultToleranceStrategy<String> collector = new OpenTelemetryTracingProvider(tracer)
+                .createCollector(firingEvents(), "test invocation");
+        assertThat(collector.apply(sync(null)).awaitBlocking()).isEqualTo("foobar");
+
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        SpanData invocationSpan = spans.stream()
+                .filter(it -> it.getName().equals("test invocation"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(invocationSpan.getStatus().getStatusCode()).isEqualTo(StatusCode.UNSET);
+        assertThat(invocationSpan.getAttributes().get(TracingCollector.RETRY_RESULT)).isEqualTo("VALUE_RETURNED");
+        assertThat(invocationSpan.getEvents()).extracting(EventData::getName).containsExactly(
+                TracingCollector.BULKHEAD_REJECTED_EVENT,
+                TracingCollector.TIMEOUT_EVENT,
+                TracingCollector.CIRCUIT_BREAKER_STATE_TRANSITION_EVENT,
+                TracingCollector.CIRCUIT_BREAKER_REJECTED_EVENT,
+                TracingCollector.RATE_LIMIT_REJECTED_EVENT,
+                TracingCollector.LOAD_SHEDDING_REJECTED_EVENT,
+                TracingCollector.FALLBACK_APPLIED_EVENT);
+        assertThat(invocationSpan.getEvents().get(2).getAttributes().get(TracingCollector.CIRCUIT_BREAKER_STATE))
+                .isEqualTo("OPEN");
+
+        List<SpanData> childSpans = spans.stream()
+                .filter(it -> it.getParentSpanId().equals(invocationSpan.getSpanId()))
+                .toList();
+        assertThat(childSpans).extracting(SpanData::getName).containsExactlyInAnyOrder(
+                TracingCollector.BULKHEAD_WAIT_SPAN,
+                TracingCollector.RETRY_ATTEMPT_SPAN,
+                TracingCollector.RATE_LIMIT_WAIT_SPAN,
+                TracingCollector.RETRY_ATTEMPT_SPAN);
+        assertThat(childSpans)
+                .filteredOn(it -> it.getName().equals(TracingCollector.RETRY_ATTEMPT_SPAN))
+                .extracting(it -> it.getAttributes().get(TracingCollector.RETRY_ATTEMPT))
+                .containsExactlyInAnyOrder(0L, 1L);
+        assertThat(childSpans).allSatisfy(it -> {
+            assertThat(it.getTraceId()).isEqualTo(invocationSpan.getTraceId());
+        });
+    }
+
+    @Test
+    public void spanCurrentDuringInvocation() throws Throwable {
+        FaultToleranceStrategy<String> invocation = TestInvocation.of(() -> Span.current().getSpanContext().getSpanId());
+        FaultToleranceStrategy<String> collector = new OpenTelemetryTracingProvider(tracer)
+                .createCollector(invocation, "test invocation");
+
+        String currentSpanId = collector.apply(sync(null)).awaitBlocking();
+
+        assertThat(exporter.getFinishedSpanItems()).hasSize(1);
+        assertThat(exporter.getFinishedSpanItems().get(0).getSpanId()).isEqualTo(currentSpanId);
+        assertThat(Span.current().getSpanContext().isValid()).isFalse();
+    }
+
+    @Test
+    public void failure() {
+        FaultToleranceStrategy<String> invocation = TestInvocation.of(TestException::doThrow);
+        FaultToleranceStrategy<String> collector = new OpenTelemetryTracingProvider(tracer)
+                .createCollector(invocation, "test invocation");
+
+        assertThatCode(collector.apply(sync(null))::awaitBlocking).isExactlyInstanceOf(TestException.class);
+
+        assertThat(exporter.getFinishedSpanItems()).hasSize(1);
+        SpanData span = exporter.getFinishedSpanItems().get(0);
+        assertThat(span.getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+        assertThat(span.getEvents()).extracting(EventData::getName).containsExactly("exception");
+    }
+
+    // fires the same events as the real strategies would, without the timing complexity
+    private static FaultToleranceStrategy<String> firingEvents() {
+        FaultToleranceStrategy<String> invocation = TestInvocation.of(() -> "foobar");
+        return ctx -> {
+            ctx.fireEvent(FallbackEvents.Defined.INSTANCE);
+
+            ctx.fireEvent(BulkheadEvents.DecisionMade.REJECTED);
+            ctx.fireEvent(BulkheadEvents.DecisionMade.ACCEPTED);
+            ctx.fireEvent(BulkheadEvents.StartedWaiting.INSTANCE);
+            ctx.fireEvent(BulkheadEvents.FinishedWaiting.INSTANCE);
+            ctx.fireEvent(BulkheadEvents.StartedRunning.INSTANCE);
+            ctx.fireEvent(BulkheadEvents.FinishedRunning.INSTANCE);
+
+            ctx.fireEvent(RetryEvents.AttemptStarted.INSTANCE);
+            ctx.fireEvent(TimeoutEvents.Started.INSTANCE);
+            ctx.fireEvent(TimeoutEvents.Finished.TIMED_OUT);
+            ctx.fireEvent(CircuitBreakerEvents.Finished.FAILURE);
+            ctx.fireEvent(CircuitBreakerEvents.StateTransition.TO_OPEN);
+            ctx.fireEvent(RetryEvents.AttemptFinished.INSTANCE);
+
+            ctx.fireEvent(RetryEvents.Retried.INSTANCE);
+            ctx.fireEvent(RetryEvents.AttemptStarted.INSTANCE);
+            ctx.fireEvent(CircuitBreakerEvents.Finished.PREVENTED);
+            ctx.fireEvent(RateLimitEvents.DecisionMade.REJECTED);
+            ctx.fireEvent(RateLimitEvents.StartedWaiting.INSTANCE);
+            ctx.fireEvent(RateLimitEvents.FinishedWaiting.INSTANCE);
+            ctx.fireEvent(RateLimitEvents.DecisionMade.PERMITTED);
+            ctx.fireEvent(LoadSheddingEvents.DecisionMade.REJECTED);
+            ctx.fireEvent(LoadSheddingEvents.DecisionMade.ACCEPTED);
+            ctx.fireEvent(RetryEvents.AttemptFinished.INSTANCE);
+            ctx.fireEvent(RetryEvents.Finished.VALUE_RETURNED);
+
+            ctx.fireEvent(FallbackEvents.Applied.INSTANCE);
+
+            return invocation.apply(ctx);
+        };
+    }
+}
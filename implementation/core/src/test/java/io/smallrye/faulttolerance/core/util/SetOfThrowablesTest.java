@@ -74,4 +74,17 @@ public class SetOfThrowablesTest {
         assertThat(set.includes(RuntimeException.class)).isTrue();
         assertThat(set.includes(Error.class)).isTrue();
     }
+
+    @Test
+    public void repeatedLookups_differentSets() {
+        SetOfThrowables exceptions = SetOfThrowables.create(Exception.class);
+        SetOfThrowables errors = SetOfThrowables.create(Error.class);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(exceptions.includes(RuntimeException.class)).isTrue();
+            assertThat(exceptions.includes(Error.class)).isFalse();
+            assertThat(errors.includes(RuntimeException.class)).isFalse();
+            assertThat(errors.includes(Error.class)).isTrue();
+        }
+    }
 }
@@ -0,0 +1,26 @@
+package io.smallrye.faulttolerance;
+
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import io.smallrye.faulttolerance.config.FaultToleranceOperation;
+import io.smallrye.faulttolerance.core.bulkhead.BulkheadPool;
+import io.smallrye.faulttolerance.core.bulkhead.BulkheadPoolRegistry;
+
+@Singleton
+public class CdiBulkheadPoolRegistry extends BulkheadPoolRegistry {
+    @Inject
+    public CdiBulkheadPoolRegistry(BeanManager beanManager) {
+        FaultToleranceExtension extension = beanManager.getExtension(FaultToleranceExtension.class);
+        // bulkheads are created lazily, but reservations must be effective before any of them is first used
+        for (FaultToleranceOperation operation : extension.getBulkheadPoolOperations()) {
+            member(operation);
+        }
+    }
+
+    public BulkheadPool.Member member(FaultToleranceOperation operation) {
+        return get(operation.getBulkheadPool().value(), operation.getBulkheadPool().size())
+                .join(operation, operation.getBulkheadPool().reserved());
+    }
+}
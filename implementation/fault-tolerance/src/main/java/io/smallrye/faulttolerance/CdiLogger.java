@@ -7,6 +7,7 @@ import jakarta.enterprise.inject.spi.DefinitionException;
 
 import org.jboss.logging.BasicLogger;
 import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
@@ -54,4 +55,28 @@ interface CdiLogger extends BasicLogger {
 
     @Message(id = 10, value = "Guard/TypedGuard with identifier 'global' is not allowed: %s")
     DefinitionException guardWithIdentifierGlobal(String bean);
+
+    @Message(id = 11, value = "@BulkheadPool present on '%s', but @Bulkhead is missing")
+    DefinitionException bulkheadPoolAnnotationWithoutBulkhead(MethodDescriptor method);
+
+    DefinitionException bulkheadPoolAnnotationWithoutBulkhead(Class<?> clazz);
+
+    @Message(id = 12, value = "Bulkhead pool '%s' declared with different sizes: %s")
+    DefinitionException bulkheadPoolWithDifferentSizes(String name, Set<String> useSites);
+
+    @Message(id = 13, value = "Bulkhead pool '%s' has more permits reserved than its size: %s")
+    DefinitionException bulkheadPoolReservationsExceedSize(String name, Set<String> useSites);
+
+    @Message(id = 14, value = "@AdaptiveTimeout present on '%s', but @Timeout is missing")
+    DefinitionException adaptiveTimeoutAnnotationWithoutTimeout(MethodDescriptor method);
+
+    DefinitionException adaptiveTimeoutAnnotationWithoutTimeout(Class<?> clazz);
+
+    @Message(id = 15, value = "Eagerly initialized %d fault tolerance operations in %d ms")
+    @LogMessage
+    void eagerInitializationFinished(int count, long millis);
+
+    @Message(id = 16, value = "Eager initialization of '%s' failed, will be retried on first invocation")
+    @LogMessage(level = Logger.Level.WARN)
+    void eagerInitializationFailed(String operation, @Cause Throwable cause);
 }
@@ -0,0 +1,62 @@
+package io.smallrye.faulttolerance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.smallrye.faulttolerance.api.FaultToleranceSnapshot;
+import io.smallrye.faulttolerance.autoconfig.ConfigConstants;
+import io.smallrye.faulttolerance.core.inspection.FaultToleranceJmx;
+import io.smallrye.faulttolerance.core.inspection.FaultToleranceSnapshotImpl;
+import io.smallrye.faulttolerance.core.inspection.GuardState;
+import io.smallrye.faulttolerance.internal.StrategyCache;
+
+@Singleton
+public class CdiSnapshots {
+    // dependencies are only looked up when a snapshot is taken, to avoid creating them eagerly on startup
+    // (some of them read configuration when they are created)
+    private final Provider<StrategyCache> cache;
+    private final Provider<CdiSpi.EagerDependencies> eagerDependencies;
+    private final Provider<ExecutorHolder> executorHolder;
+
+    private final FaultToleranceJmx jmx;
+
+    @Inject
+    CdiSnapshots(Provider<StrategyCache> cache, Provider<CdiSpi.EagerDependencies> eagerDependencies,
+            Provider<ExecutorHolder> executorHolder,
+            @ConfigProperty(name = ConfigConstants.PREFIX + "jmx.enabled") Optional<Boolean> jmxEnabled) {
+        this.cache = cache;
+        this.eagerDependencies = eagerDependencies;
+        this.executorHolder = executorHolder;
+        this.jmx = jmxEnabled.orElse(false) ? new FaultToleranceJmx(this::snapshot) : null;
+    }
+
+    void startup(@Observes @Initialized(ApplicationScoped.class) Object ignored) {
+        if (jmx != null) {
+            jmx.register();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (jmx != null) {
+            jmx.unregister();
+        }
+    }
+
+    public FaultToleranceSnapshot snapshot() {
+        List<GuardState> states = new ArrayList<>(cache.get().getGuardStates());
+        states.addAll(eagerDependencies.get().guardStates().states());
+        return FaultToleranceSnapshotImpl.of(states, executorHolder.get().getTimer());
+    }
+}
@@ -1,6 +1,7 @@
 package io.smallrye.faulttolerance;
 
 import java.lang.reflect.Type;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 
 import jakarta.enterprise.inject.spi.CDI;
@@ -8,7 +9,9 @@ import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 import io.smallrye.faulttolerance.api.CircuitBreakerMaintenance;
+import io.smallrye.faulttolerance.api.FaultToleranceSnapshot;
 import io.smallrye.faulttolerance.api.Guard;
+import io.smallrye.faulttolerance.api.RecordedEvent;
 import io.smallrye.faulttolerance.api.Spi;
 import io.smallrye.faulttolerance.api.TypedGuard;
 import io.smallrye.faulttolerance.apiimpl.BasicCircuitBreakerMaintenanceImpl;
@@ -16,9 +19,14 @@ import io.smallrye.faulttolerance.apiimpl.BuilderEagerDependencies;
 import io.smallrye.faulttolerance.apiimpl.BuilderLazyDependencies;
 import io.smallrye.faulttolerance.apiimpl.GuardImpl;
 import io.smallrye.faulttolerance.apiimpl.TypedGuardImpl;
+import io.smallrye.faulttolerance.core.bulkhead.BulkheadPoolRegistry;
 import io.smallrye.faulttolerance.core.event.loop.EventLoop;
+import io.smallrye.faulttolerance.core.inspection.EventBuffer;
+import io.smallrye.faulttolerance.core.inspection.GuardStateRegistry;
+import io.smallrye.faulttolerance.core.load.shedding.SystemLoadMonitor;
 import io.smallrye.faulttolerance.core.metrics.MetricsProvider;
 import io.smallrye.faulttolerance.core.timer.Timer;
+import io.smallrye.faulttolerance.core.tracing.TracingProvider;
 
 public class CdiSpi implements Spi {
     @Singleton
@@ -26,10 +34,25 @@ public class CdiSpi implements Spi {
         @Inject
         CircuitBreakerMaintenanceImpl cbMaintenance;
 
+        @Inject
+        CdiBulkheadPoolRegistry bulkheadPools;
+
+        private final GuardStateRegistry guardStates = new GuardStateRegistry();
+
         @Override
         public BasicCircuitBreakerMaintenanceImpl cbMaintenance() {
             return cbMaintenance;
         }
+
+        @Override
+        public BulkheadPoolRegistry bulkheadPools() {
+            return bulkheadPools;
+        }
+
+        @Override
+        public GuardStateRegistry guardStates() {
+            return guardStates;
+        }
     }
 
     @Singleton
@@ -43,6 +66,12 @@ public class CdiSpi implements Spi {
         @Inject
         MetricsProvider metricsProvider;
 
+        @Inject
+        EventBufferHolder eventBufferHolder;
+
+        @Inject
+        TracingProvider tracingProvider;
+
         @Override
         public boolean ftEnabled() {
             return enablement.ft();
@@ -63,10 +92,35 @@ public class CdiSpi implements Spi {
             return executorHolder.getTimer();
         }
 
+        @Override
+        public SystemLoadMonitor systemLoadMonitor() {
+            return executorHolder.getSystemLoadMonitor();
+        }
+
         @Override
         public MetricsProvider metricsProvider() {
             return metricsProvider;
         }
+
+        @Override
+        public EventBuffer eventBuffer() {
+            return eventBufferHolder.get();
+        }
+
+        @Override
+        public TracingProvider tracingProvider() {
+            return tracingProvider;
+        }
+
+        @Override
+        public boolean stacklessRejections() {
+            return enablement.stacklessRejections();
+        }
+
+        @Override
+        public boolean flightRecorderEnabled() {
+            return enablement.flightRecorder();
+        }
     }
 
     private BuilderEagerDependencies eagerDependencies() {
@@ -110,4 +164,16 @@ public class CdiSpi implements Spi {
     public CircuitBreakerMaintenance circuitBreakerMaintenance() {
         return eagerDependencies().cbMaintenance();
     }
+
+    @Override
+    public FaultToleranceSnapshot snapshot() {
+        // always lookup from current CDI container, see above
+        return CDI.current().select(CdiSnapshots.class).get().snapshot();
+    }
+
+    @Override
+    public List<RecordedEvent> recentEvents() {
+        // always lookup from current CDI container, see above
+        return CDI.current().select(EventBufferHolder.class).get().dump();
+    }
 }
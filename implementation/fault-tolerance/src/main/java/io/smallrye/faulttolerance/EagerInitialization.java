@@ -0,0 +1,95 @@
+package io.smallrye.faulttolerance;
+
+import static io.smallrye.faulttolerance.CdiLogger.LOG;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import io.smallrye.faulttolerance.api.Guard;
+import io.smallrye.faulttolerance.api.TypedGuard;
+import io.smallrye.faulttolerance.config.FaultToleranceOperation;
+import io.smallrye.faulttolerance.core.metrics.MetricsProvider;
+import io.smallrye.faulttolerance.core.tracing.TracingProvider;
+import io.smallrye.faulttolerance.internal.StrategyCache;
+
+/**
+ * Creates the chains of fault tolerance strategies (including fallback methods, metrics and guards
+ * used by {@code @ApplyGuard}) for all known fault tolerance operations during deployment, instead
+ * of on their first invocation. The chains are stored into the {@link StrategyCache}, so they are
+ * picked up by all interceptor instances.
+ * <p>
+ * Only used when {@code smallrye.faulttolerance.eager-initialization.enabled} is {@code true}.
+ */
+@Singleton
+public class EagerInitialization {
+    private final FaultToleranceInterceptor interceptor;
+    private final ExecutorService executor;
+
+    @Inject
+    EagerInitialization(
+            FaultToleranceOperationProvider operationProvider,
+            StrategyCache cache,
+            FallbackHandlerProvider fallbackHandlerProvider,
+            BeforeRetryHandlerProvider beforeRetryHandlerProvider,
+            MetricsProvider metricsProvider,
+            ExecutorHolder executorHolder,
+            RequestContextIntegration requestContextIntegration,
+            CircuitBreakerMaintenanceImpl cbMaintenance,
+            CdiBulkheadPoolRegistry bulkheadPools,
+            SpecCompatibility specCompatibility,
+            Enablement enablement,
+            EventBufferHolder eventBufferHolder,
+            TracingProvider tracingProvider,
+            @Any Instance<Guard> configuredGuard,
+            @Any Instance<TypedGuard<?>> configuredTypedGuard) {
+        // this interceptor instance is never used for intercepting, it only prepares
+        // the same data as the interceptor instances created by the CDI container
+        this.interceptor = new FaultToleranceInterceptor(null, operationProvider, cache, fallbackHandlerProvider,
+                beforeRetryHandlerProvider, metricsProvider, executorHolder, requestContextIntegration, cbMaintenance,
+                bulkheadPools, specCompatibility, enablement, eventBufferHolder, tracingProvider, configuredGuard,
+                configuredTypedGuard);
+        this.executor = executorHolder.getAsyncExecutor();
+    }
+
+    void run(Collection<FaultToleranceOperation> operations) {
+        long start = System.nanoTime();
+
+        // configuration is looked up using the TCCL, which may not be set on the executor threads
+        ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+
+        List<CompletableFuture<Void>> tasks = new ArrayList<>(operations.size());
+        for (FaultToleranceOperation operation : operations) {
+            Runnable task = () -> {
+                Thread thread = Thread.currentThread();
+                ClassLoader originalTccl = thread.getContextClassLoader();
+                thread.setContextClassLoader(tccl);
+                try {
+                    interceptor.initializeEagerly(operation.getBeanClass(), operation.getMethodDescriptor().reflect());
+                } catch (Exception e) {
+                    LOG.eagerInitializationFailed(operation.getName(), e);
+                } finally {
+                    thread.setContextClassLoader(originalTccl);
+                }
+            };
+            try {
+                tasks.add(CompletableFuture.runAsync(task, executor));
+            } catch (RejectedExecutionException e) {
+                // the executor may have a bounded queue
+                task.run();
+            }
+        }
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+
+        LOG.eagerInitializationFinished(operations.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+}
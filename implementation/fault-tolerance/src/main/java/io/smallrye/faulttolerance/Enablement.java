@@ -13,15 +13,22 @@ import io.smallrye.faulttolerance.autoconfig.ConfigConstants;
 public class Enablement {
     private final boolean ftEnabled;
     private final boolean metricsEnabled;
+    private final boolean stacklessRejectionsEnabled;
+    private final boolean flightRecorderEnabled;
 
     @Inject
     Enablement(
             @ConfigProperty(name = ConfigConstants.PREFIX + "enabled") Optional<Boolean> newFtEnabled,
             @ConfigProperty(name = "MP_Fault_Tolerance_NonFallback_Enabled") Optional<Boolean> oldFtEnabled,
             @ConfigProperty(name = ConfigConstants.PREFIX + "metrics.enabled") Optional<Boolean> newMetricsEnabled,
-            @ConfigProperty(name = "MP_Fault_Tolerance_Metrics_Enabled") Optional<Boolean> oldMetricsEnabled) {
+            @ConfigProperty(name = "MP_Fault_Tolerance_Metrics_Enabled") Optional<Boolean> oldMetricsEnabled,
+            @ConfigProperty(name = ConfigConstants.PREFIX
+                    + "stackless-rejections.enabled") Optional<Boolean> stacklessRejections,
+            @ConfigProperty(name = ConfigConstants.PREFIX + "jfr.enabled") Optional<Boolean> flightRecorder) {
         ftEnabled = newFtEnabled.orElse(oldFtEnabled.orElse(true));
         metricsEnabled = newMetricsEnabled.orElse(oldMetricsEnabled.orElse(true));
+        stacklessRejectionsEnabled = stacklessRejections.orElse(false);
+        flightRecorderEnabled = flightRecorder.orElse(false);
     }
 
     public boolean ft() {
@@ -31,4 +38,12 @@ public class Enablement {
     public boolean metrics() {
         return metricsEnabled;
     }
+
+    public boolean stacklessRejections() {
+        return stacklessRejectionsEnabled;
+    }
+
+    public boolean flightRecorder() {
+        return flightRecorderEnabled;
+    }
 }
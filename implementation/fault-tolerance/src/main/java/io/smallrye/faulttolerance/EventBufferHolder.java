@@ -0,0 +1,34 @@
+package io.smallrye.faulttolerance;
+
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.smallrye.faulttolerance.api.RecordedEvent;
+import io.smallrye.faulttolerance.autoconfig.ConfigConstants;
+import io.smallrye.faulttolerance.core.inspection.EventBuffer;
+
+@Singleton
+public class EventBufferHolder {
+    private final EventBuffer eventBuffer;
+
+    @Inject
+    EventBufferHolder(@ConfigProperty(name = ConfigConstants.PREFIX + "event-buffer.size") Optional<Integer> size) {
+        this.eventBuffer = size.orElse(0) > 0 ? new EventBuffer(size.get()) : null;
+    }
+
+    /**
+     * Returns the buffer of recent events, or {@code null} if it is disabled.
+     */
+    public EventBuffer get() {
+        return eventBuffer;
+    }
+
+    public List<RecordedEvent> dump() {
+        return eventBuffer != null ? eventBuffer.dump() : List.of();
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 import io.smallrye.faulttolerance.core.event.loop.EventLoop;
+import io.smallrye.faulttolerance.core.load.shedding.SystemLoadMonitor;
 import io.smallrye.faulttolerance.core.timer.ThreadTimer;
 import io.smallrye.faulttolerance.core.timer.Timer;
 
@@ -19,6 +20,8 @@ public class ExecutorHolder {
 
     private final Timer timer;
 
+    private final SystemLoadMonitor systemLoadMonitor;
+
     private final boolean shouldShutdownAsyncExecutor;
 
     @Inject
@@ -26,6 +29,7 @@ public class ExecutorHolder {
         this.asyncExecutor = asyncExecutorProvider.get();
         this.eventLoop = EventLoop.get();
         this.timer = new ThreadTimer(asyncExecutor);
+        this.systemLoadMonitor = new SystemLoadMonitor(timer);
         this.shouldShutdownAsyncExecutor = asyncExecutorProvider instanceof DefaultAsyncExecutorProvider;
     }
 
@@ -62,4 +66,8 @@ public class ExecutorHolder {
     public Timer getTimer() {
         return timer;
     }
+
+    public SystemLoadMonitor getSystemLoadMonitor() {
+        return systemLoadMonitor;
+    }
 }
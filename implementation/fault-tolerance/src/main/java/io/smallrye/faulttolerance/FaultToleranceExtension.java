@@ -23,7 +23,9 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
@@ -59,16 +61,20 @@ import org.eclipse.microprofile.faulttolerance.Retry;
 import org.eclipse.microprofile.faulttolerance.Timeout;
 
 import io.smallrye.common.annotation.Identifier;
+import io.smallrye.faulttolerance.api.AdaptiveTimeout;
 import io.smallrye.faulttolerance.api.ApplyGuard;
 import io.smallrye.faulttolerance.api.AsynchronousNonBlocking;
 import io.smallrye.faulttolerance.api.BeforeRetry;
+import io.smallrye.faulttolerance.api.BulkheadPool;
 import io.smallrye.faulttolerance.api.CustomBackoff;
 import io.smallrye.faulttolerance.api.ExponentialBackoff;
 import io.smallrye.faulttolerance.api.FibonacciBackoff;
 import io.smallrye.faulttolerance.api.Guard;
+import io.smallrye.faulttolerance.api.LoadShedding;
 import io.smallrye.faulttolerance.api.RateLimit;
 import io.smallrye.faulttolerance.api.RetryWhen;
 import io.smallrye.faulttolerance.api.TypedGuard;
+import io.smallrye.faulttolerance.autoconfig.ConfigConstants;
 import io.smallrye.faulttolerance.autoconfig.FaultToleranceMethod;
 import io.smallrye.faulttolerance.config.FaultToleranceMethods;
 import io.smallrye.faulttolerance.config.FaultToleranceOperation;
@@ -78,6 +84,8 @@ import io.smallrye.faulttolerance.metrics.MetricsIntegration;
 import io.smallrye.faulttolerance.metrics.MicrometerProvider;
 import io.smallrye.faulttolerance.metrics.NoopProvider;
 import io.smallrye.faulttolerance.metrics.OpenTelemetryProvider;
+import io.smallrye.faulttolerance.tracing.NoopTracing;
+import io.smallrye.faulttolerance.tracing.OpenTelemetryTracing;
 
 public class FaultToleranceExtension implements Extension {
 
@@ -93,6 +101,9 @@ public class FaultToleranceExtension implements Extension {
 
     private final ConcurrentMap<String, Set<String>> existingCircuitBreakerNames = new ConcurrentHashMap<>();
 
+    // pool name -> bean class and method -> operation
+    private final ConcurrentMap<String, Map<String, FaultToleranceOperation>> existingBulkheadPools = new ConcurrentHashMap<>();
+
     private final ConcurrentMap<String, Set<String>> existingGuards = new ConcurrentHashMap<>();
 
     private final Set<String> expectedGuards = ConcurrentHashMap.newKeySet();
@@ -138,8 +149,8 @@ public class FaultToleranceExtension implements Extension {
     void registerInterceptorBindings(@Observes BeforeBeanDiscovery bbd, BeanManager bm) {
         LOG.activated(getImplementationVersion().orElse("unknown"));
 
-        // certain SmallRye annotations (@CircuitBreakerName, @*Backoff, @RetryWhen, @BeforeRetry)
-        // do _not_ trigger the fault tolerance interceptor alone, only in combination
+        // certain SmallRye annotations (@AdaptiveTimeout, @BulkheadPool, @CircuitBreakerName, @*Backoff,
+        // @RetryWhen, @BeforeRetry) do _not_ trigger the fault tolerance interceptor alone, only in combination
         // with other fault tolerance annotations
         bbd.addInterceptorBinding(new FTInterceptorBindingAnnotatedType<>(bm.createAnnotatedType(ApplyGuard.class)));
         bbd.addInterceptorBinding(new FTInterceptorBindingAnnotatedType<>(bm.createAnnotatedType(Asynchronous.class)));
@@ -148,6 +159,7 @@ public class FaultToleranceExtension implements Extension {
         bbd.addInterceptorBinding(new FTInterceptorBindingAnnotatedType<>(bm.createAnnotatedType(Bulkhead.class)));
         bbd.addInterceptorBinding(new FTInterceptorBindingAnnotatedType<>(bm.createAnnotatedType(CircuitBreaker.class)));
         bbd.addInterceptorBinding(new FTInterceptorBindingAnnotatedType<>(bm.createAnnotatedType(Fallback.class)));
+        bbd.addInterceptorBinding(new FTInterceptorBindingAnnotatedType<>(bm.createAnnotatedType(LoadShedding.class)));
         bbd.addInterceptorBinding(new FTInterceptorBindingAnnotatedType<>(bm.createAnnotatedType(RateLimit.class)));
         bbd.addInterceptorBinding(new FTInterceptorBindingAnnotatedType<>(bm.createAnnotatedType(Retry.class)));
         bbd.addInterceptorBinding(new FTInterceptorBindingAnnotatedType<>(bm.createAnnotatedType(Timeout.class)));
@@ -167,8 +179,11 @@ public class FaultToleranceExtension implements Extension {
         bbd.addAnnotatedType(bm.createAnnotatedType(DefaultExistingCircuitBreakerNames.class),
                 DefaultExistingCircuitBreakerNames.class.getName());
         bbd.addAnnotatedType(bm.createAnnotatedType(StrategyCache.class), StrategyCache.class.getName());
+        bbd.addAnnotatedType(bm.createAnnotatedType(EagerInitialization.class), EagerInitialization.class.getName());
         bbd.addAnnotatedType(bm.createAnnotatedType(CircuitBreakerMaintenanceImpl.class),
                 CircuitBreakerMaintenanceImpl.class.getName());
+        bbd.addAnnotatedType(bm.createAnnotatedType(CdiBulkheadPoolRegistry.class),
+                CdiBulkheadPoolRegistry.class.getName());
         bbd.addAnnotatedType(bm.createAnnotatedType(RequestContextIntegration.class),
                 RequestContextIntegration.class.getName());
         bbd.addAnnotatedType(bm.createAnnotatedType(SpecCompatibility.class), SpecCompatibility.class.getName());
@@ -177,6 +192,14 @@ public class FaultToleranceExtension implements Extension {
                 CdiSpi.EagerDependencies.class.getName());
         bbd.addAnnotatedType(bm.createAnnotatedType(CdiSpi.LazyDependencies.class),
                 CdiSpi.LazyDependencies.class.getName());
+        bbd.addAnnotatedType(bm.createAnnotatedType(CdiSnapshots.class), CdiSnapshots.class.getName());
+        bbd.addAnnotatedType(bm.createAnnotatedType(EventBufferHolder.class), EventBufferHolder.class.getName());
+
+        if (isPresent("io.opentelemetry.api.trace.Tracer")) {
+            bbd.addAnnotatedType(bm.createAnnotatedType(OpenTelemetryTracing.class), OpenTelemetryTracing.class.getName());
+        } else {
+            bbd.addAnnotatedType(bm.createAnnotatedType(NoopTracing.class), NoopTracing.class.getName());
+        }
 
         if (metricsIntegrations.size() > 1) {
             bbd.addAnnotatedType(bm.createAnnotatedType(CompoundMetricsProvider.class),
@@ -235,6 +258,12 @@ public class FaultToleranceExtension implements Extension {
                             .add(annotatedMethod.getJavaMember().toGenericString());
                 }
 
+                if (operation.hasBulkhead() && operation.hasBulkheadPool()) {
+                    existingBulkheadPools
+                            .computeIfAbsent(operation.getBulkheadPool().value(), ignored -> new ConcurrentHashMap<>())
+                            .put(getCacheKey(annotatedType.getJavaClass(), annotatedMethod.getJavaMember()), operation);
+                }
+
                 if (operation.hasApplyGuard()) {
                     expectedGuards.add(operation.getApplyGuard().value());
                 }
@@ -262,6 +291,26 @@ public class FaultToleranceExtension implements Extension {
                     event.addDefinitionError(LOG.retryWhenAnnotationWithoutRetry(annotatedType.getJavaClass()));
                 }
 
+                if (annotatedMethod.isAnnotationPresent(BulkheadPool.class)
+                        && !annotatedMethod.isAnnotationPresent(Bulkhead.class)) {
+                    event.addDefinitionError(LOG.bulkheadPoolAnnotationWithoutBulkhead(method.method));
+                }
+
+                if (annotatedType.isAnnotationPresent(BulkheadPool.class)
+                        && !annotatedType.isAnnotationPresent(Bulkhead.class)) {
+                    event.addDefinitionError(LOG.bulkheadPoolAnnotationWithoutBulkhead(annotatedType.getJavaClass()));
+                }
+
+                if (annotatedMethod.isAnnotationPresent(AdaptiveTimeout.class)
+                        && !annotatedMethod.isAnnotationPresent(Timeout.class)) {
+                    event.addDefinitionError(LOG.adaptiveTimeoutAnnotationWithoutTimeout(method.method));
+                }
+
+                if (annotatedType.isAnnotationPresent(AdaptiveTimeout.class)
+                        && !annotatedType.isAnnotationPresent(Timeout.class)) {
+                    event.addDefinitionError(LOG.adaptiveTimeoutAnnotationWithoutTimeout(annotatedType.getJavaClass()));
+                }
+
                 if (annotatedMethod.isAnnotationPresent(BeforeRetry.class)
                         && !annotatedMethod.isAnnotationPresent(Retry.class)) {
                     event.addDefinitionError(LOG.beforeRetryAnnotationWithoutRetry(method.method));
@@ -314,6 +363,24 @@ public class FaultToleranceExtension implements Extension {
         // don't clear the `existingCircuitBreakerNames`, they're used later
         // by `CircuitBreakerMaintenance` (see `getExistingCircuitBreakerNames()`)
 
+        for (Map.Entry<String, Map<String, FaultToleranceOperation>> entry : existingBulkheadPools.entrySet()) {
+            Set<Integer> sizes = new HashSet<>();
+            int reserved = 0;
+            for (FaultToleranceOperation operation : entry.getValue().values()) {
+                sizes.add(operation.getBulkheadPool().size());
+                reserved += operation.getBulkheadPool().reserved();
+            }
+            if (sizes.size() > 1) {
+                event.addDeploymentProblem(LOG.bulkheadPoolWithDifferentSizes(
+                        entry.getKey(), entry.getValue().keySet()));
+            } else if (reserved > sizes.iterator().next()) {
+                event.addDeploymentProblem(LOG.bulkheadPoolReservationsExceedSize(
+                        entry.getKey(), entry.getValue().keySet()));
+            }
+        }
+        // don't clear the `existingBulkheadPools`, they're used later
+        // by `CdiBulkheadPoolRegistry` (see `getBulkheadPoolOperations()`)
+
         for (Map.Entry<String, Set<String>> entry : existingGuards.entrySet()) {
             if (entry.getValue().size() > 1) {
                 event.addDeploymentProblem(LOG.multipleGuardsWithTheSameIdentifier(
@@ -329,6 +396,15 @@ public class FaultToleranceExtension implements Extension {
         expectedGuards.clear();
     }
 
+    void initializeEagerly(@Observes AfterDeploymentValidation event, BeanManager bm) {
+        boolean enabled = ConfigProvider.getConfig()
+                .getOptionalValue(ConfigConstants.PREFIX + "eager-initialization.enabled", Boolean.class)
+                .orElse(false);
+        if (enabled) {
+            bm.createInstance().select(EagerInitialization.class).get().run(getFaultToleranceOperations());
+        }
+    }
+
     private static String getCacheKey(Class<?> beanClass, Method method) {
         return beanClass.getName() + "::" + method.toGenericString();
     }
@@ -337,10 +413,22 @@ public class FaultToleranceExtension implements Extension {
         return faultToleranceOperations.get(getCacheKey(beanClass, method));
     }
 
+    Collection<FaultToleranceOperation> getFaultToleranceOperations() {
+        return faultToleranceOperations.values();
+    }
+
     Set<String> getExistingCircuitBreakerNames() {
         return existingCircuitBreakerNames.keySet();
     }
 
+    List<FaultToleranceOperation> getBulkheadPoolOperations() {
+        List<FaultToleranceOperation> result = new ArrayList<>();
+        for (Map<String, FaultToleranceOperation> operations : existingBulkheadPools.values()) {
+            result.addAll(operations.values());
+        }
+        return result;
+    }
+
     private static Optional<String> getImplementationVersion() {
         Properties properties = new Properties();
         try {
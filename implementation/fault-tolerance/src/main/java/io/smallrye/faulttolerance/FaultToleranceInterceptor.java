@@ -26,8 +26,10 @@ import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 import jakarta.annotation.Priority;
 import jakarta.enterprise.context.control.RequestContextController;
@@ -50,7 +52,9 @@ import io.smallrye.faulttolerance.api.BeforeRetryHandler;
 import io.smallrye.faulttolerance.api.CustomBackoffStrategy;
 import io.smallrye.faulttolerance.api.Guard;
 import io.smallrye.faulttolerance.api.NeverOnResult;
+import io.smallrye.faulttolerance.api.NoRateLimitKey;
 import io.smallrye.faulttolerance.api.TypedGuard;
+import io.smallrye.faulttolerance.api.UnitRateLimitCost;
 import io.smallrye.faulttolerance.apiimpl.AsyncInvocation;
 import io.smallrye.faulttolerance.apiimpl.GuardImpl;
 import io.smallrye.faulttolerance.apiimpl.LazyGuard;
@@ -72,15 +76,23 @@ import io.smallrye.faulttolerance.core.event.loop.EventLoop;
 import io.smallrye.faulttolerance.core.fallback.Fallback;
 import io.smallrye.faulttolerance.core.fallback.FallbackFunction;
 import io.smallrye.faulttolerance.core.fallback.ThreadOffloadFallbackFunction;
+import io.smallrye.faulttolerance.core.inspection.EventBuffer;
+import io.smallrye.faulttolerance.core.inspection.EventBufferCollector;
+import io.smallrye.faulttolerance.core.inspection.GuardState;
 import io.smallrye.faulttolerance.core.invocation.AsyncSupport;
 import io.smallrye.faulttolerance.core.invocation.ConstantInvoker;
 import io.smallrye.faulttolerance.core.invocation.Invoker;
 import io.smallrye.faulttolerance.core.invocation.StrategyInvoker;
+import io.smallrye.faulttolerance.core.jfr.FlightRecorderCollector;
+import io.smallrye.faulttolerance.core.jfr.FlightRecorderSupport;
+import io.smallrye.faulttolerance.core.load.shedding.LoadShedding;
+import io.smallrye.faulttolerance.core.load.shedding.SystemLoadMonitor;
 import io.smallrye.faulttolerance.core.metrics.MeteredOperation;
 import io.smallrye.faulttolerance.core.metrics.MeteredOperationName;
 import io.smallrye.faulttolerance.core.metrics.MetricsCollector;
 import io.smallrye.faulttolerance.core.metrics.MetricsProvider;
 import io.smallrye.faulttolerance.core.rate.limit.RateLimit;
+import io.smallrye.faulttolerance.core.rate.limit.RateLimitOptions;
 import io.smallrye.faulttolerance.core.retry.BackOff;
 import io.smallrye.faulttolerance.core.retry.ConstantBackOff;
 import io.smallrye.faulttolerance.core.retry.CustomBackOff;
@@ -92,18 +104,22 @@ import io.smallrye.faulttolerance.core.retry.Retry;
 import io.smallrye.faulttolerance.core.retry.ThreadSleepDelay;
 import io.smallrye.faulttolerance.core.retry.TimerDelay;
 import io.smallrye.faulttolerance.core.stopwatch.SystemStopwatch;
+import io.smallrye.faulttolerance.core.timeout.AdaptiveTimeout;
 import io.smallrye.faulttolerance.core.timeout.FutureTimeout;
 import io.smallrye.faulttolerance.core.timeout.Timeout;
 import io.smallrye.faulttolerance.core.timer.Timer;
+import io.smallrye.faulttolerance.core.tracing.TracingProvider;
 import io.smallrye.faulttolerance.core.util.ExceptionDecision;
 import io.smallrye.faulttolerance.core.util.PredicateBasedExceptionDecision;
 import io.smallrye.faulttolerance.core.util.PredicateBasedResultDecision;
 import io.smallrye.faulttolerance.core.util.ResultDecision;
 import io.smallrye.faulttolerance.core.util.SetBasedExceptionDecision;
 import io.smallrye.faulttolerance.core.util.SetOfThrowables;
+import io.smallrye.faulttolerance.internal.ApplyGuardTarget;
 import io.smallrye.faulttolerance.internal.BeforeRetryMethod;
 import io.smallrye.faulttolerance.internal.FallbackMethod;
 import io.smallrye.faulttolerance.internal.FallbackMethodCandidates;
+import io.smallrye.faulttolerance.internal.InterceptedMethod;
 import io.smallrye.faulttolerance.internal.InterceptionInvoker;
 import io.smallrye.faulttolerance.internal.InterceptionPoint;
 import io.smallrye.faulttolerance.internal.RequestScopeActivator;
@@ -139,12 +155,24 @@ public class FaultToleranceInterceptor {
 
     private final Timer timer;
 
+    private final SystemLoadMonitor systemLoadMonitor;
+
     private final RequestContextController requestContextController;
 
     private final CircuitBreakerMaintenanceImpl cbMaintenance;
 
+    private final CdiBulkheadPoolRegistry bulkheadPools;
+
     private final SpecCompatibility specCompatibility;
 
+    private final boolean stacklessRejections;
+
+    private final boolean flightRecorderEnabled;
+
+    private final EventBuffer eventBuffer;
+
+    private final TracingProvider tracingProvider;
+
     private final Instance<Guard> configuredGuard;
 
     private final Instance<TypedGuard<?>> configuredTypedGuard;
@@ -160,7 +188,11 @@ public class FaultToleranceInterceptor {
             ExecutorHolder executorHolder,
             RequestContextIntegration requestContextIntegration,
             CircuitBreakerMaintenanceImpl cbMaintenance,
+            CdiBulkheadPoolRegistry bulkheadPools,
             SpecCompatibility specCompatibility,
+            Enablement enablement,
+            EventBufferHolder eventBufferHolder,
+            TracingProvider tracingProvider,
             @Any Instance<Guard> configuredGuard,
             @Any Instance<TypedGuard<?>> configuredTypedGuard) {
         this.interceptedBean = interceptedBean;
@@ -172,9 +204,16 @@ public class FaultToleranceInterceptor {
         asyncExecutor = executorHolder.getAsyncExecutor();
         eventLoop = executorHolder.getEventLoop();
         timer = executorHolder.getTimer();
+        systemLoadMonitor = executorHolder.getSystemLoadMonitor();
         requestContextController = requestContextIntegration.get();
         this.cbMaintenance = cbMaintenance;
+        this.bulkheadPools = bulkheadPools;
         this.specCompatibility = specCompatibility;
+        this.stacklessRejections = enablement.stacklessRejections();
+        // the `FlightRecorderSupport` class must not be initialized unless enabled
+        this.flightRecorderEnabled = enablement.flightRecorder() && FlightRecorderSupport.isAvailable();
+        this.eventBuffer = eventBufferHolder.get();
+        this.tracingProvider = tracingProvider;
         this.configuredGuard = configuredGuard;
         this.configuredTypedGuard = configuredTypedGuard;
     }
@@ -183,18 +222,65 @@ public class FaultToleranceInterceptor {
     public Object intercept(InvocationContext invocationContext) throws Throwable {
         Method method = invocationContext.getMethod();
         Class<?> beanClass = interceptedBean != null ? interceptedBean.getBeanClass() : method.getDeclaringClass();
-        InterceptionPoint point = new InterceptionPoint(beanClass, invocationContext.getMethod());
-        FaultToleranceOperation operation = operationProvider.get(beanClass, method);
-
-        if (operation.hasApplyGuard()) {
-            return applyGuardFlow(operation, invocationContext, point);
-        } else if (specCompatibility.isOperationTrulyAsynchronous(operation)) {
-            return asyncFlow(operation, invocationContext, point);
-        } else if (specCompatibility.isOperationPseudoAsynchronous(operation)) {
-            return futureFlow(operation, invocationContext, point);
+        InterceptedMethod interceptedMethod = cache.getInterceptedMethod(beanClass, method, operationProvider::get);
+
+        switch (interceptedMethod.flow()) {
+            case APPLY_GUARD:
+                return applyGuardFlow(interceptedMethod, invocationContext);
+            case ASYNC:
+                return asyncFlow(interceptedMethod, invocationContext);
+            case FUTURE:
+                return futureFlow(interceptedMethod, invocationContext);
+            default:
+                return syncFlow(interceptedMethod, invocationContext);
+        }
+    }
+
+    // creates everything `intercept()` would create on the first invocation of given method,
+    // see `EagerInitialization`
+    void initializeEagerly(Class<?> beanClass, Method method) {
+        InterceptedMethod interceptedMethod = cache.getInterceptedMethod(beanClass, method, operationProvider::get);
+        FaultToleranceOperation operation = interceptedMethod.operation();
+        InterceptionPoint point = interceptedMethod.point();
+
+        switch (interceptedMethod.flow()) {
+            case APPLY_GUARD:
+                interceptedMethod.applyGuardTarget(() -> prepareApplyGuardTarget(interceptedMethod));
+                break;
+            case ASYNC:
+                if (interceptedMethod.asyncSupport() != null) {
+                    interceptedMethod.strategy(() -> prepareStrategy(operation, point));
+                }
+                break;
+            case FUTURE:
+                interceptedMethod.strategy(() -> prepareFutureStrategy(operation, point));
+                break;
+            default:
+                interceptedMethod.strategy(() -> prepareStrategy(operation, point));
+                break;
+        }
+    }
+
+    // V = value type, e.g. String
+    // T = result type, e.g. String or CompletionStage<String> or Uni<String>
+    //
+    // in synchronous scenario, V = T
+    // in asynchronous scenario, T is an async type that eventually produces V
+    private <V, T> T applyGuardFlow(InterceptedMethod interceptedMethod, InvocationContext invocationContext)
+            throws Exception {
+        ApplyGuardTarget target = interceptedMethod.applyGuardTarget(() -> prepareApplyGuardTarget(interceptedMethod));
+
+        // AsyncInvocation
+        AsyncSupport<V, T> asyncSupport = interceptedMethod.asyncSupport();
+        AsyncInvocation<V, T> asyncInvocation;
+        if (asyncSupport != null) {
+            asyncInvocation = new AsyncInvocation<>(asyncSupport, new InterceptionInvoker<>(invocationContext),
+                    invocationContext.getParameters());
         } else {
-            return syncFlow(operation, invocationContext, point);
+            asyncInvocation = null;
         }
+
+        return target.guard(() -> (T) invocationContext.proceed(), asyncInvocation, invocationContext);
     }
 
     // V = value type, e.g. String
@@ -202,8 +288,10 @@ public class FaultToleranceInterceptor {
     //
     // in synchronous scenario, V = T
     // in asynchronous scenario, T is an async type that eventually produces V
-    private <V, T> T applyGuardFlow(FaultToleranceOperation operation, InvocationContext invocationContext,
-            InterceptionPoint point) throws Exception {
+    private <V, T> ApplyGuardTarget prepareApplyGuardTarget(InterceptedMethod interceptedMethod) {
+        FaultToleranceOperation operation = interceptedMethod.operation();
+        InterceptionPoint point = interceptedMethod.point();
+
         String identifier = operation.getApplyGuard().value();
         Instance<Guard> guardInstance = configuredGuard.select(Identifier.Literal.of(identifier));
         Instance<TypedGuard<T>> typedGuardInstance = (Instance) configuredTypedGuard.select(Identifier.Literal.of(identifier));
@@ -215,17 +303,24 @@ public class FaultToleranceInterceptor {
                     + " with qualifier @" + Identifier.class.getName() + "(\"" + identifier + "\")");
         }
 
-        // AsyncInvocation
-        AsyncSupport<V, T> asyncSupport = cache.getAsyncSupport(point, operation);
-        AsyncInvocation<V, T> asyncInvocation;
-        if (asyncSupport != null) {
-            asyncInvocation = new AsyncInvocation<>(asyncSupport, new InterceptionInvoker<>(invocationContext),
-                    invocationContext.getParameters());
-        } else {
-            asyncInvocation = null;
+        GuardImpl guardImpl = null;
+        TypedGuardImpl<V, T> typedGuardImpl = null;
+        if (guardInstance.isResolvable()) {
+            Guard guard = guardInstance.get();
+            if (!(guard instanceof LazyGuard)) {
+                throw new FaultToleranceException("Configured Guard '" + identifier
+                        + "' is not created by the Guard API, this is not supported");
+            }
+            guardImpl = ((LazyGuard) guard).instance(identifier);
+        } else /* typedGuardInstance.isResolvable() */ {
+            TypedGuard<T> guard = typedGuardInstance.get();
+            if (!(guard instanceof LazyTypedGuard)) {
+                throw new FaultToleranceException("Configured TypedGuard '" + identifier
+                        + "' is not created by the TypedGuard API, this is not supported");
+            }
+            typedGuardImpl = ((LazyTypedGuard<V, T>) guard).instance(identifier);
         }
 
-        // context modifier
         FallbackFunction<V> fallbackFunction;
         ExceptionDecision exceptionDecision;
         if (operation.hasFallback()) {
@@ -237,90 +332,58 @@ public class FaultToleranceInterceptor {
             fallbackFunction = null;
             exceptionDecision = null;
         }
-        Boolean threadOffload;
-        if (specCompatibility.isOperationTrulyAsynchronous(operation)) {
-            threadOffload = operation.isThreadOffloadRequired();
+        ThreadOffloadEnabled threadOffload;
+        if (interceptedMethod.isTrulyAsynchronous()) {
+            threadOffload = new ThreadOffloadEnabled(operation.isThreadOffloadRequired());
         } else {
             threadOffload = null;
         }
         MeteredOperationName meteredOperationName = new MeteredOperationName(operation.getName());
 
-        Consumer<FaultToleranceContext<?>> contextModifier = ctx -> {
-            ctx.set(InvocationContext.class, invocationContext);
-
-            if (fallbackFunction != null) {
-                ctx.set(FallbackFunction.class, fallbackFunction);
-            }
-            if (exceptionDecision != null) {
-                ctx.set(ExceptionDecision.class, exceptionDecision);
-            }
-            if (threadOffload != null) {
-                ctx.set(ThreadOffloadEnabled.class, new ThreadOffloadEnabled(threadOffload));
-            }
-            ctx.set(MeteredOperationName.class, meteredOperationName);
-        };
-
-        // invocation itself
-        if (guardInstance.isResolvable()) {
-            Guard guard = guardInstance.get();
-            if (!(guard instanceof LazyGuard)) {
-                throw new FaultToleranceException("Configured Guard '" + identifier
-                        + "' is not created by the Guard API, this is not supported");
-            }
-            GuardImpl guardImpl = ((LazyGuard) guard).instance(identifier);
-
-            return guardImpl.guard(() -> (T) invocationContext.proceed(), asyncInvocation, contextModifier);
-        } else /* typedGuardInstance.isResolvable() */ {
-            TypedGuard<T> guard = typedGuardInstance.get();
-            if (!(guard instanceof LazyTypedGuard)) {
-                throw new FaultToleranceException("Configured TypedGuard '" + identifier
-                        + "' is not created by the TypedGuard API, this is not supported");
-            }
-            TypedGuardImpl<V, T> guardImpl = ((LazyTypedGuard<V, T>) guard).instance(identifier);
-
-            return guardImpl.guard(() -> (T) invocationContext.proceed(), asyncInvocation, contextModifier);
-        }
+        return new ApplyGuardTarget(guardImpl, typedGuardImpl, fallbackFunction, exceptionDecision, threadOffload,
+                meteredOperationName);
     }
 
     // V = value type, e.g. String
     // AT = async type that eventually produces V, e.g. CompletionStage<String> or Uni<String>
-    private <V, AT> AT asyncFlow(FaultToleranceOperation operation, InvocationContext invocationContext,
-            InterceptionPoint point) {
-        AsyncSupport<V, AT> asyncSupport = cache.getAsyncSupport(point, operation);
+    private <V, AT> AT asyncFlow(InterceptedMethod interceptedMethod, InvocationContext invocationContext) {
+        FaultToleranceOperation operation = interceptedMethod.operation();
+        AsyncSupport<V, AT> asyncSupport = interceptedMethod.asyncSupport();
         if (asyncSupport == null) {
             throw new FaultToleranceException("Unknown async invocation: " + operation);
         }
 
-        FaultToleranceStrategy<V> strategy = cache.getStrategy(point, () -> prepareStrategy(operation, point));
+        FaultToleranceStrategy<V> strategy = interceptedMethod.strategy(
+                () -> prepareStrategy(operation, interceptedMethod.point()));
 
         Invoker<AT> invoker = new InterceptionInvoker<>(invocationContext);
 
         FaultToleranceContext<V> ctx = faultToleranceContext(() -> asyncSupport.toFuture(invoker), invocationContext,
-                operation);
+                interceptedMethod);
 
         Invoker<Future<V>> wrapper = new StrategyInvoker<>(invocationContext.getParameters(), strategy, ctx);
         return asyncSupport.fromFuture(wrapper);
     }
 
-    private <V> V syncFlow(FaultToleranceOperation operation, InvocationContext invocationContext, InterceptionPoint point)
-            throws Throwable {
-        FaultToleranceStrategy<V> strategy = cache.getStrategy(point, () -> prepareStrategy(operation, point));
+    private <V> V syncFlow(InterceptedMethod interceptedMethod, InvocationContext invocationContext) throws Throwable {
+        FaultToleranceStrategy<V> strategy = interceptedMethod.strategy(
+                () -> prepareStrategy(interceptedMethod.operation(), interceptedMethod.point()));
 
         FaultToleranceContext<V> ctx = faultToleranceContext(
                 () -> Future.from(() -> (V) invocationContext.proceed()),
-                invocationContext, operation);
+                invocationContext, interceptedMethod);
 
         return strategy.apply(ctx).awaitBlocking();
     }
 
-    private <V> java.util.concurrent.Future<V> futureFlow(FaultToleranceOperation operation,
-            InvocationContext invocationContext, InterceptionPoint point) throws Throwable {
-        FaultToleranceStrategy<java.util.concurrent.Future<V>> strategy = cache.getStrategy(point,
-                () -> prepareFutureStrategy(operation, point));
+    private <V> java.util.concurrent.Future<V> futureFlow(InterceptedMethod interceptedMethod,
+            InvocationContext invocationContext) throws Throwable {
+        FaultToleranceStrategy<java.util.concurrent.Future<V>> strategy = interceptedMethod.strategy(
+                () -> prepareFutureStrategy(interceptedMethod.operation(), interceptedMethod.point()));
 
         FaultToleranceContext<java.util.concurrent.Future<V>> ctx = faultToleranceContext(
                 () -> Future.from(() -> (java.util.concurrent.Future<V>) invocationContext.proceed()),
-                invocationContext, operation);
+                invocationContext, interceptedMethod);
 
         try {
             // blocking is OK here because the first strategy in the chain, `FutureExecution`,
@@ -332,10 +395,10 @@ public class FaultToleranceInterceptor {
     }
 
     private <T> FaultToleranceContext<T> faultToleranceContext(Supplier<Future<T>> callable,
-            InvocationContext invocationContext, FaultToleranceOperation operation) {
+            InvocationContext invocationContext, InterceptedMethod interceptedMethod) {
+        FaultToleranceOperation operation = interceptedMethod.operation();
 
-        FaultToleranceContext<T> result = new FaultToleranceContext<>(callable,
-                specCompatibility.isOperationTrulyAsynchronous(operation));
+        FaultToleranceContext<T> result = new FaultToleranceContext<>(callable, interceptedMethod.isTrulyAsynchronous());
 
         result.set(InvocationContext.class, invocationContext);
 
@@ -349,6 +412,7 @@ public class FaultToleranceInterceptor {
 
     private <T> FaultToleranceStrategy<T> prepareStrategy(FaultToleranceOperation operation, InterceptionPoint point) {
         FaultToleranceStrategy<T> result = invocation();
+        GuardState guardState = new GuardState(point.toString());
 
         if (specCompatibility.isOperationTrulyAsynchronous(operation)) {
             result = new RequestScopeActivator<>(result, requestContextController);
@@ -359,36 +423,46 @@ public class FaultToleranceInterceptor {
         }
 
         if (operation.hasBulkhead()) {
-            result = new Bulkhead<>(result, point.toString(),
+            result = guardState.bulkhead(new Bulkhead<>(result, point.toString(),
                     operation.getBulkhead().value(),
                     operation.getBulkhead().waitingTaskQueue(),
-                    false);
+                    false,
+                    operation.hasBulkheadPool() ? bulkheadPools.member(operation) : null,
+                    stacklessRejections));
         }
 
         if (operation.hasTimeout()) {
             result = new Timeout<>(result, point.toString(),
                     timeInMillis(operation.getTimeout().value(), operation.getTimeout().unit()),
-                    timer);
+                    timer,
+                    prepareAdaptiveTimeout(operation));
         }
 
         if (operation.hasRateLimit()) {
-            result = new RateLimit<>(result, point.toString(),
+            result = guardState.rateLimit(new RateLimit<>(result, point.toString(),
                     operation.getRateLimit().value(),
                     timeInMillis(operation.getRateLimit().window(), operation.getRateLimit().windowUnit()),
                     timeInMillis(operation.getRateLimit().minSpacing(), operation.getRateLimit().minSpacingUnit()),
                     operation.getRateLimit().type(),
-                    SystemStopwatch.INSTANCE);
+                    SystemStopwatch.INSTANCE,
+                    prepareRateLimitOptions(operation)));
+        }
+
+        if (operation.hasLoadShedding()) {
+            result = new LoadShedding<>(result, point.toString(), operation.getLoadShedding().threshold(),
+                    systemLoadMonitor, stacklessRejections);
         }
 
         if (operation.hasCircuitBreaker()) {
-            result = new CircuitBreaker<>(result, point.toString(),
+            result = guardState.circuitBreaker(new CircuitBreaker<>(result, point.toString(),
                     createExceptionDecision(operation.getCircuitBreaker().skipOn(), operation.getCircuitBreaker().failOn()),
                     timeInMillis(operation.getCircuitBreaker().delay(), operation.getCircuitBreaker().delayUnit()),
                     operation.getCircuitBreaker().requestVolumeThreshold(),
                     operation.getCircuitBreaker().failureRatio(),
                     operation.getCircuitBreaker().successThreshold(),
                     SystemStopwatch.INSTANCE,
-                    timer);
+                    timer,
+                    stacklessRejections));
 
             String cbName = operation.hasCircuitBreakerName()
                     ? operation.getCircuitBreakerName().value()
@@ -399,7 +473,7 @@ public class FaultToleranceInterceptor {
         if (operation.hasRetry()) {
             Supplier<BackOff> backoff = prepareRetryBackoff(operation);
 
-            result = new Retry<>(result, point.toString(),
+            result = guardState.retry(new Retry<>(result, point.toString(),
                     createResultDecision(operation.hasRetryWhen() ? operation.getRetryWhen().result() : null),
                     createExceptionDecision(operation.getRetry().abortOn(), operation.getRetry().retryOn(),
                             operation.hasRetryWhen() ? operation.getRetryWhen().exception() : null),
@@ -408,7 +482,7 @@ public class FaultToleranceInterceptor {
                     () -> new ThreadSleepDelay(backoff.get()),
                     () -> new TimerDelay(backoff.get(), timer),
                     SystemStopwatch.INSTANCE,
-                    operation.hasBeforeRetry() ? prepareBeforeRetryFunction(point, operation) : null);
+                    operation.hasBeforeRetry() ? prepareBeforeRetryFunction(point, operation) : null));
         }
 
         if (operation.hasFallback()) {
@@ -417,6 +491,18 @@ public class FaultToleranceInterceptor {
                     createExceptionDecision(operation.getFallback().skipOn(), operation.getFallback().applyOn()));
         }
 
+        if (flightRecorderEnabled) {
+            result = new FlightRecorderCollector<>(result, point.toString());
+        }
+
+        if (eventBuffer != null) {
+            result = new EventBufferCollector<>(result, eventBuffer, point.toString());
+        }
+
+        if (tracingProvider.isEnabled()) {
+            result = tracingProvider.createCollector(result, point.toString());
+        }
+
         if (metricsProvider.isEnabled()) {
             MeteredOperation meteredOperation = new CdiMeteredOperationImpl(operation, point, specCompatibility);
             result = new MetricsCollector<>(result, metricsProvider.create(meteredOperation), meteredOperation);
@@ -426,47 +512,60 @@ public class FaultToleranceInterceptor {
             result = new RememberEventLoop<>(result, eventLoop, operation.isThreadOffloadRequired());
         }
 
+        cache.putGuardState(point, guardState);
+
         return result;
     }
 
     private <T> FaultToleranceStrategy<java.util.concurrent.Future<T>> prepareFutureStrategy(FaultToleranceOperation operation,
             InterceptionPoint point) {
         FaultToleranceStrategy<java.util.concurrent.Future<T>> result = invocation();
+        GuardState guardState = new GuardState(point.toString());
 
         result = new RequestScopeActivator<>(result, requestContextController);
 
         if (operation.hasBulkhead()) {
-            result = new Bulkhead<>(result, point.toString(),
+            result = guardState.bulkhead(new Bulkhead<>(result, point.toString(),
                     operation.getBulkhead().value(),
                     operation.getBulkhead().waitingTaskQueue(),
-                    true);
+                    true,
+                    operation.hasBulkheadPool() ? bulkheadPools.member(operation) : null,
+                    stacklessRejections));
         }
 
         if (operation.hasTimeout()) {
             Timeout<java.util.concurrent.Future<T>> timeout = new Timeout<>(result, point.toString(),
                     timeInMillis(operation.getTimeout().value(), operation.getTimeout().unit()),
-                    timer);
+                    timer,
+                    prepareAdaptiveTimeout(operation));
             result = new FutureTimeout<>(timeout, asyncExecutor);
         }
 
         if (operation.hasRateLimit()) {
-            result = new RateLimit<>(result, point.toString(),
+            result = guardState.rateLimit(new RateLimit<>(result, point.toString(),
                     operation.getRateLimit().value(),
                     timeInMillis(operation.getRateLimit().window(), operation.getRateLimit().windowUnit()),
                     timeInMillis(operation.getRateLimit().minSpacing(), operation.getRateLimit().minSpacingUnit()),
                     operation.getRateLimit().type(),
-                    SystemStopwatch.INSTANCE);
+                    SystemStopwatch.INSTANCE,
+                    prepareRateLimitOptions(operation)));
+        }
+
+        if (operation.hasLoadShedding()) {
+            result = new LoadShedding<>(result, point.toString(), operation.getLoadShedding().threshold(),
+                    systemLoadMonitor, stacklessRejections);
         }
 
         if (operation.hasCircuitBreaker()) {
-            result = new CircuitBreaker<>(result, point.toString(),
+            result = guardState.circuitBreaker(new CircuitBreaker<>(result, point.toString(),
                     createExceptionDecision(operation.getCircuitBreaker().skipOn(), operation.getCircuitBreaker().failOn()),
                     timeInMillis(operation.getCircuitBreaker().delay(), operation.getCircuitBreaker().delayUnit()),
                     operation.getCircuitBreaker().requestVolumeThreshold(),
                     operation.getCircuitBreaker().failureRatio(),
                     operation.getCircuitBreaker().successThreshold(),
                     SystemStopwatch.INSTANCE,
-                    timer);
+                    timer,
+                    stacklessRejections));
 
             String cbName = operation.hasCircuitBreakerName()
                     ? operation.getCircuitBreakerName().value()
@@ -477,7 +576,7 @@ public class FaultToleranceInterceptor {
         if (operation.hasRetry()) {
             Supplier<BackOff> backoff = prepareRetryBackoff(operation);
 
-            result = new Retry<>(result, point.toString(),
+            result = guardState.retry(new Retry<>(result, point.toString(),
                     createResultDecision(operation.hasRetryWhen() ? operation.getRetryWhen().result() : null),
                     createExceptionDecision(operation.getRetry().abortOn(), operation.getRetry().retryOn(),
                             operation.hasRetryWhen() ? operation.getRetryWhen().exception() : null),
@@ -486,7 +585,7 @@ public class FaultToleranceInterceptor {
                     () -> new ThreadSleepDelay(backoff.get()),
                     () -> new TimerDelay(backoff.get(), timer),
                     SystemStopwatch.INSTANCE,
-                    operation.hasBeforeRetry() ? prepareBeforeRetryFunction(point, operation) : null);
+                    operation.hasBeforeRetry() ? prepareBeforeRetryFunction(point, operation) : null));
         }
 
         if (operation.hasFallback()) {
@@ -495,6 +594,18 @@ public class FaultToleranceInterceptor {
                     createExceptionDecision(operation.getFallback().skipOn(), operation.getFallback().applyOn()));
         }
 
+        if (flightRecorderEnabled) {
+            result = new FlightRecorderCollector<>(result, point.toString());
+        }
+
+        if (eventBuffer != null) {
+            result = new EventBufferCollector<>(result, eventBuffer, point.toString());
+        }
+
+        if (tracingProvider.isEnabled()) {
+            result = tracingProvider.createCollector(result, point.toString());
+        }
+
         if (metricsProvider.isEnabled()) {
             MeteredOperation meteredOperation = new CdiMeteredOperationImpl(operation, point, specCompatibility);
             result = new MetricsCollector<>(result, metricsProvider.create(meteredOperation), meteredOperation);
@@ -502,6 +613,8 @@ public class FaultToleranceInterceptor {
 
         result = new FutureExecution<>(result, asyncExecutor);
 
+        cache.putGuardState(point, guardState);
+
         return result;
     }
 
@@ -537,6 +650,57 @@ public class FaultToleranceInterceptor {
         }
     }
 
+    private RateLimitOptions prepareRateLimitOptions(FaultToleranceOperation operation) {
+        return RateLimitOptions.DEFAULT
+                .withKey(prepareRateLimitKeyFunction(operation), operation.getRateLimit().maxKeys())
+                .withCost(prepareRateLimitCostFunction(operation))
+                .withMaxWait(timeInMillis(operation.getRateLimit().maxWait(), operation.getRateLimit().maxWaitUnit()), timer)
+                .withWarmUp(timeInMillis(operation.getRateLimit().warmUp(), operation.getRateLimit().warmUpUnit()))
+                .withStacklessRejections(stacklessRejections);
+    }
+
+    private Function<FaultToleranceContext<?>, Object> prepareRateLimitKeyFunction(FaultToleranceOperation operation) {
+        Class<? extends Function<Object[], ?>> keyFunctionClass = operation.getRateLimit().key();
+        if (keyFunctionClass == null || keyFunctionClass == NoRateLimitKey.class) {
+            return null;
+        }
+
+        Function<Object[], ?> keyFunction;
+        try {
+            keyFunction = keyFunctionClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw sneakyThrow(e);
+        }
+        return ctx -> keyFunction.apply(ctx.get(InvocationContext.class).getParameters());
+    }
+
+    private ToIntFunction<FaultToleranceContext<?>> prepareRateLimitCostFunction(FaultToleranceOperation operation) {
+        Class<? extends ToIntFunction<Object[]>> costFunctionClass = operation.getRateLimit().cost();
+        if (costFunctionClass == null || costFunctionClass == UnitRateLimitCost.class) {
+            return null;
+        }
+
+        ToIntFunction<Object[]> costFunction;
+        try {
+            costFunction = costFunctionClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw sneakyThrow(e);
+        }
+        return ctx -> costFunction.applyAsInt(ctx.get(InvocationContext.class).getParameters());
+    }
+
+    private AdaptiveTimeout prepareAdaptiveTimeout(FaultToleranceOperation operation) {
+        if (!operation.hasAdaptiveTimeout()) {
+            return null;
+        }
+
+        return new AdaptiveTimeout(operation.getAdaptiveTimeout().percentile(),
+                operation.getAdaptiveTimeout().multiplier(),
+                timeInMillis(operation.getAdaptiveTimeout().minTimeout(), operation.getAdaptiveTimeout().minTimeoutUnit()),
+                timeInMillis(operation.getTimeout().value(), operation.getTimeout().unit()),
+                SystemStopwatch.INSTANCE);
+    }
+
     // V = value type, e.g. String
     // T = result type, e.g. String or CompletionStage<String> or Uni<String>
     //
@@ -0,0 +1,21 @@
+package io.smallrye.faulttolerance.config;
+
+import io.smallrye.faulttolerance.api.AdaptiveTimeout;
+import io.smallrye.faulttolerance.autoconfig.AutoConfig;
+import io.smallrye.faulttolerance.autoconfig.ConfigDeclarativeOnly;
+
+@AutoConfig
+public interface AdaptiveTimeoutConfig extends AdaptiveTimeout, ConfigDeclarativeOnly {
+    @Override
+    default void validate() {
+        if (percentile() <= 0.0 || percentile() > 1.0) {
+            throw fail("percentile", "should be greater than 0 and not greater than 1");
+        }
+        if (multiplier() < 1.0) {
+            throw fail("multiplier", "shouldn't be lower than 1");
+        }
+        if (minTimeout() <= 0) {
+            throw fail("minTimeout", "should be greater than 0");
+        }
+    }
+}
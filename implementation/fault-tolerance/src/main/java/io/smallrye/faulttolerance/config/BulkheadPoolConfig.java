@@ -0,0 +1,24 @@
+package io.smallrye.faulttolerance.config;
+
+import io.smallrye.faulttolerance.api.BulkheadPool;
+import io.smallrye.faulttolerance.autoconfig.AutoConfig;
+import io.smallrye.faulttolerance.autoconfig.ConfigDeclarativeOnly;
+
+@AutoConfig(configurable = false)
+public interface BulkheadPoolConfig extends BulkheadPool, ConfigDeclarativeOnly {
+    @Override
+    default void validate() {
+        if (value().isEmpty()) {
+            throw fail("value", "must not be empty");
+        }
+        if (size() < 1) {
+            throw fail("size", "shouldn't be lower than 1");
+        }
+        if (reserved() < 0) {
+            throw fail("reserved", "shouldn't be lower than 0");
+        }
+        if (reserved() > size()) {
+            throw fail("reserved", "shouldn't be greater than size");
+        }
+    }
+}
@@ -18,13 +18,16 @@ import org.eclipse.microprofile.faulttolerance.Fallback;
 import org.eclipse.microprofile.faulttolerance.Retry;
 import org.eclipse.microprofile.faulttolerance.Timeout;
 
+import io.smallrye.faulttolerance.api.AdaptiveTimeout;
 import io.smallrye.faulttolerance.api.ApplyGuard;
 import io.smallrye.faulttolerance.api.AsynchronousNonBlocking;
 import io.smallrye.faulttolerance.api.BeforeRetry;
+import io.smallrye.faulttolerance.api.BulkheadPool;
 import io.smallrye.faulttolerance.api.CircuitBreakerName;
 import io.smallrye.faulttolerance.api.CustomBackoff;
 import io.smallrye.faulttolerance.api.ExponentialBackoff;
 import io.smallrye.faulttolerance.api.FibonacciBackoff;
+import io.smallrye.faulttolerance.api.LoadShedding;
 import io.smallrye.faulttolerance.api.RateLimit;
 import io.smallrye.faulttolerance.api.RetryWhen;
 import io.smallrye.faulttolerance.autoconfig.FaultToleranceMethod;
@@ -45,12 +48,15 @@ public class FaultToleranceMethods {
         result.asynchronousNonBlocking = getAnnotation(AsynchronousNonBlocking.class, method, annotationsPresentDirectly);
 
         result.bulkhead = getAnnotation(Bulkhead.class, method, annotationsPresentDirectly);
+        result.bulkheadPool = getAnnotation(BulkheadPool.class, method, annotationsPresentDirectly);
         result.circuitBreaker = getAnnotation(CircuitBreaker.class, method, annotationsPresentDirectly);
         result.circuitBreakerName = getAnnotation(CircuitBreakerName.class, method, annotationsPresentDirectly);
         result.fallback = getAnnotation(Fallback.class, method, annotationsPresentDirectly);
+        result.loadShedding = getAnnotation(LoadShedding.class, method, annotationsPresentDirectly);
         result.rateLimit = getAnnotation(RateLimit.class, method, annotationsPresentDirectly);
         result.retry = getAnnotation(Retry.class, method, annotationsPresentDirectly);
         result.timeout = getAnnotation(Timeout.class, method, annotationsPresentDirectly);
+        result.adaptiveTimeout = getAnnotation(AdaptiveTimeout.class, method, annotationsPresentDirectly);
 
         result.customBackoff = getAnnotation(CustomBackoff.class, method, annotationsPresentDirectly);
         result.exponentialBackoff = getAnnotation(ExponentialBackoff.class, method, annotationsPresentDirectly);
@@ -100,12 +106,15 @@ public class FaultToleranceMethods {
                 annotationsPresentDirectly);
 
         result.bulkhead = getAnnotation(Bulkhead.class, method, beanClass, annotationsPresentDirectly);
+        result.bulkheadPool = getAnnotation(BulkheadPool.class, method, beanClass, annotationsPresentDirectly);
         result.circuitBreaker = getAnnotation(CircuitBreaker.class, method, beanClass, annotationsPresentDirectly);
         result.circuitBreakerName = getAnnotation(CircuitBreakerName.class, method, beanClass, annotationsPresentDirectly);
         result.fallback = getAnnotation(Fallback.class, method, beanClass, annotationsPresentDirectly);
+        result.loadShedding = getAnnotation(LoadShedding.class, method, beanClass, annotationsPresentDirectly);
         result.rateLimit = getAnnotation(RateLimit.class, method, beanClass, annotationsPresentDirectly);
         result.retry = getAnnotation(Retry.class, method, beanClass, annotationsPresentDirectly);
         result.timeout = getAnnotation(Timeout.class, method, beanClass, annotationsPresentDirectly);
+        result.adaptiveTimeout = getAnnotation(AdaptiveTimeout.class, method, beanClass, annotationsPresentDirectly);
 
         result.customBackoff = getAnnotation(CustomBackoff.class, method, beanClass, annotationsPresentDirectly);
         result.exponentialBackoff = getAnnotation(ExponentialBackoff.class, method, beanClass, annotationsPresentDirectly);
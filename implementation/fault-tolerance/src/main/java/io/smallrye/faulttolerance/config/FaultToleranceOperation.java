@@ -15,6 +15,8 @@
  */
 package io.smallrye.faulttolerance.config;
 
+import static io.smallrye.faulttolerance.core.util.Durations.timeInMillis;
+
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -26,10 +28,12 @@ import org.eclipse.microprofile.faulttolerance.Fallback;
 import org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException;
 
 import io.smallrye.faulttolerance.SpecCompatibility;
+import io.smallrye.faulttolerance.api.AdaptiveTimeout;
 import io.smallrye.faulttolerance.api.AlwaysOnException;
 import io.smallrye.faulttolerance.api.ApplyGuard;
 import io.smallrye.faulttolerance.api.AsynchronousNonBlocking;
 import io.smallrye.faulttolerance.api.BeforeRetry;
+import io.smallrye.faulttolerance.api.BulkheadPool;
 import io.smallrye.faulttolerance.api.CircuitBreakerName;
 import io.smallrye.faulttolerance.api.CustomBackoff;
 import io.smallrye.faulttolerance.api.RetryWhen;
@@ -56,6 +60,8 @@ public class FaultToleranceOperation extends BasicFaultToleranceOperation {
     private final AsynchronousConfig asynchronous;
     private final AsynchronousNonBlockingConfig asynchronousNonBlocking;
 
+    private final AdaptiveTimeoutConfig adaptiveTimeout;
+    private final BulkheadPoolConfig bulkheadPool;
     private final CircuitBreakerNameConfig circuitBreakerName;
     private final FallbackConfig fallback;
 
@@ -78,6 +84,8 @@ public class FaultToleranceOperation extends BasicFaultToleranceOperation {
         this.asynchronous = AsynchronousConfigImpl.create(method);
         this.asynchronousNonBlocking = AsynchronousNonBlockingConfigImpl.create(method);
 
+        this.adaptiveTimeout = AdaptiveTimeoutConfigImpl.create(method);
+        this.bulkheadPool = BulkheadPoolConfigImpl.create(method);
         this.circuitBreakerName = CircuitBreakerNameConfigImpl.create(method);
         this.fallback = FallbackConfigImpl.create(method);
 
@@ -189,6 +197,22 @@ public class FaultToleranceOperation extends BasicFaultToleranceOperation {
         return false;
     }
 
+    public boolean hasAdaptiveTimeout() {
+        return adaptiveTimeout != null;
+    }
+
+    public AdaptiveTimeout getAdaptiveTimeout() {
+        return adaptiveTimeout;
+    }
+
+    public boolean hasBulkheadPool() {
+        return bulkheadPool != null;
+    }
+
+    public BulkheadPool getBulkheadPool() {
+        return bulkheadPool;
+    }
+
     public boolean hasCircuitBreakerName() {
         return circuitBreakerName != null;
     }
@@ -259,6 +283,12 @@ public class FaultToleranceOperation extends BasicFaultToleranceOperation {
             asynchronousNonBlocking.validate();
         }
 
+        if (adaptiveTimeout != null) {
+            adaptiveTimeout.validate();
+        }
+        if (bulkheadPool != null) {
+            bulkheadPool.validate();
+        }
         if (circuitBreakerName != null) {
             circuitBreakerName.validate();
         }
@@ -266,11 +296,23 @@ public class FaultToleranceOperation extends BasicFaultToleranceOperation {
             fallback.validate();
         }
 
+        validateAdaptiveTimeout();
         validateFallback();
         validateRetryWhen();
         validateBeforeRetry();
     }
 
+    private void validateAdaptiveTimeout() {
+        if (adaptiveTimeout == null || timeout == null) {
+            return;
+        }
+
+        long minTimeout = timeInMillis(adaptiveTimeout.minTimeout(), adaptiveTimeout.minTimeoutUnit());
+        if (minTimeout > timeInMillis(timeout.value(), timeout.unit())) {
+            throw adaptiveTimeout.fail("minTimeout", "should not be greater than @Timeout.value");
+        }
+    }
+
     private void validateFallback() {
         if (fallback == null) {
             return;
@@ -345,6 +387,12 @@ public class FaultToleranceOperation extends BasicFaultToleranceOperation {
             asynchronousNonBlocking.materialize();
         }
 
+        if (adaptiveTimeout != null) {
+            adaptiveTimeout.materialize();
+        }
+        if (bulkheadPool != null) {
+            bulkheadPool.materialize();
+        }
         if (circuitBreakerName != null) {
             circuitBreakerName.materialize();
         }
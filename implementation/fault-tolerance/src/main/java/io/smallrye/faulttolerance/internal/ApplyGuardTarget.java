@@ -0,0 +1,67 @@
+package io.smallrye.faulttolerance.internal;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+import jakarta.interceptor.InvocationContext;
+
+import io.smallrye.faulttolerance.apiimpl.AsyncInvocation;
+import io.smallrye.faulttolerance.apiimpl.GuardImpl;
+import io.smallrye.faulttolerance.apiimpl.TypedGuardImpl;
+import io.smallrye.faulttolerance.core.FaultToleranceContext;
+import io.smallrye.faulttolerance.core.async.ThreadOffloadEnabled;
+import io.smallrye.faulttolerance.core.fallback.FallbackFunction;
+import io.smallrye.faulttolerance.core.metrics.MeteredOperationName;
+import io.smallrye.faulttolerance.core.util.ExceptionDecision;
+
+/**
+ * The {@code Guard} or {@code TypedGuard} that an {@code @ApplyGuard} method delegates to, together with
+ * all the per-method data that must be set into the {@link FaultToleranceContext} of each invocation.
+ * Resolved once per interception point, see {@link InterceptedMethod#applyGuardTarget}.
+ */
+public final class ApplyGuardTarget {
+    // exactly one of `guard` and `typedGuard` is non-null
+    private final GuardImpl guard;
+    private final TypedGuardImpl<?, ?> typedGuard;
+
+    private final FallbackFunction<?> fallbackFunction;
+    private final ExceptionDecision exceptionDecision;
+    private final ThreadOffloadEnabled threadOffload;
+    private final MeteredOperationName meteredOperationName;
+
+    public ApplyGuardTarget(GuardImpl guard, TypedGuardImpl<?, ?> typedGuard, FallbackFunction<?> fallbackFunction,
+            ExceptionDecision exceptionDecision, ThreadOffloadEnabled threadOffload,
+            MeteredOperationName meteredOperationName) {
+        this.guard = guard;
+        this.typedGuard = typedGuard;
+        this.fallbackFunction = fallbackFunction;
+        this.exceptionDecision = exceptionDecision;
+        this.threadOffload = threadOffload;
+        this.meteredOperationName = meteredOperationName;
+    }
+
+    public <V, T> T guard(Callable<T> action, AsyncInvocation<V, T> asyncInvocation, InvocationContext invocationContext)
+            throws Exception {
+        Consumer<FaultToleranceContext<?>> contextModifier = ctx -> modify(ctx, invocationContext);
+        if (guard != null) {
+            return guard.guard(action, asyncInvocation, contextModifier);
+        } else {
+            return ((TypedGuardImpl<V, T>) typedGuard).guard(action, asyncInvocation, contextModifier);
+        }
+    }
+
+    private void modify(FaultToleranceContext<?> ctx, InvocationContext invocationContext) {
+        ctx.set(InvocationContext.class, invocationContext);
+
+        if (fallbackFunction != null) {
+            ctx.set(FallbackFunction.class, fallbackFunction);
+        }
+        if (exceptionDecision != null) {
+            ctx.set(ExceptionDecision.class, exceptionDecision);
+        }
+        if (threadOffload != null) {
+            ctx.set(ThreadOffloadEnabled.class, threadOffload);
+        }
+        ctx.set(MeteredOperationName.class, meteredOperationName);
+    }
+}
@@ -1,5 +1,6 @@
 package io.smallrye.faulttolerance.internal;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 
 import jakarta.interceptor.InvocationContext;
@@ -7,6 +8,7 @@ import jakarta.interceptor.InvocationContext;
 import io.smallrye.faulttolerance.config.FaultToleranceOperation;
 import io.smallrye.faulttolerance.core.FailureContext;
 import io.smallrye.faulttolerance.core.invocation.Invoker;
+import io.smallrye.faulttolerance.core.invocation.MethodHandleInvoker;
 import io.smallrye.faulttolerance.core.invocation.NormalMethodInvoker;
 import io.smallrye.faulttolerance.core.invocation.SpecialMethodInvoker;
 
@@ -14,9 +16,11 @@ public final class BeforeRetryMethod {
     private static final Object[] EMPTY_ARRAY = {};
 
     private final Method method;
+    private final MethodHandle methodHandle; // `null` if it couldn't be created, reflection is used then
 
     BeforeRetryMethod(Method method) {
         this.method = method;
+        this.methodHandle = MethodHandleSupport.prepare(method);
     }
 
     public Invoker<?> createInvoker(FailureContext ctx) throws ReflectiveOperationException {
@@ -26,6 +30,9 @@ public final class BeforeRetryMethod {
             arguments = EMPTY_ARRAY;
         }
 
+        if (methodHandle != null) {
+            return new MethodHandleInvoker<>(methodHandle, invocationContext.getTarget(), arguments);
+        }
         return method.isDefault()
                 ? new SpecialMethodInvoker<>(method, invocationContext.getTarget(), arguments)
                 : new NormalMethodInvoker<>(method, invocationContext.getTarget(), arguments);
@@ -1,5 +1,6 @@
 package io.smallrye.faulttolerance.internal;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 
@@ -7,6 +8,7 @@ import jakarta.interceptor.InvocationContext;
 
 import io.smallrye.faulttolerance.core.FailureContext;
 import io.smallrye.faulttolerance.core.invocation.Invoker;
+import io.smallrye.faulttolerance.core.invocation.MethodHandleInvoker;
 import io.smallrye.faulttolerance.core.invocation.NormalMethodInvoker;
 import io.smallrye.faulttolerance.core.invocation.SpecialMethodInvoker;
 
@@ -15,6 +17,7 @@ public final class FallbackMethod {
 
     private final int exceptionParameterPosition; // < 0 if no exception parameter exists
     private final Method method;
+    private final MethodHandle methodHandle; // `null` if it couldn't be created, reflection is used then
 
     static FallbackMethod withoutExceptionParameter(Method method) {
         return method == null ? null : new FallbackMethod(method, -1);
@@ -27,6 +30,7 @@ public final class FallbackMethod {
     private FallbackMethod(Method method, int exceptionParameterPosition) {
         this.method = method;
         this.exceptionParameterPosition = exceptionParameterPosition;
+        this.methodHandle = MethodHandleSupport.prepare(method);
     }
 
     // ---
@@ -39,6 +43,9 @@ public final class FallbackMethod {
         }
         arguments = adjustArguments(arguments, ctx.failure);
 
+        if (methodHandle != null) {
+            return new MethodHandleInvoker<>(methodHandle, invocationContext.getTarget(), arguments);
+        }
         return method.isDefault()
                 ? new SpecialMethodInvoker<>(method, invocationContext.getTarget(), arguments)
                 : new NormalMethodInvoker<>(method, invocationContext.getTarget(), arguments);
@@ -53,15 +60,10 @@ public final class FallbackMethod {
             Object[] argumentsWithException = new Object[arguments.length + 1];
 
             int exceptionParameterPosition = this.exceptionParameterPosition;
-            for (int i = 0; i < arguments.length + 1; i++) {
-                if (i < exceptionParameterPosition) {
-                    argumentsWithException[i] = arguments[i];
-                } else if (i == exceptionParameterPosition) {
-                    argumentsWithException[i] = exception;
-                } else { // i > exceptionParameterPosition
-                    argumentsWithException[i] = arguments[i - 1];
-                }
-            }
+            System.arraycopy(arguments, 0, argumentsWithException, 0, exceptionParameterPosition);
+            argumentsWithException[exceptionParameterPosition] = exception;
+            System.arraycopy(arguments, exceptionParameterPosition, argumentsWithException, exceptionParameterPosition + 1,
+                    arguments.length - exceptionParameterPosition);
 
             return argumentsWithException;
         }
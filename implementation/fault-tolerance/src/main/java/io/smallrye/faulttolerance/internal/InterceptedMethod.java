@@ -0,0 +1,90 @@
+package io.smallrye.faulttolerance.internal;
+
+import java.util.function.Supplier;
+
+import io.smallrye.faulttolerance.config.FaultToleranceOperation;
+import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
+import io.smallrye.faulttolerance.core.invocation.AsyncSupport;
+
+/**
+ * Everything the interceptor needs to dispatch an invocation of a single method of a single bean class.
+ * Created once per interception point by {@link StrategyCache#getInterceptedMethod}, so that intercepting
+ * a method doesn't need to build any strings or look up the operation, async support or chain of strategies.
+ */
+public final class InterceptedMethod {
+    public enum Flow {
+        APPLY_GUARD,
+        ASYNC,
+        FUTURE,
+        SYNC,
+    }
+
+    private final InterceptionPoint point;
+    private final FaultToleranceOperation operation;
+    private final Flow flow;
+    private final boolean trulyAsynchronous;
+    private final AsyncSupport<?, ?> asyncSupport;
+
+    private volatile FaultToleranceStrategy<?> strategy;
+    private volatile ApplyGuardTarget applyGuardTarget;
+
+    InterceptedMethod(InterceptionPoint point, FaultToleranceOperation operation, Flow flow, boolean trulyAsynchronous,
+            AsyncSupport<?, ?> asyncSupport) {
+        this.point = point;
+        this.operation = operation;
+        this.flow = flow;
+        this.trulyAsynchronous = trulyAsynchronous;
+        this.asyncSupport = asyncSupport;
+    }
+
+    public InterceptionPoint point() {
+        return point;
+    }
+
+    public FaultToleranceOperation operation() {
+        return operation;
+    }
+
+    public Flow flow() {
+        return flow;
+    }
+
+    public boolean isTrulyAsynchronous() {
+        return trulyAsynchronous;
+    }
+
+    // `null` if the method doesn't return a supported async type
+    public <V, AT> AsyncSupport<V, AT> asyncSupport() {
+        return (AsyncSupport<V, AT>) asyncSupport;
+    }
+
+    // the `producer` is called at most once
+    public <V> FaultToleranceStrategy<V> strategy(Supplier<FaultToleranceStrategy<V>> producer) {
+        FaultToleranceStrategy<?> result = strategy;
+        if (result == null) {
+            synchronized (this) {
+                result = strategy;
+                if (result == null) {
+                    result = producer.get();
+                    strategy = result;
+                }
+            }
+        }
+        return (FaultToleranceStrategy<V>) result;
+    }
+
+    // only used with `@ApplyGuard`; the `producer` is called at most once
+    public ApplyGuardTarget applyGuardTarget(Supplier<ApplyGuardTarget> producer) {
+        ApplyGuardTarget result = applyGuardTarget;
+        if (result == null) {
+            synchronized (this) {
+                result = applyGuardTarget;
+                if (result == null) {
+                    result = producer.get();
+                    applyGuardTarget = result;
+                }
+            }
+        }
+        return result;
+    }
+}
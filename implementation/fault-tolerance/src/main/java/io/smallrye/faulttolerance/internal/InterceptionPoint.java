@@ -7,11 +7,13 @@ public class InterceptionPoint {
     private final String name;
     private final Class<?> beanClass;
     private final Method method;
+    private final int hashCode;
 
     public InterceptionPoint(Class<?> beanClass, Method method) {
         this.name = beanClass.getName() + "#" + method.getName();
         this.beanClass = beanClass;
         this.method = method;
+        this.hashCode = Objects.hash(beanClass, method);
     }
 
     public Class<?> beanClass() {
@@ -40,6 +42,6 @@ public class InterceptionPoint {
 
     @Override
     public int hashCode() {
-        return Objects.hash(beanClass, method);
+        return hashCode;
     }
 }
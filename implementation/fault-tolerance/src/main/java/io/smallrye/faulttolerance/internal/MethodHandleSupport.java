@@ -0,0 +1,20 @@
+package io.smallrye.faulttolerance.internal;
+
+import static io.smallrye.faulttolerance.internal.InternalLogger.LOG;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+
+import io.smallrye.faulttolerance.core.invocation.MethodHandleInvoker;
+
+final class MethodHandleSupport {
+    // returns `null` if the method handle cannot be created, in which case the caller should use reflection
+    static MethodHandle prepare(Method method) {
+        try {
+            return MethodHandleInvoker.prepare(method);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOG.debugf(e, "Failed to create method handle for %s, using reflection", method);
+            return null;
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package io.smallrye.faulttolerance.internal;
 
+import java.lang.reflect.Method;
+import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
 import jakarta.inject.Inject;
@@ -9,20 +12,24 @@ import jakarta.inject.Singleton;
 
 import io.smallrye.faulttolerance.SpecCompatibility;
 import io.smallrye.faulttolerance.config.FaultToleranceOperation;
-import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
 import io.smallrye.faulttolerance.core.fallback.FallbackFunction;
+import io.smallrye.faulttolerance.core.inspection.GuardState;
 import io.smallrye.faulttolerance.core.invocation.AsyncSupport;
 import io.smallrye.faulttolerance.core.invocation.AsyncSupportRegistry;
 import io.smallrye.faulttolerance.core.util.ExceptionDecision;
 
 @Singleton
 public class StrategyCache {
-    private final Map<InterceptionPoint, FaultToleranceStrategy<?>> strategies = new ConcurrentHashMap<>();
+    // bean class -> method -> dispatch information; `Class.hashCode()` is the identity hash code
+    // and `Method.hashCode()` only combines the (cached) hash codes of 2 strings
+    private final Map<Class<?>, Map<Method, InterceptedMethod>> interceptedMethods = new ConcurrentHashMap<>();
+
     private final Map<InterceptionPoint, FallbackMethodCandidates> fallbackMethods = new ConcurrentHashMap<>();
     private final Map<InterceptionPoint, BeforeRetryMethod> beforeRetryMethods = new ConcurrentHashMap<>();
     private final Map<InterceptionPoint, AsyncSupport<?, ?>> asyncSupports = new ConcurrentHashMap<>();
     private final Map<InterceptionPoint, FallbackFunction<?>> fallbackFunctions = new ConcurrentHashMap<>();
     private final Map<InterceptionPoint, ExceptionDecision> fallbackExceptionDecisions = new ConcurrentHashMap<>();
+    private final Map<InterceptionPoint, GuardState> guardStates = new ConcurrentHashMap<>();
 
     private final SpecCompatibility specCompatibility;
 
@@ -31,9 +38,46 @@ public class StrategyCache {
         this.specCompatibility = specCompatibility;
     }
 
-    @SuppressWarnings("unchecked")
-    public <V> FaultToleranceStrategy<V> getStrategy(InterceptionPoint point, Supplier<FaultToleranceStrategy<V>> producer) {
-        return (FaultToleranceStrategy<V>) strategies.computeIfAbsent(point, ignored -> producer.get());
+    public InterceptedMethod getInterceptedMethod(Class<?> beanClass, Method method,
+            BiFunction<Class<?>, Method, FaultToleranceOperation> operationLookup) {
+        Map<Method, InterceptedMethod> methods = interceptedMethods.get(beanClass);
+        if (methods == null) {
+            methods = interceptedMethods.computeIfAbsent(beanClass, ignored -> new ConcurrentHashMap<>());
+        }
+        InterceptedMethod result = methods.get(method);
+        if (result != null) {
+            return result;
+        }
+        return methods.computeIfAbsent(method,
+                ignored -> createInterceptedMethod(beanClass, method, operationLookup.apply(beanClass, method)));
+    }
+
+    private InterceptedMethod createInterceptedMethod(Class<?> beanClass, Method method,
+            FaultToleranceOperation operation) {
+        InterceptionPoint point = new InterceptionPoint(beanClass, method);
+
+        InterceptedMethod.Flow flow;
+        if (operation.hasApplyGuard()) {
+            flow = InterceptedMethod.Flow.APPLY_GUARD;
+        } else if (specCompatibility.isOperationTrulyAsynchronous(operation)) {
+            flow = InterceptedMethod.Flow.ASYNC;
+        } else if (specCompatibility.isOperationPseudoAsynchronous(operation)) {
+            flow = InterceptedMethod.Flow.FUTURE;
+        } else {
+            flow = InterceptedMethod.Flow.SYNC;
+        }
+
+        return new InterceptedMethod(point, operation, flow, specCompatibility.isOperationTrulyAsynchronous(operation),
+                getAsyncSupport(point, operation));
+    }
+
+    // called when the strategy for given `point` is created, so that its state may be inspected later
+    public void putGuardState(InterceptionPoint point, GuardState guardState) {
+        guardStates.put(point, guardState);
+    }
+
+    public Collection<GuardState> getGuardStates() {
+        return guardStates.values();
     }
 
     public FallbackMethodCandidates getFallbackMethodCandidates(InterceptionPoint point, FaultToleranceOperation operation) {
@@ -1,6 +1,7 @@
 package io.smallrye.faulttolerance.metrics;
 
 import io.smallrye.faulttolerance.SpecCompatibility;
+import io.smallrye.faulttolerance.apiimpl.basicconfig.ConfigUtil;
 import io.smallrye.faulttolerance.config.FaultToleranceOperation;
 import io.smallrye.faulttolerance.core.metrics.MeteredOperation;
 import io.smallrye.faulttolerance.internal.InterceptionPoint;
@@ -9,12 +10,14 @@ public final class CdiMeteredOperationImpl implements MeteredOperation {
     private final FaultToleranceOperation operation;
     private final InterceptionPoint interceptionPoint;
     private final SpecCompatibility specCompatibility;
+    private final int samplingRate;
 
     public CdiMeteredOperationImpl(FaultToleranceOperation operation, InterceptionPoint interceptionPoint,
             SpecCompatibility specCompatibility) {
         this.operation = operation;
         this.interceptionPoint = interceptionPoint;
         this.specCompatibility = specCompatibility;
+        this.samplingRate = ConfigUtil.getMetricsSamplingRate(operation.getMethodDescriptor());
     }
 
     @Override
@@ -43,6 +46,11 @@ public final class CdiMeteredOperationImpl implements MeteredOperation {
         return operation.hasFallback();
     }
 
+    @Override
+    public boolean hasLoadShedding() {
+        return operation.hasLoadShedding();
+    }
+
     @Override
     public boolean hasRateLimit() {
         return operation.hasRateLimit();
@@ -58,6 +66,11 @@ public final class CdiMeteredOperationImpl implements MeteredOperation {
         return operation.hasTimeout();
     }
 
+    @Override
+    public int samplingRate() {
+        return samplingRate;
+    }
+
     @Override
     public String name() {
         return operation.getName();
@@ -95,6 +95,13 @@ public class CompoundMetricsProvider implements MetricsProvider {
             }
         }
 
+        @Override
+        public void updateInvocationDuration(long time) {
+            for (MetricsRecorder recorder : recorders) {
+                recorder.updateInvocationDuration(time);
+            }
+        }
+
         @Override
         public void retryAttempted() {
             for (MetricsRecorder recorder : recorders) {
@@ -131,9 +138,23 @@ public class CompoundMetricsProvider implements MetricsProvider {
         }
 
         @Override
-        public void timeoutFinished(boolean timedOut, long time) {
+        public void updateRetryAttemptDuration(long time) {
             for (MetricsRecorder recorder : recorders) {
-                recorder.timeoutFinished(timedOut, time);
+                recorder.updateRetryAttemptDuration(time);
+            }
+        }
+
+        @Override
+        public void timeoutFinished(boolean timedOut) {
+            for (MetricsRecorder recorder : recorders) {
+                recorder.timeoutFinished(timedOut);
+            }
+        }
+
+        @Override
+        public void updateTimeoutExecutionDuration(long time) {
+            for (MetricsRecorder recorder : recorders) {
+                recorder.updateTimeoutExecutionDuration(time);
             }
         }
 
@@ -228,11 +249,25 @@ public class CompoundMetricsProvider implements MetricsProvider {
             }
         }
 
+        @Override
+        public void loadSheddingDecisionMade(boolean accepted) {
+            for (MetricsRecorder recorder : recorders) {
+                recorder.loadSheddingDecisionMade(accepted);
+            }
+        }
+
         @Override
         public void rateLimitDecisionMade(boolean permitted) {
             for (MetricsRecorder recorder : recorders) {
                 recorder.rateLimitDecisionMade(permitted);
             }
         }
+
+        @Override
+        public void updateRateLimitWaitingDuration(long time) {
+            for (MetricsRecorder recorder : recorders) {
+                recorder.updateRateLimitWaitingDuration(time);
+            }
+        }
     }
 }
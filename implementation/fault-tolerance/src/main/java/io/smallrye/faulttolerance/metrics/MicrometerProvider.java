@@ -1,6 +1,5 @@
 package io.smallrye.faulttolerance.metrics;
 
-import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -11,16 +10,14 @@ import jakarta.inject.Singleton;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.Tag;
 import io.smallrye.faulttolerance.Enablement;
 import io.smallrye.faulttolerance.ExecutorHolder;
 import io.smallrye.faulttolerance.autoconfig.ConfigConstants;
 import io.smallrye.faulttolerance.core.metrics.MeteredOperation;
-import io.smallrye.faulttolerance.core.metrics.MetricsConstants;
 import io.smallrye.faulttolerance.core.metrics.MetricsProvider;
 import io.smallrye.faulttolerance.core.metrics.MetricsRecorder;
 import io.smallrye.faulttolerance.core.metrics.MicrometerRecorder;
-import io.smallrye.faulttolerance.core.timer.Timer;
+import io.smallrye.faulttolerance.core.metrics.MicrometerTimerMetrics;
 
 @Singleton
 public class MicrometerProvider implements MetricsProvider {
@@ -43,9 +40,7 @@ public class MicrometerProvider implements MetricsProvider {
         this.registry = registry.get();
 
         if (enabled) {
-            Timer timer = executorHolder.getTimer();
-            this.registry.gauge(MetricsConstants.TIMER_SCHEDULED, Collections.singletonList(Tag.of("id", "" + timer.getId())),
-                    timer, Timer::countScheduledTasks);
+            MicrometerTimerMetrics.register(this.registry, executorHolder.getTimer());
         }
     }
 
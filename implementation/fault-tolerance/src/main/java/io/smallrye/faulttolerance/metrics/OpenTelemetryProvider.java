@@ -9,18 +9,15 @@ import jakarta.inject.Singleton;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 
-import io.opentelemetry.api.common.AttributeKey;
-import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.Meter;
 import io.smallrye.faulttolerance.Enablement;
 import io.smallrye.faulttolerance.ExecutorHolder;
 import io.smallrye.faulttolerance.autoconfig.ConfigConstants;
 import io.smallrye.faulttolerance.core.metrics.MeteredOperation;
-import io.smallrye.faulttolerance.core.metrics.MetricsConstants;
 import io.smallrye.faulttolerance.core.metrics.MetricsProvider;
 import io.smallrye.faulttolerance.core.metrics.MetricsRecorder;
 import io.smallrye.faulttolerance.core.metrics.OpenTelemetryRecorder;
-import io.smallrye.faulttolerance.core.timer.Timer;
+import io.smallrye.faulttolerance.core.metrics.OpenTelemetryTimerMetrics;
 
 @Singleton
 public class OpenTelemetryProvider implements MetricsProvider {
@@ -43,10 +40,7 @@ public class OpenTelemetryProvider implements MetricsProvider {
         this.meter = meter.get();
 
         if (enabled) {
-            Timer timer = executorHolder.getTimer();
-            Attributes attributes = Attributes.of(AttributeKey.stringKey("id"), "" + timer.getId());
-            this.meter.upDownCounterBuilder(MetricsConstants.TIMER_SCHEDULED)
-                    .buildWithCallback(m -> m.record(timer.countScheduledTasks(), attributes));
+            OpenTelemetryTimerMetrics.register(this.meter, executorHolder.getTimer());
         }
     }
 
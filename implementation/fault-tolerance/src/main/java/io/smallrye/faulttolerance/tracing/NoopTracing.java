@@ -0,0 +1,19 @@
+package io.smallrye.faulttolerance.tracing;
+
+import jakarta.inject.Singleton;
+
+import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
+import io.smallrye.faulttolerance.core.tracing.TracingProvider;
+
+@Singleton
+public class NoopTracing implements TracingProvider {
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public <V> FaultToleranceStrategy<V> createCollector(FaultToleranceStrategy<V> delegate, String description) {
+        return delegate;
+    }
+}
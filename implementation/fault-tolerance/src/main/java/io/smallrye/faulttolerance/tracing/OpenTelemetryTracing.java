@@ -0,0 +1,47 @@
+package io.smallrye.faulttolerance.tracing;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.trace.Tracer;
+import io.smallrye.faulttolerance.autoconfig.ConfigConstants;
+import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
+import io.smallrye.faulttolerance.core.tracing.OpenTelemetryTracingProvider;
+import io.smallrye.faulttolerance.core.tracing.TracingProvider;
+
+@Singleton
+public class OpenTelemetryTracing implements TracingProvider {
+    static final String ENABLED = ConfigConstants.PREFIX + "tracing.enabled";
+
+    private final TracingProvider delegate;
+
+    @Inject
+    OpenTelemetryTracing(
+            // lazy, so that the tracer is only looked up when tracing is enabled
+            Instance<Tracer> tracer,
+            @ConfigProperty(name = ENABLED, defaultValue = "false") boolean enabled) {
+        if (enabled) {
+            // MicroProfile Telemetry provides the `Tracer` bean; without it, fall back to the global instance
+            Tracer actualTracer = tracer.isResolvable()
+                    ? tracer.get()
+                    : GlobalOpenTelemetry.getTracer(OpenTelemetryTracingProvider.INSTRUMENTATION_SCOPE);
+            this.delegate = new OpenTelemetryTracingProvider(actualTracer);
+        } else {
+            this.delegate = TracingProvider.DISABLED;
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return delegate.isEnabled();
+    }
+
+    @Override
+    public <V> FaultToleranceStrategy<V> createCollector(FaultToleranceStrategy<V> delegate, String description) {
+        return this.delegate.createCollector(delegate, description);
+    }
+}
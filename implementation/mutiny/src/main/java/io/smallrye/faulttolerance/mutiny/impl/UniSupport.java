@@ -22,6 +22,11 @@ public class UniSupport<T> implements AsyncSupport<T, Uni<T>> {
         return Uni.class.equals(returnType);
     }
 
+    @Override
+    public boolean inspectsParameterTypes() {
+        return false;
+    }
+
     @Override
     public Uni<T> createComplete(T value) {
         return Uni.createFrom().item(value);
@@ -22,6 +22,11 @@ public class CompletableSupport<T> implements AsyncSupport<T, Completable> {
         return Completable.class.equals(returnType);
     }
 
+    @Override
+    public boolean inspectsParameterTypes() {
+        return false;
+    }
+
     @Override
     public Completable createComplete(T value) {
         return Completable.complete();
@@ -22,6 +22,11 @@ public class MaybeSupport<T> implements AsyncSupport<T, Maybe<T>> {
         return Maybe.class.equals(returnType);
     }
 
+    @Override
+    public boolean inspectsParameterTypes() {
+        return false;
+    }
+
     @Override
     public Maybe<T> createComplete(T value) {
         return Maybe.just(value);
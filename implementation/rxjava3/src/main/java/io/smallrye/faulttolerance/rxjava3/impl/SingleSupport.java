@@ -22,6 +22,11 @@ public class SingleSupport<T> implements AsyncSupport<T, Single<T>> {
         return Single.class.equals(returnType);
     }
 
+    @Override
+    public boolean inspectsParameterTypes() {
+        return false;
+    }
+
     @Override
     public Single<T> createComplete(T value) {
         return Single.just(value);
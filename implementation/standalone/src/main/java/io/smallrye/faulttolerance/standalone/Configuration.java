@@ -25,6 +25,50 @@ public interface Configuration {
         return NoopAdapter.INSTANCE;
     }
 
+    /**
+     * Returns the adapter to be used for tracing guarded invocations.
+     * Use {@link NoopTracingAdapter} if tracing should be disabled.
+     * Use {@link OpenTelemetryTracingAdapter} if spans should be created using given OpenTelemetry tracer.
+     */
+    default TracingAdapter tracingAdapter() {
+        return NoopTracingAdapter.INSTANCE;
+    }
+
+    /**
+     * Returns whether the {@link io.smallrye.faulttolerance.api.FaultToleranceSnapshot FaultToleranceSnapshot}
+     * of all guards should be exposed as an MXBean. Disabled by default.
+     */
+    default boolean jmxEnabled() {
+        return false;
+    }
+
+    /**
+     * Returns the number of most recent events that should be kept in memory, so that they may be
+     * {@linkplain io.smallrye.faulttolerance.api.RecordedEvent#dump() dumped} later. The number is
+     * rounded up to the nearest power of 2. Returns {@code 0} if recent events should not be kept,
+     * which is the default.
+     */
+    default int eventBufferSize() {
+        return 0;
+    }
+
+    /**
+     * Returns whether invocations rejected by a bulkhead, circuit breaker or rate limit should fail
+     * with an exception that doesn't capture a stack trace. The exception types don't change.
+     * Disabled by default.
+     */
+    default boolean stacklessRejections() {
+        return false;
+    }
+
+    /**
+     * Returns whether JDK Flight Recorder events should be emitted. Even if enabled, the events
+     * must also be enabled in the recording configuration. Disabled by default.
+     */
+    default boolean flightRecorderEnabled() {
+        return false;
+    }
+
     /**
      * Callback executed at the very end of {@link StandaloneFaultTolerance#shutdown()},
      * when all internal resources have been shut down.
@@ -2,12 +2,26 @@ package io.smallrye.faulttolerance.standalone;
 
 import io.smallrye.faulttolerance.apiimpl.BasicCircuitBreakerMaintenanceImpl;
 import io.smallrye.faulttolerance.apiimpl.BuilderEagerDependencies;
+import io.smallrye.faulttolerance.core.bulkhead.BulkheadPoolRegistry;
+import io.smallrye.faulttolerance.core.inspection.GuardStateRegistry;
 
 final class EagerDependencies implements BuilderEagerDependencies {
     final BasicCircuitBreakerMaintenanceImpl cbMaintenance = new BasicCircuitBreakerMaintenanceImpl();
+    final BulkheadPoolRegistry bulkheadPools = new BulkheadPoolRegistry();
+    final GuardStateRegistry guardStates = new GuardStateRegistry();
 
     @Override
     public BasicCircuitBreakerMaintenanceImpl cbMaintenance() {
         return cbMaintenance;
     }
+
+    @Override
+    public BulkheadPoolRegistry bulkheadPools() {
+        return bulkheadPools;
+    }
+
+    @Override
+    public GuardStateRegistry guardStates() {
+        return guardStates;
+    }
 }
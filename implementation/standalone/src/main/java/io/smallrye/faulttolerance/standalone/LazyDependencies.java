@@ -4,9 +4,14 @@ import java.util.concurrent.ExecutorService;
 
 import io.smallrye.faulttolerance.apiimpl.BuilderLazyDependencies;
 import io.smallrye.faulttolerance.core.event.loop.EventLoop;
+import io.smallrye.faulttolerance.core.inspection.EventBuffer;
+import io.smallrye.faulttolerance.core.inspection.FaultToleranceJmx;
+import io.smallrye.faulttolerance.core.inspection.FaultToleranceSnapshotImpl;
+import io.smallrye.faulttolerance.core.load.shedding.SystemLoadMonitor;
 import io.smallrye.faulttolerance.core.metrics.MetricsProvider;
 import io.smallrye.faulttolerance.core.timer.ThreadTimer;
 import io.smallrye.faulttolerance.core.timer.Timer;
+import io.smallrye.faulttolerance.core.tracing.TracingProvider;
 
 final class LazyDependencies implements BuilderLazyDependencies {
     private final boolean enabled;
@@ -14,6 +19,12 @@ final class LazyDependencies implements BuilderLazyDependencies {
     private final MetricsAdapter metricsAdapter;
     private final EventLoop eventLoop;
     private final Timer timer;
+    private final SystemLoadMonitor systemLoadMonitor;
+    private final FaultToleranceJmx jmx;
+    private final EventBuffer eventBuffer;
+    private final TracingProvider tracingProvider;
+    private final boolean stacklessRejections;
+    private final boolean flightRecorderEnabled;
 
     private volatile MetricsProvider metricsProvider;
 
@@ -23,6 +34,16 @@ final class LazyDependencies implements BuilderLazyDependencies {
         this.metricsAdapter = config.metricsAdapter();
         this.eventLoop = EventLoop.get();
         this.timer = new ThreadTimer(executor);
+        this.systemLoadMonitor = new SystemLoadMonitor(timer);
+        this.jmx = config.jmxEnabled() ? new FaultToleranceJmx(() -> FaultToleranceSnapshotImpl.of(
+                StandaloneSpi.EagerDependenciesHolder.INSTANCE.guardStates.states(), timer)) : null;
+        if (jmx != null) {
+            jmx.register();
+        }
+        this.eventBuffer = config.eventBufferSize() > 0 ? new EventBuffer(config.eventBufferSize()) : null;
+        this.tracingProvider = createTracingProvider(config.tracingAdapter());
+        this.stacklessRejections = config.stacklessRejections();
+        this.flightRecorderEnabled = config.flightRecorderEnabled();
     }
 
     @Override
@@ -45,6 +66,11 @@ final class LazyDependencies implements BuilderLazyDependencies {
         return timer;
     }
 
+    @Override
+    public SystemLoadMonitor systemLoadMonitor() {
+        return systemLoadMonitor;
+    }
+
     @Override
     public MetricsProvider metricsProvider() {
         MetricsProvider metricsProvider = this.metricsProvider;
@@ -69,7 +95,40 @@ final class LazyDependencies implements BuilderLazyDependencies {
         return metricsProvider;
     }
 
+    @Override
+    public EventBuffer eventBuffer() {
+        return eventBuffer;
+    }
+
+    @Override
+    public TracingProvider tracingProvider() {
+        return tracingProvider;
+    }
+
+    @Override
+    public boolean stacklessRejections() {
+        return stacklessRejections;
+    }
+
+    @Override
+    public boolean flightRecorderEnabled() {
+        return flightRecorderEnabled;
+    }
+
+    private static TracingProvider createTracingProvider(TracingAdapter tracingAdapter) {
+        if (tracingAdapter instanceof NoopTracingAdapter) {
+            return ((NoopTracingAdapter) tracingAdapter).createTracingProvider();
+        } else if (tracingAdapter instanceof OpenTelemetryTracingAdapter) {
+            return ((OpenTelemetryTracingAdapter) tracingAdapter).createTracingProvider();
+        } else {
+            throw new IllegalStateException("Invalid tracing adapter: " + tracingAdapter);
+        }
+    }
+
     void shutdown() throws InterruptedException {
+        if (jmx != null) {
+            jmx.unregister();
+        }
         timer.shutdown();
     }
 }
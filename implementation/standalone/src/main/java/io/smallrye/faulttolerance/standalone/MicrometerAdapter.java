@@ -1,16 +1,14 @@
 package io.smallrye.faulttolerance.standalone;
 
-import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.Tag;
 import io.smallrye.faulttolerance.core.metrics.MeteredOperation;
-import io.smallrye.faulttolerance.core.metrics.MetricsConstants;
 import io.smallrye.faulttolerance.core.metrics.MetricsProvider;
 import io.smallrye.faulttolerance.core.metrics.MetricsRecorder;
 import io.smallrye.faulttolerance.core.metrics.MicrometerRecorder;
+import io.smallrye.faulttolerance.core.metrics.MicrometerTimerMetrics;
 import io.smallrye.faulttolerance.core.timer.Timer;
 
 public final class MicrometerAdapter implements MetricsAdapter {
@@ -21,8 +19,7 @@ public final class MicrometerAdapter implements MetricsAdapter {
     }
 
     MetricsProvider createMetricsProvider(Timer timer) {
-        registry.gauge(MetricsConstants.TIMER_SCHEDULED, Collections.singletonList(Tag.of("id", "" + timer.getId())),
-                timer, Timer::countScheduledTasks);
+        MicrometerTimerMetrics.register(registry, timer);
 
         return new MetricsProvider() {
             private final Map<Object, MetricsRecorder> cache = new ConcurrentHashMap<>();
@@ -0,0 +1,14 @@
+package io.smallrye.faulttolerance.standalone;
+
+import io.smallrye.faulttolerance.core.tracing.TracingProvider;
+
+public final class NoopTracingAdapter implements TracingAdapter {
+    public static final NoopTracingAdapter INSTANCE = new NoopTracingAdapter();
+
+    private NoopTracingAdapter() {
+    }
+
+    TracingProvider createTracingProvider() {
+        return TracingProvider.DISABLED;
+    }
+}
@@ -0,0 +1,17 @@
+package io.smallrye.faulttolerance.standalone;
+
+import io.opentelemetry.api.trace.Tracer;
+import io.smallrye.faulttolerance.core.tracing.OpenTelemetryTracingProvider;
+import io.smallrye.faulttolerance.core.tracing.TracingProvider;
+
+public final class OpenTelemetryTracingAdapter implements TracingAdapter {
+    private final Tracer tracer;
+
+    public OpenTelemetryTracingAdapter(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    TracingProvider createTracingProvider() {
+        return new OpenTelemetryTracingProvider(tracer);
+    }
+}
@@ -1,14 +1,19 @@
 package io.smallrye.faulttolerance.standalone;
 
 import java.lang.reflect.Type;
+import java.util.List;
 
 import io.smallrye.faulttolerance.api.CircuitBreakerMaintenance;
+import io.smallrye.faulttolerance.api.FaultToleranceSnapshot;
 import io.smallrye.faulttolerance.api.Guard;
+import io.smallrye.faulttolerance.api.RecordedEvent;
 import io.smallrye.faulttolerance.api.Spi;
 import io.smallrye.faulttolerance.api.TypedGuard;
 import io.smallrye.faulttolerance.apiimpl.BuilderLazyDependencies;
 import io.smallrye.faulttolerance.apiimpl.GuardImpl;
 import io.smallrye.faulttolerance.apiimpl.TypedGuardImpl;
+import io.smallrye.faulttolerance.core.inspection.EventBuffer;
+import io.smallrye.faulttolerance.core.inspection.FaultToleranceSnapshotImpl;
 
 public class StandaloneSpi implements Spi {
     static class EagerDependenciesHolder {
@@ -44,4 +49,16 @@ public class StandaloneSpi implements Spi {
     public CircuitBreakerMaintenance circuitBreakerMaintenance() {
         return EagerDependenciesHolder.INSTANCE.cbMaintenance;
     }
+
+    @Override
+    public FaultToleranceSnapshot snapshot() {
+        return FaultToleranceSnapshotImpl.of(EagerDependenciesHolder.INSTANCE.guardStates.states(),
+                LazyDependenciesHolder.INSTANCE.timer());
+    }
+
+    @Override
+    public List<RecordedEvent> recentEvents() {
+        EventBuffer eventBuffer = LazyDependenciesHolder.INSTANCE.eventBuffer();
+        return eventBuffer != null ? eventBuffer.dump() : List.of();
+    }
 }
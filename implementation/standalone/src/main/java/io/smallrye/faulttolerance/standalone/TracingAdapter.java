@@ -0,0 +1,4 @@
+package io.smallrye.faulttolerance.standalone;
+
+public interface TracingAdapter {
+}
@@ -53,6 +53,35 @@ public class StandaloneBulkheadTest {
         party.organizer().disband();
     }
 
+    @Test
+    public void bulkheadPool() throws Exception {
+        TypedGuard<String> guarded1 = TypedGuard.create(String.class)
+                .withBulkhead().limit(5).pool("standalone-pool", 5, 0).done()
+                .withFallback().handler(this::fallback).applyOn(BulkheadException.class).done()
+                .build();
+        TypedGuard<String> guarded2 = TypedGuard.create(String.class)
+                .withBulkhead().limit(5).pool("standalone-pool", 5, 0).done()
+                .withFallback().handler(this::fallback).applyOn(BulkheadException.class).done()
+                .build();
+
+        Party party = Party.create(5);
+
+        for (int i = 0; i < 5; i++) {
+            executor.submit(() -> {
+                return guarded1.call(() -> {
+                    party.participant().attend();
+                    return "ignored";
+                });
+            });
+        }
+
+        party.organizer().waitForAll();
+
+        assertThat(guarded2.call(() -> "value")).isEqualTo("fallback");
+
+        party.organizer().disband();
+    }
+
     public String fallback() {
         return "fallback";
     }
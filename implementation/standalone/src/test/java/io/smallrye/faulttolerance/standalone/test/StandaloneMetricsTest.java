@@ -91,6 +91,13 @@ public class StandaloneMetricsTest {
                 Tag.of("retried", "true"),
                 Tag.of("retryResult", "maxRetriesReached")))
                 .count()).isEqualTo(1.0);
+
+        assertThat(metrics.timer(MetricsConstants.INVOCATIONS_DURATION, List.of(
+                Tag.of("method", NAME)))
+                .count()).isEqualTo(1);
+        assertThat(metrics.timer(MetricsConstants.RETRY_ATTEMPT_DURATION, List.of(
+                Tag.of("method", NAME)))
+                .count()).isEqualTo(4);
     }
 
     @Test
@@ -88,6 +88,12 @@ public class StandaloneMetricsTimerTest {
                 .isEqualTo("hello");
 
         assertThat(metrics.get(MetricsConstants.TIMER_SCHEDULED).gauge().value()).isEqualTo(0.0);
+
+        // the timeout watcher was scheduled and then cancelled, because the action finished in time
+        assertThat(metrics.get(MetricsConstants.TIMER_TASKS_SCHEDULED_TOTAL).functionCounter().count())
+                .isGreaterThanOrEqualTo(1.0);
+        assertThat(metrics.get(MetricsConstants.TIMER_TASKS_CANCELLED_TOTAL).functionCounter().count())
+                .isGreaterThanOrEqualTo(1.0);
     }
 
     public CompletionStage<String> action() throws InterruptedException {
@@ -58,6 +58,58 @@ public class StandaloneRateLimitTest {
         assertThat(results).filteredOn("fallback"::equals).hasSize(5);
     }
 
+    @Test
+    public void keyedRateLimit() throws Exception {
+        ThreadLocal<String> tenant = new ThreadLocal<>();
+
+        TypedGuard<String> guarded = TypedGuard.create(String.class)
+                .withRateLimit().limit(5).window(1, ChronoUnit.MINUTES).key(tenant::get).done()
+                .withFallback().handler(this::fallback).applyOn(RateLimitException.class).done()
+                .build();
+
+        List<String> results = new ArrayList<>(20);
+        for (String key : List.of("foo", "bar")) {
+            tenant.set(key);
+            for (int i = 0; i < 10; i++) {
+                results.add(guarded.call(() -> "hello"));
+            }
+        }
+
+        assertThat(results).hasSize(20);
+
+        assertThat(results).filteredOn("hello"::equals).hasSize(10);
+        assertThat(results).filteredOn("fallback"::equals).hasSize(10);
+    }
+
+    @Test
+    public void weightedRateLimit() throws Exception {
+        ThreadLocal<Integer> batchSize = new ThreadLocal<>();
+
+        TypedGuard<String> guarded = TypedGuard.create(String.class)
+                .withRateLimit().limit(10).window(1, ChronoUnit.MINUTES).cost(batchSize::get).done()
+                .withFallback().handler(this::fallback).applyOn(RateLimitException.class).done()
+                .build();
+
+        List<String> results = new ArrayList<>(5);
+        for (int size : List.of(4, 4, 4, 1, 1)) {
+            batchSize.set(size);
+            results.add(guarded.call(() -> "hello"));
+        }
+
+        assertThat(results).containsExactly("hello", "hello", "fallback", "hello", "fallback");
+    }
+
+    @Test
+    public void waitingRateLimit() throws Exception {
+        TypedGuard<String> guarded = TypedGuard.create(String.class)
+                .withRateLimit().limit(2).window(200, ChronoUnit.MILLIS).maxWait(1, ChronoUnit.MINUTES).done()
+                .build();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(guarded.call(() -> "hello")).isEqualTo("hello");
+        }
+    }
+
     public String fallback() {
         return "fallback";
     }
@@ -0,0 +1,63 @@
+package io.smallrye.faulttolerance.standalone.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.Callable;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.api.CircuitBreakerState;
+import io.smallrye.faulttolerance.api.FaultToleranceSnapshot;
+import io.smallrye.faulttolerance.api.GuardSnapshot;
+import io.smallrye.faulttolerance.api.TypedGuard;
+import io.smallrye.faulttolerance.core.util.TestException;
+
+public class StandaloneSnapshotTest {
+    @Test
+    public void snapshot() throws Exception {
+        TypedGuard<String> guard = TypedGuard.create(String.class)
+                .withDescription("snapshot-test")
+                .withBulkhead().limit(5).done()
+                .withCircuitBreaker().requestVolumeThreshold(10).done()
+                .withRateLimit().limit(100).done()
+                .withRetry().maxRetries(2).done()
+                .build();
+        Callable<String> guarded = guard.adaptCallable(this::action);
+
+        // the guard is only included in the snapshot after it's used
+        assertThat(findGuard()).isNull();
+
+        assertThatThrownBy(guarded::call).isExactlyInstanceOf(TestException.class);
+
+        GuardSnapshot snapshot = findGuard();
+        assertThat(snapshot).isNotNull();
+
+        assertThat(snapshot.bulkhead().maxConcurrentInvocations()).isEqualTo(5);
+        assertThat(snapshot.bulkhead().runningInvocations()).isEqualTo(0);
+
+        assertThat(snapshot.circuitBreaker().state()).isEqualTo(CircuitBreakerState.CLOSED);
+        assertThat(snapshot.circuitBreaker().recordedInvocations()).isEqualTo(3);
+        assertThat(snapshot.circuitBreaker().recordedFailures()).isEqualTo(3);
+
+        assertThat(snapshot.rateLimit().maxInvocations()).isEqualTo(100);
+        assertThat(snapshot.rateLimit().permitsRemaining()).isEqualTo(97);
+
+        assertThat(snapshot.retry().maxRetries()).isEqualTo(2);
+        assertThat(snapshot.retry().maxDurationInMillis()).isEqualTo(180_000);
+
+        assertThat(FaultToleranceSnapshot.take().timerScheduledTasks()).isGreaterThanOrEqualTo(0);
+    }
+
+    private static GuardSnapshot findGuard() {
+        return FaultToleranceSnapshot.take().guards()
+                .stream()
+                .filter(it -> "snapshot-test".equals(it.description()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    public String action() throws TestException {
+        throw new TestException();
+    }
+}
@@ -27,6 +27,24 @@ public class StandaloneTimeoutTest {
         assertThat(time).isCloseTo(1000, withinPercentage(50));
     }
 
+    @Test
+    public void adaptiveTimeout() throws Exception {
+        TypedGuard<String> guard = TypedGuard.create(String.class)
+                .withTimeout().duration(10_000, ChronoUnit.MILLIS).adaptive(0.99, 2.0, 200, ChronoUnit.MILLIS).done()
+                .withFallback().applyOn(TimeoutException.class).handler(this::fallback).done()
+                .build();
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(guard.call(() -> "value")).isEqualTo("value");
+        }
+
+        // all latencies are low, so the timeout is the minimum timeout
+        long time = timed(() -> {
+            assertThat(guard.call(this::action)).isEqualTo("fallback");
+        });
+        assertThat(time).isCloseTo(200, withinPercentage(50));
+    }
+
     public String action() throws InterruptedException {
         Thread.sleep(10_000);
         return "value";
@@ -0,0 +1,102 @@
+package io.smallrye.faulttolerance.standalone.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.smallrye.faulttolerance.api.TypedGuard;
+import io.smallrye.faulttolerance.core.util.TestException;
+import io.smallrye.faulttolerance.standalone.Configuration;
+import io.smallrye.faulttolerance.standalone.OpenTelemetryTracingAdapter;
+import io.smallrye.faulttolerance.standalone.StandaloneFaultTolerance;
+import io.smallrye.faulttolerance.standalone.TracingAdapter;
+
+public class StandaloneTracingTest {
+    private static final String NAME = StandaloneTracingTest.class.getName() + " programmatic usage";
+
+    static ExecutorService executor;
+    static InMemorySpanExporter exporter;
+    static SdkTracerProvider tracerProvider;
+
+    @BeforeAll
+    public static void setUp() {
+        executor = Executors.newCachedThreadPool();
+        exporter = InMemorySpanExporter.create();
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build();
+
+        StandaloneFaultTolerance.configure(new Configuration() {
+            @Override
+            public ExecutorService executor() {
+                return executor;
+            }
+
+            @Override
+            public TracingAdapter tracingAdapter() {
+                return new OpenTelemetryTracingAdapter(tracerProvider.get("test"));
+            }
+
+            @Override
+            public void onShutdown() throws InterruptedException {
+                tracerProvider.close();
+
+                executor.shutdownNow();
+                executor.awaitTermination(1, TimeUnit.SECONDS);
+            }
+        });
+    }
+
+    @AfterAll
+    public static void tearDown() throws InterruptedException {
+        StandaloneFaultTolerance.shutdown();
+    }
+
+    @Test
+    public void spans() throws Exception {
+        Callable<String> guarded = TypedGuard.create(String.class)
+                .withDescription(NAME)
+                .withFallback().handler(this::fallback).done()
+                .withRetry().maxRetries(2).done()
+                .build()
+                .adaptCallable(this::action);
+
+        assertThat(guarded.call()).isEqualTo("fallback");
+
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        SpanData invocationSpan = spans.stream()
+                .filter(it -> it.getName().equals(NAME))
+                .findFirst()
+                .orElseThrow();
+        assertThat(invocationSpan.getAttributes().get(AttributeKey.stringKey("smallrye.faulttolerance.retry.result")))
+                .isEqualTo("MAX_RETRIES_REACHED");
+        assertThat(invocationSpan.getEvents()).extracting(EventData::getName).containsExactly("fallback applied");
+
+        assertThat(spans)
+                .filteredOn(it -> it.getParentSpanId().equals(invocationSpan.getSpanId()))
+                .extracting(SpanData::getName)
+                .containsExactly("retry attempt", "retry attempt", "retry attempt");
+    }
+
+    public String action() throws TestException {
+        throw new TestException();
+    }
+
+    public String fallback() {
+        return "fallback";
+    }
+}
@@ -19,6 +19,11 @@ public class VertxFutureSupport<T> implements AsyncSupport<T, io.vertx.core.Futu
         return io.vertx.core.Future.class.equals(returnType);
     }
 
+    @Override
+    public boolean inspectsParameterTypes() {
+        return false;
+    }
+
     @Override
     public io.vertx.core.Future<T> createComplete(T value) {
         return io.vertx.core.Future.succeededFuture(value);
@@ -0,0 +1,49 @@
+package io.smallrye.faulttolerance.bulkhead.pool;
+
+import static io.smallrye.faulttolerance.core.util.SneakyThrow.sneakyThrow;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.core.util.barrier.Barrier;
+import io.smallrye.faulttolerance.util.FaultToleranceBasicTest;
+
+@FaultToleranceBasicTest
+public class BulkheadPoolTest {
+    @Test
+    public void test(UserRepository users, OrderRepository orders) throws Exception {
+        Barrier threadStart = Barrier.interruptible();
+        Barrier barrier = Barrier.interruptible();
+
+        // `countOrders` reserves 1 permit, so there's only 1 shared permit
+        CompletableFuture<String> user = CompletableFuture.supplyAsync(() -> {
+            threadStart.open();
+            try {
+                return users.findUser(barrier);
+            } catch (InterruptedException e) {
+                throw sneakyThrow(e);
+            }
+        });
+        threadStart.await();
+        Thread.sleep(500);
+
+        assertThatThrownBy(() -> orders.findOrder(Barrier.interruptible()))
+                .isExactlyInstanceOf(BulkheadException.class);
+        assertThatThrownBy(() -> users.findUser(Barrier.interruptible()))
+                .isExactlyInstanceOf(BulkheadException.class);
+
+        // the reserved permit is still available
+        assertThat(orders.countOrders()).isEqualTo("42");
+
+        barrier.open();
+        assertThat(user.get()).isEqualTo("user");
+
+        Barrier open = Barrier.interruptible();
+        open.open();
+        assertThat(orders.findOrder(open)).isEqualTo("order");
+    }
+}
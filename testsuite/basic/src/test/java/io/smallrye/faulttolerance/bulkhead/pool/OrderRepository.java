@@ -0,0 +1,24 @@
+package io.smallrye.faulttolerance.bulkhead.pool;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+
+import io.smallrye.faulttolerance.api.BulkheadPool;
+import io.smallrye.faulttolerance.core.util.barrier.Barrier;
+
+@ApplicationScoped
+public class OrderRepository {
+    @Bulkhead(5)
+    @BulkheadPool(value = "database", size = 2)
+    public String findOrder(Barrier barrier) throws InterruptedException {
+        barrier.await();
+        return "order";
+    }
+
+    @Bulkhead(5)
+    @BulkheadPool(value = "database", size = 2, reserved = 1)
+    public String countOrders() {
+        return "42";
+    }
+}
@@ -0,0 +1,18 @@
+package io.smallrye.faulttolerance.bulkhead.pool;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+
+import io.smallrye.faulttolerance.api.BulkheadPool;
+import io.smallrye.faulttolerance.core.util.barrier.Barrier;
+
+@ApplicationScoped
+public class UserRepository {
+    @Bulkhead(5)
+    @BulkheadPool(value = "database", size = 2)
+    public String findUser(Barrier barrier) throws InterruptedException {
+        barrier.await();
+        return "user";
+    }
+}
@@ -0,0 +1,18 @@
+package io.smallrye.faulttolerance.bulkhead.pool.inherited;
+
+import jakarta.enterprise.inject.spi.DefinitionException;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.util.ExpectedDeploymentException;
+import io.smallrye.faulttolerance.util.FaultToleranceBasicTest;
+
+// each subclass is a separate pool member with its own reservation,
+// so the inherited method reserves 2 permits twice
+@FaultToleranceBasicTest
+@ExpectedDeploymentException(DefinitionException.class)
+public class InheritedBulkheadPoolReservationsTest {
+    @Test
+    public void test(PooledSubclass1 ignored1, PooledSubclass2 ignored2) {
+    }
+}
@@ -0,0 +1,12 @@
+package io.smallrye.faulttolerance.bulkhead.pool.inherited;
+
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+
+import io.smallrye.faulttolerance.api.BulkheadPool;
+
+public abstract class PooledBase {
+    @Bulkhead
+    @BulkheadPool(value = "pool", size = 3, reserved = 2)
+    public void hello() {
+    }
+}
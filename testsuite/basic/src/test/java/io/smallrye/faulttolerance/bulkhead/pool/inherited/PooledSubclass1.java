@@ -0,0 +1,7 @@
+package io.smallrye.faulttolerance.bulkhead.pool.inherited;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class PooledSubclass1 extends PooledBase {
+}
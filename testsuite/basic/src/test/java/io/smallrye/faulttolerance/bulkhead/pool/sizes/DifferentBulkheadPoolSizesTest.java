@@ -0,0 +1,16 @@
+package io.smallrye.faulttolerance.bulkhead.pool.sizes;
+
+import jakarta.enterprise.inject.spi.DefinitionException;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.util.ExpectedDeploymentException;
+import io.smallrye.faulttolerance.util.FaultToleranceBasicTest;
+
+@FaultToleranceBasicTest
+@ExpectedDeploymentException(DefinitionException.class)
+public class DifferentBulkheadPoolSizesTest {
+    @Test
+    public void test(PooledService1 ignored1, PooledService2 ignored2) {
+    }
+}
@@ -0,0 +1,15 @@
+package io.smallrye.faulttolerance.bulkhead.pool.sizes;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+
+import io.smallrye.faulttolerance.api.BulkheadPool;
+
+@ApplicationScoped
+public class PooledService2 {
+    @Bulkhead
+    @BulkheadPool(value = "pool", size = 10)
+    public void hello() {
+    }
+}
@@ -0,0 +1,33 @@
+package io.smallrye.faulttolerance.eager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.api.FaultToleranceSnapshot;
+import io.smallrye.faulttolerance.api.GuardSnapshot;
+import io.smallrye.faulttolerance.util.FaultToleranceBasicTest;
+import io.smallrye.faulttolerance.util.WithSystemProperty;
+
+@FaultToleranceBasicTest
+@WithSystemProperty(key = "smallrye.faulttolerance.eager-initialization.enabled", value = "true")
+public class EagerInitializationTest {
+    @Inject
+    EagerService service;
+
+    @Test
+    public void strategyCreatedBeforeFirstInvocation() {
+        GuardSnapshot guard = FaultToleranceSnapshot.take().guards()
+                .stream()
+                .filter(it -> it.description().equals(EagerService.class.getName() + "#hello"))
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(guard.bulkhead().maxConcurrentInvocations()).isEqualTo(5);
+        assertThat(guard.retry().maxRetries()).isEqualTo(2);
+
+        assertThat(service.hello()).isEqualTo("fallback");
+    }
+}
@@ -0,0 +1,21 @@
+package io.smallrye.faulttolerance.eager;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+import org.eclipse.microprofile.faulttolerance.Fallback;
+import org.eclipse.microprofile.faulttolerance.Retry;
+
+@ApplicationScoped
+public class EagerService {
+    @Bulkhead(5)
+    @Retry(maxRetries = 2)
+    @Fallback(fallbackMethod = "fallback")
+    public String hello() {
+        throw new IllegalStateException();
+    }
+
+    String fallback() {
+        return "fallback";
+    }
+}
@@ -0,0 +1,13 @@
+package io.smallrye.faulttolerance.events;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.faulttolerance.Retry;
+
+@ApplicationScoped
+public class RecentEventsService {
+    @Retry(maxRetries = 2)
+    public void hello() {
+        throw new IllegalStateException();
+    }
+}
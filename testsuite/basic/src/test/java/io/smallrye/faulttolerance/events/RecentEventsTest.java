@@ -0,0 +1,43 @@
+package io.smallrye.faulttolerance.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.api.RecordedEvent;
+import io.smallrye.faulttolerance.util.FaultToleranceBasicTest;
+import io.smallrye.faulttolerance.util.WithSystemProperty;
+
+@FaultToleranceBasicTest
+@WithSystemProperty(key = "smallrye.faulttolerance.event-buffer.size", value = "100")
+public class RecentEventsTest {
+    @Inject
+    RecentEventsService service;
+
+    @Test
+    public void recentEvents() {
+        assertThatCode(service::hello).isExactlyInstanceOf(IllegalStateException.class);
+
+        List<RecordedEvent> events = RecordedEvent.dump()
+                .stream()
+                .filter(it -> it.description().equals(RecentEventsService.class.getName() + "#hello"))
+                .filter(it -> it.strategy().equals("Retry"))
+                .toList();
+
+        assertThat(events).extracting(RecordedEvent::event).containsExactly(
+                "AttemptStarted",
+                "AttemptFinished",
+                "Retried",
+                "AttemptStarted",
+                "AttemptFinished",
+                "Retried",
+                "AttemptStarted",
+                "AttemptFinished",
+                "Finished.MAX_RETRIES_REACHED");
+    }
+}
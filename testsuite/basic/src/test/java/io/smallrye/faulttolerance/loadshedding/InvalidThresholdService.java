@@ -0,0 +1,13 @@
+package io.smallrye.faulttolerance.loadshedding;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.smallrye.faulttolerance.api.LoadShedding;
+
+@ApplicationScoped
+public class InvalidThresholdService {
+    @LoadShedding(threshold = 1.0)
+    public String hello() {
+        return "hello";
+    }
+}
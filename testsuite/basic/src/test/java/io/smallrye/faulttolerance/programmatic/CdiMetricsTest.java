@@ -8,6 +8,7 @@ import java.util.concurrent.Callable;
 import org.junit.jupiter.api.Test;
 
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.metrics.data.HistogramPointData;
 import io.opentelemetry.sdk.metrics.data.LongPointData;
 import io.smallrye.faulttolerance.api.TypedGuard;
 import io.smallrye.faulttolerance.core.metrics.MetricsConstants;
@@ -49,6 +50,13 @@ public class CdiMetricsTest {
                 stringKey("retried"), "true",
                 stringKey("retryResult"), "maxRetriesReached"))
                 .getValue()).isEqualTo(1);
+
+        assertThat(metrics.get(HistogramPointData.class, MetricsConstants.INVOCATIONS_DURATION, Attributes.of(
+                stringKey("method"), NAME))
+                .getCount()).isEqualTo(1);
+        assertThat(metrics.get(HistogramPointData.class, MetricsConstants.RETRY_ATTEMPT_DURATION, Attributes.of(
+                stringKey("method"), NAME))
+                .getCount()).isEqualTo(4);
     }
 
     @Test
@@ -55,6 +55,10 @@ public class CdiMetricsTimerTest {
                 .isEqualTo("hello");
 
         assertThat(findTimer(metrics)).isEqualTo(0);
+
+        // the timeout watcher was scheduled and then cancelled, because the action finished in time
+        assertThat(findTimer(metrics, MetricsConstants.TIMER_TASKS_SCHEDULED_TOTAL)).isGreaterThanOrEqualTo(1);
+        assertThat(findTimer(metrics, MetricsConstants.TIMER_TASKS_CANCELLED_TOTAL)).isGreaterThanOrEqualTo(1);
     }
 
     public CompletionStage<String> action() throws InterruptedException {
@@ -67,7 +71,11 @@ public class CdiMetricsTimerTest {
     }
 
     private static long findTimer(MetricsAccess metrics) {
-        Collection<? extends PointData> timers = metrics.getAll(MetricsConstants.TIMER_SCHEDULED);
+        return findTimer(metrics, MetricsConstants.TIMER_SCHEDULED);
+    }
+
+    private static long findTimer(MetricsAccess metrics, String name) {
+        Collection<? extends PointData> timers = metrics.getAll(name);
         assertThat(timers).hasSize(1);
         return ((LongPointData) timers.iterator().next()).getValue();
     }
@@ -0,0 +1,10 @@
+package io.smallrye.faulttolerance.ratelimit.keyed;
+
+import java.util.function.Function;
+
+public class FirstArgument implements Function<Object[], Object> {
+    @Override
+    public Object apply(Object[] arguments) {
+        return arguments[0];
+    }
+}
@@ -0,0 +1,17 @@
+package io.smallrye.faulttolerance.ratelimit.keyed;
+
+import java.time.temporal.ChronoUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.smallrye.faulttolerance.api.RateLimit;
+
+@ApplicationScoped
+public class KeyedRateLimitService {
+    static final int RATE_LIMIT = 5;
+
+    @RateLimit(value = RATE_LIMIT, window = 1, windowUnit = ChronoUnit.MINUTES, key = FirstArgument.class)
+    public String hello(String tenant) {
+        return "hello " + tenant;
+    }
+}
@@ -0,0 +1,27 @@
+package io.smallrye.faulttolerance.ratelimit.keyed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.api.RateLimitException;
+import io.smallrye.faulttolerance.util.FaultToleranceBasicTest;
+
+@FaultToleranceBasicTest
+public class KeyedRateLimitTest {
+    @Test
+    public void test(KeyedRateLimitService service) {
+        for (int i = 0; i < KeyedRateLimitService.RATE_LIMIT; i++) {
+            assertThat(service.hello("foo")).isEqualTo("hello foo");
+        }
+        assertThatThrownBy(() -> service.hello("foo")).isExactlyInstanceOf(RateLimitException.class);
+
+        for (int i = 0; i < KeyedRateLimitService.RATE_LIMIT; i++) {
+            assertThat(service.hello("bar")).isEqualTo("hello bar");
+        }
+        assertThatThrownBy(() -> service.hello("bar")).isExactlyInstanceOf(RateLimitException.class);
+
+        assertThatThrownBy(() -> service.hello("foo")).isExactlyInstanceOf(RateLimitException.class);
+    }
+}
@@ -0,0 +1,28 @@
+package io.smallrye.faulttolerance.ratelimit.stackless;
+
+import java.time.temporal.ChronoUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.faulttolerance.Fallback;
+
+import io.smallrye.faulttolerance.api.RateLimit;
+import io.smallrye.faulttolerance.api.RateLimitException;
+
+@ApplicationScoped
+public class StacklessRateLimitService {
+    @RateLimit(value = 1, window = 1, windowUnit = ChronoUnit.MINUTES)
+    public String hello() {
+        return "hello";
+    }
+
+    @RateLimit(value = 1, window = 1, windowUnit = ChronoUnit.MINUTES)
+    @Fallback(fallbackMethod = "fallback", applyOn = RateLimitException.class)
+    public String helloWithFallback() {
+        return "hello";
+    }
+
+    String fallback() {
+        return "fallback";
+    }
+}
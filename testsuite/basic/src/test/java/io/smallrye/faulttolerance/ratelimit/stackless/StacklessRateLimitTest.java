@@ -0,0 +1,29 @@
+package io.smallrye.faulttolerance.ratelimit.stackless;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.api.RateLimitException;
+import io.smallrye.faulttolerance.util.FaultToleranceBasicTest;
+import io.smallrye.faulttolerance.util.WithSystemProperty;
+
+@FaultToleranceBasicTest
+@WithSystemProperty(key = "smallrye.faulttolerance.stackless-rejections.enabled", value = "true")
+public class StacklessRateLimitTest {
+    @Test
+    public void rejectionWithoutStackTrace(StacklessRateLimitService service) {
+        assertThat(service.hello()).isEqualTo("hello");
+        assertThatThrownBy(service::hello)
+                .isInstanceOf(RateLimitException.class)
+                .hasMessageEndingWith("rate limit exceeded")
+                .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+    }
+
+    @Test
+    public void rejectionAppliesFallback(StacklessRateLimitService service) {
+        assertThat(service.helloWithFallback()).isEqualTo("hello");
+        assertThat(service.helloWithFallback()).isEqualTo("fallback");
+    }
+}
@@ -0,0 +1,31 @@
+package io.smallrye.faulttolerance.ratelimit.waiting;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.faulttolerance.Asynchronous;
+
+import io.smallrye.faulttolerance.api.RateLimit;
+
+@ApplicationScoped
+public class WaitingRateLimitService {
+    @RateLimit(value = 2, window = 200, windowUnit = ChronoUnit.MILLIS, maxWait = 1, maxWaitUnit = ChronoUnit.MINUTES)
+    public String hello() {
+        return "hello";
+    }
+
+    @RateLimit(value = 2, window = 200, windowUnit = ChronoUnit.MILLIS, maxWait = 1, maxWaitUnit = ChronoUnit.MINUTES)
+    @Asynchronous
+    public CompletionStage<String> helloAsync() {
+        return completedFuture("hello");
+    }
+
+    @RateLimit(value = 1, window = 1, windowUnit = ChronoUnit.MINUTES, maxWait = 100, maxWaitUnit = ChronoUnit.MILLIS)
+    public String tooLong() {
+        return "hello";
+    }
+}
@@ -0,0 +1,34 @@
+package io.smallrye.faulttolerance.ratelimit.waiting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.api.RateLimitException;
+import io.smallrye.faulttolerance.util.FaultToleranceBasicTest;
+
+@FaultToleranceBasicTest
+public class WaitingRateLimitTest {
+    @Test
+    public void sync(WaitingRateLimitService service) {
+        for (int i = 0; i < 5; i++) {
+            assertThat(service.hello()).isEqualTo("hello");
+        }
+    }
+
+    @Test
+    public void async(WaitingRateLimitService service) throws ExecutionException, InterruptedException {
+        for (int i = 0; i < 5; i++) {
+            assertThat(service.helloAsync().toCompletableFuture().get()).isEqualTo("hello");
+        }
+    }
+
+    @Test
+    public void maxWaitExceeded(WaitingRateLimitService service) {
+        assertThat(service.tooLong()).isEqualTo("hello");
+        assertThatThrownBy(service::tooLong).isExactlyInstanceOf(RateLimitException.class);
+    }
+}
@@ -0,0 +1,14 @@
+package io.smallrye.faulttolerance.ratelimit.warmup;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.smallrye.faulttolerance.api.RateLimit;
+import io.smallrye.faulttolerance.api.RateLimitType;
+
+@ApplicationScoped
+public class WarmUpWithoutSmoothService {
+    @RateLimit(type = RateLimitType.ROLLING, warmUp = 10)
+    public String hello() {
+        return "hello";
+    }
+}
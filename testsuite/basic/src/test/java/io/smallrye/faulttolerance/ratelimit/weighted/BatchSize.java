@@ -0,0 +1,11 @@
+package io.smallrye.faulttolerance.ratelimit.weighted;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+public class BatchSize implements ToIntFunction<Object[]> {
+    @Override
+    public int applyAsInt(Object[] arguments) {
+        return ((List<?>) arguments[0]).size();
+    }
+}
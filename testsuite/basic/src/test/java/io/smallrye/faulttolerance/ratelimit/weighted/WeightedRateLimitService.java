@@ -0,0 +1,18 @@
+package io.smallrye.faulttolerance.ratelimit.weighted;
+
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.smallrye.faulttolerance.api.RateLimit;
+
+@ApplicationScoped
+public class WeightedRateLimitService {
+    static final int RATE_LIMIT = 5;
+
+    @RateLimit(value = RATE_LIMIT, window = 1, windowUnit = ChronoUnit.MINUTES, cost = BatchSize.class)
+    public int store(List<String> batch) {
+        return batch.size();
+    }
+}
@@ -0,0 +1,34 @@
+package io.smallrye.faulttolerance.ratelimit.weighted;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.api.RateLimitException;
+import io.smallrye.faulttolerance.util.FaultToleranceBasicTest;
+
+@FaultToleranceBasicTest
+public class WeightedRateLimitTest {
+    @Test
+    public void test(WeightedRateLimitService service) {
+        assertThat(service.store(List.of("a", "b", "c"))).isEqualTo(3);
+        assertThatThrownBy(() -> service.store(List.of("d", "e", "f"))).isExactlyInstanceOf(RateLimitException.class);
+        // the rejected invocation counted as a single invocation
+        assertThat(service.store(List.of("d"))).isEqualTo(1);
+        assertThatThrownBy(() -> service.store(List.of("e"))).isExactlyInstanceOf(RateLimitException.class);
+    }
+
+    @Test
+    public void tooExpensive(WeightedRateLimitService service) {
+        assertThatThrownBy(() -> service.store(List.of("a", "b", "c", "d", "e", "f")))
+                .isExactlyInstanceOf(RateLimitException.class);
+    }
+
+    @Test
+    public void zeroCost(WeightedRateLimitService service) {
+        assertThatThrownBy(() -> service.store(List.of())).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
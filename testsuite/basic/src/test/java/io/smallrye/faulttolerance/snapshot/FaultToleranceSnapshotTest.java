@@ -0,0 +1,61 @@
+package io.smallrye.faulttolerance.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.api.CircuitBreakerState;
+import io.smallrye.faulttolerance.api.FaultToleranceSnapshot;
+import io.smallrye.faulttolerance.api.GuardSnapshot;
+import io.smallrye.faulttolerance.core.inspection.FaultToleranceJmx;
+import io.smallrye.faulttolerance.util.FaultToleranceBasicTest;
+import io.smallrye.faulttolerance.util.WithSystemProperty;
+
+@FaultToleranceBasicTest
+@WithSystemProperty(key = "smallrye.faulttolerance.jmx.enabled", value = "true")
+public class FaultToleranceSnapshotTest {
+    @Inject
+    SnapshotService service;
+
+    @Test
+    public void snapshot() throws Exception {
+        service.hello();
+
+        GuardSnapshot guard = FaultToleranceSnapshot.take().guards()
+                .stream()
+                .filter(it -> it.description().equals(SnapshotService.class.getName() + "#hello"))
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(guard.bulkhead().maxConcurrentInvocations()).isEqualTo(5);
+        assertThat(guard.bulkhead().runningInvocations()).isEqualTo(0);
+        assertThat(guard.bulkhead().waitingInvocations()).isEqualTo(0);
+
+        assertThat(guard.circuitBreaker().state()).isEqualTo(CircuitBreakerState.CLOSED);
+        assertThat(guard.circuitBreaker().rollingWindowSize()).isEqualTo(10);
+        assertThat(guard.circuitBreaker().recordedInvocations()).isEqualTo(2);
+        assertThat(guard.circuitBreaker().recordedFailures()).isEqualTo(1);
+
+        assertThat(guard.rateLimit().maxInvocations()).isEqualTo(100);
+        assertThat(guard.rateLimit().permitsRemaining()).isEqualTo(98);
+        assertThat(guard.rateLimit().keys()).isEqualTo(0);
+
+        assertThat(guard.retry().maxRetries()).isEqualTo(2);
+
+        CompositeData[] guards = (CompositeData[]) ManagementFactory.getPlatformMBeanServer()
+                .getAttribute(new ObjectName(FaultToleranceJmx.OBJECT_NAME), "Guards");
+        assertThat(guards).anySatisfy(it -> {
+            assertThat(it.get("description")).isEqualTo(SnapshotService.class.getName() + "#hello");
+            assertThat(it.get("circuitBreakerState")).isEqualTo("CLOSED");
+            assertThat(it.get("circuitBreakerRecordedFailures")).isEqualTo(1);
+            assertThat(it.get("rateLimitPermitsRemaining")).isEqualTo(98);
+        });
+    }
+}
@@ -0,0 +1,27 @@
+package io.smallrye.faulttolerance.snapshot;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
+import org.eclipse.microprofile.faulttolerance.Retry;
+
+import io.smallrye.faulttolerance.api.RateLimit;
+
+@ApplicationScoped
+public class SnapshotService {
+    static final AtomicInteger COUNTER = new AtomicInteger(0);
+
+    @Bulkhead(5)
+    @CircuitBreaker(requestVolumeThreshold = 10)
+    @RateLimit(100)
+    @Retry(maxRetries = 2)
+    public void hello() {
+        // the first invocation fails, the retry succeeds
+        if (COUNTER.incrementAndGet() == 1) {
+            throw new IllegalStateException();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package io.smallrye.faulttolerance.timeout.adaptive;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.faulttolerance.Timeout;
+
+import io.smallrye.faulttolerance.api.AdaptiveTimeout;
+
+@ApplicationScoped
+public class AdaptiveTimeoutService {
+    @Timeout(5000)
+    @AdaptiveTimeout(minTimeout = 200)
+    public String hello(long sleep) throws InterruptedException {
+        if (sleep > 0) {
+            Thread.sleep(sleep);
+        }
+        return "hello";
+    }
+}
@@ -0,0 +1,27 @@
+package io.smallrye.faulttolerance.timeout.adaptive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.util.FaultToleranceBasicTest;
+
+@FaultToleranceBasicTest
+public class AdaptiveTimeoutTest {
+    @Test
+    public void test(AdaptiveTimeoutService service) throws InterruptedException {
+        // the @Timeout value is used until enough latencies are recorded
+        assertThat(service.hello(500)).isEqualTo("hello");
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(service.hello(0)).isEqualTo("hello");
+        }
+
+        // all latencies are low, so the timeout is `minTimeout`
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> service.hello(2000)).isExactlyInstanceOf(TimeoutException.class);
+        assertThat(System.nanoTime() - start).isLessThan(1_500_000_000L);
+    }
+}
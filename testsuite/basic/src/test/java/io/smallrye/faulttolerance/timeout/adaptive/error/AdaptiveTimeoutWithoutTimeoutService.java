@@ -0,0 +1,16 @@
+package io.smallrye.faulttolerance.timeout.adaptive.error;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.faulttolerance.Retry;
+
+import io.smallrye.faulttolerance.api.AdaptiveTimeout;
+
+@ApplicationScoped
+public class AdaptiveTimeoutWithoutTimeoutService {
+    @Retry
+    @AdaptiveTimeout
+    public String hello() {
+        return "hello";
+    }
+}